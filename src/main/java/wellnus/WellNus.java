@@ -1,13 +1,19 @@
 package wellnus;
 
+import java.util.List;
+
+import wellnus.atomichabit.feature.HabitReminderService;
 import wellnus.common.MainManager;
+import wellnus.exception.StorageException;
+import wellnus.exception.TokenizerException;
 import wellnus.manager.Manager;
 import wellnus.ui.TextUi;
 
 /**
  * Main class of our WellNUS++ application. main() is executed when the application is launched.<br/>
  * <p>
- * Control is then passed to MainManager.runEventDriver().
+ * Control is then passed to MainManager.runEventDriver(). Features load their data the first time they are
+ * used, unless WellNUS++ is launched with <code>--load-all</code>, which loads every feature's data up front.
  *
  * @see MainManager#runEventDriver()
  */
@@ -15,16 +21,30 @@ public class WellNus {
     private static final String BYE_MESSAGE = "Thank you for using WellNUS++! See you again soon Dx";
     private static final String GREETING_MESSAGE = "Very good day to you! Welcome to ";
     private static final String NEWLINE = System.lineSeparator();
+    private static final String LOAD_ALL_OPTION = "--load-all";
+    private static final String REMINDER_LOAD_ERROR_NOTE = "Error loading your habit reminders, "
+            + "only new reminders will be delivered!";
     private final TextUi textUi;
     private final MainManager mainManager;
+    private final boolean isLoadedUpFront;
+
+    /**
+     * Initialises an instance of WellNUS++ that loads each feature's data the first time it is used.
+     */
+    public WellNus() {
+        this(false);
+    }
 
     /**
      * Initialises an instance of WellNUS++, which needs <code>TextUi</code>
      * and <code>MainManager</code>.
+     *
+     * @param isLoadedUpFront Whether every feature's data is loaded on startup instead of on first use
      */
-    public WellNus() {
+    public WellNus(boolean isLoadedUpFront) {
         this.textUi = new TextUi();
         this.mainManager = new MainManager();
+        this.isLoadedUpFront = isLoadedUpFront;
     }
 
     private static String getWellNusLogo() {
@@ -57,6 +77,17 @@ public class WellNus {
         return this.textUi;
     }
 
+    /**
+     * Starts delivering habit reminders, which are due whichever feature the user is in.
+     */
+    private void startHabitReminders() {
+        try {
+            HabitReminderService.getInstance().start();
+        } catch (StorageException | TokenizerException exception) {
+            this.getTextUi().printErrorFor(exception, WellNus.REMINDER_LOAD_ERROR_NOTE);
+        }
+    }
+
     private void greet() {
         this.getTextUi().printOutputMessage(WellNus.GREETING_MESSAGE + WellNus.NEWLINE
                 + WellNus.getWellNusLogo());
@@ -68,7 +99,7 @@ public class WellNus {
      * @param args Commandline arguments passed to the WellNus Java ARchive
      */
     public static void main(String[] args) {
-        new WellNus().start();
+        new WellNus(List.of(args).contains(WellNus.LOAD_ALL_OPTION)).start();
     }
 
     /**
@@ -82,6 +113,10 @@ public class WellNus {
      */
     public void start() {
         this.greet();
+        if (this.isLoadedUpFront) {
+            this.getMainManager().loadAllFeatures();
+        }
+        this.startHabitReminders();
         this.executeUserCommands();
         this.byeUser();
     }
@@ -1,12 +1,13 @@
 package wellnus.atomichabit.command;
 
-import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 
 import wellnus.atomichabit.feature.AtomicHabit;
 import wellnus.atomichabit.feature.AtomicHabitList;
 import wellnus.atomichabit.feature.AtomicHabitManager;
 import wellnus.atomichabit.feature.AtomicHabitUi;
+import wellnus.atomichabit.feature.HabitEventHistory;
 import wellnus.command.Command;
 import wellnus.exception.AtomicHabitException;
 import wellnus.exception.BadCommandException;
@@ -17,19 +18,24 @@ import wellnus.exception.BadCommandException;
  */
 public class AddCommand extends Command {
     public static final String COMMAND_DESCRIPTION = "add - Add a habit to your habit tracker.";
-    public static final String COMMAND_USAGE = "usage: add --name (your habit name)";
+    public static final String COMMAND_USAGE = "usage: add --name (your habit name) [--tag tag1,tag2]";
     public static final String COMMAND_KEYWORD = "add";
     private static final String COMMAND_INVALID_ARGUMENTS_MESSAGE = "Invalid arguments given to 'add'!";
     private static final String COMMAND_INVALID_PAYLOAD = "Invalid payload given to 'add'!";
     private static final String DUPLICATE_HABIT_MESSAGE = "You already have this habit in your list!"
             + " Use 'update' instead.";
     private static final String COMMAND_NAME_ARGUMENT = "name";
+    private static final String COMMAND_TAG_ARGUMENT = "tag";
+    private static final String COMMAND_INVALID_TAG_MESSAGE = "Invalid tag given to 'add', tags should only "
+            + "hold letters, digits, '_' and '-'!";
     private static final String COMMAND_KEYWORD_ASSERTION = "The key should be add.";
     private static final String COMMAND_PAYLOAD_ASSERTION = "The payload should not be empty.";
-    private static final int COMMAND_NUM_OF_ARGUMENTS = 2;
+    private static final int COMMAND_MIN_NUM_OF_ARGUMENTS = 2;
+    private static final int COMMAND_MAX_NUM_OF_ARGUMENTS = 3;
     private static final String COMMAND_WRONG_KEYWORD_MESSAGE = "Invalid command issued, expected 'add'!";
     private static final String FEEDBACK_STRING_ONE = "Yay! You have added a new habit:";
     private static final String FEEDBACK_STRING_TWO = "was successfully added";
+    private static final String FEEDBACK_TAGS_STRING = " with tags: ";
     private static final String COMMAND_INVALID_COMMAND_NOTE = "add command " + COMMAND_USAGE;
     private final AtomicHabitList atomicHabits;
     private final AtomicHabitUi atomicHabitUi;
@@ -54,17 +60,11 @@ public class AddCommand extends Command {
         return atomicHabitUi;
     }
 
-    private boolean hasDuplicate(String newHabit, ArrayList<AtomicHabit> habitList) {
-        for (AtomicHabit habit : habitList) {
-            if (convertToBase(habit.getDescription()).equals(convertToBase(newHabit))) {
-                return true;
-            }
+    private List<String> getTagsFrom(HashMap<String, String> arguments) {
+        if (!arguments.containsKey(COMMAND_TAG_ARGUMENT)) {
+            return List.of();
         }
-        return false;
-    }
-
-    private String convertToBase(String habitName) {
-        return habitName.toLowerCase().replaceAll("\\s", "");
+        return AtomicHabit.parseTags(arguments.get(COMMAND_TAG_ARGUMENT));
     }
 
     /**
@@ -107,13 +107,17 @@ public class AddCommand extends Command {
         }
         assert super.getArguments().containsKey(COMMAND_KEYWORD) : COMMAND_KEYWORD_ASSERTION;
         String name = super.getArguments().get(AddCommand.COMMAND_NAME_ARGUMENT);
-        if (hasDuplicate(name, atomicHabits.getAllHabits())) {
+        if (atomicHabits.hasDuplicateOf(name)) {
             throw new AtomicHabitException(DUPLICATE_HABIT_MESSAGE);
         }
-        AtomicHabit habit = new AtomicHabit(name);
+        List<String> tags = getTagsFrom(super.getArguments());
+        AtomicHabit habit = new AtomicHabit(name, 1, new HabitEventHistory(), tags);
         this.getAtomicHabits().addAtomicHabit(habit);
         String messageToUser = FEEDBACK_STRING_ONE + System.lineSeparator();
         messageToUser += String.format("'%s' %s", habit, FEEDBACK_STRING_TWO);
+        if (!tags.isEmpty()) {
+            messageToUser += FEEDBACK_TAGS_STRING + String.join(", ", tags);
+        }
         getTextUi().printOutputMessage(messageToUser);
     }
 
@@ -127,7 +131,12 @@ public class AddCommand extends Command {
      */
     @Override
     public void validateCommand(HashMap<String, String> arguments) throws BadCommandException {
-        if (arguments.size() != AddCommand.COMMAND_NUM_OF_ARGUMENTS) {
+        if (arguments.size() < AddCommand.COMMAND_MIN_NUM_OF_ARGUMENTS
+                || arguments.size() > AddCommand.COMMAND_MAX_NUM_OF_ARGUMENTS) {
+            throw new BadCommandException(AddCommand.COMMAND_INVALID_ARGUMENTS_MESSAGE);
+        }
+        if (arguments.size() == AddCommand.COMMAND_MAX_NUM_OF_ARGUMENTS
+                && !arguments.containsKey(AddCommand.COMMAND_TAG_ARGUMENT)) {
             throw new BadCommandException(AddCommand.COMMAND_INVALID_ARGUMENTS_MESSAGE);
         }
         if (!arguments.containsKey(AddCommand.COMMAND_KEYWORD)) {
@@ -139,6 +148,17 @@ public class AddCommand extends Command {
         if (!arguments.containsKey(AddCommand.COMMAND_NAME_ARGUMENT)) {
             throw new BadCommandException(AddCommand.COMMAND_INVALID_ARGUMENTS_MESSAGE);
         }
+        if (arguments.containsKey(AddCommand.COMMAND_TAG_ARGUMENT)) {
+            List<String> tags = AtomicHabit.parseTags(arguments.get(AddCommand.COMMAND_TAG_ARGUMENT));
+            if (tags.isEmpty()) {
+                throw new BadCommandException(AddCommand.COMMAND_INVALID_TAG_MESSAGE);
+            }
+            for (String tag : tags) {
+                if (!AtomicHabit.isValidTag(tag)) {
+                    throw new BadCommandException(AddCommand.COMMAND_INVALID_TAG_MESSAGE);
+                }
+            }
+        }
     }
 
     /**
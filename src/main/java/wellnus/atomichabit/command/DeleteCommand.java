@@ -9,21 +9,26 @@ import wellnus.atomichabit.feature.AtomicHabit;
 import wellnus.atomichabit.feature.AtomicHabitList;
 import wellnus.atomichabit.feature.AtomicHabitManager;
 import wellnus.atomichabit.feature.AtomicHabitUi;
+import wellnus.atomichabit.feature.HabitReminderService;
 import wellnus.command.Command;
 import wellnus.common.WellNusLogger;
 import wellnus.exception.AtomicHabitException;
 import wellnus.exception.BadCommandException;
+import wellnus.exception.StorageException;
 import wellnus.ui.TextUi;
 
 /**
  * The DeleteCommand class is a command class that deletes a habit
  * has been preformed.<br>
+ * <p>
+ * The habit is given either by its index or by its name, which is looked up ignoring case and whitespace.
  */
 public class DeleteCommand extends Command {
     public static final String COMMAND_DESCRIPTION = "delete - Delete the habit you don't want to continue.";
-    public static final String COMMAND_USAGE = "usage: delete --id habit-index";
+    public static final String COMMAND_USAGE = "usage: delete (--id habit-index | --name habit-name)";
     public static final String COMMAND_KEYWORD = "delete";
     private static final String COMMAND_INDEX_ARGUMENT = "id";
+    private static final String COMMAND_NAME_ARGUMENT = "name";
     private static final int COMMAND_NUM_OF_ARGUMENTS = 2;
     private static final String COMMAND_INVALID_COMMAND_MESSAGE = "Invalid command issued, expected 'delete'";
     private static final String COMMAND_INVALID_PAYLOAD = "Invalid payload given to 'delete'!";
@@ -36,6 +41,7 @@ public class DeleteCommand extends Command {
     private static final String LINE_SEPARATOR = System.lineSeparator();
     private static final String DELETE_INVALID_ARGUMENTS_MESSAGE = "Invalid arguments given to 'delete'";
     private static final String COMMAND_INVALID_COMMAND_NOTE = "delete command " + COMMAND_USAGE;
+    private static final String ERROR_STORAGE_MESSAGE = "Error saving your reminders to storage!";
     private static final Logger LOGGER = WellNusLogger.getLogger("DeleteAtomicHabitLogger");
     private static final String LOG_STR_INPUT_NOT_INTEGER = "Input string is not an integer."
             + "This should be properly handled";
@@ -88,6 +94,15 @@ public class DeleteCommand extends Command {
         return Integer.parseInt(indexString);
     }
 
+    private AtomicHabit getHabitFrom(HashMap<String, String> arguments)
+            throws AtomicHabitException, BadCommandException, NumberFormatException {
+        if (arguments.containsKey(COMMAND_NAME_ARGUMENT)) {
+            return getAtomicHabits().resolveHabitName(arguments.get(COMMAND_NAME_ARGUMENT));
+        }
+        int index = this.getIndexFrom(arguments) - INDEX_OFFSET;
+        return getAtomicHabits().getHabitByIndex(index);
+    }
+
     /**
      * Identifies this Command's keyword. Override this in subclasses so
      * toString() returns the correct String representation.
@@ -125,9 +140,9 @@ public class DeleteCommand extends Command {
             return;
         }
         try {
-            int index = this.getIndexFrom(super.getArguments()) - INDEX_OFFSET;
-            AtomicHabit habitToDelete = getAtomicHabits().getHabitByIndex(index);
+            AtomicHabit habitToDelete = getHabitFrom(super.getArguments());
             atomicHabits.deleteAtomicHabit(habitToDelete);
+            removeReminderOf(habitToDelete);
             String stringOfDeletedHabit = habitToDelete + " " + "[" + habitToDelete.getCount() + "]" + " "
                     + FEEDBACK_STRING_TWO
                     + LINE_SEPARATOR;
@@ -144,6 +159,15 @@ public class DeleteCommand extends Command {
         }
     }
 
+    // A deleted habit should not be reminded of, nor pass its reminder on to a new habit of the same name
+    private void removeReminderOf(AtomicHabit habit) {
+        try {
+            HabitReminderService.getInstance().removeReminder(habit.getDescription());
+        } catch (StorageException storageException) {
+            getTextUi().printErrorFor(storageException, ERROR_STORAGE_MESSAGE);
+        }
+    }
+
     /**
      * Validate the arguments and payloads from a commandMap generated by CommandParser.<br>
      * <p>
@@ -163,7 +187,7 @@ public class DeleteCommand extends Command {
         if (arguments.size() != COMMAND_NUM_OF_ARGUMENTS) {
             throw new BadCommandException(DELETE_INVALID_ARGUMENTS_MESSAGE);
         }
-        if (!arguments.containsKey(COMMAND_INDEX_ARGUMENT)) {
+        if (!arguments.containsKey(COMMAND_INDEX_ARGUMENT) && !arguments.containsKey(COMMAND_NAME_ARGUMENT)) {
             throw new BadCommandException(DELETE_INVALID_ARGUMENTS_MESSAGE);
         }
     }
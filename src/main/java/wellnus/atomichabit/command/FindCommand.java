@@ -0,0 +1,153 @@
+package wellnus.atomichabit.command;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+
+import wellnus.atomichabit.feature.AtomicHabit;
+import wellnus.atomichabit.feature.AtomicHabitList;
+import wellnus.atomichabit.feature.AtomicHabitManager;
+import wellnus.atomichabit.feature.AtomicHabitUi;
+import wellnus.command.Command;
+import wellnus.exception.BadCommandException;
+
+/**
+ * The FindCommand class is a command class that finds the atomic habits whose names best match
+ * the given text.<br>
+ * <p>
+ * Matches are ranked by AtomicHabitList's search index, so habits can be found by a prefix of their name
+ * or even with a typo in it. Each match is printed with its index for use in other commands.
+ */
+public class FindCommand extends Command {
+    public static final String COMMAND_DESCRIPTION = "find - Find the habits whose names match some text.";
+    public static final String COMMAND_USAGE = "usage: find --name (part of habit name)";
+    public static final String COMMAND_KEYWORD = "find";
+    private static final String COMMAND_NAME_ARGUMENT = "name";
+    private static final int COMMAND_NUM_OF_ARGUMENTS = 2;
+    private static final String COMMAND_INVALID_COMMAND_MESSAGE = "Invalid command issued, expected 'find'!";
+    private static final String COMMAND_INVALID_ARGUMENTS_MESSAGE = "Invalid arguments given to 'find'!";
+    private static final String COMMAND_INVALID_PAYLOAD = "Invalid payload given to 'find'!";
+    private static final String COMMAND_INVALID_NAME_PAYLOAD = "Invalid payload given to 'name' argument!";
+    private static final String COMMAND_INVALID_COMMAND_NOTE = "find command " + COMMAND_USAGE;
+    private static final String LINE_SEPARATOR = System.lineSeparator();
+    private static final String FEEDBACK_STRING = "Here are the habits matching '%s':";
+    private static final String NO_MATCHES_MESSAGE = "No habits match '%s'!";
+    private static final int MAX_RESULTS = 10;
+    private static final int INDEX_OFFSET = 1;
+    private final AtomicHabitList atomicHabits;
+    private final AtomicHabitUi atomicHabitUi;
+
+    /**
+     * Constructs a FindCommand object.<br>
+     *
+     * @param arguments    Argument-Payload map generated by CommandParser.
+     * @param atomicHabits The AtomicHabitList object to search for habits.
+     */
+    public FindCommand(HashMap<String, String> arguments, AtomicHabitList atomicHabits) {
+        super(arguments);
+        this.atomicHabits = atomicHabits;
+        this.atomicHabitUi = new AtomicHabitUi();
+    }
+
+    private AtomicHabitUi getTextUi() {
+        return atomicHabitUi;
+    }
+
+    /**
+     * Identifies this Command's keyword. Override this in subclasses so
+     * toString() returns the correct String representation.
+     *
+     * @return String Keyword of this Command
+     */
+    @Override
+    protected String getCommandKeyword() {
+        return COMMAND_KEYWORD;
+    }
+
+    /**
+     * Identifies the feature that this Command is associated with. Override
+     * this in subclasses so toString() returns the correct String representation.
+     *
+     * @return String Keyword for the feature associated with this Command
+     */
+    @Override
+    protected String getFeatureKeyword() {
+        return AtomicHabitManager.FEATURE_NAME;
+    }
+
+    /**
+     * Executes the find command for atomic habits, which prints the habits best matching the given name,
+     * best match first.
+     */
+    @Override
+    public void execute() {
+        try {
+            validateCommand(super.getArguments());
+        } catch (BadCommandException badCommandException) {
+            getTextUi().printErrorFor(badCommandException, COMMAND_INVALID_COMMAND_NOTE);
+            return;
+        }
+        String name = super.getArguments().get(COMMAND_NAME_ARGUMENT).strip();
+        ArrayList<AtomicHabit> matchingHabits = atomicHabits.findHabits(name, MAX_RESULTS);
+        if (matchingHabits.isEmpty()) {
+            getTextUi().printOutputMessage(String.format(NO_MATCHES_MESSAGE, name));
+            return;
+        }
+        StringBuilder messageBuilder = new StringBuilder(String.format(FEEDBACK_STRING, name));
+        for (AtomicHabit habit : matchingHabits) {
+            int habitNo = atomicHabits.getIndexOf(habit) + INDEX_OFFSET;
+            messageBuilder.append(LINE_SEPARATOR)
+                    .append(String.format("%d.%s [%d]", habitNo, habit, habit.getCount()));
+        }
+        getTextUi().printOutputMessage(messageBuilder.toString());
+    }
+
+    /**
+     * Validate the arguments and payloads from a commandMap generated by CommandParser.<br>
+     * <p>
+     * If no exceptions are thrown, arguments are valid.
+     *
+     * @param arguments Argument-Payload map generated by CommandParser
+     * @throws BadCommandException If the arguments have any issues
+     */
+    @Override
+    public void validateCommand(HashMap<String, String> arguments) throws BadCommandException {
+        if (!arguments.containsKey(COMMAND_KEYWORD)) {
+            throw new BadCommandException(COMMAND_INVALID_COMMAND_MESSAGE);
+        }
+        if (!arguments.get(COMMAND_KEYWORD).isEmpty()) {
+            throw new BadCommandException(COMMAND_INVALID_PAYLOAD);
+        }
+        if (arguments.size() != COMMAND_NUM_OF_ARGUMENTS || !arguments.containsKey(COMMAND_NAME_ARGUMENT)) {
+            throw new BadCommandException(COMMAND_INVALID_ARGUMENTS_MESSAGE);
+        }
+        if (arguments.get(COMMAND_NAME_ARGUMENT).isBlank()) {
+            throw new BadCommandException(COMMAND_INVALID_NAME_PAYLOAD);
+        }
+    }
+
+    /**
+     * Method to ensure that developers add in a command usage.
+     * <p>
+     * For example, for the 'add' command in AtomicHabit package: <br>
+     * "usage: add --name (name of habit)"
+     *
+     * @return String of the proper usage of the habit
+     */
+    @Override
+    public String getCommandUsage() {
+        return COMMAND_USAGE;
+    }
+
+    /**
+     * Method to ensure that developers add in a description for the command.
+     * <p>
+     * For example, for the 'add' command in AtomicHabit package: <br>
+     * "add - add a habit to your list"
+     *
+     * @return String of the description of what the command does
+     */
+    @Override
+    public String getCommandDescription() {
+        return COMMAND_DESCRIPTION;
+    }
+}
@@ -50,9 +50,14 @@ public class HelpCommand extends Command {
         ArrayList<String> commandDescriptions = new ArrayList<>();
         commandDescriptions.add(AddCommand.COMMAND_DESCRIPTION);
         commandDescriptions.add(DeleteCommand.COMMAND_DESCRIPTION);
+        commandDescriptions.add(FindCommand.COMMAND_DESCRIPTION);
         commandDescriptions.add(HelpCommand.COMMAND_DESCRIPTION);
         commandDescriptions.add(HomeCommand.COMMAND_DESCRIPTION);
         commandDescriptions.add(ListCommand.COMMAND_DESCRIPTION);
+        commandDescriptions.add(RedoCommand.COMMAND_DESCRIPTION);
+        commandDescriptions.add(RemindCommand.COMMAND_DESCRIPTION);
+        commandDescriptions.add(StatsCommand.COMMAND_DESCRIPTION);
+        commandDescriptions.add(UndoCommand.COMMAND_DESCRIPTION);
         commandDescriptions.add(UpdateCommand.COMMAND_DESCRIPTION);
         return commandDescriptions;
     }
@@ -101,6 +106,9 @@ public class HelpCommand extends Command {
         case DeleteCommand.COMMAND_KEYWORD:
             printUsageMessage(DeleteCommand.COMMAND_DESCRIPTION, DeleteCommand.COMMAND_USAGE);
             break;
+        case FindCommand.COMMAND_KEYWORD:
+            printUsageMessage(FindCommand.COMMAND_DESCRIPTION, FindCommand.COMMAND_USAGE);
+            break;
         case HelpCommand.COMMAND_KEYWORD:
             printUsageMessage(HelpCommand.COMMAND_DESCRIPTION, HelpCommand.COMMAND_USAGE);
             break;
@@ -110,6 +118,18 @@ public class HelpCommand extends Command {
         case ListCommand.COMMAND_KEYWORD:
             printUsageMessage(ListCommand.COMMAND_DESCRIPTION, ListCommand.COMMAND_USAGE);
             break;
+        case RedoCommand.COMMAND_KEYWORD:
+            printUsageMessage(RedoCommand.COMMAND_DESCRIPTION, RedoCommand.COMMAND_USAGE);
+            break;
+        case RemindCommand.COMMAND_KEYWORD:
+            printUsageMessage(RemindCommand.COMMAND_DESCRIPTION, RemindCommand.COMMAND_USAGE);
+            break;
+        case StatsCommand.COMMAND_KEYWORD:
+            printUsageMessage(StatsCommand.COMMAND_DESCRIPTION, StatsCommand.COMMAND_USAGE);
+            break;
+        case UndoCommand.COMMAND_KEYWORD:
+            printUsageMessage(UndoCommand.COMMAND_DESCRIPTION, UndoCommand.COMMAND_USAGE);
+            break;
         case UpdateCommand.COMMAND_KEYWORD:
             printUsageMessage(UpdateCommand.COMMAND_DESCRIPTION, UpdateCommand.COMMAND_USAGE);
             break;
@@ -1,6 +1,10 @@
 package wellnus.atomichabit.command;
 
+import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.HashMap;
+import java.util.List;
+import java.util.Set;
 
 import wellnus.atomichabit.feature.AtomicHabit;
 import wellnus.atomichabit.feature.AtomicHabitList;
@@ -12,12 +16,42 @@ import wellnus.exception.BadCommandException;
 
 /**
  * The ListCommand class is a command class that lists all atomic habit in AtomicHabitList.<br>
+ * <p>
+ * The listing can be sorted, filtered by a minimum count and split into pages. Only the habits on the
+ * requested page are rendered, one line at a time straight to the output, and sorted orders are cached by
+ * AtomicHabitList so that paging through them does not sort the habits again. <br>
+ * <p>
+ * Habits with all of the tags given to 'tag', or any of the tags given to 'any-tag', are found from the tag
+ * index of AtomicHabitList, so habits without those tags are never looked at.
  */
 public class ListCommand extends Command {
     public static final String COMMAND_DESCRIPTION = "list - Lists out all the habits in your tracker.";
-    public static final String COMMAND_USAGE = "usage: list";
+    public static final String COMMAND_USAGE = "usage: list [--page page-number] [--size habits-per-page] "
+            + "[--sort count|name|recent] [--min-count minimum-count] [--tag tag1,tag2] [--any-tag tag1,tag2]";
     public static final String COMMAND_KEYWORD = "list";
-    private static final int COMMAND_NUM_OF_ARGUMENTS = 1;
+    private static final String COMMAND_PAGE_ARGUMENT = "page";
+    private static final String COMMAND_SIZE_ARGUMENT = "size";
+    private static final String COMMAND_SORT_ARGUMENT = "sort";
+    private static final String COMMAND_MIN_COUNT_ARGUMENT = "min-count";
+    private static final String COMMAND_TAG_ARGUMENT = "tag";
+    private static final String COMMAND_ANY_TAG_ARGUMENT = "any-tag";
+    private static final Set<String> COMMAND_ARGUMENTS = Set.of(COMMAND_KEYWORD, COMMAND_PAGE_ARGUMENT,
+            COMMAND_SIZE_ARGUMENT, COMMAND_SORT_ARGUMENT, COMMAND_MIN_COUNT_ARGUMENT, COMMAND_TAG_ARGUMENT,
+            COMMAND_ANY_TAG_ARGUMENT);
+    private static final Set<String> SORT_ORDERS = Set.of(AtomicHabitList.SORT_BY_COUNT,
+            AtomicHabitList.SORT_BY_NAME, AtomicHabitList.SORT_BY_RECENT);
+    private static final String COMMAND_INVALID_NUMBER_PAYLOAD = "Invalid payload given to '%s' argument, "
+            + "expected a %s integer!";
+    private static final String COMMAND_INVALID_SORT_PAYLOAD = "Invalid payload given to 'sort' argument, "
+            + "expected one of count, name or recent!";
+    private static final String COMMAND_INVALID_TAG_PAYLOAD = "Invalid payload given to '%s' argument, "
+            + "expected tags separated by commas!";
+    private static final String POSITIVE = "positive";
+    private static final String NON_NEGATIVE = "non-negative";
+    private static final int DEFAULT_PAGE = 1;
+    private static final int DEFAULT_PAGE_SIZE = 10;
+    private static final int DEFAULT_MIN_COUNT = 0;
+    private static final int INDEX_OFFSET = 1;
     private static final String COMMAND_INVALID_ARGUMENTS_MESSAGE = "Invalid command issued, expected 'list'!";
     private static final String COMMAND_INVALID_PAYLOAD = "Invalid payload given to 'list'!";
     private static final String LINE_SEPARATOR = System.lineSeparator();
@@ -27,6 +61,13 @@ public class ListCommand extends Command {
     private static final String EMPTY_LIST_MESSAGE = "You have no habits in your list!"
             + LINE_SEPARATOR
             + "Start adding some habits by using 'add'!";
+    private static final String NO_MATCHING_HABITS_MESSAGE = "You have no habits with a count of at least %d!";
+    private static final String NO_TAGGED_HABITS_MESSAGE = "You have no habits with the given tags!";
+    private static final String NO_MATCHING_TAGGED_HABITS_MESSAGE = "You have no habits with the given tags "
+            + "and a count of at least %d!";
+    private static final String TAGS_PREFIX = " #";
+    private static final String PAGE_OUT_OF_RANGE_MESSAGE = "There is no page %d, your habits fit on %d page(s)!";
+    private static final String PAGE_FOOTER = "Page %d of %d";
     private final AtomicHabitList atomicHabits;
     private final AtomicHabitUi atomicHabitUi;
 
@@ -46,6 +87,141 @@ public class ListCommand extends Command {
         return atomicHabitUi;
     }
 
+    private static int getIntegerFrom(HashMap<String, String> arguments, String argument, int defaultValue,
+            int minimumValue) throws BadCommandException {
+        if (!arguments.containsKey(argument)) {
+            return defaultValue;
+        }
+        String sign = minimumValue > 0 ? POSITIVE : NON_NEGATIVE;
+        String badPayloadMessage = String.format(COMMAND_INVALID_NUMBER_PAYLOAD, argument, sign);
+        try {
+            int value = Integer.parseInt(arguments.get(argument).strip());
+            if (value < minimumValue) {
+                throw new BadCommandException(badPayloadMessage);
+            }
+            return value;
+        } catch (NumberFormatException numberFormatException) {
+            throw new BadCommandException(badPayloadMessage);
+        }
+    }
+
+    private boolean isPaginated(HashMap<String, String> arguments) {
+        return arguments.containsKey(COMMAND_PAGE_ARGUMENT) || arguments.containsKey(COMMAND_SIZE_ARGUMENT);
+    }
+
+    private static List<String> getTagsFrom(HashMap<String, String> arguments, String argument)
+            throws BadCommandException {
+        List<String> tags = AtomicHabit.parseTags(arguments.get(argument));
+        if (tags.isEmpty()) {
+            throw new BadCommandException(String.format(COMMAND_INVALID_TAG_PAYLOAD, argument));
+        }
+        return tags;
+    }
+
+    /**
+     * Finds the positions of the habits carrying every tag given to 'tag' and any tag given to 'any-tag',
+     * from the tag index of the habits.
+     *
+     * @param arguments Argument-Payload map generated by CommandParser
+     * @return BitSet of the positions of the matching habits, or null if no tags were given
+     * @throws BadCommandException If no tags were given to a tag argument
+     */
+    private BitSet getTaggedHabitIndexes(HashMap<String, String> arguments) throws BadCommandException {
+        BitSet taggedHabitIndexes = null;
+        if (arguments.containsKey(COMMAND_TAG_ARGUMENT)) {
+            taggedHabitIndexes = atomicHabits.getHabitIndexesWithAllTags(
+                    getTagsFrom(arguments, COMMAND_TAG_ARGUMENT));
+        }
+        if (arguments.containsKey(COMMAND_ANY_TAG_ARGUMENT)) {
+            BitSet anyTagHabitIndexes = atomicHabits.getHabitIndexesWithAnyTag(
+                    getTagsFrom(arguments, COMMAND_ANY_TAG_ARGUMENT));
+            if (taggedHabitIndexes == null) {
+                taggedHabitIndexes = anyTagHabitIndexes;
+            } else {
+                taggedHabitIndexes.and(anyTagHabitIndexes);
+            }
+        }
+        return taggedHabitIndexes;
+    }
+
+    private int countMatchingHabits(ArrayList<AtomicHabit> habits, BitSet taggedHabitIndexes, int minCount) {
+        if (minCount == DEFAULT_MIN_COUNT) {
+            return taggedHabitIndexes == null ? habits.size() : taggedHabitIndexes.cardinality();
+        }
+        int numMatchingHabits = 0;
+        for (int i = nextMatchingIndex(taggedHabitIndexes, 0); i >= 0 && i < habits.size();
+                i = nextMatchingIndex(taggedHabitIndexes, i + 1)) {
+            if (habits.get(i).getCount() >= minCount) {
+                numMatchingHabits++;
+            }
+        }
+        return numMatchingHabits;
+    }
+
+    private static String getNoMatchingHabitsMessage(BitSet taggedHabitIndexes, int minCount) {
+        if (taggedHabitIndexes == null) {
+            return String.format(NO_MATCHING_HABITS_MESSAGE, minCount);
+        }
+        if (minCount == DEFAULT_MIN_COUNT) {
+            return NO_TAGGED_HABITS_MESSAGE;
+        }
+        return String.format(NO_MATCHING_TAGGED_HABITS_MESSAGE, minCount);
+    }
+
+    // Skips straight to the next tagged habit instead of checking the habits in between
+    private static int nextMatchingIndex(BitSet taggedHabitIndexes, int index) {
+        return taggedHabitIndexes == null ? index : taggedHabitIndexes.nextSetBit(index);
+    }
+
+    /**
+     * Prints the habits on the requested page, in the requested order, one line at a time.
+     *
+     * @param habits   All habits in the list
+     * @param order    Indexes of the habits in the order to list them, or null to list them in list order
+     * @param isSortedByCount Whether the order is by descending count, so that listing can stop at the first
+     *                        habit below the minimum count
+     * @param minCount Minimum count of habits to list
+     * @param page     Page to print, starting from 1
+     * @param pageSize Number of habits per page
+     */
+    private void printPage(ArrayList<AtomicHabit> habits, int[] order, BitSet taggedHabitIndexes,
+            boolean isSortedByCount, int minCount, int page, int pageSize) {
+        long numHabitsToSkip = (long) (page - 1) * pageSize;
+        int numHabitsPrinted = 0;
+        StringBuilder lineBuilder = new StringBuilder();
+        for (int i = 0; i < habits.size() && numHabitsPrinted < pageSize; ++i) {
+            if (order == null) {
+                i = nextMatchingIndex(taggedHabitIndexes, i);
+                if (i < 0) {
+                    break;
+                }
+            }
+            int index = order == null ? i : order[i];
+            if (taggedHabitIndexes != null && !taggedHabitIndexes.get(index)) {
+                continue;
+            }
+            AtomicHabit habit = habits.get(index);
+            if (habit.getCount() < minCount) {
+                if (isSortedByCount) {
+                    break;
+                }
+                continue;
+            }
+            if (numHabitsToSkip > 0) {
+                numHabitsToSkip--;
+                continue;
+            }
+            lineBuilder.setLength(0);
+            lineBuilder.append(index + INDEX_OFFSET).append('.').append(habit.getDescription())
+                    .append(" [").append(habit.getCount()).append(']');
+            for (String tag : habit.getTags()) {
+                lineBuilder.append(TAGS_PREFIX).append(tag);
+            }
+            getTextUi().printOutputLine(lineBuilder);
+            numHabitsPrinted++;
+        }
+    }
+
     /**
      * Identifies this Command's keyword. Override this in subclasses so
      * toString() returns the correct String representation.
@@ -69,33 +245,55 @@ public class ListCommand extends Command {
     }
 
     /**
-     * Executes the list command for atomic habits, which prints all atomic habits
-     * added by the user so far.
+     * Executes the list command for atomic habits, which prints the atomic habits
+     * added by the user so far, or the requested page of them.
+     * Each habit is listed with its index in the list, so that it can be given to other commands.
      */
     @Override
     public void execute() {
+        HashMap<String, String> arguments = super.getArguments();
+        int page;
+        int pageSize;
+        int minCount;
+        BitSet taggedHabitIndexes;
         try {
-            validateCommand(super.getArguments());
+            validateCommand(arguments);
+            page = getIntegerFrom(arguments, COMMAND_PAGE_ARGUMENT, DEFAULT_PAGE, 1);
+            pageSize = getIntegerFrom(arguments, COMMAND_SIZE_ARGUMENT,
+                    isPaginated(arguments) ? DEFAULT_PAGE_SIZE : Integer.MAX_VALUE, 1);
+            minCount = getIntegerFrom(arguments, COMMAND_MIN_COUNT_ARGUMENT, DEFAULT_MIN_COUNT, 0);
+            taggedHabitIndexes = getTaggedHabitIndexes(arguments);
         } catch (BadCommandException badCommandException) {
             this.getTextUi().printErrorFor(badCommandException, COMMAND_INVALID_COMMAND_NOTE);
             return;
         }
-        if (atomicHabits.getAllHabits().isEmpty()) {
+        ArrayList<AtomicHabit> habits = atomicHabits.getAllHabits();
+        if (habits.isEmpty()) {
             getTextUi().printOutputMessage(EMPTY_LIST_MESSAGE);
             return;
         }
-        int taskNo = 1;
-        int firstChar = 0;
-        StringBuilder stringOfHabitsBuilder = new StringBuilder(FIRST_STRING + LINE_SEPARATOR);
-        for (AtomicHabit habit : atomicHabits.getAllHabits()) {
-            String currentHabitString = String.format("%d.%s [%d]",
-                    taskNo, habit.toString(), habit.getCount());
-            stringOfHabitsBuilder.append(currentHabitString).append(LINE_SEPARATOR);
-            taskNo += 1;
+        int numMatchingHabits = countMatchingHabits(habits, taggedHabitIndexes, minCount);
+        if (numMatchingHabits == 0) {
+            getTextUi().printOutputMessage(getNoMatchingHabitsMessage(taggedHabitIndexes, minCount));
+            return;
+        }
+        int numPages = (numMatchingHabits - 1) / pageSize + 1;
+        if (page > numPages) {
+            getTextUi().printOutputMessage(String.format(PAGE_OUT_OF_RANGE_MESSAGE, page, numPages));
+            return;
+        }
+        String sortOrder = arguments.get(COMMAND_SORT_ARGUMENT);
+        int[] order = sortOrder == null ? null : atomicHabits.getSortedHabitIndexes(sortOrder.strip());
+        boolean isSortedByCount = order != null && sortOrder.strip().equals(AtomicHabitList.SORT_BY_COUNT);
+        getTextUi().printSeparator();
+        for (String line : FIRST_STRING.split(LINE_SEPARATOR)) {
+            getTextUi().printOutputLine(line);
+        }
+        printPage(habits, order, taggedHabitIndexes, isSortedByCount, minCount, page, pageSize);
+        if (isPaginated(arguments)) {
+            getTextUi().printOutputLine(String.format(PAGE_FOOTER, page, numPages));
         }
-        String messageToUser = stringOfHabitsBuilder.substring(firstChar,
-                stringOfHabitsBuilder.length() - 1);
-        getTextUi().printOutputMessage(messageToUser);
+        getTextUi().printSeparator();
     }
 
     /**
@@ -108,15 +306,19 @@ public class ListCommand extends Command {
      */
     @Override
     public void validateCommand(HashMap<String, String> arguments) throws BadCommandException {
-        if (arguments.size() != ListCommand.COMMAND_NUM_OF_ARGUMENTS) {
+        if (!arguments.containsKey(ListCommand.COMMAND_KEYWORD)) {
             throw new BadCommandException(ListCommand.COMMAND_INVALID_ARGUMENTS_MESSAGE);
         }
-        if (!arguments.containsKey(ListCommand.COMMAND_KEYWORD)) {
+        if (!COMMAND_ARGUMENTS.containsAll(arguments.keySet())) {
             throw new BadCommandException(ListCommand.COMMAND_INVALID_ARGUMENTS_MESSAGE);
         }
         if (arguments.get(COMMAND_KEYWORD) != "") {
             throw new BadCommandException(ListCommand.COMMAND_INVALID_PAYLOAD);
         }
+        if (arguments.containsKey(COMMAND_SORT_ARGUMENT)
+                && !SORT_ORDERS.contains(arguments.get(COMMAND_SORT_ARGUMENT).strip())) {
+            throw new BadCommandException(ListCommand.COMMAND_INVALID_SORT_PAYLOAD);
+        }
     }
 
     /**
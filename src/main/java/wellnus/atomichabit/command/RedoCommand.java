@@ -0,0 +1,158 @@
+package wellnus.atomichabit.command;
+
+import java.util.HashMap;
+
+import wellnus.atomichabit.feature.AtomicHabitList;
+import wellnus.atomichabit.feature.AtomicHabitManager;
+import wellnus.atomichabit.feature.AtomicHabitUi;
+import wellnus.atomichabit.feature.HabitOperation;
+import wellnus.command.Command;
+import wellnus.exception.BadCommandException;
+import wellnus.exception.StorageException;
+import wellnus.gamification.util.GamificationData;
+import wellnus.gamification.util.GamificationUi;
+
+/**
+ * The RedoCommand class is a command class that redoes the latest add, delete or update of atomic habits
+ * that was undone.<br>
+ * <p>
+ * Redoing an update awards the XP that undoing it took back.
+ */
+public class RedoCommand extends Command {
+    public static final String COMMAND_DESCRIPTION = "redo - Redo the latest change to your habits that you undid.";
+    public static final String COMMAND_USAGE = "usage: redo";
+    public static final String COMMAND_KEYWORD = "redo";
+    private static final int COMMAND_NUM_OF_ARGUMENTS = 1;
+    private static final String COMMAND_INVALID_COMMAND_MESSAGE = "Invalid command issued, expected 'redo'!";
+    private static final String COMMAND_INVALID_ARGUMENTS_MESSAGE = "Invalid arguments given to 'redo'!";
+    private static final String COMMAND_INVALID_PAYLOAD = "Invalid payload given to 'redo'!";
+    private static final String COMMAND_INVALID_COMMAND_NOTE = "redo command " + COMMAND_USAGE;
+    private static final String LINE_SEPARATOR = System.lineSeparator();
+    private static final String FEEDBACK_STRING = "Redone: %s";
+    private static final String FEEDBACK_XP_STRING = "%d XP was awarded again";
+    private static final String NOTHING_TO_REDO_MESSAGE = "There is nothing to redo!";
+    private static final String STORE_GAMIF_DATA_FAILED_NOTE_MESSAGE = "Error saving to storage!";
+    private final AtomicHabitList atomicHabits;
+    private final GamificationData gamificationData;
+    private final AtomicHabitUi atomicHabitUi;
+
+    /**
+     * Constructs a RedoCommand object.<br>
+     *
+     * @param arguments        Argument-Payload map generated by CommandParser.
+     * @param atomicHabits     The AtomicHabitList object whose undone operation to redo.
+     * @param gamificationData The GamificationData object to award XP to again.
+     */
+    public RedoCommand(HashMap<String, String> arguments, AtomicHabitList atomicHabits,
+            GamificationData gamificationData) {
+        super(arguments);
+        this.atomicHabits = atomicHabits;
+        this.gamificationData = gamificationData;
+        this.atomicHabitUi = new AtomicHabitUi();
+    }
+
+    private AtomicHabitUi getTextUi() {
+        return atomicHabitUi;
+    }
+
+    /**
+     * Identifies this Command's keyword. Override this in subclasses so
+     * toString() returns the correct String representation.
+     *
+     * @return String Keyword of this Command
+     */
+    @Override
+    protected String getCommandKeyword() {
+        return COMMAND_KEYWORD;
+    }
+
+    /**
+     * Identifies the feature that this Command is associated with. Override
+     * this in subclasses so toString() returns the correct String representation.
+     *
+     * @return String Keyword for the feature associated with this Command
+     */
+    @Override
+    protected String getFeatureKeyword() {
+        return AtomicHabitManager.FEATURE_NAME;
+    }
+
+    /**
+     * Executes the redo command for atomic habits, which redoes the latest operation that was undone.
+     */
+    @Override
+    public void execute() {
+        try {
+            validateCommand(super.getArguments());
+        } catch (BadCommandException badCommandException) {
+            getTextUi().printErrorFor(badCommandException, COMMAND_INVALID_COMMAND_NOTE);
+            return;
+        }
+        HabitOperation operation = atomicHabits.redo();
+        if (operation == null) {
+            getTextUi().printOutputMessage(NOTHING_TO_REDO_MESSAGE);
+            return;
+        }
+        String feedback = String.format(FEEDBACK_STRING, operation);
+        boolean hasLevelUp = false;
+        try {
+            if (operation.getXpAwarded() > 0) {
+                hasLevelUp = gamificationData.addXp(operation.getXpAwarded());
+                feedback += LINE_SEPARATOR + String.format(FEEDBACK_XP_STRING, operation.getXpAwarded());
+            }
+        } catch (StorageException storageException) {
+            getTextUi().printErrorFor(storageException, STORE_GAMIF_DATA_FAILED_NOTE_MESSAGE);
+        }
+        getTextUi().printOutputMessage(feedback);
+        if (hasLevelUp) {
+            GamificationUi.printCelebrateLevelUp();
+        }
+    }
+
+    /**
+     * Validate the arguments and payloads from a commandMap generated by CommandParser.<br>
+     * <p>
+     * If no exceptions are thrown, arguments are valid.
+     *
+     * @param arguments Argument-Payload map generated by CommandParser
+     * @throws BadCommandException If the arguments have any issues
+     */
+    @Override
+    public void validateCommand(HashMap<String, String> arguments) throws BadCommandException {
+        if (!arguments.containsKey(COMMAND_KEYWORD)) {
+            throw new BadCommandException(COMMAND_INVALID_COMMAND_MESSAGE);
+        }
+        if (arguments.size() != COMMAND_NUM_OF_ARGUMENTS) {
+            throw new BadCommandException(COMMAND_INVALID_ARGUMENTS_MESSAGE);
+        }
+        if (!arguments.get(COMMAND_KEYWORD).isEmpty()) {
+            throw new BadCommandException(COMMAND_INVALID_PAYLOAD);
+        }
+    }
+
+    /**
+     * Method to ensure that developers add in a command usage.
+     * <p>
+     * For example, for the 'add' command in AtomicHabit package: <br>
+     * "usage: add --name (name of habit)"
+     *
+     * @return String of the proper usage of the habit
+     */
+    @Override
+    public String getCommandUsage() {
+        return COMMAND_USAGE;
+    }
+
+    /**
+     * Method to ensure that developers add in a description for the command.
+     * <p>
+     * For example, for the 'add' command in AtomicHabit package: <br>
+     * "add - add a habit to your list"
+     *
+     * @return String of the description of what the command does
+     */
+    @Override
+    public String getCommandDescription() {
+        return COMMAND_DESCRIPTION;
+    }
+}
@@ -0,0 +1,260 @@
+package wellnus.atomichabit.command;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.HashMap;
+
+import wellnus.atomichabit.feature.AtomicHabit;
+import wellnus.atomichabit.feature.AtomicHabitList;
+import wellnus.atomichabit.feature.AtomicHabitManager;
+import wellnus.atomichabit.feature.AtomicHabitUi;
+import wellnus.atomichabit.feature.HabitReminder;
+import wellnus.atomichabit.feature.HabitReminderService;
+import wellnus.command.Command;
+import wellnus.exception.AtomicHabitException;
+import wellnus.exception.BadCommandException;
+import wellnus.exception.StorageException;
+
+/**
+ * The RemindCommand class is a command class that sets, turns off or lists the reminders of atomic habits.<br>
+ * <p>
+ * A habit can be reminded of every day at a time of day, or every number of hours. Reminders are delivered by
+ * HabitReminderService while WellNUS++ is running, whichever feature the user is in.
+ */
+public class RemindCommand extends Command {
+    public static final String COMMAND_DESCRIPTION = "remind - Get reminded of a habit daily or every few hours.";
+    public static final String COMMAND_USAGE = "usage: remind [--name habit-name (--daily HH:MM | --every hours "
+            + "| --off)]";
+    public static final String COMMAND_KEYWORD = "remind";
+    private static final String COMMAND_NAME_ARGUMENT = "name";
+    private static final String COMMAND_DAILY_ARGUMENT = "daily";
+    private static final String COMMAND_EVERY_ARGUMENT = "every";
+    private static final String COMMAND_OFF_ARGUMENT = "off";
+    private static final int COMMAND_LIST_NUM_OF_ARGUMENTS = 1;
+    private static final int COMMAND_SET_NUM_OF_ARGUMENTS = 3;
+    private static final String COMMAND_INVALID_COMMAND_MESSAGE = "Invalid command issued, expected 'remind'!";
+    private static final String COMMAND_INVALID_ARGUMENTS_MESSAGE = "Invalid arguments given to 'remind'!";
+    private static final String COMMAND_INVALID_PAYLOAD = "Invalid payload given to 'remind'!";
+    private static final String COMMAND_INVALID_NAME_PAYLOAD = "Invalid payload given to 'name' argument!";
+    private static final String COMMAND_INVALID_DAILY_PAYLOAD = "Invalid payload given to 'daily' argument, "
+            + "expected a time like 07:30!";
+    private static final String COMMAND_INVALID_EVERY_PAYLOAD = "Invalid payload given to 'every' argument, "
+            + "expected a number of hours from 1 to " + HabitReminder.MAX_INTERVAL_HOURS + "!";
+    private static final String COMMAND_INVALID_OFF_PAYLOAD = "Invalid payload given to 'off' argument!";
+    private static final String COMMAND_INVALID_COMMAND_NOTE = "remind command " + COMMAND_USAGE;
+    private static final String LINE_SEPARATOR = System.lineSeparator();
+    private static final String FEEDBACK_SET_STRING = "I will remind you of '%s' %s, next on %s!";
+    private static final String FEEDBACK_OFF_STRING = "Reminders for '%s' are now off!";
+    private static final String FEEDBACK_NO_REMINDER_STRING = "'%s' has no reminder to turn off!";
+    private static final String FEEDBACK_LIST_STRING = "Here are your habit reminders:";
+    private static final String NO_REMINDERS_MESSAGE = "You have no habit reminders!"
+            + LINE_SEPARATOR
+            + "Set one up by using 'remind --name habit-name --daily HH:MM'!";
+    private static final String REMINDER_FORMAT = "%s: %s, next on %s";
+    private static final String ERROR_STORAGE_MESSAGE = "Error saving your reminders to storage!";
+    private static final DateTimeFormatter DUE_TIME_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm");
+    private final AtomicHabitList atomicHabits;
+    private final HabitReminderService reminderService;
+    private final Clock clock;
+    private final AtomicHabitUi atomicHabitUi;
+
+    /**
+     * Constructs a RemindCommand object that uses the shared HabitReminderService.<br>
+     *
+     * @param arguments    Argument-Payload map generated by CommandParser.
+     * @param atomicHabits The AtomicHabitList object whose habits to remind of.
+     */
+    public RemindCommand(HashMap<String, String> arguments, AtomicHabitList atomicHabits) {
+        this(arguments, atomicHabits, HabitReminderService.getInstance(), Clock.systemDefaultZone());
+    }
+
+    /**
+     * Constructs a RemindCommand object that sets reminders in the given HabitReminderService.<br>
+     *
+     * @param arguments       Argument-Payload map generated by CommandParser.
+     * @param atomicHabits    The AtomicHabitList object whose habits to remind of.
+     * @param reminderService The HabitReminderService that delivers the reminders.
+     * @param clock           Clock giving the current time and the time zone of daily reminders.
+     */
+    public RemindCommand(HashMap<String, String> arguments, AtomicHabitList atomicHabits,
+            HabitReminderService reminderService, Clock clock) {
+        super(arguments);
+        this.atomicHabits = atomicHabits;
+        this.reminderService = reminderService;
+        this.clock = clock;
+        this.atomicHabitUi = new AtomicHabitUi();
+    }
+
+    private AtomicHabitUi getTextUi() {
+        return atomicHabitUi;
+    }
+
+    private String formatDueTime(long epochSecond) {
+        return LocalDateTime.ofInstant(Instant.ofEpochSecond(epochSecond), clock.getZone()).format(DUE_TIME_FORMATTER);
+    }
+
+    private HabitReminder getReminderFrom(HashMap<String, String> arguments, AtomicHabit habit) {
+        long now = clock.instant().getEpochSecond();
+        if (arguments.containsKey(COMMAND_DAILY_ARGUMENT)) {
+            int minuteOfDay = HabitReminder.parseMinuteOfDay(arguments.get(COMMAND_DAILY_ARGUMENT));
+            return HabitReminder.createDaily(habit.getDescription(), minuteOfDay, now, clock.getZone());
+        }
+        int intervalHours = Integer.parseInt(arguments.get(COMMAND_EVERY_ARGUMENT).strip());
+        return HabitReminder.createInterval(habit.getDescription(), intervalHours, now);
+    }
+
+    private void listReminders() {
+        ArrayList<HabitReminder> reminders = reminderService.getReminders();
+        if (reminders.isEmpty()) {
+            getTextUi().printOutputMessage(NO_REMINDERS_MESSAGE);
+            return;
+        }
+        StringBuilder messageBuilder = new StringBuilder(FEEDBACK_LIST_STRING);
+        for (HabitReminder reminder : reminders) {
+            messageBuilder.append(LINE_SEPARATOR).append(String.format(REMINDER_FORMAT,
+                    reminder.getHabitDescription(), reminder.getScheduleDescription(),
+                    formatDueTime(reminder.getNextDueEpochSecond())));
+        }
+        getTextUi().printOutputMessage(messageBuilder.toString());
+    }
+
+    /**
+     * Identifies this Command's keyword. Override this in subclasses so
+     * toString() returns the correct String representation.
+     *
+     * @return String Keyword of this Command
+     */
+    @Override
+    protected String getCommandKeyword() {
+        return COMMAND_KEYWORD;
+    }
+
+    /**
+     * Identifies the feature that this Command is associated with. Override
+     * this in subclasses so toString() returns the correct String representation.
+     *
+     * @return String Keyword for the feature associated with this Command
+     */
+    @Override
+    protected String getFeatureKeyword() {
+        return AtomicHabitManager.FEATURE_NAME;
+    }
+
+    /**
+     * Executes the remind command for atomic habits, which sets or turns off the reminder of the habit
+     * with the given name, or lists every reminder when no habit is given.
+     *
+     * @throws AtomicHabitException If no habit has the given name
+     */
+    @Override
+    public void execute() throws AtomicHabitException {
+        try {
+            validateCommand(super.getArguments());
+        } catch (BadCommandException badCommandException) {
+            getTextUi().printErrorFor(badCommandException, COMMAND_INVALID_COMMAND_NOTE);
+            return;
+        }
+        HashMap<String, String> arguments = super.getArguments();
+        if (!arguments.containsKey(COMMAND_NAME_ARGUMENT)) {
+            listReminders();
+            return;
+        }
+        AtomicHabit habit = atomicHabits.resolveHabitName(arguments.get(COMMAND_NAME_ARGUMENT));
+        try {
+            if (arguments.containsKey(COMMAND_OFF_ARGUMENT)) {
+                HabitReminder removedReminder = reminderService.removeReminder(habit.getDescription());
+                String feedback = removedReminder == null ? FEEDBACK_NO_REMINDER_STRING : FEEDBACK_OFF_STRING;
+                getTextUi().printOutputMessage(String.format(feedback, habit));
+                return;
+            }
+            HabitReminder reminder = getReminderFrom(arguments, habit);
+            reminderService.setReminder(reminder);
+            getTextUi().printOutputMessage(String.format(FEEDBACK_SET_STRING, habit,
+                    reminder.getScheduleDescription(), formatDueTime(reminder.getNextDueEpochSecond())));
+        } catch (StorageException storageException) {
+            getTextUi().printErrorFor(storageException, ERROR_STORAGE_MESSAGE);
+        }
+    }
+
+    /**
+     * Validate the arguments and payloads from a commandMap generated by CommandParser.<br>
+     * <p>
+     * If no exceptions are thrown, arguments are valid.
+     *
+     * @param arguments Argument-Payload map generated by CommandParser
+     * @throws BadCommandException If the arguments have any issues
+     */
+    @Override
+    public void validateCommand(HashMap<String, String> arguments) throws BadCommandException {
+        if (!arguments.containsKey(COMMAND_KEYWORD)) {
+            throw new BadCommandException(COMMAND_INVALID_COMMAND_MESSAGE);
+        }
+        if (!arguments.get(COMMAND_KEYWORD).isEmpty()) {
+            throw new BadCommandException(COMMAND_INVALID_PAYLOAD);
+        }
+        if (arguments.size() == COMMAND_LIST_NUM_OF_ARGUMENTS) {
+            return;
+        }
+        if (arguments.size() != COMMAND_SET_NUM_OF_ARGUMENTS || !arguments.containsKey(COMMAND_NAME_ARGUMENT)) {
+            throw new BadCommandException(COMMAND_INVALID_ARGUMENTS_MESSAGE);
+        }
+        if (arguments.get(COMMAND_NAME_ARGUMENT).isBlank()) {
+            throw new BadCommandException(COMMAND_INVALID_NAME_PAYLOAD);
+        }
+        if (arguments.containsKey(COMMAND_DAILY_ARGUMENT)) {
+            int minuteOfDay = HabitReminder.parseMinuteOfDay(arguments.get(COMMAND_DAILY_ARGUMENT));
+            if (minuteOfDay == HabitReminder.INVALID_TIME_OF_DAY) {
+                throw new BadCommandException(COMMAND_INVALID_DAILY_PAYLOAD);
+            }
+        } else if (arguments.containsKey(COMMAND_EVERY_ARGUMENT)) {
+            validateIntervalHours(arguments.get(COMMAND_EVERY_ARGUMENT));
+        } else if (arguments.containsKey(COMMAND_OFF_ARGUMENT)) {
+            if (!arguments.get(COMMAND_OFF_ARGUMENT).isEmpty()) {
+                throw new BadCommandException(COMMAND_INVALID_OFF_PAYLOAD);
+            }
+        } else {
+            throw new BadCommandException(COMMAND_INVALID_ARGUMENTS_MESSAGE);
+        }
+    }
+
+    private void validateIntervalHours(String payload) throws BadCommandException {
+        int intervalHours;
+        try {
+            intervalHours = Integer.parseInt(payload.strip());
+        } catch (NumberFormatException numberFormatException) {
+            throw new BadCommandException(COMMAND_INVALID_EVERY_PAYLOAD);
+        }
+        if (!HabitReminder.isValidPeriod(HabitReminder.TYPE_INTERVAL, intervalHours)) {
+            throw new BadCommandException(COMMAND_INVALID_EVERY_PAYLOAD);
+        }
+    }
+
+    /**
+     * Method to ensure that developers add in a command usage.
+     * <p>
+     * For example, for the 'add' command in AtomicHabit package: <br>
+     * "usage: add --name (name of habit)"
+     *
+     * @return String of the proper usage of the habit
+     */
+    @Override
+    public String getCommandUsage() {
+        return COMMAND_USAGE;
+    }
+
+    /**
+     * Method to ensure that developers add in a description for the command.
+     * <p>
+     * For example, for the 'add' command in AtomicHabit package: <br>
+     * "add - add a habit to your list"
+     *
+     * @return String of the description of what the command does
+     */
+    @Override
+    public String getCommandDescription() {
+        return COMMAND_DESCRIPTION;
+    }
+}
@@ -0,0 +1,174 @@
+package wellnus.atomichabit.command;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+
+import wellnus.atomichabit.feature.AtomicHabit;
+import wellnus.atomichabit.feature.AtomicHabitList;
+import wellnus.atomichabit.feature.AtomicHabitManager;
+import wellnus.atomichabit.feature.AtomicHabitUi;
+import wellnus.atomichabit.feature.HabitStats;
+import wellnus.command.Command;
+import wellnus.exception.AtomicHabitException;
+import wellnus.exception.BadCommandException;
+
+/**
+ * The StatsCommand class is a command class that reports the analytics of the atomic habits:
+ * their current and longest streaks, their counts over the last 7 and 30 days and their trend.<br>
+ * <p>
+ * The analytics are kept up to date by each habit's HabitStats as its count changes, so reporting them
+ * takes constant time per habit however long its history is.
+ */
+public class StatsCommand extends Command {
+    public static final String COMMAND_DESCRIPTION = "stats - See your streaks and recent progress for each habit.";
+    public static final String COMMAND_USAGE = "usage: stats [--name habit-name]";
+    public static final String COMMAND_KEYWORD = "stats";
+    private static final String COMMAND_NAME_ARGUMENT = "name";
+    private static final int COMMAND_MIN_NUM_OF_ARGUMENTS = 1;
+    private static final int COMMAND_MAX_NUM_OF_ARGUMENTS = 2;
+    private static final String COMMAND_INVALID_COMMAND_MESSAGE = "Invalid command issued, expected 'stats'!";
+    private static final String COMMAND_INVALID_ARGUMENTS_MESSAGE = "Invalid arguments given to 'stats'!";
+    private static final String COMMAND_INVALID_PAYLOAD = "Invalid payload given to 'stats'!";
+    private static final String COMMAND_INVALID_COMMAND_NOTE = "stats command " + COMMAND_USAGE;
+    private static final String LINE_SEPARATOR = System.lineSeparator();
+    private static final String FEEDBACK_STRING = "Here is how your habits are going!";
+    private static final String EMPTY_LIST_MESSAGE = "You have no habits in your list!"
+            + LINE_SEPARATOR
+            + "Start adding some habits by using 'add'!";
+    private static final String HABIT_STATS_FORMAT = "%d.%s: current streak %d day(s), longest streak %d day(s), "
+            + "last 7 days %+d, last 30 days %+d, trend %s";
+    private static final int MONTH_LENGTH = 30;
+    private static final int INDEX_OFFSET = 1;
+    private final AtomicHabitList atomicHabits;
+    private final AtomicHabitUi atomicHabitUi;
+
+    /**
+     * Constructs a StatsCommand object.<br>
+     *
+     * @param arguments    Argument-Payload map generated by CommandParser.
+     * @param atomicHabits The AtomicHabitList object whose habits to report on.
+     */
+    public StatsCommand(HashMap<String, String> arguments, AtomicHabitList atomicHabits) {
+        super(arguments);
+        this.atomicHabits = atomicHabits;
+        this.atomicHabitUi = new AtomicHabitUi();
+    }
+
+    private AtomicHabitUi getTextUi() {
+        return atomicHabitUi;
+    }
+
+    private String getStatsStringOf(int index, AtomicHabit habit, long today) {
+        HabitStats stats = habit.getEventHistory().getStats();
+        int habitNo = index + INDEX_OFFSET;
+        return String.format(HABIT_STATS_FORMAT, habitNo, habit, stats.getCurrentStreak(today),
+                stats.getLongestStreak(), stats.getCountInLastDays(today, HabitStats.WEEK_LENGTH),
+                stats.getCountInLastDays(today, MONTH_LENGTH), stats.getTrend(today));
+    }
+
+    /**
+     * Identifies this Command's keyword. Override this in subclasses so
+     * toString() returns the correct String representation.
+     *
+     * @return String Keyword of this Command
+     */
+    @Override
+    protected String getCommandKeyword() {
+        return COMMAND_KEYWORD;
+    }
+
+    /**
+     * Identifies the feature that this Command is associated with. Override
+     * this in subclasses so toString() returns the correct String representation.
+     *
+     * @return String Keyword for the feature associated with this Command
+     */
+    @Override
+    protected String getFeatureKeyword() {
+        return AtomicHabitManager.FEATURE_NAME;
+    }
+
+    /**
+     * Executes the stats command for atomic habits, which prints the analytics of every habit,
+     * or only of the habit with the given name.
+     *
+     * @throws AtomicHabitException If no habit has the given name
+     */
+    @Override
+    public void execute() throws AtomicHabitException {
+        try {
+            validateCommand(super.getArguments());
+        } catch (BadCommandException badCommandException) {
+            getTextUi().printErrorFor(badCommandException, COMMAND_INVALID_COMMAND_NOTE);
+            return;
+        }
+        long today = LocalDate.now().toEpochDay();
+        StringBuilder messageBuilder = new StringBuilder(FEEDBACK_STRING);
+        if (super.getArguments().containsKey(COMMAND_NAME_ARGUMENT)) {
+            AtomicHabit habit = atomicHabits.resolveHabitName(super.getArguments().get(COMMAND_NAME_ARGUMENT));
+            messageBuilder.append(LINE_SEPARATOR)
+                    .append(getStatsStringOf(atomicHabits.getIndexOf(habit), habit, today));
+        } else {
+            ArrayList<AtomicHabit> habits = atomicHabits.getAllHabits();
+            if (habits.isEmpty()) {
+                getTextUi().printOutputMessage(EMPTY_LIST_MESSAGE);
+                return;
+            }
+            for (int i = 0; i < habits.size(); ++i) {
+                messageBuilder.append(LINE_SEPARATOR).append(getStatsStringOf(i, habits.get(i), today));
+            }
+        }
+        getTextUi().printOutputMessage(messageBuilder.toString());
+    }
+
+    /**
+     * Validate the arguments and payloads from a commandMap generated by CommandParser.<br>
+     * <p>
+     * If no exceptions are thrown, arguments are valid.
+     *
+     * @param arguments Argument-Payload map generated by CommandParser
+     * @throws BadCommandException If the arguments have any issues
+     */
+    @Override
+    public void validateCommand(HashMap<String, String> arguments) throws BadCommandException {
+        if (!arguments.containsKey(COMMAND_KEYWORD)) {
+            throw new BadCommandException(COMMAND_INVALID_COMMAND_MESSAGE);
+        }
+        if (!arguments.get(COMMAND_KEYWORD).isEmpty()) {
+            throw new BadCommandException(COMMAND_INVALID_PAYLOAD);
+        }
+        if (arguments.size() < COMMAND_MIN_NUM_OF_ARGUMENTS || arguments.size() > COMMAND_MAX_NUM_OF_ARGUMENTS) {
+            throw new BadCommandException(COMMAND_INVALID_ARGUMENTS_MESSAGE);
+        }
+        if (arguments.size() == COMMAND_MAX_NUM_OF_ARGUMENTS && !arguments.containsKey(COMMAND_NAME_ARGUMENT)) {
+            throw new BadCommandException(COMMAND_INVALID_ARGUMENTS_MESSAGE);
+        }
+    }
+
+    /**
+     * Method to ensure that developers add in a command usage.
+     * <p>
+     * For example, for the 'add' command in AtomicHabit package: <br>
+     * "usage: add --name (name of habit)"
+     *
+     * @return String of the proper usage of the habit
+     */
+    @Override
+    public String getCommandUsage() {
+        return COMMAND_USAGE;
+    }
+
+    /**
+     * Method to ensure that developers add in a description for the command.
+     * <p>
+     * For example, for the 'add' command in AtomicHabit package: <br>
+     * "add - add a habit to your list"
+     *
+     * @return String of the description of what the command does
+     */
+    @Override
+    public String getCommandDescription() {
+        return COMMAND_DESCRIPTION;
+    }
+}
@@ -1,6 +1,8 @@
 package wellnus.atomichabit.command;
 
 import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.HashMap;
 import java.util.logging.Level;
 import java.util.logging.Logger;
@@ -20,13 +22,20 @@ import wellnus.gamification.util.GamificationUi;
 /**
  * The UpdateCommand class is a command class that updates the number of times a habit
  * has been preformed.<br>
+ * <p>
+ * Several habits can be updated at once by giving a comma-separated list of indexes and ranges,
+ * e.g. <code>update --id 1,4-6,9 --by 2</code>. The batch is applied as a whole or not at all,
+ * and earns its XP in a single award so that XP is saved and level-ups are checked only once.
+ * A single habit can also be given by its name, which is looked up ignoring case and whitespace.
  */
 public class UpdateCommand extends Command {
     public static final String COMMAND_DESCRIPTION = "update - Update how many times you've done a habit.";
-    public static final String COMMAND_USAGE = "usage: update --id habit-index [--by increment_number]";
+    public static final String COMMAND_USAGE = "usage: update (--id habit-index[,habit-index|,first-last...] "
+            + "| --name habit-name) [--by increment_number]";
     public static final String COMMAND_KEYWORD = "update";
     private static final String COMMAND_INCREMENT_ARGUMENT = "by";
     private static final String COMMAND_INDEX_ARGUMENT = "id";
+    private static final String COMMAND_NAME_ARGUMENT = "name";
     private static final int COMMAND_MIN_NUM_OF_ARGUMENTS = 2;
     private static final int COMMAND_MAX_NUM_OF_ARGUMENTS = 3;
     private static final String COMMAND_INVALID_COMMAND_MESSAGE = "Invalid command issued, expected 'update'!";
@@ -38,6 +47,13 @@ public class UpdateCommand extends Command {
     private static final int DEFAULT_INCREMENT = 1;
     private static final int ZERO = 0;
     private static final String FEEDBACK_STRING = "The following habit has been incremented! Keep up the good work!";
+    private static final String FEEDBACK_STRING_MULTIPLE = "The following habits have been incremented! "
+            + "Keep up the good work!";
+    private static final String FEEDBACK_INCREMENT_TOO_LARGE_ERROR = "Invalid increment payload given, "
+            + "increment is too large!";
+    private static final String INDEX_LIST_DELIMITER = ",";
+    private static final String INDEX_RANGE_DELIMITER = "-";
+    private static final int NOT_FOUND = -1;
     private static final String FEEDBACK_INDEX_NOT_INTEGER_ERROR = "Invalid index payload given, expected an integer!";
     private static final String FEEDBACK_INDEX_OUT_OF_BOUNDS_ERROR = "Invalid index payload given, "
             + "index is out of range!";
@@ -111,13 +127,55 @@ public class UpdateCommand extends Command {
         return Integer.parseInt(incrementCountString);
     }
 
-    private int getIndexFrom(HashMap<String, String> arguments)
-            throws BadCommandException, NumberFormatException {
+    /**
+     * Parses the habit indexes to update from a comma-separated list of indexes and ranges, e.g. "1,4-6,9",
+     * or from the name of a single habit.<br>
+     * Every index is checked before any habit is updated, and an index given more than once is only
+     * updated once.
+     *
+     * @param arguments Argument-Payload map generated by CommandParser
+     * @return BitSet of the zero-based indexes of the habits to update
+     * @throws AtomicHabitException      If the habit is given by a name that no habit has
+     * @throws BadCommandException       If the index argument is missing
+     * @throws NumberFormatException     If an index is not an integer
+     * @throws IndexOutOfBoundsException If an index is out of range, or a range is empty
+     */
+    private BitSet getIndexesFrom(HashMap<String, String> arguments)
+            throws AtomicHabitException, BadCommandException, NumberFormatException, IndexOutOfBoundsException {
+        if (arguments.containsKey(UpdateCommand.COMMAND_NAME_ARGUMENT)) {
+            AtomicHabit habit = getAtomicHabits().resolveHabitName(arguments.get(COMMAND_NAME_ARGUMENT));
+            BitSet indexes = new BitSet();
+            indexes.set(getAtomicHabits().getIndexOf(habit));
+            return indexes;
+        }
         if (!arguments.containsKey(UpdateCommand.COMMAND_INDEX_ARGUMENT)) {
             throw new BadCommandException(UpdateCommand.UPDATE_INVALID_ARGUMENTS_MESSAGE);
         }
         String indexString = arguments.get(UpdateCommand.COMMAND_INDEX_ARGUMENT);
-        return Integer.parseInt(indexString);
+        int numOfHabits = getAtomicHabits().getAllHabits().size();
+        BitSet indexes = new BitSet(numOfHabits);
+        for (String indexItem : indexString.split(INDEX_LIST_DELIMITER)) {
+            String strippedIndexItem = indexItem.strip();
+            // Search from the second character, so that a negative index is not mistaken for a range
+            int rangeDelimiter = strippedIndexItem.indexOf(INDEX_RANGE_DELIMITER, 1);
+            int firstIndex;
+            int lastIndex;
+            if (rangeDelimiter == NOT_FOUND) {
+                firstIndex = Integer.parseInt(strippedIndexItem) - INDEX_OFFSET;
+                lastIndex = firstIndex;
+            } else {
+                firstIndex = Integer.parseInt(strippedIndexItem.substring(0, rangeDelimiter).strip())
+                        - INDEX_OFFSET;
+                lastIndex = Integer.parseInt(strippedIndexItem.substring(rangeDelimiter + 1).strip())
+                        - INDEX_OFFSET;
+            }
+            // Checked before setting, so that a huge range never grows the BitSet
+            if (firstIndex < ZERO || lastIndex >= numOfHabits || firstIndex > lastIndex) {
+                throw new IndexOutOfBoundsException();
+            }
+            indexes.set(firstIndex, lastIndex + 1);
+        }
+        return indexes;
     }
 
     private int getPositive(int changeCount) {
@@ -132,6 +190,14 @@ public class UpdateCommand extends Command {
         return changeCount > 0;
     }
 
+    private int getXpFor(int changeCount, int numOfHabits) throws AtomicHabitException {
+        try {
+            return Math.multiplyExact(Math.multiplyExact(changeCount, NUM_OF_XP_PER_INCREMENT), numOfHabits);
+        } catch (ArithmeticException arithmeticException) {
+            throw new AtomicHabitException(FEEDBACK_INCREMENT_TOO_LARGE_ERROR);
+        }
+    }
+
     /**
      * Identifies this Command's keyword. Override this in subclasses so
      * toString() returns the correct String representation.
@@ -174,23 +240,32 @@ public class UpdateCommand extends Command {
             if (super.getArguments().containsKey(UpdateCommand.COMMAND_INCREMENT_ARGUMENT)) {
                 changeCount = this.getIncrementCountFrom(super.getArguments());
             }
-            int index = this.getIndexFrom(super.getArguments()) - INDEX_OFFSET;
-            AtomicHabit habit = getAtomicHabits().getHabitByIndex(index);
-            if (changeCount > ZERO) {
-                habit.increaseCount(changeCount);
-                // Add XP for completing atomic habits as an incentive
-                hasLevelUp = gamificationData.addXp(
-                        changeCount * NUM_OF_XP_PER_INCREMENT);
-            } else {
-                if (getPositive(changeCount) > habit.getCount()) {
+            BitSet indexes = this.getIndexesFrom(super.getArguments());
+            ArrayList<AtomicHabit> habitsToUpdate = new ArrayList<>(indexes.cardinality());
+            for (int index = indexes.nextSetBit(ZERO); index != NOT_FOUND; index = indexes.nextSetBit(index + 1)) {
+                AtomicHabit habit = getAtomicHabits().getHabitByIndex(index);
+                if (changeCount <= ZERO && getPositive(changeCount) > habit.getCount()) {
                     throw new AtomicHabitException(FEEDBACK_DECREMENT_ERROR);
                 }
-                habit.decreaseCount(getPositive(changeCount));
+                habitsToUpdate.add(habit);
             }
-            String stringOfUpdatedHabit = (index + 1) + DOT + habit + " " + "[" + habit.getCount() + "]"
-                    + LINE_SEPARATOR;
-            getTextUi().printOutputMessage(FEEDBACK_STRING + LINE_SEPARATOR
-                    + stringOfUpdatedHabit);
+            int xpToAdd = ZERO;
+            if (changeCount > ZERO) {
+                xpToAdd = getXpFor(changeCount, habitsToUpdate.size());
+            }
+            getAtomicHabits().updateHabitCounts(habitsToUpdate, changeCount, xpToAdd);
+            if (xpToAdd > ZERO) {
+                // Add XP for completing atomic habits as an incentive, once for the whole batch
+                hasLevelUp = gamificationData.addXp(xpToAdd);
+            }
+            StringBuilder stringOfUpdatedHabits = new StringBuilder();
+            for (int index = indexes.nextSetBit(ZERO); index != NOT_FOUND; index = indexes.nextSetBit(index + 1)) {
+                AtomicHabit habit = getAtomicHabits().getHabitByIndex(index);
+                stringOfUpdatedHabits.append(index + 1).append(DOT).append(habit)
+                        .append(" [").append(habit.getCount()).append("]").append(LINE_SEPARATOR);
+            }
+            String feedback = habitsToUpdate.size() == 1 ? FEEDBACK_STRING : FEEDBACK_STRING_MULTIPLE;
+            getTextUi().printOutputMessage(feedback + LINE_SEPARATOR + stringOfUpdatedHabits);
             if (hasLevelUp) {
                 // Congratulate the user about levelling up
                 GamificationUi.printCelebrateLevelUp();
@@ -230,7 +305,8 @@ public class UpdateCommand extends Command {
         if (arguments.size() > UpdateCommand.COMMAND_MAX_NUM_OF_ARGUMENTS) {
             throw new BadCommandException(UpdateCommand.COMMAND_INVALID_ARGUMENT_MESSAGE);
         }
-        if (!arguments.containsKey(UpdateCommand.COMMAND_INDEX_ARGUMENT)) {
+        if (arguments.containsKey(UpdateCommand.COMMAND_INDEX_ARGUMENT)
+                == arguments.containsKey(UpdateCommand.COMMAND_NAME_ARGUMENT)) {
             throw new BadCommandException(UpdateCommand.COMMAND_INVALID_ARGUMENT_MESSAGE);
         }
         if (arguments.size() == UpdateCommand.COMMAND_MAX_NUM_OF_ARGUMENTS
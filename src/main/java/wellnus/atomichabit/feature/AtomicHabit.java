@@ -1,11 +1,25 @@
 package wellnus.atomichabit.feature;
 
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+
 /**
  * Class to represent a unique atomic habit that the user will practice
  * It contains primarily the description of the habit and the count of the habit
+ * Two habits are duplicates when their normalized descriptions are equal, which is computed once on creation
+ * Every change to the count is also recorded with its time in the habit's HabitEventHistory
+ * A habit can also carry tags, e.g. fitness, which are normalized like descriptions and kept in the order given
+ * Descriptions and tags are interned, so they are shared with every other habit that has the same ones
+ * and are garbage collected once no habit uses them
  */
 public class AtomicHabit {
+    public static final String TAG_DELIMITER = ",";
     private final String description;
+    private final String normalizedDescription;
+    private final HabitEventHistory eventHistory;
+    private final List<String> tags;
     private int count;
 
     /**
@@ -16,8 +30,7 @@ public class AtomicHabit {
      * @param description Description of this new atomic habit provided by the user
      */
     public AtomicHabit(String description) {
-        this.description = description;
-        this.count = 1;
+        this(description, 1);
     }
 
     /**
@@ -28,24 +41,170 @@ public class AtomicHabit {
      * @param count       Number of habit to be initialized.
      */
     public AtomicHabit(String description, int count) {
-        this.description = description;
+        this(description, count, new HabitEventHistory());
+    }
+
+    /**
+     * Constructor of atomic habit class with the history of changes to its count, e.g. loaded from storage.
+     *
+     * @param description  Description of atomic habit.
+     * @param count        Number of habit to be initialized.
+     * @param eventHistory History of changes to the count of the habit.
+     */
+    public AtomicHabit(String description, int count, HabitEventHistory eventHistory) {
+        this(description, count, eventHistory, List.of());
+    }
+
+    /**
+     * Constructor of atomic habit class with the history of changes to its count and its tags.
+     *
+     * @param description  Description of atomic habit.
+     * @param count        Number of habit to be initialized.
+     * @param eventHistory History of changes to the count of the habit.
+     * @param tags         Normalized tags of the habit, without duplicates.
+     */
+    public AtomicHabit(String description, int count, HabitEventHistory eventHistory, List<String> tags) {
+        this.description = description.intern();
+        // Already normalized descriptions, e.g. "run", share the String of the description
+        this.normalizedDescription = normalizeDescription(description).intern();
+        this.eventHistory = eventHistory;
+        String[] pooledTags = new String[tags.size()];
+        for (int i = 0; i < pooledTags.length; ++i) {
+            pooledTags[i] = tags.get(i).intern();
+        }
+        this.tags = List.of(pooledTags);
         this.count = count;
     }
 
+    /**
+     * Normalizes a habit description by removing all whitespace and converting it to lower case,
+     * so that descriptions that only differ in spacing or case are treated as the same habit.
+     *
+     * @param description Description of a habit
+     * @return Normalized form of the description
+     */
+    public static String normalizeDescription(String description) {
+        StringBuilder normalizedDescription = new StringBuilder(description.length());
+        for (int i = 0; i < description.length(); ++i) {
+            char character = description.charAt(i);
+            if (!isRegexWhitespace(character)) {
+                normalizedDescription.append(character);
+            }
+        }
+        return normalizedDescription.toString().toLowerCase();
+    }
+
+    /**
+     * Parses a list of tags separated by TAG_DELIMITER, e.g. "fitness, Morning", into normalized tags. <br>
+     * Empty tags are skipped and each tag is only kept the first time it appears.
+     *
+     * @param tagList Tags separated by TAG_DELIMITER
+     * @return List of the normalized tags, in the order given
+     */
+    public static List<String> parseTags(String tagList) {
+        LinkedHashSet<String> tags = new LinkedHashSet<>();
+        for (String tag : tagList.split(TAG_DELIMITER)) {
+            String normalizedTag = normalizeDescription(tag);
+            if (!normalizedTag.isEmpty()) {
+                tags.add(normalizedTag);
+            }
+        }
+        return new ArrayList<>(tags);
+    }
+
+    /**
+     * Checks whether a normalized tag is valid, i.e. it is not empty and only holds letters, digits,
+     * '_' and single '-' characters, so that it can be stored and typed as a command argument.
+     *
+     * @param tag Normalized tag to check
+     * @return boolean representing if the tag is valid
+     */
+    public static boolean isValidTag(String tag) {
+        if (tag.isEmpty() || tag.contains("--")) {
+            return false;
+        }
+        for (int i = 0; i < tag.length(); ++i) {
+            char character = tag.charAt(i);
+            if (!Character.isLetterOrDigit(character) && character != '_' && character != '-') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // Same characters as the regex class \s, which descriptions used to be normalized with
+    private static boolean isRegexWhitespace(char character) {
+        switch (character) {
+        case ' ':
+        case '\t':
+        case '\n':
+        case '\u000B':
+        case '\f':
+        case '\r':
+            // fallthrough
+            return true;
+        default:
+            return false;
+        }
+    }
+
     public String getDescription() {
         return description;
     }
 
+    public String getNormalizedDescription() {
+        return normalizedDescription;
+    }
+
+    public List<String> getTags() {
+        return tags;
+    }
+
     public int getCount() {
         return count;
     }
 
+    public HabitEventHistory getEventHistory() {
+        return eventHistory;
+    }
+
     public void increaseCount(int increment) {
+        increaseCount(increment, Instant.now().getEpochSecond());
+    }
+
+    /**
+     * Increases the count of this habit and records the change as happening at the given time.
+     *
+     * @param increment   Amount to increase the count by
+     * @param epochSecond Time of the change in epoch seconds
+     */
+    public void increaseCount(int increment, long epochSecond) {
         count += increment;
+        eventHistory.record(epochSecond, increment);
     }
 
     public void decreaseCount(int decrement) {
+        decreaseCount(decrement, Instant.now().getEpochSecond());
+    }
+
+    /**
+     * Decreases the count of this habit and records the change as happening at the given time.
+     *
+     * @param decrement   Amount to decrease the count by
+     * @param epochSecond Time of the change in epoch seconds
+     */
+    public void decreaseCount(int decrement, long epochSecond) {
         count -= decrement;
+        eventHistory.record(epochSecond, -decrement);
+    }
+
+    /**
+     * Returns a copy of this habit whose count and history are not affected by later changes to this habit.
+     *
+     * @return Copy of this habit
+     */
+    public AtomicHabit copy() {
+        return new AtomicHabit(description, count, eventHistory.copy(), tags);
     }
 
     @Override
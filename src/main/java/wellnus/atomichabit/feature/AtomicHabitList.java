@@ -1,29 +1,86 @@
 package wellnus.atomichabit.feature;
 
+import java.time.Instant;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
 import wellnus.common.WellNusLogger;
+import wellnus.exception.AtomicHabitException;
 import wellnus.exception.StorageException;
 import wellnus.exception.TokenizerException;
+import wellnus.storage.AtomicHabitBinaryTokenizer;
 import wellnus.storage.AtomicHabitTokenizer;
+import wellnus.storage.Journal;
+import wellnus.storage.PersistenceService;
 import wellnus.storage.Storage;
 import wellnus.ui.TextUi;
 
 /**
- * Class to represent a container that will contain all unique AtomicHabit objects in an arraylist
+ * Class to represent a container that will contain all unique AtomicHabit objects in an arraylist. <br>
+ * <p>
+ * Changes to the list are recorded as journal records and appended to the habit journal on
+ * <code>storeHabitData()</code>; the full habit file is only rewritten when the journal is compacted. <br>
+ * <p>
+ * Every change also bumps a modification counter, so saving is skipped entirely when nothing has changed
+ * since the last save. The number of saves performed and skipped can be read for diagnostics. <br>
+ * <p>
+ * Habits are also indexed by their normalized description, so checking for duplicates and looking up a habit
+ * by name take constant time however many habits there are. A HabitSearchIndex kept up to date alongside it
+ * finds habits by part of their name, and a HabitTagIndex finds the habits carrying given tags. <br>
+ * <p>
+ * Sorted orders of the habits are computed on first use and cached until a change to the list could
+ * reorder them, so paging through a sorted listing does not sort the habits again for every page. <br>
+ * <p>
+ * The latest adds, deletes and count updates are kept in a HabitOperationHistory, so that they can be undone
+ * and redone. Undoing is itself a change to the list, which is journalled and saved like any other.
  */
 public class AtomicHabitList {
+    public static final String SORT_BY_COUNT = "count";
+    public static final String SORT_BY_NAME = "name";
+    public static final String SORT_BY_RECENT = "recent";
 
     private static final String FILE_NAME = "habit";
     private static final String STORAGE_ERROR = "The file data cannot be stored properly!!";
     private static final String TOKENIZER_ERROR = "The data cannot be tokenized for storage properly!!";
     private static final Logger LOGGER = WellNusLogger.getLogger("AtomicHabitListLogger");
     private static final AtomicHabitTokenizer atomicHabitTokenizer = new AtomicHabitTokenizer();
+    private static final int JOURNAL_COMPACTION_THRESHOLD = 100;
+    private static final String LOG_SAVE_SKIPPED = "Habit data is unchanged, skipping save";
+    private static final String ASSERT_COUNT_NOT_NEGATIVE = "Habit count should not become negative!";
+    private static final String NAME_NOT_FOUND_MESSAGE = "There is no habit named '%s' in your list!";
+    private static final String NAME_SUGGESTIONS_MESSAGE = " Did you mean: %s?";
+    private static final String SUGGESTION_DELIMITER = ", ";
+    private static final int MAX_SUGGESTIONS = 3;
+    private static final String ASSERT_SORT_ORDER_VALID = "sortOrder should be one of SORT_BY_[order]!";
+    private static final long NEVER_UPDATED = Long.MIN_VALUE;
+    private static final int MAX_UNDOABLE_OPERATIONS = 50;
+    private static final int NOT_FOUND = -1;
     private ArrayList<AtomicHabit> allAtomicHabits;
+    private HashMap<String, AtomicHabit> habitsByNormalizedDescription;
+    private HabitSearchIndex searchIndex;
+    private HabitTagIndex tagIndex;
+    // Indexes of the habits in each sort order computed since the last change that could reorder them
+    private final HashMap<String, int[]> sortedIndexesCache;
+    private final ArrayList<String> pendingJournalEntries;
+    private final HabitOperationHistory operationHistory;
+    // Set when a habit is put back in the middle of the list, which replaying the journal cannot do
+    private boolean isSnapshotDue;
+    // The counters below are guarded by this, as saves may run on the persistence thread
+    private int modificationCount;
+    private int storedModificationCount;
+    private int numSavesPerformed;
+    private int numSavesSkipped;
 
     private Storage storage;
+    private Journal journal;
     private TextUi textUi;
 
     /**
@@ -31,14 +88,35 @@ public class AtomicHabitList {
      * Loads the data from the data file into the arraylist of atomic habits.
      */
     public AtomicHabitList() {
+        this(true);
+    }
+
+    /**
+     * Constructor for AtomicHabitList class that can leave loading the data file to the caller. <br>
+     * StartupLoader uses this to load every feature's data concurrently and report errors per file itself.
+     *
+     * @param isLoadedNow Whether to load the data file now and print any errors, or to wait for the caller
+     *                    to call <code>loadHabitData()</code>
+     */
+    public AtomicHabitList(boolean isLoadedNow) {
+        pendingJournalEntries = new ArrayList<>();
+        sortedIndexesCache = new HashMap<>();
+        operationHistory = new HabitOperationHistory(MAX_UNDOABLE_OPERATIONS);
+        textUi = new TextUi();
         try {
-            this.storage = new Storage();
+            this.storage = Storage.getInstance();
+            this.journal = new Journal(storage, Storage.FILE_HABIT_JOURNAL, JOURNAL_COMPACTION_THRESHOLD);
         } catch (StorageException storageException) {
             LOGGER.log(Level.WARNING, STORAGE_ERROR);
             textUi.printErrorFor(storageException, STORAGE_ERROR);
         }
-        textUi = new TextUi();
         allAtomicHabits = new ArrayList<>();
+        habitsByNormalizedDescription = new HashMap<>();
+        searchIndex = new HabitSearchIndex();
+        tagIndex = new HabitTagIndex();
+        if (!isLoadedNow) {
+            return;
+        }
         try {
             this.loadHabitData();
         } catch (StorageException storageException) {
@@ -56,8 +134,10 @@ public class AtomicHabitList {
      * @param atomicHabit New atomic habit to add into the list that this class manages
      */
 
-    public void addAtomicHabit(AtomicHabit atomicHabit) {
-        allAtomicHabits.add(atomicHabit);
+    public synchronized void addAtomicHabit(AtomicHabit atomicHabit) {
+        int index = allAtomicHabits.size();
+        insertHabit(index, atomicHabit);
+        operationHistory.record(HabitOperation.forAdd(atomicHabit, index));
     }
 
     /**
@@ -65,36 +145,430 @@ public class AtomicHabitList {
      *
      * @param atomicHabit Atomic habit to be deleted
      */
-    public void deleteAtomicHabit(AtomicHabit atomicHabit) {
-        allAtomicHabits.remove(atomicHabit);
+    public synchronized void deleteAtomicHabit(AtomicHabit atomicHabit) {
+        int index = removeHabit(atomicHabit);
+        if (index != NOT_FOUND) {
+            operationHistory.record(HabitOperation.forDelete(atomicHabit, index));
+        }
+    }
+
+    private void insertHabit(int index, AtomicHabit atomicHabit) {
+        allAtomicHabits.add(index, atomicHabit);
+        habitsByNormalizedDescription.put(atomicHabit.getNormalizedDescription(), atomicHabit);
+        searchIndex.add(atomicHabit);
+        tagIndex.insert(index, atomicHabit);
+        sortedIndexesCache.clear();
+        // The journal's add records hold no events, and replay them at the end of the list
+        if (index != allAtomicHabits.size() - 1 || atomicHabit.getEventHistory().getNumEvents() > 0) {
+            isSnapshotDue = true;
+        }
+        recordJournalEntry(atomicHabitTokenizer.tokenizeJournalEntry(AtomicHabitTokenizer.JOURNAL_ADD, atomicHabit));
+    }
+
+    /**
+     * Removes the habit from the list and its indexes.
+     *
+     * @return Index the habit was at, or NOT_FOUND if it was not in the list
+     */
+    private int removeHabit(AtomicHabit atomicHabit) {
+        int index = allAtomicHabits.indexOf(atomicHabit);
+        if (index == NOT_FOUND) {
+            return NOT_FOUND;
+        }
+        allAtomicHabits.remove(index);
+        if (habitsByNormalizedDescription.remove(atomicHabit.getNormalizedDescription(), atomicHabit)) {
+            searchIndex.remove(atomicHabit);
+        }
+        tagIndex.remove(index);
+        sortedIndexesCache.clear();
+        recordJournalEntry(atomicHabitTokenizer.tokenizeJournalEntry(AtomicHabitTokenizer.JOURNAL_DELETE,
+                atomicHabit));
+        return index;
+    }
+
+    /**
+     * Method to increase the count of a habit in this list, recording the change in its event history.
+     *
+     * @param atomicHabit Atomic habit whose count is to be increased
+     * @param increment   Amount to increase the count by
+     */
+    public synchronized void increaseHabitCount(AtomicHabit atomicHabit, int increment) {
+        updateHabitCounts(List.of(atomicHabit), increment);
+    }
+
+    /**
+     * Method to decrease the count of a habit in this list, recording the change in its event history.
+     *
+     * @param atomicHabit Atomic habit whose count is to be decreased
+     * @param decrement   Amount to decrease the count by
+     */
+    public synchronized void decreaseHabitCount(AtomicHabit atomicHabit, int decrement) {
+        updateHabitCounts(List.of(atomicHabit), -decrement);
+    }
+
+    /**
+     * Method to change the counts of several habits in this list by the same amount as one batch. <br>
+     * All the changes are made while holding the list's lock and share one timestamp, so a save running in the
+     * background stores either none or all of them.
+     *
+     * @param habitsToUpdate Atomic habits whose counts are to be changed, each at most once
+     * @param changeCount    Amount to change each count by, negative for decrements
+     */
+    public synchronized void updateHabitCounts(List<AtomicHabit> habitsToUpdate, int changeCount) {
+        updateHabitCounts(habitsToUpdate, changeCount, 0);
+    }
+
+    /**
+     * Method to change the counts of several habits in this list by the same amount as one batch, for which
+     * the given XP was awarded. Undoing the batch reports the XP, so that it can be taken back.
+     *
+     * @param habitsToUpdate Atomic habits whose counts are to be changed, each at most once
+     * @param changeCount    Amount to change each count by, negative for decrements
+     * @param xpAwarded      XP awarded for the update, 0 if none
+     */
+    public synchronized void updateHabitCounts(List<AtomicHabit> habitsToUpdate, int changeCount, int xpAwarded) {
+        updateHabitCounts(habitsToUpdate, changeCount, xpAwarded, Instant.now().getEpochSecond());
+    }
+
+    // Changes the counts as of the given time, e.g. a past day in tests
+    synchronized void updateHabitCounts(List<AtomicHabit> habitsToUpdate, int changeCount, int xpAwarded,
+            long epochSecond) {
+        changeHabitCounts(habitsToUpdate.toArray(new AtomicHabit[0]), changeCount, epochSecond);
+        operationHistory.record(HabitOperation.forUpdate(habitsToUpdate, changeCount, xpAwarded, epochSecond));
+    }
+
+    private void changeHabitCounts(AtomicHabit[] habitsToUpdate, int changeCount, long epochSecond) {
+        for (AtomicHabit atomicHabit : habitsToUpdate) {
+            assert atomicHabit.getCount() + changeCount >= 0 : ASSERT_COUNT_NOT_NEGATIVE;
+            if (changeCount > 0) {
+                atomicHabit.increaseCount(changeCount, epochSecond);
+            } else {
+                atomicHabit.decreaseCount(-changeCount, epochSecond);
+            }
+            recordJournalEntry(atomicHabitTokenizer.tokenizeJournalEntry(atomicHabit, epochSecond, changeCount));
+        }
+        invalidateCountSortOrders();
+    }
+
+    /**
+     * Method to undo the latest operation on this list that has not been undone yet. <br>
+     * A deleted habit is put back where it was, with its count and history. An update is reverted by an
+     * opposite change at the time of the update, so that the day of the update stops counting towards streaks.
+     *
+     * @return HabitOperation that was undone, or null if there is nothing to undo
+     */
+    public synchronized HabitOperation undo() {
+        HabitOperation operation = operationHistory.undo();
+        if (operation == null) {
+            return null;
+        }
+        switch (operation.getType()) {
+        case HabitOperation.TYPE_ADD:
+            removeHabit(operation.getHabit());
+            break;
+        case HabitOperation.TYPE_DELETE:
+            insertHabit(operation.getIndex(), operation.getHabit());
+            break;
+        default:
+            changeHabitCounts(operation.getHabits(), -operation.getChangeCount(), operation.getEpochSecond());
+        }
+        return operation;
+    }
+
+    /**
+     * Method to redo the latest operation on this list that was undone.
+     *
+     * @return HabitOperation that was redone, or null if there is nothing to redo
+     */
+    public synchronized HabitOperation redo() {
+        HabitOperation operation = operationHistory.redo();
+        if (operation == null) {
+            return null;
+        }
+        switch (operation.getType()) {
+        case HabitOperation.TYPE_ADD:
+            insertHabit(operation.getIndex(), operation.getHabit());
+            break;
+        case HabitOperation.TYPE_DELETE:
+            removeHabit(operation.getHabit());
+            break;
+        default:
+            changeHabitCounts(operation.getHabits(), operation.getChangeCount(), operation.getEpochSecond());
+        }
+        return operation;
+    }
+
+    // Changing counts keeps the name order, but may reorder habits by count and by most recent update
+    private void invalidateCountSortOrders() {
+        sortedIndexesCache.remove(SORT_BY_COUNT);
+        sortedIndexesCache.remove(SORT_BY_RECENT);
+    }
+
+    /**
+     * Method to get the indexes of the habits in this list in the given sort order. <br>
+     * Habits with the highest count or the most recent update come first, and habits that are tied keep
+     * their order in the list. The order is cached until the list changes in a way that could change it.
+     *
+     * @param sortOrder One of SORT_BY_COUNT, SORT_BY_NAME or SORT_BY_RECENT
+     * @return Zero-based indexes of the habits in sorted order, which must not be modified
+     */
+    public synchronized int[] getSortedHabitIndexes(String sortOrder) {
+        int[] sortedIndexes = sortedIndexesCache.get(sortOrder);
+        if (sortedIndexes == null) {
+            sortedIndexes = sortHabitIndexes(getComparatorFor(sortOrder));
+            sortedIndexesCache.put(sortOrder, sortedIndexes);
+        }
+        return sortedIndexes;
+    }
+
+    private Comparator<Integer> getComparatorFor(String sortOrder) {
+        switch (sortOrder) {
+        case SORT_BY_COUNT:
+            return Comparator.comparingInt((Integer index) -> allAtomicHabits.get(index).getCount()).reversed();
+        case SORT_BY_NAME:
+            return Comparator.comparing((Integer index) -> allAtomicHabits.get(index).getNormalizedDescription());
+        case SORT_BY_RECENT:
+            return Comparator.comparingLong((Integer index) -> getLastUpdateOf(allAtomicHabits.get(index)))
+                    .reversed();
+        default:
+            assert false : ASSERT_SORT_ORDER_VALID;
+            throw new IllegalArgumentException(ASSERT_SORT_ORDER_VALID);
+        }
+    }
+
+    private long getLastUpdateOf(AtomicHabit habit) {
+        HabitEventHistory eventHistory = habit.getEventHistory();
+        int numEvents = eventHistory.getNumEvents();
+        return numEvents == 0 ? NEVER_UPDATED : eventHistory.getTimestamp(numEvents - 1);
+    }
+
+    private int[] sortHabitIndexes(Comparator<Integer> comparator) {
+        Integer[] indexes = new Integer[allAtomicHabits.size()];
+        for (int i = 0; i < indexes.length; ++i) {
+            indexes[i] = i;
+        }
+        // The sort is stable, so tied habits keep their order in the list
+        Arrays.sort(indexes, comparator);
+        int[] sortedIndexes = new int[indexes.length];
+        for (int i = 0; i < indexes.length; ++i) {
+            sortedIndexes[i] = indexes[i];
+        }
+        return sortedIndexes;
+    }
+
+    private void recordJournalEntry(String journalEntry) {
+        pendingJournalEntries.add(journalEntry);
+        modificationCount++;
+    }
+
+    /**
+     * Check whether the list has changed since the habit data was last stored.
+     *
+     * @return boolean representing if there are changes that have not been stored yet
+     */
+    public synchronized boolean hasUnsavedChanges() {
+        return modificationCount != storedModificationCount;
     }
 
     /**
-     * Tokenize the atomic habits and store them in a data file.
+     * Schedule the habit data to be stored in the background if it has changed since it was last stored.
      *
-     * @throws TokenizerException If there is error during tokenization
-     * @throws StorageException   If data cannot be stored properly
+     * @throws StorageException If the last attempt to store the habit data failed
+     */
+    public void scheduleStoreHabitData() throws StorageException {
+        if (!hasUnsavedChanges()) {
+            recordSkippedSave();
+            return;
+        }
+        PersistenceService.getInstance().markDirty(Storage.FILE_HABIT, this::storeHabitData);
+    }
+
+    private synchronized void recordSkippedSave() {
+        numSavesSkipped++;
+        LOGGER.log(Level.FINE, LOG_SAVE_SKIPPED);
+    }
+
+    public synchronized int getNumSavesPerformed() {
+        return numSavesPerformed;
+    }
+
+    public synchronized int getNumSavesSkipped() {
+        return numSavesSkipped;
+    }
+
+    /**
+     * Store the changes made since the last call in the habit journal, if there are any. <br>
+     * When the journal has grown too long, the atomic habits are tokenized into a fresh snapshot instead
+     * and the journal is cleared. <br>
+     * This may be called from the persistence thread, so the list is only locked while the changes are taken
+     * and never while writing to disk.
+     *
+     * @throws StorageException If data cannot be stored properly
      */
     public void storeHabitData() throws StorageException {
-        ArrayList<String> tokenizedHabitList = atomicHabitTokenizer.tokenize(allAtomicHabits);
-        storage.saveData(tokenizedHabitList, FILE_NAME);
+        ArrayList<String> journalEntries;
+        ArrayList<AtomicHabit> habitsToCompact = null;
+        int modificationCountToStore;
+        synchronized (this) {
+            if (!hasUnsavedChanges()) {
+                recordSkippedSave();
+                return;
+            }
+            modificationCountToStore = modificationCount;
+            journalEntries = new ArrayList<>(pendingJournalEntries);
+            pendingJournalEntries.clear();
+            if (isSnapshotDue || journal.isCompactionDue(journalEntries.size())) {
+                isSnapshotDue = false;
+                // Copy each habit, as their counts and histories may change while the snapshot is written
+                habitsToCompact = new ArrayList<>(allAtomicHabits.size());
+                for (AtomicHabit habit : allAtomicHabits) {
+                    habitsToCompact.add(habit.copy());
+                }
+            }
+        }
+        try {
+            if (habitsToCompact != null) {
+                // The snapshot holds the generation of the journal after it, so that if WellNUS++ stops before
+                // the journal is cleared, the records the snapshot already covers are not replayed on it again
+                long journalGeneration = journal.getNextGeneration();
+                storage.saveData(habitsToCompact, FILE_NAME, new AtomicHabitBinaryTokenizer(journalGeneration));
+                journal.clear(journalGeneration);
+            } else {
+                journal.append(journalEntries);
+            }
+        } catch (StorageException storageException) {
+            synchronized (this) {
+                // Keep the changes so that they are written on the next attempt
+                pendingJournalEntries.addAll(0, journalEntries);
+                isSnapshotDue = isSnapshotDue || habitsToCompact != null;
+            }
+            throw storageException;
+        }
+        synchronized (this) {
+            storedModificationCount = modificationCountToStore;
+            numSavesPerformed++;
+        }
     }
 
     /**
-     * Load a list of strings from data file and detokenize it into the values of atomic habits.
+     * Load the atomic habits from the data file, which may be in either the binary or the older text format,
+     * then replay the habit journal on top of them. <br>
+     * Both files are streamed, so each habit and journal record is applied as soon as it has been read.
      *
      * @throws StorageException   If there is error during tokenization
      * @throws TokenizerException If there is error during detokenization
      */
     public void loadHabitData() throws StorageException, TokenizerException {
-        boolean fileExists = storage.checkFileExists(FILE_NAME);
-        ArrayList<String> loadedHabitList = storage.loadData(FILE_NAME);
-        if (fileExists) {
-            ArrayList<AtomicHabit> detokenizedHabitList = atomicHabitTokenizer.detokenize(loadedHabitList);
-            allAtomicHabits = detokenizedHabitList;
+        LinkedHashMap<String, AtomicHabit> replayedHabits = new LinkedHashMap<>();
+        AtomicHabitBinaryTokenizer atomicHabitBinaryTokenizer = new AtomicHabitBinaryTokenizer();
+        storage.loadData(FILE_NAME, atomicHabitTokenizer, atomicHabitBinaryTokenizer,
+                habit -> atomicHabitTokenizer.replaySnapshotHabit(replayedHabits, habit));
+        journal.loadEntries(atomicHabitBinaryTokenizer.getJournalGeneration(),
+                entry -> atomicHabitTokenizer.replayJournalEntry(replayedHabits, entry));
+        HabitSearchIndex loadedSearchIndex = new HabitSearchIndex();
+        HabitTagIndex loadedTagIndex = new HabitTagIndex();
+        int index = 0;
+        for (AtomicHabit habit : replayedHabits.values()) {
+            loadedSearchIndex.add(habit);
+            loadedTagIndex.insert(index++, habit);
+        }
+        synchronized (this) {
+            allAtomicHabits = new ArrayList<>(replayedHabits.values());
+            habitsByNormalizedDescription = new HashMap<>(replayedHabits);
+            searchIndex = loadedSearchIndex;
+            tagIndex = loadedTagIndex;
+            sortedIndexesCache.clear();
+            // The operations refer to the habits that were replaced
+            operationHistory.clear();
         }
     }
 
+    /**
+     * Check whether this list has a habit that is a duplicate of one with the given description,
+     * i.e. whose description is the same ignoring case and whitespace.
+     *
+     * @param description Description of the habit to look for
+     * @return boolean representing if a duplicate habit is in the list
+     */
+    public synchronized boolean hasDuplicateOf(String description) {
+        return habitsByNormalizedDescription.containsKey(AtomicHabit.normalizeDescription(description));
+    }
+
+    /**
+     * Method to get the habit with the given name, ignoring case and whitespace.
+     *
+     * @param name Name of the habit to look for
+     * @return AtomicHabit with the given name, or null if there is no such habit
+     */
+    public synchronized AtomicHabit getHabitByName(String name) {
+        return habitsByNormalizedDescription.get(AtomicHabit.normalizeDescription(name));
+    }
+
+    /**
+     * Method to get the habit with the given name for a command that addresses habits by name. <br>
+     * If there is no such habit, the closest matches are suggested in the error.
+     *
+     * @param name Name of the habit given by the user
+     * @return AtomicHabit with the given name, ignoring case and whitespace
+     * @throws AtomicHabitException If there is no habit with the given name
+     */
+    public synchronized AtomicHabit resolveHabitName(String name) throws AtomicHabitException {
+        AtomicHabit habit = getHabitByName(name);
+        if (habit != null) {
+            return habit;
+        }
+        String errorMessage = String.format(NAME_NOT_FOUND_MESSAGE, name.strip());
+        ArrayList<String> suggestions = new ArrayList<>();
+        for (AtomicHabit suggestedHabit : searchIndex.search(name, MAX_SUGGESTIONS)) {
+            suggestions.add(suggestedHabit.getDescription());
+        }
+        if (!suggestions.isEmpty()) {
+            errorMessage += String.format(NAME_SUGGESTIONS_MESSAGE, String.join(SUGGESTION_DELIMITER, suggestions));
+        }
+        throw new AtomicHabitException(errorMessage);
+    }
+
+    /**
+     * Method to find the habits best matching the given text, by prefix or by similarity.
+     *
+     * @param text       Text to search habit names for
+     * @param maxResults Maximum number of habits to return
+     * @return ArrayList of at most maxResults matching habits, best match first
+     */
+    public synchronized ArrayList<AtomicHabit> findHabits(String text, int maxResults) {
+        return searchIndex.search(text, maxResults);
+    }
+
+    /**
+     * Method to get the positions of the habits carrying every one of the given tags.
+     *
+     * @param tags Normalized tags the habits must all carry
+     * @return BitSet with the zero-based index of each matching habit set
+     */
+    public synchronized BitSet getHabitIndexesWithAllTags(Collection<String> tags) {
+        return tagIndex.getHabitIndexesWithAllTags(tags);
+    }
+
+    /**
+     * Method to get the positions of the habits carrying at least one of the given tags.
+     *
+     * @param tags Normalized tags the habits may carry
+     * @return BitSet with the zero-based index of each matching habit set
+     */
+    public synchronized BitSet getHabitIndexesWithAnyTag(Collection<String> tags) {
+        return tagIndex.getHabitIndexesWithAnyTag(tags);
+    }
+
+    /**
+     * Method to get the position of a habit in this list.
+     *
+     * @param atomicHabit Atomic habit to look for
+     * @return Zero-based index of the habit, or -1 if it is not in the list
+     */
+    public synchronized int getIndexOf(AtomicHabit atomicHabit) {
+        return allAtomicHabits.indexOf(atomicHabit);
+    }
+
     /**
      * Method to get list containing all habits.
      *
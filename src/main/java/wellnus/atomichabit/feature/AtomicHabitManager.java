@@ -4,9 +4,14 @@ import java.util.HashMap;
 
 import wellnus.atomichabit.command.AddCommand;
 import wellnus.atomichabit.command.DeleteCommand;
+import wellnus.atomichabit.command.FindCommand;
 import wellnus.atomichabit.command.HelpCommand;
 import wellnus.atomichabit.command.HomeCommand;
 import wellnus.atomichabit.command.ListCommand;
+import wellnus.atomichabit.command.RedoCommand;
+import wellnus.atomichabit.command.RemindCommand;
+import wellnus.atomichabit.command.StatsCommand;
+import wellnus.atomichabit.command.UndoCommand;
 import wellnus.atomichabit.command.UpdateCommand;
 import wellnus.command.Command;
 import wellnus.exception.AtomicHabitException;
@@ -42,13 +47,23 @@ public class AtomicHabitManager extends Manager {
     private static final String UPDATE_COMMAND_KEYWORD = "update";
     private static final String HELP_COMMAND_KEYWORD = "help";
     private static final String DELETE_COMMAND_KEYWORD = "delete";
+    private static final String FIND_COMMAND_KEYWORD = "find";
+    private static final String STATS_COMMAND_KEYWORD = "stats";
+    private static final String REMIND_COMMAND_KEYWORD = "remind";
+    private static final String UNDO_COMMAND_KEYWORD = "undo";
+    private static final String REDO_COMMAND_KEYWORD = "redo";
     private static final String ERROR_STORAGE_MESSAGE = "Error saving to storage!";
     private static final String LINE_SEPARATOR = System.lineSeparator();
     private static final String COMMAND_INVALID_COMMAND_NOTE =
             "Supported commands in Atomic Habit: " + LINE_SEPARATOR
                     + "add command " + AddCommand.COMMAND_USAGE + LINE_SEPARATOR
                     + "delete command " + DeleteCommand.COMMAND_USAGE + LINE_SEPARATOR
+                    + "find command " + FindCommand.COMMAND_USAGE + LINE_SEPARATOR
                     + "list command " + ListCommand.COMMAND_USAGE + LINE_SEPARATOR
+                    + "redo command " + RedoCommand.COMMAND_USAGE + LINE_SEPARATOR
+                    + "remind command " + RemindCommand.COMMAND_USAGE + LINE_SEPARATOR
+                    + "stats command " + StatsCommand.COMMAND_USAGE + LINE_SEPARATOR
+                    + "undo command " + UndoCommand.COMMAND_USAGE + LINE_SEPARATOR
                     + "update command " + UpdateCommand.COMMAND_USAGE + LINE_SEPARATOR
                     + "help command " + HelpCommand.COMMAND_USAGE + LINE_SEPARATOR
                     + "home command " + HomeCommand.COMMAND_USAGE;
@@ -63,8 +78,18 @@ public class AtomicHabitManager extends Manager {
      * Will initialise the private objects habitList and textUi
      */
     public AtomicHabitManager(GamificationData gamificationData) {
+        this(gamificationData, new AtomicHabitList());
+    }
+
+    /**
+     * Constructor of AtomicHabitManager that uses a habit list which was already loaded
+     *
+     * @param gamificationData GamificationData to award XP to
+     * @param habitList        AtomicHabitList with the user's habits loaded, e.g. by StartupLoader
+     */
+    public AtomicHabitManager(GamificationData gamificationData, AtomicHabitList habitList) {
         this.gamificationData = gamificationData;
-        this.habitList = new AtomicHabitList();
+        this.habitList = habitList;
         this.atomicHabitUi = new AtomicHabitUi();
         this.atomicHabitUi.setCursorName(FEATURE_NAME);
     }
@@ -89,10 +114,20 @@ public class AtomicHabitManager extends Manager {
             return new AddCommand(arguments, getHabitList());
         case DELETE_COMMAND_KEYWORD:
             return new DeleteCommand(arguments, getHabitList());
+        case FIND_COMMAND_KEYWORD:
+            return new FindCommand(arguments, getHabitList());
         case HOME_COMMAND_KEYWORD:
             return new HomeCommand(arguments);
         case LIST_COMMAND_KEYWORD:
             return new ListCommand(arguments, getHabitList());
+        case REDO_COMMAND_KEYWORD:
+            return new RedoCommand(arguments, getHabitList(), gamificationData);
+        case REMIND_COMMAND_KEYWORD:
+            return new RemindCommand(arguments, getHabitList());
+        case STATS_COMMAND_KEYWORD:
+            return new StatsCommand(arguments, getHabitList());
+        case UNDO_COMMAND_KEYWORD:
+            return new UndoCommand(arguments, getHabitList(), gamificationData);
         case UPDATE_COMMAND_KEYWORD:
             return new UpdateCommand(arguments, getHabitList(), gamificationData);
         case HELP_COMMAND_KEYWORD:
@@ -127,7 +162,7 @@ public class AtomicHabitManager extends Manager {
                 Command command = getCommandFor(commandString);
                 command.execute();
                 try {
-                    habitList.storeHabitData();
+                    habitList.scheduleStoreHabitData();
                 } catch (StorageException exception) {
                     this.getTextUi().printErrorFor(exception, ERROR_STORAGE_MESSAGE);
                 }
@@ -0,0 +1,217 @@
+package wellnus.atomichabit.feature;
+
+import java.util.Arrays;
+
+/**
+ * Class to represent the history of changes to the count of one atomic habit. <br>
+ * <p>
+ * Each event is the time of the change in epoch seconds and the amount the count changed by, which is
+ * negative for decrements. Events are kept in two growable primitive arrays, one per column and sorted by
+ * time, so that years of events take up 12 bytes each without boxing and can be queried by binary search.
+ * <br>
+ * The HabitStats of the habit are updated as each event is recorded, so they never need the full history.
+ * <br>
+ * Histories without events share empty arrays, and only allocate their own on the first event, so that habits
+ * that are never updated take up no space for events.
+ */
+public class HabitEventHistory {
+    private static final int INITIAL_CAPACITY = 8;
+    private static final int GROWTH_FACTOR = 2;
+    private static final long[] NO_TIMESTAMPS = new long[0];
+    private static final int[] NO_DELTAS = new int[0];
+    private static final String ASSERT_RANGE_VALID = "fromEpochSecond should not be after toEpochSecond!";
+    private static final String ASSERT_LENGTHS_EQUAL = "timestamps and deltas should have the same length!";
+    // End of the year 9999, far beyond any real event but safely within the range of dates
+    private static final long MAX_EPOCH_SECOND = 253402300799L;
+    private long[] timestamps;
+    private int[] deltas;
+    private int numEvents;
+    private final HabitStats stats;
+
+    /**
+     * Constructor of an empty habit event history.
+     */
+    public HabitEventHistory() {
+        this.timestamps = NO_TIMESTAMPS;
+        this.deltas = NO_DELTAS;
+        this.numEvents = 0;
+        this.stats = new HabitStats();
+    }
+
+    /**
+     * Constructor of a habit event history holding the given events, whose analytics are computed
+     * from the events once, e.g. for events loaded from an older file that did not store analytics.
+     * The arrays are used as they are and must not be modified afterwards.
+     *
+     * @param timestamps Time of each event in epoch seconds, sorted in non-decreasing order
+     * @param deltas     Change in count of each event
+     */
+    public HabitEventHistory(long[] timestamps, int[] deltas) {
+        this(timestamps, deltas, new HabitStats());
+        for (int i = 0; i < numEvents; ++i) {
+            stats.record(timestamps[i], deltas[i]);
+        }
+    }
+
+    /**
+     * Constructor of a habit event history holding the given events and their analytics,
+     * e.g. both loaded from storage.
+     * The arrays are used as they are and must not be modified afterwards.
+     *
+     * @param timestamps Time of each event in epoch seconds, sorted in non-decreasing order
+     * @param deltas     Change in count of each event
+     * @param stats      HabitStats of the events
+     */
+    public HabitEventHistory(long[] timestamps, int[] deltas, HabitStats stats) {
+        assert timestamps.length == deltas.length : ASSERT_LENGTHS_EQUAL;
+        this.timestamps = timestamps;
+        this.deltas = deltas;
+        this.numEvents = timestamps.length;
+        this.stats = stats;
+    }
+
+    /**
+     * Checks whether the given time can be the time of an event, i.e. it is between the start of 1970
+     * and the end of the year 9999.
+     *
+     * @param epochSecond Time in epoch seconds
+     * @return boolean representing if the time is valid
+     */
+    public static boolean isValidTimestamp(long epochSecond) {
+        return epochSecond >= 0 && epochSecond <= MAX_EPOCH_SECOND;
+    }
+
+    /**
+     * Checks whether the given times are sorted in non-decreasing order, as the times of a history must be.
+     *
+     * @param timestamps Times in epoch seconds
+     * @return boolean representing if the times are sorted
+     */
+    public static boolean isSorted(long[] timestamps) {
+        for (int i = 1; i < timestamps.length; ++i) {
+            if (timestamps[i] < timestamps[i - 1]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Records a change in count at the given time. <br>
+     * Events are normally recorded in time order and simply appended; an event older than the latest one,
+     * e.g. after the system clock was turned back, is inserted at its sorted position instead.
+     *
+     * @param epochSecond Time of the change in epoch seconds
+     * @param delta       Amount the count changed by, negative for decrements
+     */
+    public void record(long epochSecond, int delta) {
+        if (numEvents == timestamps.length) {
+            int newCapacity = Math.max(INITIAL_CAPACITY, timestamps.length * GROWTH_FACTOR);
+            timestamps = Arrays.copyOf(timestamps, newCapacity);
+            deltas = Arrays.copyOf(deltas, newCapacity);
+        }
+        int insertIndex = upperBound(epochSecond);
+        int numEventsAfter = numEvents - insertIndex;
+        System.arraycopy(timestamps, insertIndex, timestamps, insertIndex + 1, numEventsAfter);
+        System.arraycopy(deltas, insertIndex, deltas, insertIndex + 1, numEventsAfter);
+        timestamps[insertIndex] = epochSecond;
+        deltas[insertIndex] = delta;
+        numEvents++;
+        stats.record(epochSecond, delta);
+    }
+
+    /**
+     * Finds the index of the first event at or after the given time.
+     *
+     * @param epochSecond Time in epoch seconds
+     * @return Index of the first event not before the time, or the number of events if there is none
+     */
+    public int lowerBound(long epochSecond) {
+        int low = 0;
+        int high = numEvents;
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (timestamps[middle] < epochSecond) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Finds the index of the first event after the given time.
+     *
+     * @param epochSecond Time in epoch seconds
+     * @return Index of the first event after the time, or the number of events if there is none
+     */
+    public int upperBound(long epochSecond) {
+        int low = 0;
+        int high = numEvents;
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (timestamps[middle] <= epochSecond) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Counts the events in the time range [fromEpochSecond, toEpochSecond).
+     *
+     * @param fromEpochSecond Start of the range in epoch seconds, inclusive
+     * @param toEpochSecond   End of the range in epoch seconds, exclusive
+     * @return Number of events in the range
+     */
+    public int countEventsBetween(long fromEpochSecond, long toEpochSecond) {
+        assert fromEpochSecond <= toEpochSecond : ASSERT_RANGE_VALID;
+        return lowerBound(toEpochSecond) - lowerBound(fromEpochSecond);
+    }
+
+    /**
+     * Sums the changes in count of the events in the time range [fromEpochSecond, toEpochSecond),
+     * e.g. how many times the habit was done in the last week.
+     *
+     * @param fromEpochSecond Start of the range in epoch seconds, inclusive
+     * @param toEpochSecond   End of the range in epoch seconds, exclusive
+     * @return Total change in count over the range
+     */
+    public long sumDeltasBetween(long fromEpochSecond, long toEpochSecond) {
+        assert fromEpochSecond <= toEpochSecond : ASSERT_RANGE_VALID;
+        long total = 0;
+        for (int i = lowerBound(fromEpochSecond), end = lowerBound(toEpochSecond); i < end; ++i) {
+            total += deltas[i];
+        }
+        return total;
+    }
+
+    /**
+     * Returns a copy of this history that is not affected by later changes to it.
+     *
+     * @return Copy of this history
+     */
+    public HabitEventHistory copy() {
+        return new HabitEventHistory(Arrays.copyOf(timestamps, numEvents), Arrays.copyOf(deltas, numEvents),
+                stats.copy());
+    }
+
+    public HabitStats getStats() {
+        return stats;
+    }
+
+    public int getNumEvents() {
+        return numEvents;
+    }
+
+    public long getTimestamp(int index) {
+        return timestamps[index];
+    }
+
+    public int getDelta(int index) {
+        return deltas[index];
+    }
+}
@@ -0,0 +1,125 @@
+package wellnus.atomichabit.feature;
+
+import java.util.List;
+import java.util.StringJoiner;
+
+/**
+ * Class to represent one change made to an AtomicHabitList, with everything needed to undo and redo it. <br>
+ * <p>
+ * Adding or deleting a habit keeps the habit itself and its position in the list, so that undoing a delete
+ * restores the habit with its count and history where it was. Updating counts keeps the habits and the amount
+ * their counts changed by and the time of the change, at which undoing and redoing change them back, as well as
+ * the XP that was awarded for the update, which undoing takes back.
+ */
+public class HabitOperation {
+    public static final String TYPE_ADD = "add";
+    public static final String TYPE_DELETE = "delete";
+    public static final String TYPE_UPDATE = "update";
+    private static final String HABIT_FORMAT = "'%s'";
+    private static final String HABIT_DELIMITER = ", ";
+    private static final String ADD_FORMAT = "add %s";
+    private static final String DELETE_FORMAT = "delete %s";
+    private static final String UPDATE_FORMAT = "update %s by %d";
+    private final String type;
+    private final AtomicHabit[] habits;
+    private final int index;
+    private final int changeCount;
+    private final int xpAwarded;
+    private final long epochSecond;
+
+    private HabitOperation(String type, AtomicHabit[] habits, int index, int changeCount, int xpAwarded,
+            long epochSecond) {
+        this.type = type;
+        this.habits = habits;
+        this.index = index;
+        this.changeCount = changeCount;
+        this.xpAwarded = xpAwarded;
+        this.epochSecond = epochSecond;
+    }
+
+    /**
+     * Creates the operation of adding a habit at the given position.
+     *
+     * @param habit Habit that was added
+     * @param index Zero-based index the habit was added at
+     * @return HabitOperation of the add
+     */
+    public static HabitOperation forAdd(AtomicHabit habit, int index) {
+        return new HabitOperation(TYPE_ADD, new AtomicHabit[] {habit}, index, 0, 0, 0);
+    }
+
+    /**
+     * Creates the operation of deleting a habit from the given position.
+     *
+     * @param habit Habit that was deleted
+     * @param index Zero-based index the habit was at before it was deleted
+     * @return HabitOperation of the delete
+     */
+    public static HabitOperation forDelete(AtomicHabit habit, int index) {
+        return new HabitOperation(TYPE_DELETE, new AtomicHabit[] {habit}, index, 0, 0, 0);
+    }
+
+    /**
+     * Creates the operation of changing the counts of the given habits by the same amount.
+     *
+     * @param habits      Habits whose counts were changed
+     * @param changeCount Amount each count was changed by, negative for decrements
+     * @param xpAwarded   XP that was awarded for the update, 0 if none
+     * @param epochSecond Time of the update in epoch seconds
+     * @return HabitOperation of the update
+     */
+    public static HabitOperation forUpdate(List<AtomicHabit> habits, int changeCount, int xpAwarded,
+            long epochSecond) {
+        return new HabitOperation(TYPE_UPDATE, habits.toArray(new AtomicHabit[0]), 0, changeCount, xpAwarded,
+                epochSecond);
+    }
+
+    public String getType() {
+        return type;
+    }
+
+    AtomicHabit[] getHabits() {
+        return habits;
+    }
+
+    AtomicHabit getHabit() {
+        return habits[0];
+    }
+
+    int getIndex() {
+        return index;
+    }
+
+    int getChangeCount() {
+        return changeCount;
+    }
+
+    long getEpochSecond() {
+        return epochSecond;
+    }
+
+    public int getXpAwarded() {
+        return xpAwarded;
+    }
+
+    /**
+     * Returns a readable description of the operation, e.g. "update 'run', 'read' by 2".
+     *
+     * @return Description of the operation
+     */
+    @Override
+    public String toString() {
+        StringJoiner habitNames = new StringJoiner(HABIT_DELIMITER);
+        for (AtomicHabit habit : habits) {
+            habitNames.add(String.format(HABIT_FORMAT, habit));
+        }
+        switch (type) {
+        case TYPE_ADD:
+            return String.format(ADD_FORMAT, habitNames);
+        case TYPE_DELETE:
+            return String.format(DELETE_FORMAT, habitNames);
+        default:
+            return String.format(UPDATE_FORMAT, habitNames, changeCount);
+        }
+    }
+}
@@ -0,0 +1,102 @@
+package wellnus.atomichabit.feature;
+
+import java.util.Arrays;
+
+/**
+ * Class to keep the latest operations on an AtomicHabitList for undo and redo. <br>
+ * <p>
+ * Operations are kept in a fixed-capacity ring buffer, so memory use stays bounded however long the session
+ * is: once it is full, recording an operation overwrites the oldest one, which can then no longer be undone.
+ * Undone operations stay in the buffer after the ones that can still be undone, until they are redone or
+ * a new operation is recorded, which discards them.
+ */
+public class HabitOperationHistory {
+    private static final String ASSERT_CAPACITY_POSITIVE = "capacity should be positive!";
+    private final HabitOperation[] operations;
+    private int oldestIndex;
+    private int numUndoable;
+    private int numRedoable;
+
+    /**
+     * Constructor of an empty operation history.
+     *
+     * @param capacity Maximum number of operations that can be undone
+     */
+    public HabitOperationHistory(int capacity) {
+        assert capacity > 0 : ASSERT_CAPACITY_POSITIVE;
+        this.operations = new HabitOperation[capacity];
+        this.oldestIndex = 0;
+        this.numUndoable = 0;
+        this.numRedoable = 0;
+    }
+
+    private int getSlotOf(int offsetFromOldest) {
+        return (oldestIndex + offsetFromOldest) % operations.length;
+    }
+
+    /**
+     * Records a new operation, which discards every operation that could be redone.
+     *
+     * @param operation HabitOperation that was just performed
+     */
+    public void record(HabitOperation operation) {
+        for (int i = 0; i < numRedoable; ++i) {
+            // Released so that undone habits can be garbage collected
+            operations[getSlotOf(numUndoable + i)] = null;
+        }
+        numRedoable = 0;
+        operations[getSlotOf(numUndoable)] = operation;
+        if (numUndoable == operations.length) {
+            oldestIndex = getSlotOf(1);
+        } else {
+            numUndoable++;
+        }
+    }
+
+    /**
+     * Takes the latest operation that can be undone, which can then be redone.
+     *
+     * @return HabitOperation to undo, or null if there is none
+     */
+    public HabitOperation undo() {
+        if (numUndoable == 0) {
+            return null;
+        }
+        numUndoable--;
+        numRedoable++;
+        return operations[getSlotOf(numUndoable)];
+    }
+
+    /**
+     * Takes the latest operation that was undone, which can then be undone again.
+     *
+     * @return HabitOperation to redo, or null if there is none
+     */
+    public HabitOperation redo() {
+        if (numRedoable == 0) {
+            return null;
+        }
+        HabitOperation operation = operations[getSlotOf(numUndoable)];
+        numUndoable++;
+        numRedoable--;
+        return operation;
+    }
+
+    /**
+     * Discards every operation, e.g. when the habits are reloaded.
+     */
+    public void clear() {
+        Arrays.fill(operations, null);
+        oldestIndex = 0;
+        numUndoable = 0;
+        numRedoable = 0;
+    }
+
+    public int getNumUndoable() {
+        return numUndoable;
+    }
+
+    public int getNumRedoable() {
+        return numRedoable;
+    }
+}
@@ -0,0 +1,197 @@
+package wellnus.atomichabit.feature;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.time.format.ResolverStyle;
+
+/**
+ * Class to represent the reminder schedule of one atomic habit. <br>
+ * <p>
+ * A reminder is either due every day at a fixed time of day (TYPE_DAILY), or every fixed number of hours
+ * (TYPE_INTERVAL). Only the time it is next due is stored, from which every later time is computed, so that
+ * a reminder keeps its schedule across restarts of WellNUS++.
+ */
+public class HabitReminder {
+    public static final String TYPE_DAILY = "daily";
+    public static final String TYPE_INTERVAL = "every";
+    public static final int MINUTES_PER_DAY = 24 * 60;
+    public static final int MAX_INTERVAL_HOURS = 7 * 24;
+    public static final int INVALID_TIME_OF_DAY = -1;
+    private static final int MINUTES_PER_HOUR = 60;
+    private static final long SECONDS_PER_MINUTE = 60;
+    private static final long SECONDS_PER_HOUR = 60 * 60;
+    private static final DateTimeFormatter TIME_OF_DAY_FORMATTER = DateTimeFormatter.ofPattern("HH:mm")
+            .withResolverStyle(ResolverStyle.STRICT);
+    private static final String DAILY_SCHEDULE_FORMAT = "daily at %s";
+    private static final String INTERVAL_SCHEDULE_FORMAT = "every %d hour(s)";
+    private static final String ASSERT_TYPE_VALID = "type should be TYPE_DAILY or TYPE_INTERVAL!";
+    private static final String ASSERT_PERIOD_VALID = "period should be a valid time of day or interval!";
+    private final String habitDescription;
+    private final String type;
+    private final int period;
+    private long nextDueEpochSecond;
+
+    /**
+     * Constructor of a habit reminder that is next due at the given time, e.g. loaded from storage.
+     *
+     * @param habitDescription   Description of the habit to remind about
+     * @param type               TYPE_DAILY or TYPE_INTERVAL
+     * @param period             Minute of the day for TYPE_DAILY, number of hours for TYPE_INTERVAL
+     * @param nextDueEpochSecond Time the reminder is next due in epoch seconds
+     */
+    public HabitReminder(String habitDescription, String type, int period, long nextDueEpochSecond) {
+        assert isValidType(type) : ASSERT_TYPE_VALID;
+        assert isValidPeriod(type, period) : ASSERT_PERIOD_VALID;
+        this.habitDescription = habitDescription;
+        this.type = type;
+        this.period = period;
+        this.nextDueEpochSecond = nextDueEpochSecond;
+    }
+
+    /**
+     * Creates a reminder that is due every day at the given time of day, starting from its next occurrence.
+     *
+     * @param habitDescription Description of the habit to remind about
+     * @param minuteOfDay      Minute of the day the reminder is due at
+     * @param nowEpochSecond   Current time in epoch seconds
+     * @param zone             Time zone the time of day is in
+     * @return HabitReminder next due at the given time of day
+     */
+    public static HabitReminder createDaily(String habitDescription, int minuteOfDay, long nowEpochSecond,
+            ZoneId zone) {
+        HabitReminder reminder = new HabitReminder(habitDescription, TYPE_DAILY, minuteOfDay, nowEpochSecond);
+        reminder.nextDueEpochSecond = reminder.getNextDueAfter(nowEpochSecond, zone);
+        return reminder;
+    }
+
+    /**
+     * Creates a reminder that is due every given number of hours, first due one interval from now.
+     *
+     * @param habitDescription Description of the habit to remind about
+     * @param intervalHours    Number of hours between reminders
+     * @param nowEpochSecond   Current time in epoch seconds
+     * @return HabitReminder next due one interval from now
+     */
+    public static HabitReminder createInterval(String habitDescription, int intervalHours, long nowEpochSecond) {
+        return new HabitReminder(habitDescription, TYPE_INTERVAL, intervalHours,
+                nowEpochSecond + intervalHours * SECONDS_PER_HOUR);
+    }
+
+    /**
+     * Checks whether the given String is a known reminder type.
+     *
+     * @param type Reminder type to check
+     * @return boolean representing if the type is TYPE_DAILY or TYPE_INTERVAL
+     */
+    public static boolean isValidType(String type) {
+        return TYPE_DAILY.equals(type) || TYPE_INTERVAL.equals(type);
+    }
+
+    /**
+     * Checks whether the given period is valid for the given reminder type.
+     *
+     * @param type   TYPE_DAILY or TYPE_INTERVAL
+     * @param period Minute of the day for TYPE_DAILY, number of hours for TYPE_INTERVAL
+     * @return boolean representing if the period is valid
+     */
+    public static boolean isValidPeriod(String type, int period) {
+        if (TYPE_DAILY.equals(type)) {
+            return period >= 0 && period < MINUTES_PER_DAY;
+        }
+        return period > 0 && period <= MAX_INTERVAL_HOURS;
+    }
+
+    /**
+     * Parses a time of day in the 24-hour HH:MM format.
+     *
+     * @param text Time of day, e.g. 07:30
+     * @return Minute of the day, or INVALID_TIME_OF_DAY if the text is not a valid time of day
+     */
+    public static int parseMinuteOfDay(String text) {
+        try {
+            LocalTime time = LocalTime.parse(text.strip(), TIME_OF_DAY_FORMATTER);
+            return time.getHour() * MINUTES_PER_HOUR + time.getMinute();
+        } catch (DateTimeParseException exception) {
+            return INVALID_TIME_OF_DAY;
+        }
+    }
+
+    /**
+     * Formats a minute of the day in the 24-hour HH:MM format, the inverse of <code>parseMinuteOfDay()</code>.
+     *
+     * @param minuteOfDay Minute of the day
+     * @return Time of day, e.g. 07:30
+     */
+    public static String formatMinuteOfDay(int minuteOfDay) {
+        return LocalTime.of(minuteOfDay / MINUTES_PER_HOUR, minuteOfDay % MINUTES_PER_HOUR)
+                .format(TIME_OF_DAY_FORMATTER);
+    }
+
+    /**
+     * Computes the first time this reminder is due strictly after the given time. <br>
+     * Times that were missed, e.g. while WellNUS++ was not running, are skipped. Interval reminders keep their
+     * phase, so they stay due at the same times of day they were set up for.
+     *
+     * @param epochSecond Time in epoch seconds, usually the current time
+     * @param zone        Time zone of daily reminders' time of day
+     * @return Time the reminder is next due in epoch seconds
+     */
+    public long getNextDueAfter(long epochSecond, ZoneId zone) {
+        if (TYPE_INTERVAL.equals(type)) {
+            if (nextDueEpochSecond > epochSecond) {
+                return nextDueEpochSecond;
+            }
+            long intervalSeconds = period * SECONDS_PER_HOUR;
+            long numIntervalsPassed = (epochSecond - nextDueEpochSecond) / intervalSeconds + 1;
+            return nextDueEpochSecond + numIntervalsPassed * intervalSeconds;
+        }
+        LocalDate date = LocalDate.ofInstant(Instant.ofEpochSecond(epochSecond), zone);
+        LocalTime timeOfDay = LocalTime.ofSecondOfDay(period * SECONDS_PER_MINUTE);
+        long dueToday = ZonedDateTime.of(date, timeOfDay, zone).toEpochSecond();
+        if (dueToday > epochSecond) {
+            return dueToday;
+        }
+        return ZonedDateTime.of(date.plusDays(1), timeOfDay, zone).toEpochSecond();
+    }
+
+    /**
+     * Returns a readable description of this reminder's schedule, e.g. "daily at 07:30".
+     *
+     * @return Description of the schedule
+     */
+    public String getScheduleDescription() {
+        if (TYPE_DAILY.equals(type)) {
+            return String.format(DAILY_SCHEDULE_FORMAT, formatMinuteOfDay(period));
+        }
+        return String.format(INTERVAL_SCHEDULE_FORMAT, period);
+    }
+
+    public String getHabitDescription() {
+        return habitDescription;
+    }
+
+    public String getKey() {
+        return AtomicHabit.normalizeDescription(habitDescription);
+    }
+
+    public String getType() {
+        return type;
+    }
+
+    public int getPeriod() {
+        return period;
+    }
+
+    public long getNextDueEpochSecond() {
+        return nextDueEpochSecond;
+    }
+
+    void setNextDueEpochSecond(long nextDueEpochSecond) {
+        this.nextDueEpochSecond = nextDueEpochSecond;
+    }
+}
@@ -0,0 +1,312 @@
+package wellnus.atomichabit.feature;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.PriorityQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import wellnus.common.WellNusLogger;
+import wellnus.exception.StorageException;
+import wellnus.exception.TokenizerException;
+import wellnus.storage.HabitReminderTokenizer;
+import wellnus.storage.PersistenceService;
+import wellnus.storage.Storage;
+import wellnus.ui.TextUi;
+
+/**
+ * HabitReminderService delivers the reminders of every atomic habit from a single scheduler thread. <br>
+ * <p>
+ * Reminders are kept in a min-heap ordered by the time they are next due, and only one wakeup is ever
+ * scheduled: for the earliest reminder. When it fires, every reminder that is due is posted as a notice,
+ * moved on to the next time it is due and put back into the heap, so thousands of reminders cost one thread
+ * and O(log n) per reminder fired. Replaced and removed reminders are left in the heap and skipped when they
+ * reach its top, instead of being searched for. <br>
+ * <p>
+ * Notices are posted through <code>TextUi.postNotice()</code>, which never prints over a command's output.
+ * Reminders are saved with the time they are next due, so after a restart each reminder that was missed
+ * fires once and then continues on its schedule.
+ */
+public class HabitReminderService {
+    private static final String THREAD_NAME = "WellNUS++ habit reminders";
+    private static final String REMINDER_MESSAGE = "Reminder: it's time for your habit '%s'!";
+    private static final String MISSED_REMINDER_MESSAGE = "Reminder: you missed your habit '%s' at %s!";
+    private static final DateTimeFormatter MISSED_TIME_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm");
+    // Reminders delivered later than this, e.g. while WellNUS++ was not running, are reported as missed
+    private static final long MISSED_THRESHOLD_SECONDS = 60;
+    private static final long MILLIS_PER_SECOND = 1000;
+    // Stale heap entries are only swept out once they outnumber the live reminders by this much
+    private static final int MIN_STALE_ENTRIES_TO_COMPACT = 64;
+    private static final String LOG_WAKEUP_FAILED = "WellNUS++ failed to deliver habit reminders";
+    private static final String LOG_RELOAD_FAILED = "WellNUS++ still cannot load the saved habit reminders";
+    private static final String UNSAVED_REMINDERS_MESSAGE = "Your reminders cannot be saved until the saved "
+            + "reminders can be loaded, please check the habit reminder file!";
+    private static final Logger LOGGER = WellNusLogger.getLogger("HabitReminderServiceLogger");
+    private static HabitReminderService instance;
+    private final Clock clock;
+    private final Consumer<String> noticeSink;
+    private final PriorityQueue<HabitReminder> remindersByDueTime;
+    private final HashMap<String, HabitReminder> remindersByHabit;
+    private final HabitReminderTokenizer tokenizer;
+    private ScheduledExecutorService executor;
+    private ScheduledFuture<?> nextWakeup;
+    private long nextWakeupEpochSecond;
+    // Identifies the latest wakeup, as a cancelled wakeup may already be running
+    private long wakeupGeneration;
+    private boolean isStarted;
+    // Saving before the saved reminders are loaded would overwrite them with only the reminders set since
+    private boolean isLoaded;
+
+    /**
+     * Constructor of a HabitReminderService that is not started, for tests to fire reminders with
+     * <code>fireDueReminders()</code> at the times given by their own Clock.
+     *
+     * @param clock      Clock giving the current time and time zone
+     * @param noticeSink Consumer that receives each reminder's message
+     */
+    public HabitReminderService(Clock clock, Consumer<String> noticeSink) {
+        this.clock = clock;
+        this.noticeSink = noticeSink;
+        this.remindersByDueTime = new PriorityQueue<>(
+                Comparator.comparingLong(HabitReminder::getNextDueEpochSecond));
+        this.remindersByHabit = new HashMap<>();
+        this.tokenizer = new HabitReminderTokenizer();
+        this.isStarted = false;
+        this.isLoaded = false;
+    }
+
+    /**
+     * Returns the process-wide HabitReminderService, which posts its notices to the user's prompt.
+     *
+     * @return The shared HabitReminderService
+     */
+    public static synchronized HabitReminderService getInstance() {
+        if (instance == null) {
+            instance = new HabitReminderService(Clock.systemDefaultZone(), TextUi::postNotice);
+        }
+        return instance;
+    }
+
+    /**
+     * Loads the saved reminders and starts delivering them on the scheduler thread. <br>
+     * Reminders that were due while WellNUS++ was not running fire once as soon as the thread starts.
+     * Reminders are only saved once the service is started and the saved reminders are loaded, so that they
+     * never overwrite the saved ones. The service is started even if the saved reminders cannot be loaded,
+     * in which case they are loaded again before each save, which fails until they can be.
+     *
+     * @throws StorageException   If the reminder file cannot be read
+     * @throws TokenizerException If the reminder file is corrupted
+     */
+    public synchronized void start() throws StorageException, TokenizerException {
+        if (isStarted) {
+            return;
+        }
+        try {
+            loadReminders();
+            isLoaded = true;
+        } finally {
+            // New reminders are still delivered if the saved ones cannot be loaded
+            executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                Thread thread = new Thread(runnable, THREAD_NAME);
+                thread.setDaemon(true);
+                return thread;
+            });
+            isStarted = true;
+            scheduleNextWakeup();
+        }
+    }
+
+    private void loadReminders() throws StorageException, TokenizerException {
+        Storage storage = Storage.getInstance();
+        if (!storage.checkFileExists(Storage.FILE_HABIT_REMINDER)) {
+            return;
+        }
+        for (HabitReminder reminder : tokenizer.detokenize(storage.loadData(Storage.FILE_HABIT_REMINDER))) {
+            // Reminders set before the file was loaded are newer
+            if (remindersByHabit.putIfAbsent(reminder.getKey(), reminder) == null) {
+                remindersByDueTime.add(reminder);
+            }
+        }
+    }
+
+    /**
+     * Sets the reminder of a habit, replacing the reminder it had before.
+     *
+     * @param reminder HabitReminder to set
+     * @throws StorageException If the last save of the reminders failed
+     */
+    public synchronized void setReminder(HabitReminder reminder) throws StorageException {
+        remindersByHabit.put(reminder.getKey(), reminder);
+        remindersByDueTime.add(reminder);
+        compactIfMostlyStale();
+        scheduleNextWakeup();
+        markDirty();
+    }
+
+    /**
+     * Removes the reminder of the habit with the given description, if it has one.
+     *
+     * @param habitDescription Description of the habit
+     * @return The removed HabitReminder, or null if the habit had no reminder
+     * @throws StorageException If the last save of the reminders failed
+     */
+    public synchronized HabitReminder removeReminder(String habitDescription) throws StorageException {
+        HabitReminder removedReminder = remindersByHabit.remove(AtomicHabit.normalizeDescription(habitDescription));
+        if (removedReminder != null) {
+            compactIfMostlyStale();
+            markDirty();
+        }
+        return removedReminder;
+    }
+
+    /**
+     * Returns the reminder of the habit with the given description.
+     *
+     * @param habitDescription Description of the habit
+     * @return HabitReminder of the habit, or null if it has none
+     */
+    public synchronized HabitReminder getReminder(String habitDescription) {
+        return remindersByHabit.get(AtomicHabit.normalizeDescription(habitDescription));
+    }
+
+    /**
+     * Returns every reminder, the one due soonest first.
+     *
+     * @return ArrayList of HabitReminders sorted by the time they are next due
+     */
+    public synchronized ArrayList<HabitReminder> getReminders() {
+        ArrayList<HabitReminder> reminders = new ArrayList<>(remindersByHabit.values());
+        reminders.sort(Comparator.comparingLong(HabitReminder::getNextDueEpochSecond)
+                .thenComparing(HabitReminder::getKey));
+        return reminders;
+    }
+
+    /**
+     * Posts a notice for every reminder that is due and moves each of them on to the next time it is due.
+     * Called on the scheduler thread when the earliest reminder is due.
+     *
+     * @return Number of reminders that fired
+     */
+    public int fireDueReminders() {
+        ArrayList<String> notices = new ArrayList<>();
+        synchronized (this) {
+            long now = clock.instant().getEpochSecond();
+            while (!remindersByDueTime.isEmpty() && remindersByDueTime.peek().getNextDueEpochSecond() <= now) {
+                HabitReminder reminder = remindersByDueTime.poll();
+                if (!isLive(reminder)) {
+                    continue;
+                }
+                notices.add(getNoticeFor(reminder, now));
+                reminder.setNextDueEpochSecond(reminder.getNextDueAfter(now, clock.getZone()));
+                remindersByDueTime.add(reminder);
+            }
+            if (!notices.isEmpty()) {
+                try {
+                    markDirty();
+                } catch (StorageException exception) {
+                    // Already logged by the persistence thread, and retried on its next flush
+                }
+            }
+            scheduleNextWakeup();
+        }
+        // Posted without holding the lock, so that commands can change reminders while notices are printed
+        notices.forEach(noticeSink);
+        return notices.size();
+    }
+
+    private String getNoticeFor(HabitReminder reminder, long now) {
+        long dueEpochSecond = reminder.getNextDueEpochSecond();
+        if (now - dueEpochSecond <= MISSED_THRESHOLD_SECONDS) {
+            return String.format(REMINDER_MESSAGE, reminder.getHabitDescription());
+        }
+        LocalDateTime dueTime = LocalDateTime.ofInstant(Instant.ofEpochSecond(dueEpochSecond), clock.getZone());
+        return String.format(MISSED_REMINDER_MESSAGE, reminder.getHabitDescription(),
+                dueTime.format(MISSED_TIME_FORMATTER));
+    }
+
+    private boolean isLive(HabitReminder reminder) {
+        return remindersByHabit.get(reminder.getKey()) == reminder;
+    }
+
+    // Schedules the wakeup for the earliest live reminder, unless one is already scheduled for that time
+    private void scheduleNextWakeup() {
+        while (!remindersByDueTime.isEmpty() && !isLive(remindersByDueTime.peek())) {
+            remindersByDueTime.poll();
+        }
+        if (!isStarted || remindersByDueTime.isEmpty()) {
+            return;
+        }
+        long dueEpochSecond = remindersByDueTime.peek().getNextDueEpochSecond();
+        if (nextWakeup != null && nextWakeupEpochSecond <= dueEpochSecond) {
+            return;
+        }
+        if (nextWakeup != null) {
+            nextWakeup.cancel(false);
+        }
+        long delayMillis = Math.max(0, dueEpochSecond * MILLIS_PER_SECOND - clock.millis());
+        long generation = ++wakeupGeneration;
+        nextWakeup = executor.schedule(() -> wakeUp(generation), delayMillis, TimeUnit.MILLISECONDS);
+        nextWakeupEpochSecond = dueEpochSecond;
+    }
+
+    private void wakeUp(long generation) {
+        synchronized (this) {
+            if (generation == wakeupGeneration) {
+                nextWakeup = null;
+            }
+        }
+        try {
+            fireDueReminders();
+        } catch (RuntimeException exception) {
+            // An exception would otherwise end the wakeups silently
+            LOGGER.log(Level.WARNING, LOG_WAKEUP_FAILED, exception);
+        }
+    }
+
+    private void compactIfMostlyStale() {
+        int numStaleEntries = remindersByDueTime.size() - remindersByHabit.size();
+        if (numStaleEntries >= MIN_STALE_ENTRIES_TO_COMPACT && numStaleEntries > remindersByHabit.size()) {
+            remindersByDueTime.clear();
+            remindersByDueTime.addAll(remindersByHabit.values());
+        }
+    }
+
+    private void markDirty() throws StorageException {
+        if (!isStarted) {
+            return;
+        }
+        if (!isLoaded) {
+            reloadReminders();
+        }
+        PersistenceService.getInstance().markDirty(Storage.FILE_HABIT_REMINDER, this::storeReminders);
+    }
+
+    private void reloadReminders() throws StorageException {
+        try {
+            loadReminders();
+        } catch (StorageException | TokenizerException exception) {
+            LOGGER.log(Level.WARNING, LOG_RELOAD_FAILED, exception);
+            throw new StorageException(UNSAVED_REMINDERS_MESSAGE);
+        }
+        isLoaded = true;
+        scheduleNextWakeup();
+    }
+
+    private void storeReminders() throws StorageException {
+        ArrayList<String> tokenizedReminders;
+        synchronized (this) {
+            tokenizedReminders = tokenizer.tokenize(new ArrayList<>(remindersByHabit.values()));
+        }
+        Storage.getInstance().saveData(tokenizedReminders, Storage.FILE_HABIT_REMINDER);
+    }
+}
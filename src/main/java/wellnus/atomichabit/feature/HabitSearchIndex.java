@@ -0,0 +1,205 @@
+package wellnus.atomichabit.feature;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+
+/**
+ * Class to find atomic habits by part of their description, for when there are too many habits to address
+ * them by their index. <br>
+ * <p>
+ * Habits are indexed by their normalized description in two structures that are updated as habits are added
+ * and removed. A trie finds every habit whose description starts with the search text, and a trigram index
+ * finds habits sharing enough three-character substrings with it, which tolerates typos. <br>
+ * <p>
+ * Matches are ranked with an exact match first, then prefix matches, then habits containing the search text,
+ * then the remaining fuzzy matches by their trigram similarity.
+ */
+public class HabitSearchIndex {
+    private static final int GRAM_LENGTH = 3;
+    private static final double EXACT_MATCH_SCORE = 3.0;
+    private static final double PREFIX_MATCH_SCORE = 2.0;
+    private static final double SUBSTRING_MATCH_SCORE = 1.0;
+    private static final double MIN_SIMILARITY = 0.3;
+    private static final String ASSERT_MAX_RESULTS_POSITIVE = "maxResults should be positive!";
+    private final TrieNode trieRoot;
+    private final HashMap<String, HashSet<AtomicHabit>> habitsByTrigram;
+
+    /**
+     * Node of the trie, holding the habit whose normalized description ends here, if there is one.
+     */
+    private static class TrieNode {
+        private final HashMap<Character, TrieNode> children = new HashMap<>();
+        private AtomicHabit habit;
+    }
+
+    /**
+     * Habit matching a search, with the score it is ranked by.
+     */
+    private static class Match {
+        private final AtomicHabit habit;
+        private final double score;
+
+        private Match(AtomicHabit habit, double score) {
+            this.habit = habit;
+            this.score = score;
+        }
+    }
+
+    /**
+     * Constructor of an empty habit search index.
+     */
+    public HabitSearchIndex() {
+        this.trieRoot = new TrieNode();
+        this.habitsByTrigram = new HashMap<>();
+    }
+
+    private static HashSet<String> getTrigramsOf(String normalizedText) {
+        HashSet<String> trigrams = new HashSet<>();
+        if (normalizedText.length() < GRAM_LENGTH) {
+            // Short text is indexed as a single gram, so that it can still be found
+            if (!normalizedText.isEmpty()) {
+                trigrams.add(normalizedText);
+            }
+            return trigrams;
+        }
+        for (int i = 0; i + GRAM_LENGTH <= normalizedText.length(); ++i) {
+            trigrams.add(normalizedText.substring(i, i + GRAM_LENGTH));
+        }
+        return trigrams;
+    }
+
+    /**
+     * Adds a habit to the index. Habits must have unique normalized descriptions, as AtomicHabitList ensures.
+     *
+     * @param habit Habit to add
+     */
+    public void add(AtomicHabit habit) {
+        String key = habit.getNormalizedDescription();
+        TrieNode node = trieRoot;
+        for (int i = 0; i < key.length(); ++i) {
+            node = node.children.computeIfAbsent(key.charAt(i), character -> new TrieNode());
+        }
+        node.habit = habit;
+        for (String trigram : getTrigramsOf(key)) {
+            habitsByTrigram.computeIfAbsent(trigram, gram -> new HashSet<>()).add(habit);
+        }
+    }
+
+    /**
+     * Removes a habit from the index, pruning trie nodes and trigrams that no longer lead to any habit.
+     *
+     * @param habit Habit to remove
+     */
+    public void remove(AtomicHabit habit) {
+        String key = habit.getNormalizedDescription();
+        removeFromTrie(trieRoot, key, 0, habit);
+        for (String trigram : getTrigramsOf(key)) {
+            HashSet<AtomicHabit> habitsWithTrigram = habitsByTrigram.get(trigram);
+            if (habitsWithTrigram != null && habitsWithTrigram.remove(habit) && habitsWithTrigram.isEmpty()) {
+                habitsByTrigram.remove(trigram);
+            }
+        }
+    }
+
+    /**
+     * Removes the habit from the subtree of the given node.
+     *
+     * @return Whether the node no longer leads to any habit and can be pruned
+     */
+    private boolean removeFromTrie(TrieNode node, String key, int depth, AtomicHabit habit) {
+        if (depth == key.length()) {
+            if (node.habit == habit) {
+                node.habit = null;
+            }
+        } else {
+            Character character = key.charAt(depth);
+            TrieNode child = node.children.get(character);
+            if (child != null && removeFromTrie(child, key, depth + 1, habit)) {
+                node.children.remove(character);
+            }
+        }
+        return node.habit == null && node.children.isEmpty();
+    }
+
+    /**
+     * Finds the habits best matching the given text, ignoring case and whitespace like duplicate checks do.
+     *
+     * @param text       Text to search for
+     * @param maxResults Maximum number of habits to return
+     * @return ArrayList of at most maxResults matching habits, best match first
+     */
+    public ArrayList<AtomicHabit> search(String text, int maxResults) {
+        assert maxResults > 0 : ASSERT_MAX_RESULTS_POSITIVE;
+        String query = AtomicHabit.normalizeDescription(text);
+        ArrayList<AtomicHabit> results = new ArrayList<>();
+        if (query.isEmpty()) {
+            return results;
+        }
+        HashMap<AtomicHabit, Double> scores = new HashMap<>();
+        addPrefixMatches(query, scores);
+        addTrigramMatches(query, scores);
+        ArrayList<Match> matches = new ArrayList<>(scores.size());
+        scores.forEach((habit, score) -> matches.add(new Match(habit, score)));
+        matches.sort(Comparator.comparingDouble((Match match) -> -match.score)
+                .thenComparing(match -> match.habit.getNormalizedDescription()));
+        for (int i = 0; i < matches.size() && i < maxResults; ++i) {
+            results.add(matches.get(i).habit);
+        }
+        return results;
+    }
+
+    private void addPrefixMatches(String query, HashMap<AtomicHabit, Double> scores) {
+        TrieNode node = trieRoot;
+        for (int i = 0; i < query.length() && node != null; ++i) {
+            node = node.children.get(query.charAt(i));
+        }
+        if (node == null) {
+            return;
+        }
+        ArrayList<TrieNode> nodesToVisit = new ArrayList<>();
+        nodesToVisit.add(node);
+        while (!nodesToVisit.isEmpty()) {
+            TrieNode nextNode = nodesToVisit.remove(nodesToVisit.size() - 1);
+            if (nextNode.habit != null) {
+                int length = nextNode.habit.getNormalizedDescription().length();
+                // Shorter descriptions are closer to the query, and an exact match has the same length
+                double score = length == query.length()
+                        ? EXACT_MATCH_SCORE
+                        : PREFIX_MATCH_SCORE + (double) query.length() / length;
+                scores.put(nextNode.habit, score);
+            }
+            nodesToVisit.addAll(nextNode.children.values());
+        }
+    }
+
+    private void addTrigramMatches(String query, HashMap<AtomicHabit, Double> scores) {
+        HashSet<String> queryTrigrams = getTrigramsOf(query);
+        HashMap<AtomicHabit, Integer> numSharedTrigrams = new HashMap<>();
+        for (String trigram : queryTrigrams) {
+            HashSet<AtomicHabit> habitsWithTrigram = habitsByTrigram.get(trigram);
+            if (habitsWithTrigram == null) {
+                continue;
+            }
+            for (AtomicHabit habit : habitsWithTrigram) {
+                numSharedTrigrams.merge(habit, 1, Integer::sum);
+            }
+        }
+        numSharedTrigrams.forEach((habit, numShared) -> {
+            if (scores.containsKey(habit)) {
+                return;
+            }
+            String key = habit.getNormalizedDescription();
+            if (key.contains(query)) {
+                scores.put(habit, SUBSTRING_MATCH_SCORE + (double) query.length() / key.length());
+                return;
+            }
+            int numHabitTrigrams = Math.max(1, key.length() - GRAM_LENGTH + 1);
+            double similarity = (double) numShared / (queryTrigrams.size() + numHabitTrigrams - numShared);
+            if (similarity >= MIN_SIMILARITY) {
+                scores.put(habit, similarity);
+            }
+        });
+    }
+}
@@ -0,0 +1,312 @@
+package wellnus.atomichabit.feature;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.Arrays;
+
+/**
+ * Class to represent the analytics of one atomic habit: its streaks, its rolling counts over the last
+ * days and their trend. <br>
+ * <p>
+ * The aggregates are updated as each change to the habit's count is recorded, in constant time, so that
+ * they never have to be recomputed from the full event history. Daily totals of the last
+ * <code>NUM_DAYS_TRACKED</code> days are kept in a ring buffer indexed by day, which is all that the rolling
+ * counts and the trend need, and which is only allocated once the habit is first updated. <br>
+ * <p>
+ * A day counts towards a streak while its net change in count is positive, so a day whose update was undone
+ * no longer counts. Streaks are extended as days start to count. The streaks as of the day before the oldest
+ * tracked day are also kept, and days are folded into them as they leave the ring buffer, so when a change makes
+ * a tracked day stop counting, or makes a day before the latest active one count, the streaks are recomputed
+ * from them over the tracked days only. Changes older than the tracked days do not change the streaks.
+ */
+public class HabitStats {
+    public static final int NUM_DAYS_TRACKED = 30;
+    public static final int WEEK_LENGTH = 7;
+    public static final String TREND_UP = "up";
+    public static final String TREND_DOWN = "down";
+    public static final String TREND_STEADY = "steady";
+    private static final long NO_DAY = Long.MIN_VALUE;
+    private static final String ASSERT_TOTALS_LENGTH = "dailyTotals should hold NUM_DAYS_TRACKED days!";
+    private static final String ASSERT_NUM_DAYS_VALID = "numDays should be between 1 and NUM_DAYS_TRACKED!";
+    private long lastActiveDay;
+    private int currentStreak;
+    private int longestStreak;
+    private long latestDay;
+    private int[] dailyTotals;
+    // Streaks over the days before the oldest tracked day, from which those over every day are recomputed
+    private long lastActiveDayBeforeTracked;
+    private int streakBeforeTracked;
+    private int longestStreakBeforeTracked;
+
+    /**
+     * Constructor of the analytics of a habit that has never been updated.
+     */
+    public HabitStats() {
+        this.lastActiveDay = NO_DAY;
+        this.currentStreak = 0;
+        this.longestStreak = 0;
+        this.latestDay = NO_DAY;
+        this.dailyTotals = null;
+        this.lastActiveDayBeforeTracked = NO_DAY;
+        this.streakBeforeTracked = 0;
+        this.longestStreakBeforeTracked = 0;
+    }
+
+    /**
+     * Constructor of the analytics of a habit with the given aggregates, e.g. loaded from storage.
+     *
+     * @param lastActiveDay              Epoch day the habit was last active on, i.e. had a positive net change
+     * @param currentStreak              Number of consecutive active days up to lastActiveDay
+     * @param longestStreak              Longest number of consecutive active days
+     * @param latestDay                  Epoch day of the latest change to the habit's count
+     * @param dailyTotals                Total change in count of each of the NUM_DAYS_TRACKED days up to
+     *                                   latestDay, indexed by epoch day modulo NUM_DAYS_TRACKED
+     * @param lastActiveDayBeforeTracked Epoch day the habit was last active on before the tracked days
+     * @param streakBeforeTracked        Number of consecutive active days up to lastActiveDayBeforeTracked
+     * @param longestStreakBeforeTracked Longest number of consecutive active days before the tracked days
+     */
+    public HabitStats(long lastActiveDay, int currentStreak, int longestStreak, long latestDay, int[] dailyTotals,
+            long lastActiveDayBeforeTracked, int streakBeforeTracked, int longestStreakBeforeTracked) {
+        assert dailyTotals.length == NUM_DAYS_TRACKED : ASSERT_TOTALS_LENGTH;
+        this.lastActiveDay = lastActiveDay;
+        this.currentStreak = currentStreak;
+        this.longestStreak = longestStreak;
+        this.latestDay = latestDay;
+        this.dailyTotals = dailyTotals;
+        this.lastActiveDayBeforeTracked = lastActiveDayBeforeTracked;
+        this.streakBeforeTracked = streakBeforeTracked;
+        this.longestStreakBeforeTracked = longestStreakBeforeTracked;
+    }
+
+    /**
+     * Constructor of the analytics of a habit with the given aggregates, e.g. loaded from a file saved before
+     * the streaks before the tracked days were stored, which are estimated from the other aggregates instead.
+     *
+     * @param lastActiveDay Epoch day the habit was last active on, i.e. had a positive net change in count
+     * @param currentStreak Number of consecutive active days up to lastActiveDay
+     * @param longestStreak Longest number of consecutive active days
+     * @param latestDay     Epoch day of the latest change to the habit's count
+     * @param dailyTotals   Total change in count of each of the NUM_DAYS_TRACKED days up to latestDay,
+     *                      indexed by epoch day modulo NUM_DAYS_TRACKED
+     */
+    public HabitStats(long lastActiveDay, int currentStreak, int longestStreak, long latestDay,
+            int[] dailyTotals) {
+        this(lastActiveDay, currentStreak, longestStreak, latestDay, dailyTotals, NO_DAY, 0, 0);
+        estimateStreaksBeforeTracked();
+    }
+
+    // Picks the streaks before the tracked days that, recomputed over the tracked days, give the saved ones
+    private void estimateStreaksBeforeTracked() {
+        long firstTrackedDay = latestDay - NUM_DAYS_TRACKED + 1;
+        if (latestDay == NO_DAY || lastActiveDay == NO_DAY || lastActiveDay < firstTrackedDay) {
+            lastActiveDayBeforeTracked = lastActiveDay;
+            streakBeforeTracked = currentStreak;
+            longestStreakBeforeTracked = longestStreak;
+            return;
+        }
+        // The current streak started before the tracked days if it is longer than the tracked days it covers
+        int trackedStreak = (int) (lastActiveDay - firstTrackedDay + 1);
+        if (currentStreak > trackedStreak) {
+            lastActiveDayBeforeTracked = firstTrackedDay - 1;
+            streakBeforeTracked = currentStreak - trackedStreak;
+        }
+        longestStreakBeforeTracked = streakBeforeTracked;
+        long savedLastActiveDay = lastActiveDay;
+        int savedCurrentStreak = currentStreak;
+        int savedLongestStreak = longestStreak;
+        recomputeTrackedStreaks();
+        if (longestStreak < savedLongestStreak) {
+            longestStreakBeforeTracked = savedLongestStreak;
+        }
+        lastActiveDay = savedLastActiveDay;
+        currentStreak = savedCurrentStreak;
+        longestStreak = savedLongestStreak;
+    }
+
+    /**
+     * Converts a time to the epoch day it falls on in the system's time zone.
+     *
+     * @param epochSecond Time in epoch seconds
+     * @return Epoch day of the time
+     */
+    public static long toEpochDay(long epochSecond) {
+        return LocalDate.ofInstant(Instant.ofEpochSecond(epochSecond), ZoneId.systemDefault()).toEpochDay();
+    }
+
+    /**
+     * Updates the aggregates with a change to the habit's count.
+     *
+     * @param epochSecond Time of the change in epoch seconds
+     * @param delta       Amount the count changed by, negative for decrements
+     */
+    public void record(long epochSecond, int delta) {
+        long day = toEpochDay(epochSecond);
+        if (latestDay == NO_DAY || day > latestDay) {
+            advanceTo(day);
+        }
+        if (day <= latestDay - NUM_DAYS_TRACKED) {
+            return;
+        }
+        int slot = getSlotOf(day);
+        boolean wasActive = dailyTotals[slot] > 0;
+        dailyTotals[slot] += delta;
+        boolean isActive = dailyTotals[slot] > 0;
+        if (wasActive == isActive) {
+            return;
+        }
+        if (isActive && (lastActiveDay == NO_DAY || day > lastActiveDay)) {
+            markActive(day);
+            return;
+        }
+        recomputeTrackedStreaks();
+    }
+
+    // Recomputes the streaks from those before the tracked days, in NUM_DAYS_TRACKED steps
+    private void recomputeTrackedStreaks() {
+        lastActiveDay = lastActiveDayBeforeTracked;
+        currentStreak = streakBeforeTracked;
+        longestStreak = longestStreakBeforeTracked;
+        for (long day = latestDay - NUM_DAYS_TRACKED + 1; day <= latestDay; ++day) {
+            if (dailyTotals[getSlotOf(day)] > 0) {
+                markActive(day);
+            }
+        }
+    }
+
+    // Extends the streaks with a day after the latest active one
+    private void markActive(long day) {
+        currentStreak = lastActiveDay != NO_DAY && day == lastActiveDay + 1 ? currentStreak + 1 : 1;
+        lastActiveDay = day;
+        longestStreak = Math.max(longestStreak, currentStreak);
+    }
+
+    // Extends the streaks before the tracked days with an active day that leaves the ring buffer
+    private void markActiveBeforeTracked(long day) {
+        streakBeforeTracked = lastActiveDayBeforeTracked != NO_DAY && day == lastActiveDayBeforeTracked + 1
+                ? streakBeforeTracked + 1
+                : 1;
+        lastActiveDayBeforeTracked = day;
+        longestStreakBeforeTracked = Math.max(longestStreakBeforeTracked, streakBeforeTracked);
+    }
+
+    // Folds the days that leave the ring buffer into the streaks before the tracked days, clearing their slots
+    // for the days that move into it, at most NUM_DAYS_TRACKED of them
+    private void advanceTo(long day) {
+        if (dailyTotals == null) {
+            dailyTotals = new int[NUM_DAYS_TRACKED];
+        } else if (latestDay == NO_DAY) {
+            Arrays.fill(dailyTotals, 0);
+        } else {
+            long lastLeavingDay = Math.min(latestDay, day - NUM_DAYS_TRACKED);
+            for (long leavingDay = latestDay - NUM_DAYS_TRACKED + 1; leavingDay <= lastLeavingDay; ++leavingDay) {
+                int slot = getSlotOf(leavingDay);
+                if (dailyTotals[slot] > 0) {
+                    markActiveBeforeTracked(leavingDay);
+                }
+                dailyTotals[slot] = 0;
+            }
+        }
+        latestDay = day;
+    }
+
+    private int getSlotOf(long day) {
+        return (int) Math.floorMod(day, (long) NUM_DAYS_TRACKED);
+    }
+
+    /**
+     * Returns the number of consecutive days up to today or yesterday that the habit was active on.
+     *
+     * @param today Epoch day of today
+     * @return Current streak in days, or 0 if the habit was not active today or yesterday
+     */
+    public int getCurrentStreak(long today) {
+        return lastActiveDay != NO_DAY && lastActiveDay >= today - 1 ? currentStreak : 0;
+    }
+
+    public int getLongestStreak() {
+        return longestStreak;
+    }
+
+    /**
+     * Returns the total change in count over the given number of days up to and including today.
+     *
+     * @param today   Epoch day of today
+     * @param numDays Number of days to total, at most NUM_DAYS_TRACKED
+     * @return Total change in count over the days
+     */
+    public int getCountInLastDays(long today, int numDays) {
+        assert numDays > 0 && numDays <= NUM_DAYS_TRACKED : ASSERT_NUM_DAYS_VALID;
+        return sumDays(today - numDays + 1, today);
+    }
+
+    /**
+     * Compares the total change in count over the last week with the week before it.
+     *
+     * @param today Epoch day of today
+     * @return TREND_UP, TREND_DOWN or TREND_STEADY
+     */
+    public String getTrend(long today) {
+        int thisWeek = sumDays(today - WEEK_LENGTH + 1, today);
+        int lastWeek = sumDays(today - 2 * WEEK_LENGTH + 1, today - WEEK_LENGTH);
+        if (thisWeek > lastWeek) {
+            return TREND_UP;
+        }
+        return thisWeek < lastWeek ? TREND_DOWN : TREND_STEADY;
+    }
+
+    // Sums the totals of the days in [firstDay, lastDay] that are still in the ring buffer
+    private int sumDays(long firstDay, long lastDay) {
+        if (latestDay == NO_DAY || dailyTotals == null) {
+            return 0;
+        }
+        long from = Math.max(firstDay, latestDay - NUM_DAYS_TRACKED + 1);
+        long to = Math.min(lastDay, latestDay);
+        int total = 0;
+        for (long day = from; day <= to; ++day) {
+            total += dailyTotals[getSlotOf(day)];
+        }
+        return total;
+    }
+
+    /**
+     * Returns a copy of these analytics that is not affected by later changes to them.
+     *
+     * @return Copy of these analytics
+     */
+    public HabitStats copy() {
+        if (dailyTotals == null) {
+            return new HabitStats();
+        }
+        return new HabitStats(lastActiveDay, currentStreak, longestStreak, latestDay, dailyTotals.clone(),
+                lastActiveDayBeforeTracked, streakBeforeTracked, longestStreakBeforeTracked);
+    }
+
+    public long getLastActiveDay() {
+        return lastActiveDay;
+    }
+
+    public int getCurrentStreakAsOfLastActiveDay() {
+        return currentStreak;
+    }
+
+    public long getLatestDay() {
+        return latestDay;
+    }
+
+    public long getLastActiveDayBeforeTracked() {
+        return lastActiveDayBeforeTracked;
+    }
+
+    public int getStreakBeforeTracked() {
+        return streakBeforeTracked;
+    }
+
+    public int getLongestStreakBeforeTracked() {
+        return longestStreakBeforeTracked;
+    }
+
+    public int getDailyTotal(int slot) {
+        return dailyTotals == null ? 0 : dailyTotals[slot];
+    }
+}
@@ -0,0 +1,126 @@
+package wellnus.atomichabit.feature;
+
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Iterator;
+
+/**
+ * Class to find atomic habits by their tags without comparing the tags of every habit. <br>
+ * <p>
+ * Each tag maps to a BitSet with a bit set for the position of every habit carrying it, so the habits with
+ * all or any of several tags are found by ANDing or ORing a few words per 64 habits. The bits are shifted
+ * along as habits are inserted and removed, so that they stay aligned with the positions of AtomicHabitList.
+ */
+public class HabitTagIndex {
+    private static final String ASSERT_INDEX_IN_RANGE = "index should be within the indexed habits!";
+    private final HashMap<String, BitSet> habitIndexesByTag;
+    private int numHabits;
+
+    /**
+     * Constructor of an empty habit tag index.
+     */
+    public HabitTagIndex() {
+        this.habitIndexesByTag = new HashMap<>();
+        this.numHabits = 0;
+    }
+
+    // Inserts a clear bit at the given index, moving every later bit up by one
+    private static void insertBit(BitSet bits, int index) {
+        int length = bits.length();
+        if (index >= length) {
+            return;
+        }
+        BitSet movedBits = bits.get(index, length);
+        bits.clear(index, length);
+        for (int i = movedBits.nextSetBit(0); i >= 0; i = movedBits.nextSetBit(i + 1)) {
+            bits.set(index + 1 + i);
+        }
+    }
+
+    // Removes the bit at the given index, moving every later bit down by one
+    private static void removeBit(BitSet bits, int index) {
+        int length = bits.length();
+        if (index >= length) {
+            return;
+        }
+        BitSet movedBits = bits.get(index + 1, Math.max(index + 1, length));
+        bits.clear(index, length);
+        for (int i = movedBits.nextSetBit(0); i >= 0; i = movedBits.nextSetBit(i + 1)) {
+            bits.set(index + i);
+        }
+    }
+
+    /**
+     * Indexes the tags of a habit inserted at the given position, moving the habits after it up by one.
+     *
+     * @param index Position the habit was inserted at
+     * @param habit Habit that was inserted
+     */
+    public void insert(int index, AtomicHabit habit) {
+        assert index >= 0 && index <= numHabits : ASSERT_INDEX_IN_RANGE;
+        if (index < numHabits) {
+            for (BitSet habitIndexes : habitIndexesByTag.values()) {
+                insertBit(habitIndexes, index);
+            }
+        }
+        for (String tag : habit.getTags()) {
+            habitIndexesByTag.computeIfAbsent(tag, key -> new BitSet()).set(index);
+        }
+        numHabits++;
+    }
+
+    /**
+     * Removes the habit at the given position from the index, moving the habits after it down by one.
+     *
+     * @param index Position the habit was removed from
+     */
+    public void remove(int index) {
+        assert index >= 0 && index < numHabits : ASSERT_INDEX_IN_RANGE;
+        Iterator<BitSet> habitIndexesIterator = habitIndexesByTag.values().iterator();
+        while (habitIndexesIterator.hasNext()) {
+            BitSet habitIndexes = habitIndexesIterator.next();
+            removeBit(habitIndexes, index);
+            if (habitIndexes.isEmpty()) {
+                habitIndexesIterator.remove();
+            }
+        }
+        numHabits--;
+    }
+
+    /**
+     * Finds the positions of the habits carrying every one of the given tags.
+     *
+     * @param tags Normalized tags the habits must all carry
+     * @return BitSet of the positions of the matching habits, which the caller may modify
+     */
+    public BitSet getHabitIndexesWithAllTags(Collection<String> tags) {
+        BitSet matchingIndexes = new BitSet(numHabits);
+        matchingIndexes.set(0, numHabits);
+        for (String tag : tags) {
+            BitSet habitIndexes = habitIndexesByTag.get(tag);
+            if (habitIndexes == null) {
+                return new BitSet();
+            }
+            matchingIndexes.and(habitIndexes);
+        }
+        return matchingIndexes;
+    }
+
+    /**
+     * Finds the positions of the habits carrying at least one of the given tags.
+     *
+     * @param tags Normalized tags the habits may carry
+     * @return BitSet of the positions of the matching habits, which the caller may modify
+     */
+    public BitSet getHabitIndexesWithAnyTag(Collection<String> tags) {
+        BitSet matchingIndexes = new BitSet(numHabits);
+        for (String tag : tags) {
+            BitSet habitIndexes = habitIndexesByTag.get(tag);
+            if (habitIndexes != null) {
+                matchingIndexes.or(habitIndexes);
+            }
+        }
+        return matchingIndexes;
+    }
+}
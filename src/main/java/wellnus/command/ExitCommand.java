@@ -3,7 +3,9 @@ package wellnus.command;
 import java.util.HashMap;
 
 import wellnus.exception.BadCommandException;
+import wellnus.exception.StorageException;
 import wellnus.exception.WellNusException;
+import wellnus.storage.PersistenceService;
 import wellnus.ui.TextUi;
 
 /**
@@ -18,6 +20,7 @@ public class ExitCommand extends Command {
     private static final String FEATURE_KEYWORD = "";
     private static final int NUM_OF_ARGUMENTS = 1;
     private static final String INVALID_ARGUMENTS_MESSAGE = "Invalid arguments given to 'exit'";
+    private static final String STORAGE_ERROR_NOTE = "Some of your latest changes might not have been saved!";
     private final TextUi textUi;
 
     /**
@@ -62,11 +65,16 @@ public class ExitCommand extends Command {
     }
 
     /**
-     * Exits the WellNUS++ application.
+     * Exits the WellNUS++ application, after waiting for all pending saves to be written to storage.
      */
     @Override
     public void execute() throws WellNusException {
         validateCommand(super.getArguments());
+        try {
+            PersistenceService.getInstance().flush();
+        } catch (StorageException storageException) {
+            getTextUi().printErrorFor(storageException, STORAGE_ERROR_NOTE);
+        }
     }
 
     /**
@@ -2,8 +2,11 @@ package wellnus.common;
 
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Supplier;
 
 import wellnus.atomichabit.feature.AtomicHabitManager;
 import wellnus.command.Command;
@@ -16,12 +19,15 @@ import wellnus.focus.feature.FocusManager;
 import wellnus.gamification.GamificationManager;
 import wellnus.manager.Manager;
 import wellnus.reflection.feature.ReflectionManager;
+import wellnus.storage.Storage;
 import wellnus.ui.TextUi;
 
 /**
  * MainManager is the primary event driver for WellNUS++ <br>
  * <br>
  * MainManager creates and stores exactly one instance of each feature's Manager in WellNUS++.
+ * Feature Managers are registered as suppliers and only created, loading their data, the first time
+ * their keyword is used, so that the first prompt appears without waiting for every feature to load.
  * <p>
  * It runs an event driver, matches user input to the selected feature
  * and executes its instance to launch the feature Manager.
@@ -54,17 +60,22 @@ public class MainManager extends Manager {
     private static final String UNNECESSARY_PAYLOAD_MESSAGE = "Invalid payload given to '%s', drop the '%s' "
             + "and try again!";
     private static final String WELLNUS_FEATURE_NAME = "";
-    private final ArrayList<Manager> featureManagers;
+    private static final String ASSERT_SUPPLIER_NOT_NULL = "featureManagerSupplier should not be null!";
+    // Insertion order is the order features were registered in
+    private final LinkedHashMap<String, Supplier<Manager>> featureManagerSuppliers;
+    private final HashMap<String, Manager> featureManagers;
+    private GamificationManager gamificationManager;
     private final TextUi textUi;
 
     /**
      * Constructs an instance of MainManager. <br>
      * Instantiates boilerplate utilities like TextUi
-     * and populates featureManagers with exactly one instance to be executed on user selection
+     * and registers a supplier for each feature's Manager, which is only called on user selection
      */
     public MainManager() {
         super();
-        this.featureManagers = new ArrayList<>();
+        this.featureManagerSuppliers = new LinkedHashMap<>();
+        this.featureManagers = new HashMap<>();
         this.textUi = new TextUi();
         this.textUi.setCursorName(FEATURE_NAME);
         this.setSupportedFeatureManagers();
@@ -138,8 +149,13 @@ public class MainManager extends Manager {
         return commandKeywords;
     }
 
-    private List<Manager> getSupportedFeatureManagers() {
-        return this.featureManagers;
+    private GamificationManager getGamificationManager() {
+        if (this.gamificationManager == null) {
+            this.gamificationManager = new GamificationManager();
+            // It may be created for another feature before gamif itself is used
+            this.featureManagers.put(GamificationManager.FEATURE_NAME, this.gamificationManager);
+        }
+        return this.gamificationManager;
     }
 
     private TextUi getTextUi() {
@@ -164,9 +180,10 @@ public class MainManager extends Manager {
         assert command != null : MainManager.COMMAND_IS_NULL_MESSAGE;
         assert !command.isBlank() : MainManager.COMMAND_IS_BLANK_MESSAGE;
         String featureKeyword = commandParser.getMainArgument(command);
-        Optional<Manager> featureManager = this.getManagerFor(featureKeyword);
+        // Only check the keyword here, so that a feature is not loaded for a command that turns out invalid
+        boolean isFeatureKeyword = this.featureManagerSuppliers.containsKey(featureKeyword);
         // User gave a command that's not any feature's keyword nor a recognised main command
-        if (featureManager.isEmpty() && !this.isSupportedCommand(featureKeyword)) {
+        if (!isFeatureKeyword && !this.isSupportedCommand(featureKeyword)) {
             throw new BadCommandException(MainManager.INVALID_COMMAND_MESSAGE);
         }
         HashMap<String, String> arguments = commandParser.parseUserInput(command);
@@ -201,15 +218,80 @@ public class MainManager extends Manager {
         return WELLNUS_FEATURE_NAME;
     }
 
+    /**
+     * Returns the Manager of the feature with the given keyword, creating it on first use.
+     *
+     * @param featureKeyword Keyword of the feature, e.g. <code>hb</code>
+     * @return Optional containing the feature's Manager, or empty if no feature has this keyword
+     */
     public Optional<Manager> getManagerFor(String featureKeyword) {
         assert (featureKeyword != null && !featureKeyword.isBlank())
                 : MainManager.INVALID_FEATURE_KEYWORD_MESSAGE;
-        for (Manager featureManager : this.getSupportedFeatureManagers()) {
-            if (featureManager.getFeatureName().equals(featureKeyword)) {
-                return Optional.of(featureManager);
-            }
+        Supplier<Manager> featureManagerSupplier = this.featureManagerSuppliers.get(featureKeyword);
+        if (featureManagerSupplier == null) {
+            return Optional.empty();
+        }
+        Manager featureManager = this.featureManagers.get(featureKeyword);
+        if (featureManager == null) {
+            featureManager = featureManagerSupplier.get();
+            this.featureManagers.put(featureKeyword, featureManager);
+        }
+        return Optional.of(featureManager);
+    }
+
+    /**
+     * Loads the data of every feature concurrently and creates the Managers of features that have not been
+     * used yet with it, for when every feature is needed up front. <br>
+     * Managers that already exist keep their data, as they may hold changes that are not saved yet,
+     * so their data files are not read again.
+     */
+    public void loadAllFeatures() {
+        HashSet<String> fileNamesToLoad = new HashSet<>();
+        if (this.gamificationManager == null) {
+            fileNamesToLoad.add(Storage.FILE_GAMIFICATION);
+        }
+        if (!this.isManagerLoaded(AtomicHabitManager.FEATURE_NAME)) {
+            fileNamesToLoad.add(Storage.FILE_HABIT);
+        }
+        if (!this.isManagerLoaded(ReflectionManager.FEATURE_NAME)) {
+            fileNamesToLoad.add(Storage.FILE_REFLECT);
+        }
+        if (fileNamesToLoad.isEmpty()) {
+            return;
+        }
+        StartupLoader startupLoader = new StartupLoader(this.getTextUi());
+        startupLoader.loadAll(fileNamesToLoad);
+        if (this.gamificationManager == null) {
+            this.gamificationManager = new GamificationManager(startupLoader.getGamificationData());
+            this.featureManagers.put(GamificationManager.FEATURE_NAME, this.gamificationManager);
+        }
+        if (!this.isManagerLoaded(AtomicHabitManager.FEATURE_NAME)) {
+            this.featureManagers.put(AtomicHabitManager.FEATURE_NAME, new AtomicHabitManager(
+                    this.gamificationManager.getGamificationData(), startupLoader.getHabitList()));
         }
-        return Optional.empty();
+        if (!this.isManagerLoaded(ReflectionManager.FEATURE_NAME)) {
+            this.featureManagers.put(ReflectionManager.FEATURE_NAME,
+                    new ReflectionManager(startupLoader.getQuestionList()));
+        }
+    }
+
+    /**
+     * Returns the keywords of every supported feature, in the order they were registered.
+     *
+     * @return List of feature keywords
+     */
+    public List<String> getSupportedFeatureKeywords() {
+        return new ArrayList<>(this.featureManagerSuppliers.keySet());
+    }
+
+    /**
+     * Checks whether the Manager of the feature with the given keyword has been created yet.
+     *
+     * @param featureKeyword Keyword of the feature, e.g. <code>hb</code>
+     * @return true if the feature's Manager has been created, false otherwise
+     */
+    public boolean isManagerLoaded(String featureKeyword) {
+        return this.featureManagers.containsKey(featureKeyword);
     }
 
     /**
@@ -225,20 +307,30 @@ public class MainManager extends Manager {
     }
 
     /**
-     * Returns a list of features supported by WellNUS++. <br>
+     * Registers a supplier of a feature's Manager under the feature's keyword. <br>
+     * The supplier is called at most once, the first time the keyword is used.
+     *
+     * @param featureKeyword         Keyword the user enters to access the feature
+     * @param featureManagerSupplier Supplier that creates the feature's Manager
+     */
+    protected void registerFeatureManager(String featureKeyword, Supplier<Manager> featureManagerSupplier) {
+        assert featureManagerSupplier != null : ASSERT_SUPPLIER_NOT_NULL;
+        this.featureManagerSuppliers.put(featureKeyword, featureManagerSupplier);
+    }
+
+    /**
+     * Registers the features supported by WellNUS++. <br>
      * <br>
      * Suggested implementation: <br>
-     * <code> this.supportedManagers.add([mgr1, mgr2, ...]); </code>
+     * <code> this.registerFeatureManager(keyword, ManagerClass::new); </code>
      */
     protected void setSupportedFeatureManagers() {
-        GamificationManager gamificationManager = new GamificationManager();
-        this.getSupportedFeatureManagers().add(gamificationManager);
-        this.getSupportedFeatureManagers().add(
-                new AtomicHabitManager(gamificationManager.getGamificationData()));
-        this.getSupportedFeatureManagers().add(new ReflectionManager());
-        this.getSupportedFeatureManagers().add(new FocusManager());
-        // TODO: Implement once all Managers are in
-        // e.g. this.getSupportedFeatureManagers().add(new AtomicHabitManager());
+        this.registerFeatureManager(GamificationManager.FEATURE_NAME, this::getGamificationManager);
+        // Habits award XP to the same GamificationData shown in gamif, so share it through one GamificationManager
+        this.registerFeatureManager(AtomicHabitManager.FEATURE_NAME,
+                () -> new AtomicHabitManager(this.getGamificationManager().getGamificationData()));
+        this.registerFeatureManager(ReflectionManager.FEATURE_NAME, ReflectionManager::new);
+        this.registerFeatureManager(FocusManager.FEATURE_NAME, FocusManager::new);
     }
 
 }
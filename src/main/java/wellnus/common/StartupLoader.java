@@ -0,0 +1,165 @@
+package wellnus.common;
+
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Supplier;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import wellnus.atomichabit.feature.AtomicHabitList;
+import wellnus.exception.StorageException;
+import wellnus.exception.TokenizerException;
+import wellnus.gamification.util.GamificationData;
+import wellnus.gamification.util.GamificationStorage;
+import wellnus.reflection.feature.QuestionList;
+import wellnus.storage.Storage;
+import wellnus.ui.TextUi;
+
+/**
+ * StartupLoader loads the data files of every feature at the same time, for when all of them are needed
+ * up front instead of one by one as each feature is first used. <br>
+ * <br>
+ * Each file is read and detokenized by its own CompletableFuture on a small pool of loader threads.
+ * Errors are collected while loading and only printed once every file is done, one per file,
+ * so that error messages from different files never interleave. A file that fails to load leaves its
+ * feature with empty data, just like when the feature loads it by itself.
+ */
+public class StartupLoader {
+    private static final int NUM_LOADER_THREADS = 3;
+    private static final String THREAD_NAME = "WellNUS++ startup loader";
+    private static final String LOAD_ERROR_NOTE = "Error loading the %s data file, it will start out empty!";
+    private static final String LOG_LOAD_FAILED = "WellNUS++ failed to load a file at startup: ";
+    private static final String[] FILE_NAMES_IN_REPORT_ORDER = {
+        Storage.FILE_HABIT, Storage.FILE_REFLECT, Storage.FILE_GAMIFICATION
+    };
+    private static final Logger LOGGER = WellNusLogger.getLogger("StartupLoaderLogger");
+    private final TextUi textUi;
+    private final ConcurrentHashMap<String, Exception> loadErrors;
+    private AtomicHabitList habitList;
+    private QuestionList questionList;
+    private GamificationData gamificationData;
+
+    /**
+     * Constructs a StartupLoader that reports errors through the given TextUi.
+     *
+     * @param textUi TextUi to print errors for files that failed to load
+     */
+    public StartupLoader(TextUi textUi) {
+        this.textUi = textUi;
+        this.loadErrors = new ConcurrentHashMap<>();
+    }
+
+    /**
+     * Loads the habit, reflect and gamification data files concurrently and waits for all of them,
+     * then prints an error for each file that failed to load.
+     */
+    public void loadAll() {
+        loadAll(Set.of(FILE_NAMES_IN_REPORT_ORDER));
+    }
+
+    /**
+     * Loads the given data files concurrently and waits for all of them, then prints an error for each file
+     * that failed to load. The data of files that are not given is left as null.
+     *
+     * @param fileNames Names of the data files to load, from the public constants Storage.FILE_[name]
+     */
+    public void loadAll(Set<String> fileNames) {
+        loadErrors.clear();
+        ExecutorService loaderPool = Executors.newFixedThreadPool(NUM_LOADER_THREADS, runnable -> {
+            Thread thread = new Thread(runnable, THREAD_NAME);
+            thread.setDaemon(true);
+            return thread;
+        });
+        try {
+            CompletableFuture<AtomicHabitList> habitListFuture =
+                    loadIfGiven(fileNames, Storage.FILE_HABIT, this::loadHabitList, loaderPool);
+            CompletableFuture<QuestionList> questionListFuture =
+                    loadIfGiven(fileNames, Storage.FILE_REFLECT, this::loadQuestionList, loaderPool);
+            CompletableFuture<GamificationData> gamificationDataFuture =
+                    loadIfGiven(fileNames, Storage.FILE_GAMIFICATION, this::loadGamificationData, loaderPool);
+            CompletableFuture.allOf(habitListFuture, questionListFuture, gamificationDataFuture).join();
+            this.habitList = habitListFuture.join();
+            this.questionList = questionListFuture.join();
+            this.gamificationData = gamificationDataFuture.join();
+        } finally {
+            loaderPool.shutdown();
+        }
+        reportLoadErrors();
+    }
+
+    private <T> CompletableFuture<T> loadIfGiven(Set<String> fileNames, String fileName, Supplier<T> loader,
+            ExecutorService loaderPool) {
+        if (!fileNames.contains(fileName)) {
+            return CompletableFuture.completedFuture(null);
+        }
+        return CompletableFuture.supplyAsync(loader, loaderPool);
+    }
+
+    private AtomicHabitList loadHabitList() {
+        AtomicHabitList loadedHabitList = new AtomicHabitList(false);
+        try {
+            loadedHabitList.loadHabitData();
+        } catch (StorageException | TokenizerException exception) {
+            recordLoadError(Storage.FILE_HABIT, exception);
+        }
+        return loadedHabitList;
+    }
+
+    private QuestionList loadQuestionList() {
+        QuestionList loadedQuestionList = new QuestionList(false);
+        try {
+            loadedQuestionList.loadQuestionData();
+        } catch (StorageException | TokenizerException exception) {
+            recordLoadError(Storage.FILE_REFLECT, exception);
+        }
+        return loadedQuestionList;
+    }
+
+    private GamificationData loadGamificationData() {
+        try {
+            return new GamificationStorage().loadData();
+        } catch (StorageException | TokenizerException exception) {
+            recordLoadError(Storage.FILE_GAMIFICATION, exception);
+            return new GamificationData();
+        }
+    }
+
+    private void recordLoadError(String fileName, Exception exception) {
+        LOGGER.log(Level.WARNING, LOG_LOAD_FAILED + fileName);
+        loadErrors.put(fileName, exception);
+    }
+
+    private void reportLoadErrors() {
+        for (String fileName : FILE_NAMES_IN_REPORT_ORDER) {
+            Exception loadError = loadErrors.get(fileName);
+            if (loadError != null) {
+                textUi.printErrorFor(loadError, String.format(LOAD_ERROR_NOTE, fileName));
+            }
+        }
+    }
+
+    public AtomicHabitList getHabitList() {
+        return habitList;
+    }
+
+    public QuestionList getQuestionList() {
+        return questionList;
+    }
+
+    public GamificationData getGamificationData() {
+        return gamificationData;
+    }
+
+    /**
+     * Checks whether the given data file failed to load during the last call to <code>loadAll()</code>.
+     *
+     * @param fileName Name of the data file, from the public constant Storage.FILE_[name]
+     * @return true if the file failed to load, false otherwise
+     */
+    public boolean hasLoadError(String fileName) {
+        return loadErrors.containsKey(fileName);
+    }
+}
@@ -50,6 +50,16 @@ public class GamificationManager extends Manager {
         }
     }
 
+    /**
+     * Returns an instance of the GamificationManager for gamification data that was already loaded.
+     *
+     * @param gamificationData GamificationData loaded from storage, e.g. by StartupLoader
+     */
+    public GamificationManager(GamificationData gamificationData) {
+        this.gamificationUi = new GamificationUi();
+        this.gamificationData = gamificationData;
+    }
+
     private Command getCommandFor(String command) throws BadCommandException {
         HashMap<String, String> arguments = commandParser.parseUserInput(command);
         String cmdKeyword = commandParser.getMainArgument(command);
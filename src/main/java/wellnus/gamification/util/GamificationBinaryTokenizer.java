@@ -0,0 +1,68 @@
+package wellnus.gamification.util;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+
+import wellnus.exception.TokenizerException;
+import wellnus.storage.BinaryTokenizer;
+
+/**
+ * Handles the conversion of GamificationData objects -> binary records and vice versa to allow
+ * storage and retrieval of gamification statistics in the binary format.
+ */
+public class GamificationBinaryTokenizer implements BinaryTokenizer<GamificationData> {
+    private static final int VERSION = 1;
+    private static final String INVALID_STORED_DATA_MESSAGE = "Invalid gamification data found in storage! "
+            + "Gamification data will not be restored.";
+    private static final String UNSUPPORTED_VERSION_MESSAGE = "Gamification data was saved by a newer version "
+            + "of WellNUS++! Gamification data will not be restored.";
+
+    @Override
+    public int getVersion() {
+        return VERSION;
+    }
+
+    /**
+     * Converts the attributes of the <code>GamificationManager</code> into binary records to be
+     * saved to storage. Each record holds the total XP as an int.
+     *
+     * @param dataObjects List of GamificationData Objects we want to convert into binary records
+     * @return ArrayList of binary records representing the GamificationData objects
+     */
+    @Override
+    public ArrayList<ByteBuffer> tokenize(ArrayList<GamificationData> dataObjects) {
+        ArrayList<ByteBuffer> records = new ArrayList<>();
+        for (GamificationData data : dataObjects) {
+            ByteBuffer record = ByteBuffer.allocate(Integer.BYTES);
+            record.putInt(data.getTotalXp());
+            record.flip();
+            records.add(record);
+        }
+        return records;
+    }
+
+    /**
+     * Converts binary records of the <code>GamificationManager</code>'s state back into an
+     * <code>ArrayList</code> of GamificationData.
+     *
+     * @param records Binary records of the GamificationData Objects whose state we want to restore
+     * @param version Version of the record layout the records were saved with
+     * @return ArrayList containing all the gamification data from the gamification feature's previously saved state
+     * @throws TokenizerException If detokenizing fails and stored gamification statistics cannot be restored
+     */
+    @Override
+    public ArrayList<GamificationData> detokenize(ArrayList<ByteBuffer> records, int version)
+            throws TokenizerException {
+        if (version > VERSION) {
+            throw new TokenizerException(UNSUPPORTED_VERSION_MESSAGE);
+        }
+        ArrayList<GamificationData> dataObjects = new ArrayList<>();
+        for (ByteBuffer record : records) {
+            if (record.remaining() != Integer.BYTES) {
+                throw new TokenizerException(INVALID_STORED_DATA_MESSAGE);
+            }
+            dataObjects.add(new GamificationData(record.getInt()));
+        }
+        return dataObjects;
+    }
+}
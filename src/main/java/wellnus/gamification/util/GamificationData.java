@@ -1,6 +1,8 @@
 package wellnus.gamification.util;
 
 import wellnus.exception.StorageException;
+import wellnus.storage.PersistenceService;
+import wellnus.storage.Storage;
 
 /**
  * Data structure for encapsulating WellNus++ gamification data such as experience
@@ -43,7 +45,7 @@ public class GamificationData {
      * Increases the user's XP points by the given amount.
      * @param pointsToAdd Number of XP points to increase
      * @return Whether the user just levelled up
-     * @throws StorageException If latest XP statistics cannot be saved to storage successfully
+     * @throws StorageException If the last attempt to save XP statistics to storage failed
      */
     public boolean addXp(int pointsToAdd) throws StorageException {
         assert pointsToAdd > 0 : String.format(INVALID_EXP_POINTS_TO_ADD_ERROR, pointsToAdd);
@@ -51,8 +53,7 @@ public class GamificationData {
         int newLevel = getLevelFor(xp);
         boolean hasLevelledUp = newLevel > level;
         level = newLevel;
-        GamificationStorage gamificationStorage = new GamificationStorage();
-        gamificationStorage.store(this);
+        storeXp();
         return hasLevelledUp;
     }
 
@@ -92,7 +93,7 @@ public class GamificationData {
      * Decreases the user's total XP points by the given amount.
      * @param pointsToMinus Number of XP points to deduct from the user
      * @return Whether the user dropped by one level due to the XP deduction
-     * @throws StorageException If latest XP statistics cannot be saved to storage successfully
+     * @throws StorageException If the last attempt to save XP statistics to storage failed
      */
     public boolean minusXp(int pointsToMinus) throws StorageException {
         assert pointsToMinus > 0 : String.format(INVALID_EXP_POINTS_TO_MINUS_ERROR, pointsToMinus);
@@ -100,8 +101,20 @@ public class GamificationData {
         int newLevel = getLevelFor(xp);
         boolean hasLevelDropped = newLevel < level;
         level = newLevel;
-        GamificationStorage gamificationStorage = new GamificationStorage();
-        gamificationStorage.store(this);
+        storeXp();
         return hasLevelDropped;
     }
+
+    /**
+     * Saves the current XP in the background. The XP is copied now, so later changes to it
+     * cannot race with the save.
+     * @throws StorageException If the last attempt to save XP statistics to storage failed
+     */
+    private void storeXp() throws StorageException {
+        GamificationData dataToStore = new GamificationData(xp);
+        PersistenceService.getInstance().markDirty(Storage.FILE_GAMIFICATION, () -> {
+            GamificationStorage gamificationStorage = new GamificationStorage();
+            gamificationStorage.store(dataToStore);
+        });
+    }
 }
@@ -12,14 +12,16 @@ import wellnus.storage.Storage;
 public class GamificationStorage {
     private final Storage storage;
     private final GamificationTokenizer tokenizer;
+    private final GamificationBinaryTokenizer binaryTokenizer;
 
     /**
      * Returns an instance of GamificationStorage.
      * @throws StorageException If Storage class cannot be initialised successfully
      */
     public GamificationStorage() throws StorageException {
-        this.storage = new Storage();
+        this.storage = Storage.getInstance();
         this.tokenizer = new GamificationTokenizer();
+        this.binaryTokenizer = new GamificationBinaryTokenizer();
     }
 
     /**
@@ -31,24 +33,25 @@ public class GamificationStorage {
      */
     public GamificationData loadData() throws StorageException, TokenizerException {
         if (storage.checkFileExists(Storage.FILE_GAMIFICATION)) {
-            ArrayList<String> tokenizedObjects = storage.loadData(Storage.FILE_GAMIFICATION);
-            ArrayList<GamificationData> dataObjects = tokenizer.detokenize(tokenizedObjects);
+            ArrayList<GamificationData> dataObjects = storage.loadData(Storage.FILE_GAMIFICATION,
+                    tokenizer, binaryTokenizer);
             int dataObjectIndex = 0;
-            return dataObjects.get(dataObjectIndex);
+            if (!dataObjects.isEmpty()) {
+                return dataObjects.get(dataObjectIndex);
+            }
         }
         return new GamificationData();
     }
 
     /**
      * Stores the given GamificationData object in local storage.
-     * GamificationData is first converted into a String before being written to storage.
+     * GamificationData is first converted into a binary record before being written to storage.
      * @param data GamificationData object representing the current gamification statistics we're saving
      * @throws StorageException If gamification statistics cannot be saved in storage successfully
      */
     public void store(GamificationData data) throws StorageException {
         ArrayList<GamificationData> objectsToStore = new ArrayList<>();
         objectsToStore.add(data);
-        ArrayList<String> tokenizedObjects = tokenizer.tokenize(objectsToStore);
-        storage.saveData(tokenizedObjects, Storage.FILE_GAMIFICATION);
+        storage.saveData(objectsToStore, Storage.FILE_GAMIFICATION, binaryTokenizer);
     }
 }
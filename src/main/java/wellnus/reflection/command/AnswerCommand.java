@@ -0,0 +1,188 @@
+package wellnus.reflection.command;
+
+import java.time.Instant;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import wellnus.command.Command;
+import wellnus.common.WellNusLogger;
+import wellnus.exception.BadCommandException;
+import wellnus.exception.ReflectionException;
+import wellnus.exception.StorageException;
+import wellnus.reflection.feature.AnswerJournal;
+import wellnus.reflection.feature.IndexMapper;
+import wellnus.reflection.feature.QuestionList;
+import wellnus.reflection.feature.ReflectUi;
+
+/**
+ * Answer command to write down an answer to one of the previous set of questions in the answer journal.
+ */
+public class AnswerCommand extends Command {
+    public static final String COMMAND_DESCRIPTION = "answer - Write down your answer to one of the questions "
+            + "you got.";
+    public static final String COMMAND_USAGE = "usage: answer --id (index) --text (your answer)";
+    public static final String COMMAND_KEYWORD = "answer";
+    private static final String FEATURE_NAME = "reflect";
+    private static final String ID_ARGUMENT = "id";
+    private static final String TEXT_ARGUMENT = "text";
+    private static final String PAYLOAD = "";
+    private static final String INVALID_COMMAND_MSG = "Invalid command issued, expected 'answer'!";
+    private static final String INVALID_ARGUMENT_MSG = "Invalid arguments given to 'answer'!";
+    private static final String INVALID_PAYLOAD = "Invalid payload given to 'answer'!";
+    private static final String EMPTY_ANSWER_MSG = "Invalid payload given to 'answer', your answer is empty!";
+    private static final String INVALID_COMMAND_NOTES = "answer command " + COMMAND_USAGE;
+    private static final String WRONG_INDEX_MSG = "Invalid index payload given to 'answer', index is out of range!";
+    private static final String WRONG_INDEX_NOTE = "Please input the correct index of the question you answered!";
+    private static final String MISSING_SET_QUESTIONS = "A set of questions has not been gotten!";
+    private static final String MISSING_SET_QUESTIONS_NOTES = "Please try 'get' command to generate a set of "
+            + "questions before answering one!";
+    private static final String ANSWER_SUCCESS = "You have answered question: %s" + System.lineSeparator()
+            + "Your answer is saved, try 'search --text (words)' to find it again!";
+    private static final String STORAGE_ERROR = "Error saving to storage!";
+    private static final int ARGUMENT_PAYLOAD_SIZE = 3;
+    private static final Logger LOGGER = WellNusLogger.getLogger("ReflectAnswerCommandLogger");
+    private static final ReflectUi UI = new ReflectUi();
+    private final QuestionList questionList;
+    private final AnswerJournal answerJournal;
+
+    /**
+     * Set up the argument-payload pairs for this command.<br/>
+     * Pass in a questionList object from ReflectionManager to access the indexes of the previous set of questions,
+     * and the answerJournal to write the answer to.
+     *
+     * @param arguments     Argument-payload pairs from users
+     * @param questionList  Object that contains the data about questions
+     * @param answerJournal Journal of the user's answers
+     */
+    public AnswerCommand(HashMap<String, String> arguments, QuestionList questionList, AnswerJournal answerJournal) {
+        super(arguments);
+        this.questionList = questionList;
+        this.answerJournal = answerJournal;
+    }
+
+    /**
+     * Get the command itself.
+     *
+     * @return Command: answer
+     */
+    @Override
+    protected String getCommandKeyword() {
+        return COMMAND_KEYWORD;
+    }
+
+    /**
+     * Get the name of the feature in which this answer command is generated.
+     *
+     * @return Feature name: reflect
+     */
+    @Override
+    protected String getFeatureKeyword() {
+        return FEATURE_NAME;
+    }
+
+    /**
+     * Method to ensure that developers add in a command usage.
+     * <p>
+     * For example, for the 'add' command in AtomicHabit package: <br>
+     * "usage: add --name (name of habit)"
+     *
+     * @return String of the proper usage of the habit
+     */
+    @Override
+    public String getCommandUsage() {
+        return COMMAND_USAGE;
+    }
+
+    /**
+     * Method to ensure that developers add in a description for the command.
+     * <p>
+     * For example, for the 'add' command in AtomicHabit package: <br>
+     * "add - add a habit to your list"
+     *
+     * @return String of the description of what the command does
+     */
+    @Override
+    public String getCommandDescription() {
+        return COMMAND_DESCRIPTION;
+    }
+
+    /**
+     * Validate the command.<br/>
+     * <br/>
+     * Conditions for command to be valid:<br/>
+     * <li>Exactly the arguments answer, id and text
+     * <li>The payload of answer is empty
+     * <li>The payload of text is not blank
+     * Whichever mismatch will cause the command to be invalid.
+     *
+     * @param commandMap Argument-Payload map generated by CommandParser
+     * @throws BadCommandException If an invalid command is given
+     */
+    @Override
+    public void validateCommand(HashMap<String, String> commandMap) throws BadCommandException {
+        if (!commandMap.containsKey(COMMAND_KEYWORD)) {
+            throw new BadCommandException(INVALID_COMMAND_MSG);
+        } else if (commandMap.size() != ARGUMENT_PAYLOAD_SIZE || !commandMap.containsKey(ID_ARGUMENT)
+                || !commandMap.containsKey(TEXT_ARGUMENT)) {
+            throw new BadCommandException(INVALID_ARGUMENT_MSG);
+        } else if (!commandMap.get(COMMAND_KEYWORD).equals(PAYLOAD)) {
+            throw new BadCommandException(INVALID_PAYLOAD);
+        } else if (commandMap.get(TEXT_ARGUMENT).isBlank()) {
+            throw new BadCommandException(EMPTY_ANSWER_MSG);
+        }
+    }
+
+    /**
+     * Entry point to this command.<br/>
+     * Check the validity of commands and write the answer to the answer journal.<br/>
+     */
+    @Override
+    public void execute() {
+        try {
+            validateCommand(getArguments());
+        } catch (BadCommandException badCommandException) {
+            LOGGER.log(Level.INFO, INVALID_COMMAND_MSG);
+            UI.printErrorFor(badCommandException, INVALID_COMMAND_NOTES);
+            return;
+        }
+        try {
+            addAnswer(getArguments().get(ID_ARGUMENT), getArguments().get(TEXT_ARGUMENT));
+        } catch (StorageException storageException) {
+            LOGGER.log(Level.WARNING, STORAGE_ERROR);
+            UI.printErrorFor(storageException, STORAGE_ERROR);
+        } catch (NumberFormatException numberFormatException) {
+            LOGGER.log(Level.INFO, WRONG_INDEX_MSG);
+            UI.printErrorFor(numberFormatException, WRONG_INDEX_NOTE);
+        } catch (ReflectionException reflectionException) {
+            UI.printErrorFor(reflectionException, WRONG_INDEX_NOTE);
+        }
+    }
+
+    /**
+     * Write the answer to the question at the given display index of the previous set of questions.
+     *
+     * @param questionIndex User input of the index of the question answered
+     * @param answerText    The user's answer
+     * @throws StorageException If the answer cannot be written
+     * @throws NumberFormatException If the index is not a number
+     * @throws ReflectionException If the index is not the index of a question in the previous set
+     */
+    public void addAnswer(String questionIndex, String answerText) throws StorageException, NumberFormatException,
+            ReflectionException {
+        int questionIndexInt = Integer.parseInt(questionIndex.strip());
+        if (!questionList.hasRandomQuestionIndexes()) {
+            UI.printErrorFor(new ReflectionException(MISSING_SET_QUESTIONS), MISSING_SET_QUESTIONS_NOTES);
+            return;
+        }
+        BitSet randomQuestionIndexes = questionList.getRandomQuestionIndexes();
+        int indexToAnswer = new IndexMapper(randomQuestionIndexes).mapIndex(questionIndexInt);
+        if (indexToAnswer == IndexMapper.NOT_FOUND) {
+            throw new ReflectionException(WRONG_INDEX_MSG);
+        }
+        answerJournal.addAnswer(Instant.now().getEpochSecond(), indexToAnswer, answerText);
+        questionList.recordAnsweredQuestion(indexToAnswer);
+        UI.printOutputMessage(String.format(ANSWER_SUCCESS, questionList.getQuestion(indexToAnswer)));
+    }
+}
@@ -1,8 +1,8 @@
 package wellnus.reflection.command;
 
 import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.HashMap;
-import java.util.Set;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
@@ -16,18 +16,23 @@ import wellnus.reflection.feature.ReflectionQuestion;
 
 //@@author wenxin-c
 /**
- * Command to get a set of 5 random questions.
+ * Command to get a set of 5 random questions, or with <code>--mode spaced</code>, the 5 questions most due
+ * to be reflected on again.
  */
 public class GetCommand extends Command {
     public static final String COMMAND_DESCRIPTION = "get - Get a list of questions to reflect on.";
-    public static final String COMMAND_USAGE = "usage: get";
+    public static final String COMMAND_USAGE = "usage: get [--mode random|spaced]";
     public static final String COMMAND_KEYWORD = "get";
     private static final Logger LOGGER = WellNusLogger.getLogger("ReflectGetCommandLogger");
     private static final String FEATURE_NAME = "reflect";
     private static final String PAYLOAD = "";
+    private static final String MODE_ARGUMENT = "mode";
+    private static final String RANDOM_MODE = "random";
+    private static final String SPACED_MODE = "spaced";
     private static final String INVALID_COMMAND_MSG = "Invalid command issued, expected 'get'!";
     private static final String INVALID_ARGUMENT_MSG = "Invalid arguments given to 'get'!";
     private static final String INVALID_PAYLOAD = "Invalid payload given to 'get'!";
+    private static final String INVALID_MODE_MSG = "Invalid mode given to 'get', expected 'random' or 'spaced'!";
     private static final String INVALID_COMMAND_NOTES = "get command " + COMMAND_USAGE;
     private static final String COMMAND_KEYWORD_ASSERTION = "The key should be get.";
     private static final String COMMAND_PAYLOAD_ASSERTION = "The payload should be empty.";
@@ -37,9 +42,10 @@ public class GetCommand extends Command {
     private static final String EMPTY_STRING = "";
     private static final int NUM_OF_RANDOM_QUESTIONS = 5;
     private static final int ARGUMENT_PAYLOAD_SIZE = 1;
+    private static final int ARGUMENT_PAYLOAD_SIZE_WITH_MODE = 2;
     private static final int ONE_OFFSET = 1;
     private static final ReflectUi UI = new ReflectUi();
-    private Set<Integer> randomQuestionIndexes;
+    private BitSet randomQuestionIndexes;
     private QuestionList questionList;
 
     /**
@@ -126,9 +132,10 @@ public class GetCommand extends Command {
      * Validate the command.<br/>
      * <br/>
      * Conditions for command to be valid:<br/>
-     * <li>Only one argument-payload pair
+     * <li>Only one argument-payload pair, or two if the second is the mode
      * <li>The pair contains key: get
      * <li>Payload is empty
+     * <li>The mode, if given, is random or spaced
      * Whichever mismatch will cause the command to be invalid.
      *
      * @param commandMap Argument-Payload map generated by CommandParser
@@ -136,19 +143,23 @@ public class GetCommand extends Command {
      */
     @Override
     public void validateCommand(HashMap<String, String> commandMap) throws BadCommandException {
-        if (commandMap.size() != ARGUMENT_PAYLOAD_SIZE) {
+        boolean hasMode = commandMap.containsKey(MODE_ARGUMENT);
+        if (commandMap.size() != (hasMode ? ARGUMENT_PAYLOAD_SIZE_WITH_MODE : ARGUMENT_PAYLOAD_SIZE)) {
             throw new BadCommandException(INVALID_ARGUMENT_MSG);
         } else if (!commandMap.containsKey(COMMAND_KEYWORD)) {
             throw new BadCommandException(INVALID_COMMAND_MSG);
         } else if (!commandMap.get(COMMAND_KEYWORD).equals(PAYLOAD)) {
             throw new BadCommandException(INVALID_PAYLOAD);
+        } else if (hasMode && !commandMap.get(MODE_ARGUMENT).strip().equals(RANDOM_MODE)
+                && !commandMap.get(MODE_ARGUMENT).strip().equals(SPACED_MODE)) {
+            throw new BadCommandException(INVALID_MODE_MSG);
         }
         assert getArguments().containsKey(COMMAND_KEYWORD) : COMMAND_KEYWORD_ASSERTION;
         assert getArguments().get(COMMAND_KEYWORD).equals(PAYLOAD) : COMMAND_PAYLOAD_ASSERTION;
     }
 
     /**
-     * Use questionList object to generate a set of 5 random integers(0-9) which will then be used as indexes to get
+     * Use questionList object to generate a set of 5 random question indexes which will then be used to get
      * a set of 5 random questions.
      * <br/>
      * Each number num: num >= 0 and num <= (maxSize - 1)
@@ -157,11 +168,26 @@ public class GetCommand extends Command {
      */
     public ArrayList<ReflectionQuestion> getRandomQuestions() throws StorageException {
         questionList.setRandomQuestionIndexes();
+        return getSelectedQuestions();
+    }
+
+    /**
+     * Use questionList object to select the 5 questions most due to be reflected on again, favorite questions
+     * sooner than others, which will then be used to get a set of 5 questions.
+     *
+     * @return The selected sets of questions
+     */
+    public ArrayList<ReflectionQuestion> getScheduledQuestions() throws StorageException {
+        questionList.setScheduledQuestionIndexes();
+        return getSelectedQuestions();
+    }
+
+    private ArrayList<ReflectionQuestion> getSelectedQuestions() {
         this.randomQuestionIndexes = questionList.getRandomQuestionIndexes();
         ArrayList<ReflectionQuestion> selectedQuestions = new ArrayList<>();
-        ArrayList<ReflectionQuestion> questions = questionList.getAllQuestions();
-        for (int index : this.randomQuestionIndexes) {
-            selectedQuestions.add(questions.get(index));
+        for (int index = randomQuestionIndexes.nextSetBit(0); index >= 0;
+                index = randomQuestionIndexes.nextSetBit(index + ONE_OFFSET)) {
+            selectedQuestions.add(questionList.getQuestion(index));
         }
         assert selectedQuestions.size() == NUM_OF_RANDOM_QUESTIONS : NUM_SELECTED_QUESTIONS_ASSERTION;
         return selectedQuestions;
@@ -173,7 +199,8 @@ public class GetCommand extends Command {
      * @return Single string that consists of all questions
      */
     private String convertQuestionsToString() throws StorageException {
-        ArrayList<ReflectionQuestion> selectedQuestions = getRandomQuestions();
+        boolean isSpacedMode = SPACED_MODE.equals(getArguments().getOrDefault(MODE_ARGUMENT, RANDOM_MODE).strip());
+        ArrayList<ReflectionQuestion> selectedQuestions = isSpacedMode ? getScheduledQuestions() : getRandomQuestions();
         String questionString = EMPTY_STRING;
         for (int i = 0; i < selectedQuestions.size(); i += 1) {
             questionString += ((i + ONE_OFFSET) + DOT + selectedQuestions.get(i).toString()
@@ -56,6 +56,8 @@ public class HelpCommand extends Command {
         commandDescriptions.add(LikeCommand.COMMAND_DESCRIPTION);
         commandDescriptions.add(UnlikeCommand.COMMAND_DESCRIPTION);
         commandDescriptions.add(PrevCommand.COMMAND_DESCRIPTION);
+        commandDescriptions.add(AnswerCommand.COMMAND_DESCRIPTION);
+        commandDescriptions.add(SearchCommand.COMMAND_DESCRIPTION);
         return commandDescriptions;
     }
 
@@ -118,6 +120,12 @@ public class HelpCommand extends Command {
         case PrevCommand.COMMAND_KEYWORD:
             printUsageMessage(PrevCommand.COMMAND_DESCRIPTION, PrevCommand.COMMAND_USAGE);
             break;
+        case AnswerCommand.COMMAND_KEYWORD:
+            printUsageMessage(AnswerCommand.COMMAND_DESCRIPTION, AnswerCommand.COMMAND_USAGE);
+            break;
+        case SearchCommand.COMMAND_KEYWORD:
+            printUsageMessage(SearchCommand.COMMAND_DESCRIPTION, SearchCommand.COMMAND_USAGE);
+            break;
         default:
             BadCommandException unknownCommand = new BadCommandException(COMMAND_INVALID_PAYLOAD);
             reflectUi.printErrorFor(unknownCommand, COMMAND_INVALID_COMMAND_NOTE);
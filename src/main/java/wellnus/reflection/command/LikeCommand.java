@@ -1,7 +1,7 @@
 package wellnus.reflection.command;
 
+import java.util.BitSet;
 import java.util.HashMap;
-import java.util.Set;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
@@ -39,7 +39,7 @@ public class LikeCommand extends Command {
     private static final int LOWER_BOUND = 1;
     private static final Logger LOGGER = WellNusLogger.getLogger("ReflectLikeCommandLogger");
     private static final ReflectUi UI = new ReflectUi();
-    private Set<Integer> randomQuestionIndexes;
+    private BitSet randomQuestionIndexes;
     private QuestionList questionList;
 
     /**
@@ -175,8 +175,10 @@ public class LikeCommand extends Command {
             return;
         }
         IndexMapper indexMapper = new IndexMapper(this.randomQuestionIndexes);
-        HashMap<Integer, Integer> indexQuestionMap = indexMapper.mapIndex();
-        int indexToAdd = indexQuestionMap.get(questionIndexInt);
+        int indexToAdd = indexMapper.mapIndex(questionIndexInt);
+        if (indexToAdd == IndexMapper.NOT_FOUND) {
+            throw new ReflectionException(WRONG_INDEX_MSG);
+        }
         questionList.addFavListIndex(indexToAdd);
     }
 }
@@ -0,0 +1,187 @@
+package wellnus.reflection.command;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.HashMap;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import wellnus.command.Command;
+import wellnus.common.WellNusLogger;
+import wellnus.exception.BadCommandException;
+import wellnus.exception.StorageException;
+import wellnus.reflection.feature.AnswerJournal;
+import wellnus.reflection.feature.AnswerSearchIndex;
+import wellnus.reflection.feature.QuestionList;
+import wellnus.reflection.feature.ReflectUi;
+import wellnus.reflection.feature.ReflectionAnswer;
+
+/**
+ * Search command to find the answers in the answer journal containing the given words, newest first.
+ */
+public class SearchCommand extends Command {
+    public static final String COMMAND_DESCRIPTION = "search - Find your past answers containing some words.";
+    public static final String COMMAND_USAGE = "usage: search --text (words to search for)";
+    public static final String COMMAND_KEYWORD = "search";
+    private static final String FEATURE_NAME = "reflect";
+    private static final String TEXT_ARGUMENT = "text";
+    private static final String PAYLOAD = "";
+    private static final String INVALID_COMMAND_MSG = "Invalid command issued, expected 'search'!";
+    private static final String INVALID_ARGUMENT_MSG = "Invalid arguments given to 'search'!";
+    private static final String INVALID_PAYLOAD = "Invalid payload given to 'search'!";
+    private static final String NO_WORDS_MSG = "Invalid payload given to 'search', there are no words to search for!";
+    private static final String INVALID_COMMAND_NOTES = "search command " + COMMAND_USAGE;
+    private static final String NO_MATCHES_MSG = "You have no answers containing '%s'!";
+    private static final String MATCHES_HEADER = "You have %d answer(s) containing '%s':";
+    private static final String MORE_MATCHES_NOTE = "Showing the %d most recent, "
+            + "add more words to narrow down your search!";
+    private static final String ANSWER_FORMAT = "%d.[%s] %s" + System.lineSeparator() + "   %s";
+    private static final String UNKNOWN_QUESTION = "(question no longer available)";
+    private static final String STORAGE_ERROR = "Error reading from storage!";
+    private static final int ARGUMENT_PAYLOAD_SIZE = 2;
+    private static final int MAX_ANSWERS_SHOWN = 10;
+    private static final Logger LOGGER = WellNusLogger.getLogger("ReflectSearchCommandLogger");
+    private static final ReflectUi UI = new ReflectUi();
+    private final QuestionList questionList;
+    private final AnswerJournal answerJournal;
+
+    /**
+     * Set up the argument-payload pairs for this command.<br/>
+     * Pass in a questionList object from ReflectionManager to show the questions answered,
+     * and the answerJournal to search.
+     *
+     * @param arguments     Argument-payload pairs from users
+     * @param questionList  Object that contains the data about questions
+     * @param answerJournal Journal of the user's answers
+     */
+    public SearchCommand(HashMap<String, String> arguments, QuestionList questionList, AnswerJournal answerJournal) {
+        super(arguments);
+        this.questionList = questionList;
+        this.answerJournal = answerJournal;
+    }
+
+    /**
+     * Get the command itself.
+     *
+     * @return Command: search
+     */
+    @Override
+    protected String getCommandKeyword() {
+        return COMMAND_KEYWORD;
+    }
+
+    /**
+     * Get the name of the feature in which this search command is generated.
+     *
+     * @return Feature name: reflect
+     */
+    @Override
+    protected String getFeatureKeyword() {
+        return FEATURE_NAME;
+    }
+
+    /**
+     * Method to ensure that developers add in a command usage.
+     * <p>
+     * For example, for the 'add' command in AtomicHabit package: <br>
+     * "usage: add --name (name of habit)"
+     *
+     * @return String of the proper usage of the habit
+     */
+    @Override
+    public String getCommandUsage() {
+        return COMMAND_USAGE;
+    }
+
+    /**
+     * Method to ensure that developers add in a description for the command.
+     * <p>
+     * For example, for the 'add' command in AtomicHabit package: <br>
+     * "add - add a habit to your list"
+     *
+     * @return String of the description of what the command does
+     */
+    @Override
+    public String getCommandDescription() {
+        return COMMAND_DESCRIPTION;
+    }
+
+    /**
+     * Validate the command.<br/>
+     * <br/>
+     * Conditions for command to be valid:<br/>
+     * <li>Exactly the arguments search and text
+     * <li>The payload of search is empty
+     * <li>The payload of text has at least one word
+     * Whichever mismatch will cause the command to be invalid.
+     *
+     * @param commandMap Argument-Payload map generated by CommandParser
+     * @throws BadCommandException If an invalid command is given
+     */
+    @Override
+    public void validateCommand(HashMap<String, String> commandMap) throws BadCommandException {
+        if (!commandMap.containsKey(COMMAND_KEYWORD)) {
+            throw new BadCommandException(INVALID_COMMAND_MSG);
+        } else if (commandMap.size() != ARGUMENT_PAYLOAD_SIZE || !commandMap.containsKey(TEXT_ARGUMENT)) {
+            throw new BadCommandException(INVALID_ARGUMENT_MSG);
+        } else if (!commandMap.get(COMMAND_KEYWORD).equals(PAYLOAD)) {
+            throw new BadCommandException(INVALID_PAYLOAD);
+        } else if (AnswerSearchIndex.getWordsOf(commandMap.get(TEXT_ARGUMENT)).isEmpty()) {
+            throw new BadCommandException(NO_WORDS_MSG);
+        }
+    }
+
+    /**
+     * Entry point to this command.<br/>
+     * Check the validity of commands and print the most recent answers containing the words searched for.<br/>
+     */
+    @Override
+    public void execute() {
+        try {
+            validateCommand(getArguments());
+        } catch (BadCommandException badCommandException) {
+            LOGGER.log(Level.INFO, INVALID_COMMAND_MSG);
+            UI.printErrorFor(badCommandException, INVALID_COMMAND_NOTES);
+            return;
+        }
+        try {
+            UI.printOutputMessage(getMatchingAnswers(getArguments().get(TEXT_ARGUMENT).strip()));
+        } catch (StorageException storageException) {
+            LOGGER.log(Level.WARNING, STORAGE_ERROR);
+            UI.printErrorFor(storageException, STORAGE_ERROR);
+        }
+    }
+
+    /**
+     * Get a string of the most recent answers containing every word of the given text, newest first.
+     *
+     * @param text Words to search for
+     * @return String of the matching answers with the questions they answer
+     * @throws StorageException If the answer journal cannot be read
+     */
+    public String getMatchingAnswers(String text) throws StorageException {
+        int[] matchingIds = answerJournal.search(text);
+        if (matchingIds.length == 0) {
+            return String.format(NO_MATCHES_MSG, text);
+        }
+        StringBuilder matchingAnswers = new StringBuilder(String.format(MATCHES_HEADER, matchingIds.length, text));
+        int numShown = Math.min(MAX_ANSWERS_SHOWN, matchingIds.length);
+        for (int i = 0; i < numShown; ++i) {
+            ReflectionAnswer answer = answerJournal.getAnswer(matchingIds[matchingIds.length - 1 - i]);
+            matchingAnswers.append(System.lineSeparator()).append(formatAnswer(i + 1, answer));
+        }
+        if (numShown < matchingIds.length) {
+            matchingAnswers.append(System.lineSeparator()).append(String.format(MORE_MATCHES_NOTE, numShown));
+        }
+        return matchingAnswers.toString();
+    }
+
+    private String formatAnswer(int displayIndex, ReflectionAnswer answer) {
+        LocalDate date = LocalDate.ofInstant(Instant.ofEpochSecond(answer.getEpochSecond()), ZoneId.systemDefault());
+        String question = answer.getQuestionIndex() < questionList.getNumQuestions()
+                ? questionList.getQuestion(answer.getQuestionIndex()).toString()
+                : UNKNOWN_QUESTION;
+        return String.format(ANSWER_FORMAT, displayIndex, date, question, answer.getAnswer());
+    }
+}
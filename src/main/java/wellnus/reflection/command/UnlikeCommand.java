@@ -1,7 +1,7 @@
 package wellnus.reflection.command;
 
+import java.util.BitSet;
 import java.util.HashMap;
-import java.util.Set;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
@@ -40,7 +40,7 @@ public class UnlikeCommand extends Command {
     private static final int EMPTY_LIST = 0;
     private static final Logger LOGGER = WellNusLogger.getLogger("ReflectUnlikeCommandLogger");
     private static final ReflectUi UI = new ReflectUi();
-    private Set<Integer> favQuestionIndexes;
+    private BitSet favQuestionIndexes;
     private QuestionList questionList;
 
     /**
@@ -170,16 +170,15 @@ public class UnlikeCommand extends Command {
     public void removeFavQuestion(String questionIndex) throws TokenizerException, StorageException,
             NumberFormatException, ReflectionException, BadCommandException {
         int questionIndexInt = Integer.parseInt(questionIndex);
-        if (this.favQuestionIndexes.size() == EMPTY_LIST) {
+        if (this.favQuestionIndexes.cardinality() == EMPTY_LIST) {
             UI.printOutputMessage(EMPTY_FAV_LIST_MSG);
             return;
         }
-        if (questionIndexInt > this.favQuestionIndexes.size() || questionIndexInt < LOWER_BOUND) {
+        if (questionIndexInt > this.favQuestionIndexes.cardinality() || questionIndexInt < LOWER_BOUND) {
             throw new ReflectionException(WRONG_INDEX_MSG);
         }
         IndexMapper indexMapper = new IndexMapper(this.favQuestionIndexes);
-        HashMap<Integer, Integer> indexQuestionMap = indexMapper.mapIndex();
-        int indexToRemove = indexQuestionMap.get(questionIndexInt);
+        int indexToRemove = indexMapper.mapIndex(questionIndexInt);
         questionList.removeFavListIndex(indexToRemove);
     }
 }
@@ -0,0 +1,184 @@
+package wellnus.reflection.feature;
+
+import java.util.ArrayList;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import wellnus.common.WellNusLogger;
+import wellnus.exception.StorageException;
+import wellnus.exception.TokenizerException;
+import wellnus.storage.AnswerSearchIndexTokenizer;
+import wellnus.storage.PersistenceService;
+import wellnus.storage.ReflectionAnswerTokenizer;
+import wellnus.storage.Storage;
+
+/**
+ * The journal of every answer the user has written to the reflection questions, searchable by its words.<br/>
+ * <br/>
+ * Answers are only ever appended to their file, so writing one costs the same however long the journal has
+ * grown. Each answer is added to an AnswerSearchIndex as it is written, and the index is saved in the
+ * background, so that it does not have to be rebuilt from every answer when WellNUS++ starts.
+ * The answer file is the source of truth: answers written after the index was last saved are indexed when
+ * they are loaded, and an index that cannot be read is rebuilt from the answers.<br/>
+ * <br/>
+ * Nothing is read from disk until the journal is first used.
+ */
+public class AnswerJournal {
+    private static final String LOG_INDEX_REBUILT = "Reflection answer index could not be used, rebuilding it";
+    private static final String LOG_ANSWER_SKIPPED = "Skipping a corrupted reflection answer";
+    private static final String LOG_INDEX_NOT_SAVED = "Reflection answer index could not be saved, "
+            + "it will be rebuilt when it is next loaded";
+    private static final String ASSERT_ID_IN_RANGE = "Answer id should be within the journal!";
+    private static final Logger LOGGER = WellNusLogger.getLogger("ReflectAnswerJournalLogger");
+    private final ArrayList<ReflectionAnswer> answers;
+    private final ReflectionAnswerTokenizer answerTokenizer;
+    private final AnswerSearchIndexTokenizer indexTokenizer;
+    private AnswerSearchIndex index;
+    private Storage storage;
+    private boolean isLoaded;
+
+    /**
+     * Constructor of an answer journal that loads the saved answers on first use.
+     */
+    public AnswerJournal() {
+        this.answers = new ArrayList<>();
+        this.answerTokenizer = new ReflectionAnswerTokenizer();
+        this.indexTokenizer = new AnswerSearchIndexTokenizer();
+        this.index = new AnswerSearchIndex();
+        this.isLoaded = false;
+    }
+
+    /**
+     * Load the saved answers and their index, indexing any answers the saved index does not cover yet.<br/>
+     * <br/>
+     * Does nothing if the answers have already been loaded. Corrupted answers are skipped.
+     *
+     * @throws StorageException If the answer file cannot be read
+     */
+    public synchronized void loadAnswers() throws StorageException {
+        if (isLoaded) {
+            return;
+        }
+        if (storage == null) {
+            storage = Storage.getInstance();
+        }
+        ArrayList<ReflectionAnswer> loadedAnswers = new ArrayList<>();
+        boolean[] hasSkippedAnswers = {false};
+        try {
+            storage.loadData(Storage.FILE_REFLECT_ANSWER, tokenizedAnswer -> {
+                if (tokenizedAnswer.isBlank()) {
+                    return;
+                }
+                try {
+                    loadedAnswers.add(answerTokenizer.detokenize(tokenizedAnswer));
+                } catch (TokenizerException tokenizerException) {
+                    LOGGER.log(Level.WARNING, LOG_ANSWER_SKIPPED);
+                    hasSkippedAnswers[0] = true;
+                }
+            });
+        } catch (TokenizerException tokenizerException) {
+            // Never thrown, as corrupted answers are skipped by the RecordSink itself
+            throw new StorageException(tokenizerException.getMessage());
+        }
+        // Skipped answers shift the ids of every answer after them, so a saved index no longer lines up
+        AnswerSearchIndex loadedIndex = hasSkippedAnswers[0]
+                ? new AnswerSearchIndex()
+                : loadIndex(loadedAnswers.size());
+        boolean isIndexUpdated = loadedIndex.getNumIndexedAnswers() < loadedAnswers.size();
+        for (int id = loadedIndex.getNumIndexedAnswers(); id < loadedAnswers.size(); ++id) {
+            loadedIndex.add(id, loadedAnswers.get(id).getAnswer());
+        }
+        answers.addAll(loadedAnswers);
+        index = loadedIndex;
+        isLoaded = true;
+        if (isIndexUpdated) {
+            scheduleStoreIndex();
+        }
+    }
+
+    private AnswerSearchIndex loadIndex(int numAnswers) {
+        try {
+            AnswerSearchIndex loadedIndex = indexTokenizer.detokenize(
+                    storage.loadData(Storage.FILE_REFLECT_ANSWER_INDEX));
+            // An index covering more answers than there are was saved for answers that have since been lost
+            if (loadedIndex.getNumIndexedAnswers() <= numAnswers) {
+                return loadedIndex;
+            }
+        } catch (StorageException | TokenizerException exception) {
+            LOGGER.log(Level.INFO, LOG_INDEX_REBUILT, exception);
+        }
+        return new AnswerSearchIndex();
+    }
+
+    /**
+     * Save the index in the background, after any other answers written in the coalescing window.<br/>
+     * <br/>
+     * Failing to save the index is only logged, as it can always be rebuilt from the answers.
+     */
+    private void scheduleStoreIndex() {
+        try {
+            PersistenceService.getInstance().markDirty(Storage.FILE_REFLECT_ANSWER_INDEX, this::storeIndex);
+        } catch (StorageException storageException) {
+            LOGGER.log(Level.WARNING, LOG_INDEX_NOT_SAVED, storageException);
+        }
+    }
+
+    private void storeIndex() throws StorageException {
+        ArrayList<String> tokenizedIndex;
+        synchronized (this) {
+            tokenizedIndex = indexTokenizer.tokenize(index);
+        }
+        storage.saveData(tokenizedIndex, Storage.FILE_REFLECT_ANSWER_INDEX);
+    }
+
+    /**
+     * Append an answer to the journal and index its words.<br/>
+     * <br/>
+     * The answer itself is written to disk before this method returns, while its index is saved later.
+     *
+     * @param epochSecond   Time the answer was written in epoch seconds
+     * @param questionIndex Index of the answered question in the QuestionBank
+     * @param answerText    Text of the answer, which must not be blank
+     * @return ReflectionAnswer that was added
+     * @throws StorageException If the answer cannot be written
+     */
+    public synchronized ReflectionAnswer addAnswer(long epochSecond, int questionIndex, String answerText)
+            throws StorageException {
+        loadAnswers();
+        ReflectionAnswer answer = new ReflectionAnswer(epochSecond, questionIndex, answerText.strip());
+        ArrayList<String> tokenizedAnswer = new ArrayList<>();
+        tokenizedAnswer.add(answerTokenizer.tokenize(answer));
+        storage.appendData(tokenizedAnswer, Storage.FILE_REFLECT_ANSWER);
+        answers.add(answer);
+        index.add(answers.size() - 1, answer.getAnswer());
+        scheduleStoreIndex();
+        return answer;
+    }
+
+    /**
+     * Find the answers containing every word of the given text, ignoring case and punctuation.
+     *
+     * @param text Text to search for
+     * @return Ascending ids of the matching answers, i.e. oldest answer first
+     * @throws StorageException If the answer file cannot be read
+     */
+    public synchronized int[] search(String text) throws StorageException {
+        loadAnswers();
+        return index.search(text);
+    }
+
+    /**
+     * Get the answer with the given id, as returned by <code>search()</code>.
+     *
+     * @param id Id of the answer
+     * @return ReflectionAnswer with the id
+     */
+    public synchronized ReflectionAnswer getAnswer(int id) {
+        assert id >= 0 && id < answers.size() : ASSERT_ID_IN_RANGE;
+        return answers.get(id);
+    }
+
+    public synchronized int getNumAnswers() {
+        return answers.size();
+    }
+}
@@ -0,0 +1,199 @@
+package wellnus.reflection.feature;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Inverted index over the text of reflection answers, so that answers are found by their words without
+ * reading through every answer ever written.<br/>
+ * <br/>
+ * Answers are identified by their position in the AnswerJournal, and each word maps to the ascending ids of
+ * the answers containing it. As answers are only ever appended, a new answer's id is larger than every id
+ * already indexed, so indexing it just appends to the posting list of each of its words.
+ * A search intersects the posting lists of its words, starting from the shortest one.<br/>
+ * <br/>
+ * The index remembers how many answers it covers, so that an index saved before the latest answers were
+ * written can be brought up to date by indexing only the answers after them.
+ */
+public class AnswerSearchIndex {
+    private static final int INITIAL_POSTING_CAPACITY = 4;
+    private static final String ASSERT_ID_IS_NEXT = "Answers should be indexed in the order they were written!";
+    private static final String ASSERT_IDS_ASCENDING = "Answer ids should be ascending and already indexed!";
+    private static final int[] NO_ANSWER_IDS = new int[0];
+    private final HashMap<String, PostingList> postingsByWord;
+    private int numIndexedAnswers;
+
+    /**
+     * Ascending ids of the answers containing one word, in an array that grows as answers are indexed.
+     */
+    private static class PostingList {
+        private int[] answerIds;
+        private int size;
+
+        private PostingList(int[] answerIds) {
+            this.answerIds = answerIds;
+            this.size = answerIds.length;
+        }
+
+        private void add(int answerId) {
+            if (size == answerIds.length) {
+                answerIds = Arrays.copyOf(answerIds, Math.max(INITIAL_POSTING_CAPACITY, size * 2));
+            }
+            answerIds[size] = answerId;
+            size++;
+        }
+    }
+
+    /**
+     * Constructor of an empty answer search index.
+     */
+    public AnswerSearchIndex() {
+        this.postingsByWord = new HashMap<>();
+        this.numIndexedAnswers = 0;
+    }
+
+    /**
+     * Constructor of an answer search index loaded from storage.
+     *
+     * @param numIndexedAnswers Number of answers the index covers
+     * @param answerIdsByWord   Ascending ids of the answers containing each word, all below numIndexedAnswers
+     */
+    public AnswerSearchIndex(int numIndexedAnswers, Map<String, int[]> answerIdsByWord) {
+        this.postingsByWord = new HashMap<>();
+        this.numIndexedAnswers = numIndexedAnswers;
+        answerIdsByWord.forEach((word, answerIds) -> {
+            assert isAscendingBelow(answerIds, numIndexedAnswers) : ASSERT_IDS_ASCENDING;
+            postingsByWord.put(word, new PostingList(answerIds.clone()));
+        });
+    }
+
+    /**
+     * Checks whether the given ids are strictly ascending, not negative and below the given bound.
+     *
+     * @param answerIds Answer ids to check
+     * @param bound     Bound every id must be below
+     * @return boolean representing if the ids can be the posting list of an index covering bound answers
+     */
+    public static boolean isAscendingBelow(int[] answerIds, int bound) {
+        int previousId = -1;
+        for (int answerId : answerIds) {
+            if (answerId <= previousId || answerId >= bound) {
+                return false;
+            }
+            previousId = answerId;
+        }
+        return true;
+    }
+
+    /**
+     * Splits text into the distinct words it is indexed and searched by: runs of letters and digits,
+     * in lower case.
+     *
+     * @param text Text to split
+     * @return Set of the words in the order they first appear
+     */
+    public static Set<String> getWordsOf(String text) {
+        Set<String> words = new LinkedHashSet<>();
+        String lowerCaseText = text.toLowerCase(Locale.ROOT);
+        int wordStart = -1;
+        for (int i = 0; i <= lowerCaseText.length(); ++i) {
+            boolean isWordCharacter = i < lowerCaseText.length()
+                    && Character.isLetterOrDigit(lowerCaseText.charAt(i));
+            if (isWordCharacter && wordStart < 0) {
+                wordStart = i;
+            } else if (!isWordCharacter && wordStart >= 0) {
+                words.add(lowerCaseText.substring(wordStart, i));
+                wordStart = -1;
+            }
+        }
+        return words;
+    }
+
+    /**
+     * Indexes the words of the next answer written.
+     *
+     * @param answerId Id of the answer, which must equal <code>getNumIndexedAnswers()</code>
+     * @param answer   Text of the answer
+     */
+    public void add(int answerId, String answer) {
+        assert answerId == numIndexedAnswers : ASSERT_ID_IS_NEXT;
+        for (String word : getWordsOf(answer)) {
+            postingsByWord.computeIfAbsent(word, key -> new PostingList(NO_ANSWER_IDS)).add(answerId);
+        }
+        numIndexedAnswers++;
+    }
+
+    /**
+     * Finds the answers containing every word of the given text, ignoring case and punctuation.
+     *
+     * @param text Text to search for
+     * @return Ascending ids of the matching answers, empty if the text has no words
+     */
+    public int[] search(String text) {
+        Set<String> words = getWordsOf(text);
+        if (words.isEmpty()) {
+            return NO_ANSWER_IDS;
+        }
+        PostingList[] postingLists = new PostingList[words.size()];
+        int numPostingLists = 0;
+        for (String word : words) {
+            PostingList postingList = postingsByWord.get(word);
+            if (postingList == null) {
+                return NO_ANSWER_IDS;
+            }
+            postingLists[numPostingLists] = postingList;
+            numPostingLists++;
+        }
+        // Intersecting the shortest lists first keeps every intermediate result as small as possible
+        Arrays.sort(postingLists, (first, second) -> Integer.compare(first.size, second.size));
+        int[] matchingIds = Arrays.copyOf(postingLists[0].answerIds, postingLists[0].size);
+        int numMatchingIds = matchingIds.length;
+        for (int i = 1; i < postingLists.length && numMatchingIds > 0; ++i) {
+            numMatchingIds = intersect(matchingIds, numMatchingIds, postingLists[i]);
+        }
+        return Arrays.copyOf(matchingIds, numMatchingIds);
+    }
+
+    // Keeps the ids that are also in the posting list at the start of ids, returning how many there are
+    private static int intersect(int[] ids, int numIds, PostingList postingList) {
+        int numKept = 0;
+        int postingIndex = 0;
+        for (int i = 0; i < numIds && postingIndex < postingList.size; ++i) {
+            while (postingIndex < postingList.size && postingList.answerIds[postingIndex] < ids[i]) {
+                postingIndex++;
+            }
+            if (postingIndex < postingList.size && postingList.answerIds[postingIndex] == ids[i]) {
+                ids[numKept] = ids[i];
+                numKept++;
+            }
+        }
+        return numKept;
+    }
+
+    public int getNumIndexedAnswers() {
+        return numIndexedAnswers;
+    }
+
+    public Set<String> getWords() {
+        return Collections.unmodifiableSet(postingsByWord.keySet());
+    }
+
+    /**
+     * Returns the ids of the answers containing the given word.
+     *
+     * @param word Word as returned by <code>getWordsOf()</code>
+     * @return Ascending ids of the answers containing the word, which the caller may modify
+     */
+    public int[] getAnswerIds(String word) {
+        PostingList postingList = postingsByWord.get(word);
+        if (postingList == null) {
+            return NO_ANSWER_IDS;
+        }
+        return Arrays.copyOf(postingList.answerIds, postingList.size);
+    }
+}
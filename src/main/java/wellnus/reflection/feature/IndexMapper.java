@@ -1,31 +1,38 @@
 package wellnus.reflection.feature;
 
-import java.util.HashMap;
-import java.util.Set;
+import java.util.BitSet;
 
 /**
- * Map display index(1...n) onto a set of integers.
+ * Map display index(1...n) onto the indexes in a BitSet, in ascending order.<br/>
+ * <br/>
+ * Display index i is mapped to the i-th set bit (i.e. select), which is found by walking the set bits,
+ * so no map from display indexes to indexes has to be built.
  */
 public class IndexMapper {
+    public static final int NOT_FOUND = -1;
+    private static final int INDEX_ZERO = 0;
     private static final int INDEX_ONE = 1;
-    private Set<Integer> targetedSet;
-    public IndexMapper(Set<Integer> targetedSet) {
+    private final BitSet targetedSet;
+
+    public IndexMapper(BitSet targetedSet) {
         this.targetedSet = targetedSet;
     }
 
     /**
      * The display index(integer) ranges from 1 to n.<br/>
-     * This function maps display index to each integer in the set.
+     * This function maps the display index to the index it displays.
      *
-     * @return indexMap The hashmap with display index as key and real integer as value.
+     * @param displayIndex Display index from 1 to the number of indexes in the set
+     * @return The display index-th smallest index in the set, or NOT_FOUND if there are fewer indexes
      */
-    public HashMap<Integer, Integer> mapIndex() {
-        HashMap<Integer, Integer> indexMap = new HashMap<>();
-        int displayIndex = INDEX_ONE;
-        for (int index : this.targetedSet) {
-            indexMap.put(displayIndex, index);
-            displayIndex += INDEX_ONE;
+    public int mapIndex(int displayIndex) {
+        if (displayIndex < INDEX_ONE) {
+            return NOT_FOUND;
+        }
+        int index = targetedSet.nextSetBit(INDEX_ZERO);
+        for (int i = INDEX_ONE; i < displayIndex && index >= INDEX_ZERO; ++i) {
+            index = targetedSet.nextSetBit(index + INDEX_ONE);
         }
-        return indexMap;
+        return index;
     }
 }
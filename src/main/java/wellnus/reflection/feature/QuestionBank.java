@@ -0,0 +1,247 @@
+package wellnus.reflection.feature;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import wellnus.common.WellNusLogger;
+import wellnus.exception.StorageException;
+import wellnus.exception.TokenizerException;
+
+/**
+ * The bank of introspective questions available in the reflect feature, read from an indexed file.<br/>
+ * <br/>
+ * The file holds a header, an offset table and a blob of every question in UTF-8:
+ * [magic as int][version as int][number of questions as int][offset of each question as int]
+ * [offset of the end of the blob as int][blob]. Question i takes up the bytes from its offset to the offset
+ * of question i + 1, so it is found without reading any other question.<br/>
+ * <br/>
+ * The bank shipped in <code>QUESTION_BANK_RESOURCE</code> is memory-mapped when it is a file, and read into
+ * memory once when it is packaged in a jar. A ReflectionQuestion is only created when a question is displayed,
+ * so a bank of tens of thousands of questions takes up little more than its file.
+ * If the shipped bank cannot be read, the built-in questions are used instead.
+ */
+public class QuestionBank {
+    public static final String QUESTION_BANK_RESOURCE = "/wellnus/reflection/questions.bank";
+    private static final int MAGIC = 0x574E5142;
+    private static final int VERSION = 1;
+    private static final int HEADER_INTS = 3;
+    private static final String CORRUPTED_BANK_MESSAGE = "The question bank is corrupted!";
+    private static final String UNREADABLE_BANK_MESSAGE = "The question bank cannot be read!";
+    private static final String UNWRITABLE_BANK_MESSAGE = "The question bank cannot be written!";
+    private static final String UNSUPPORTED_VERSION_MESSAGE = "The question bank was made by a newer version "
+            + "of WellNUS++!";
+    private static final String LOG_BUILT_IN_QUESTIONS = "Question bank could not be loaded, "
+            + "using the built-in questions";
+    private static final String ASSERT_INDEX_IN_RANGE = "Question index should be within the question bank!";
+    private static final Logger LOGGER = WellNusLogger.getLogger("ReflectQuestionBankLogger");
+    // Questions are adopted from website: https://www.usa.edu/blog/self-discovery-questions/
+    private static final List<String> BUILT_IN_QUESTIONS = List.of(
+            "What are three of my most cherished personal values?",
+            "What is my purpose in life?",
+            "What is my personality type?",
+            "Did I make time for myself this week?",
+            "Am I making time for my social life?",
+            "What scares me the most right now?",
+            "What is something I find inspiring?",
+            "What is something that brings me joy?",
+            "When is the last time I gave back to others?",
+            "What matters to me most right now?"
+    );
+    private static QuestionBank instance;
+    private final ByteBuffer bank;
+    private final int numQuestions;
+    private final int offsetTableStart;
+    private final int blobStart;
+
+    private QuestionBank(ByteBuffer bank) throws TokenizerException {
+        this.bank = bank;
+        try {
+            if (bank.getInt(0) != MAGIC) {
+                throw new TokenizerException(CORRUPTED_BANK_MESSAGE);
+            }
+            if (bank.getInt(Integer.BYTES) > VERSION) {
+                throw new TokenizerException(UNSUPPORTED_VERSION_MESSAGE);
+            }
+            this.numQuestions = bank.getInt(2 * Integer.BYTES);
+            this.offsetTableStart = HEADER_INTS * Integer.BYTES;
+            if (numQuestions < 0 || numQuestions >= (bank.limit() - offsetTableStart) / Integer.BYTES) {
+                throw new TokenizerException(CORRUPTED_BANK_MESSAGE);
+            }
+            this.blobStart = offsetTableStart + (numQuestions + 1) * Integer.BYTES;
+        } catch (IndexOutOfBoundsException indexOutOfBoundsException) {
+            throw new TokenizerException(CORRUPTED_BANK_MESSAGE);
+        }
+        validateOffsets();
+    }
+
+    /**
+     * Returns the question bank shipped with WellNUS++, loading it on first use.
+     *
+     * @return The shared QuestionBank
+     */
+    public static synchronized QuestionBank getInstance() {
+        if (instance == null) {
+            instance = loadShippedBank();
+        }
+        return instance;
+    }
+
+    private static QuestionBank loadShippedBank() {
+        try {
+            URL resource = QuestionBank.class.getResource(QUESTION_BANK_RESOURCE);
+            if (resource == null) {
+                throw new StorageException(UNREADABLE_BANK_MESSAGE);
+            }
+            if (resource.getProtocol().equals("file")) {
+                return open(Path.of(resource.toURI()));
+            }
+            try (InputStream inputStream = resource.openStream()) {
+                return new QuestionBank(ByteBuffer.wrap(inputStream.readAllBytes()));
+            }
+        } catch (IOException | URISyntaxException | StorageException | TokenizerException exception) {
+            LOGGER.log(Level.WARNING, LOG_BUILT_IN_QUESTIONS, exception);
+            return fromQuestions(BUILT_IN_QUESTIONS);
+        }
+    }
+
+    /**
+     * Memory-maps the question bank in the given file.
+     *
+     * @param file Path to the question bank file
+     * @return QuestionBank backed by the file
+     * @throws StorageException   If the file cannot be read
+     * @throws TokenizerException If the file is not a valid question bank
+     */
+    public static QuestionBank open(Path file) throws StorageException, TokenizerException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            // The mapping stays valid after the channel is closed
+            return new QuestionBank(channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()));
+        } catch (IOException ioException) {
+            throw new StorageException(UNREADABLE_BANK_MESSAGE);
+        }
+    }
+
+    /**
+     * Creates an in-memory question bank holding the given questions.
+     *
+     * @param questions Questions of the bank, none of which may be empty
+     * @return QuestionBank holding the questions
+     */
+    public static QuestionBank fromQuestions(List<String> questions) {
+        try {
+            return new QuestionBank(encode(questions));
+        } catch (TokenizerException tokenizerException) {
+            throw new IllegalArgumentException(tokenizerException.getMessage());
+        }
+    }
+
+    /**
+     * Writes the given questions to a question bank file, e.g. to update the shipped question bank.
+     *
+     * @param questions Questions of the bank, none of which may be empty
+     * @param file      Path to write the question bank to
+     * @throws StorageException If the file cannot be written
+     */
+    public static void write(List<String> questions, Path file) throws StorageException {
+        ByteBuffer bank = encode(questions);
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            while (bank.hasRemaining()) {
+                channel.write(bank);
+            }
+        } catch (IOException ioException) {
+            throw new StorageException(UNWRITABLE_BANK_MESSAGE);
+        }
+    }
+
+    private static ByteBuffer encode(List<String> questions) {
+        byte[][] encodedQuestions = new byte[questions.size()][];
+        int blobLength = 0;
+        for (int i = 0; i < encodedQuestions.length; ++i) {
+            encodedQuestions[i] = questions.get(i).getBytes(StandardCharsets.UTF_8);
+            blobLength += encodedQuestions[i].length;
+        }
+        ByteBuffer bank = ByteBuffer.allocate((HEADER_INTS + encodedQuestions.length + 1) * Integer.BYTES
+                + blobLength);
+        bank.putInt(MAGIC).putInt(VERSION).putInt(encodedQuestions.length);
+        int offset = 0;
+        for (byte[] encodedQuestion : encodedQuestions) {
+            bank.putInt(offset);
+            offset += encodedQuestion.length;
+        }
+        bank.putInt(offset);
+        for (byte[] encodedQuestion : encodedQuestions) {
+            bank.put(encodedQuestion);
+        }
+        bank.flip();
+        return bank;
+    }
+
+    // Every question must be non-empty and lie within the blob, so that reading one can never fail
+    private void validateOffsets() throws TokenizerException {
+        try {
+            int previousOffset = getOffset(0);
+            if (previousOffset != 0) {
+                throw new TokenizerException(CORRUPTED_BANK_MESSAGE);
+            }
+            for (int i = 1; i <= numQuestions; ++i) {
+                int offset = getOffset(i);
+                if (offset <= previousOffset) {
+                    throw new TokenizerException(CORRUPTED_BANK_MESSAGE);
+                }
+                previousOffset = offset;
+            }
+            if (previousOffset != bank.limit() - blobStart) {
+                throw new TokenizerException(CORRUPTED_BANK_MESSAGE);
+            }
+        } catch (IndexOutOfBoundsException | BufferUnderflowException exception) {
+            throw new TokenizerException(CORRUPTED_BANK_MESSAGE);
+        }
+    }
+
+    private int getOffset(int index) {
+        return bank.getInt(offsetTableStart + index * Integer.BYTES);
+    }
+
+    public int size() {
+        return numQuestions;
+    }
+
+    /**
+     * Checks whether the given index is the index of a question in this bank.
+     *
+     * @param index Index to check
+     * @return boolean representing if the index is between 0 and size() - 1
+     */
+    public boolean hasQuestion(int index) {
+        return index >= 0 && index < numQuestions;
+    }
+
+    /**
+     * Reads the question at the given index out of the bank.
+     *
+     * @param index Index of the question, between 0 and size() - 1
+     * @return ReflectionQuestion holding the question
+     */
+    public ReflectionQuestion getQuestion(int index) {
+        assert hasQuestion(index) : ASSERT_INDEX_IN_RANGE;
+        int start = getOffset(index);
+        byte[] question = new byte[getOffset(index + 1) - start];
+        // A duplicate has its own position, so questions can be read from several threads at once
+        ByteBuffer questionView = bank.duplicate();
+        questionView.position(blobStart + start);
+        questionView.get(question);
+        return new ReflectionQuestion(new String(question, StandardCharsets.UTF_8));
+    }
+}
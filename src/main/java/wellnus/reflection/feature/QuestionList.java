@@ -1,50 +1,45 @@
 package wellnus.reflection.feature;
 
+import java.time.Instant;
 import java.util.ArrayList;
-import java.util.HashSet;
-import java.util.Set;
+import java.util.BitSet;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
 import wellnus.common.WellNusLogger;
 import wellnus.exception.StorageException;
 import wellnus.exception.TokenizerException;
+import wellnus.storage.PersistenceService;
+import wellnus.storage.QuestionScheduleTokenizer;
+import wellnus.storage.ReflectionBinaryTokenizer;
 import wellnus.storage.ReflectionTokenizer;
 import wellnus.storage.Storage;
 
 /**
- * This class contains the list of questions available in reflect feature,
+ * This class contains the bank of questions available in reflect feature,
  * and the list of indexes of favorite questions liked by the user.<br/>
  * <br/>
  * This class calls methods to load the list of indexes of favorite questions from data file,
  * and save the updated data into data file.<br/>
  * <br/>
  * It also stores the indexes of the previous set of questions(i.e. set of 5 random indexes)
- * which will then be used for other commands.
+ * which will then be used for other commands.<br/>
+ * <br/>
+ * Questions are read out of the QuestionBank only when they are displayed, and indexes saved for questions
+ * that are no longer in the bank are dropped when they are loaded.<br/>
+ * <br/>
+ * Both sets of indexes are BitSets with bit i set for question i, so they take one bit per question in the
+ * bank, and are displayed and numbered in ascending order of their indexes.<br/>
+ * <br/>
+ * Every question shown is also recorded in a QuestionScheduler, which can pick the questions most due to be
+ * reflected on again instead of random ones. The schedule is only loaded from its data file when it is first used.
  */
 public class QuestionList {
 
-    // Questions are adopted from website: https://www.usa.edu/blog/self-discovery-questions/
-    private static final String[] QUESTIONS = {
-        "What are three of my most cherished personal values?",
-        "What is my purpose in life?",
-        "What is my personality type?",
-        "Did I make time for myself this week?",
-        "Am I making time for my social life?",
-        "What scares me the most right now?",
-        "What is something I find inspiring?",
-        "What is something that brings me joy?",
-        "When is the last time I gave back to others?",
-        "What matters to me most right now?"
-    };
-
-    // TODO: To be changed/updated at later stages if question size increases
-    private static final int TOTAL_NUM_QUESTIONS = 10;
-    private static final int RANDOM_NUMBER_UPPERBOUND = 10;
     private static final int INDEX_ZERO = 0;
     private static final int INDEX_ONE = 1;
     private static final int INCREMENT_ONE = 1;
-    private static final String TOTAL_NUM_QUESTION_ASSERTIONS = "The total number of questions is 10.";
+    private static final int NUM_RANDOM_QUESTIONS = 5;
     private static final String ADD_FAV_SUCCESS_ONE = "You have added question: ";
     private static final String ADD_FAV_SUCCESS_TWO = " into favorite list!!";
     private static final String REMOVE_FAV_SUCCESS_ONE = "You have removed question: ";
@@ -52,40 +47,61 @@ public class QuestionList {
     private static final String DUPLICATE_LIKE = " is already in the favorite list!";
     private static final String TOKENIZER_ERROR = "Error tokenizing data!";
     private static final String STORAGE_ERROR = "Error saving to storage!";
+    private static final String LOG_SCHEDULE_RESET = "Reflection schedule could not be loaded, starting afresh";
     private static final String DOT = ".";
-    private static final String EMPTY_STRING = "";
     private static final String FILE_NAME = "reflect";
-    private static final RandomNumberGenerator RANDOM_NUMBER_GENERATOR =
-            new RandomNumberGenerator(RANDOM_NUMBER_UPPERBOUND);
     private static final Logger LOGGER = WellNusLogger.getLogger("ReflectQuestionListLogger");
     private static final ReflectionTokenizer reflectionTokenizer = new ReflectionTokenizer();
+    private static final ReflectionBinaryTokenizer reflectionBinaryTokenizer = new ReflectionBinaryTokenizer();
+    private static final QuestionScheduleTokenizer questionScheduleTokenizer = new QuestionScheduleTokenizer();
     private static final ReflectUi UI = new ReflectUi();
     private static final boolean HAS_RANDOM_QUESTIONS = true;
     private static final boolean NOT_HAS_RANDOM_QUESTIONS = false;
     private static final boolean HAS_FAV_QUESTIONS = true;
     private static final boolean NOT_HAS_FAV_QUESTIONS = false;
-    private ArrayList<ReflectionQuestion> questions = new ArrayList<>();
-    private Set<Integer> randomQuestionIndexes;
-    private ArrayList<Set<Integer>> dataIndex;
+    private final QuestionBank questionBank;
+    private final RandomNumberGenerator randomNumberGenerator;
+    private final int[] randomNumbers;
+    private BitSet randomQuestionIndexes;
+    private ArrayList<BitSet> dataIndex;
     private Storage storage;
+    private QuestionScheduler questionScheduler;
 
     //@@author wenxin-c
     /**
      * Constructor to create a SelfReflection object and set up the questions available.
      */
     public QuestionList() {
+        this(true);
+    }
+
+    /**
+     * Constructor to create a SelfReflection object that can leave loading the data file to the caller.<br/>
+     * <br/>
+     * StartupLoader uses this to load every feature's data concurrently and report errors per file itself.
+     *
+     * @param isLoadedNow Whether to load the data file now and print any errors, or to wait for the caller
+     *     to call <code>loadQuestionData()</code>
+     */
+    public QuestionList(boolean isLoadedNow) {
         try {
-            storage = new Storage();
+            storage = Storage.getInstance();
         } catch (StorageException storageException) {
             LOGGER.log(Level.WARNING, STORAGE_ERROR);
             UI.printErrorFor(storageException, STORAGE_ERROR);
         }
-        this.randomQuestionIndexes = new HashSet<>();
+        this.randomQuestionIndexes = new BitSet();
         this.dataIndex = new ArrayList<>();
-        HashSet<Integer> setLike = new HashSet<>();
-        HashSet<Integer> setPrev = new HashSet<>();
+        BitSet setLike = new BitSet();
+        BitSet setPrev = new BitSet();
         this.dataIndex.add(setLike);
         this.dataIndex.add(setPrev);
+        this.questionBank = QuestionBank.getInstance();
+        this.randomNumberGenerator = new RandomNumberGenerator(questionBank.size());
+        this.randomNumbers = new int[NUM_RANDOM_QUESTIONS];
+        if (!isLoadedNow) {
+            return;
+        }
         try {
             this.loadQuestionData();
         } catch (StorageException storageException) {
@@ -95,76 +111,158 @@ public class QuestionList {
             LOGGER.log(Level.WARNING, STORAGE_ERROR);
             UI.printErrorFor(tokenizerException, STORAGE_ERROR);
         }
-        setUpQuestions();
-        assert questions.size() == TOTAL_NUM_QUESTIONS : TOTAL_NUM_QUESTION_ASSERTIONS;
     }
 
-    /**
-     * Load the pool of introspective questions available for users.
-     */
-    public void setUpQuestions() {
-        for (String question : QUESTIONS) {
-            addReflectQuestion(question);
-        }
-    }
-
-    /**
-     * Create a ReflectionQuestion object for each question and add to questions list.
-     *
-     * @param question String of question description.
-     */
-    public void addReflectQuestion(String question) {
-        ReflectionQuestion newQuestion = new ReflectionQuestion(question);
-        questions.add(newQuestion);
-    }
-
-    public void setDataIndex(ArrayList<Set<Integer>> dataIndex) {
+    public void setDataIndex(ArrayList<BitSet> dataIndex) {
         this.dataIndex = dataIndex;
     }
 
-    public ArrayList<Set<Integer>> getDataIndex() {
+    public ArrayList<BitSet> getDataIndex() {
         return dataIndex;
     }
 
     /**
      * Tokenize the indexes of liked questions and store them in a data file.
      *
-     * @throws TokenizerException If there is error during tokenization
      * @throws StorageException If data cannot be stored properly
      */
     public void storeQuestionData() throws StorageException {
-        ArrayList<String> tokenizedQuestionList = reflectionTokenizer.tokenize(this.dataIndex);
-        storage.saveData(tokenizedQuestionList, FILE_NAME);
+        storage.saveData(this.dataIndex, FILE_NAME, reflectionBinaryTokenizer);
     }
 
     /**
-     * Load a string of integers from data file and detokenize it into the set of indexes of favorite questions.
+     * Save the indexes of liked questions and previous questions in the background.<br/>
+     * <br/>
+     * The indexes are copied now, so that later changes to them cannot race with the save.
+     *
+     * @throws StorageException If the last attempt to save them failed
+     */
+    private void scheduleStoreQuestionData() throws StorageException {
+        ArrayList<BitSet> dataIndexToStore = new ArrayList<>();
+        for (BitSet indexes : this.dataIndex) {
+            dataIndexToStore.add((BitSet) indexes.clone());
+        }
+        PersistenceService.getInstance().markDirty(FILE_NAME, () -> {
+            storage.saveData(dataIndexToStore, FILE_NAME, reflectionBinaryTokenizer);
+        });
+    }
+
+    /**
+     * Load the indexes of favorite questions and previous questions from data file,
+     * which may be in either the binary or the older text format.
      *
      * @throws StorageException If there is error during tokenization
      * @throws TokenizerException If there is error during detokenization
      */
     public void loadQuestionData() throws StorageException, TokenizerException {
-        ArrayList<String> loadedQuestionList = storage.loadData(FILE_NAME);
-        ArrayList<Set<Integer>> detokenizedQuestionList = reflectionTokenizer.detokenize(loadedQuestionList);
+        ArrayList<BitSet> detokenizedQuestionList = storage.loadData(FILE_NAME, reflectionTokenizer,
+                reflectionBinaryTokenizer);
+        BitSet prevIndexes = detokenizedQuestionList.get(INDEX_ONE);
+        detokenizedQuestionList.get(INDEX_ZERO).clear(questionBank.size(), Integer.MAX_VALUE);
+        if (prevIndexes.length() > questionBank.size()) {
+            // A set of questions that is no longer complete cannot be liked from
+            prevIndexes.clear();
+        }
         this.setDataIndex(detokenizedQuestionList);
         this.randomQuestionIndexes = this.dataIndex.get(INDEX_ONE);
     }
 
     /**
-     * Generate a set of 5 distinct random numbers from 0-9 which will then be used as indexes to
-     * select 5 random questions.
+     * Get the schedule of the questions, loading it from its data file on first use.<br/>
+     * <br/>
+     * A schedule that cannot be loaded is only logged and started afresh, as it only decides which
+     * questions are picked next.
+     *
+     * @return QuestionScheduler of the questions in the question bank
+     */
+    private QuestionScheduler getQuestionScheduler() {
+        if (this.questionScheduler != null) {
+            return this.questionScheduler;
+        }
+        QuestionScheduler loadedScheduler;
+        try {
+            loadedScheduler = questionScheduleTokenizer.detokenize(storage.loadData(Storage.FILE_REFLECT_SCHEDULE),
+                    questionBank.size());
+        } catch (StorageException | TokenizerException exception) {
+            LOGGER.log(Level.INFO, LOG_SCHEDULE_RESET, exception);
+            loadedScheduler = new QuestionScheduler(questionBank.size());
+        }
+        BitSet favIndexList = this.dataIndex.get(INDEX_ZERO);
+        for (int questionIndex = favIndexList.nextSetBit(INDEX_ZERO); questionIndex >= INDEX_ZERO;
+                questionIndex = favIndexList.nextSetBit(questionIndex + INCREMENT_ONE)) {
+            loadedScheduler.setFavorite(questionIndex, true);
+        }
+        this.questionScheduler = loadedScheduler;
+        return loadedScheduler;
+    }
+
+    /**
+     * Save the schedule of the questions in the background, after any other changes in the coalescing window.
+     *
+     * @throws StorageException If the last attempt to save it failed
+     */
+    private void scheduleStoreQuestionSchedule() throws StorageException {
+        QuestionScheduler schedulerToStore = this.questionScheduler;
+        PersistenceService.getInstance().markDirty(Storage.FILE_REFLECT_SCHEDULE, () -> {
+            ArrayList<String> tokenizedSchedule;
+            synchronized (schedulerToStore) {
+                tokenizedSchedule = questionScheduleTokenizer.tokenize(schedulerToStore);
+            }
+            storage.saveData(tokenizedSchedule, Storage.FILE_REFLECT_SCHEDULE);
+        });
+    }
+
+    /**
+     * Generate a set of 5 distinct random numbers from 0 to the number of questions - 1 which will then
+     * be used as indexes to select 5 random questions.
      */
     public void setRandomQuestionIndexes() throws StorageException {
-        this.randomQuestionIndexes = RANDOM_NUMBER_GENERATOR.generateRandomNumbers();
-        ArrayList<Set<Integer>> updatedQuestionData = new ArrayList<>();
-        Set<Integer> favIndexList = this.dataIndex.get(INDEX_ZERO);
+        int numRandomNumbers = randomNumberGenerator.generateRandomNumbers(randomNumbers);
+        long nowEpochSecond = Instant.now().getEpochSecond();
+        QuestionScheduler scheduler = getQuestionScheduler();
+        for (int i = 0; i < numRandomNumbers; ++i) {
+            scheduler.recordShown(randomNumbers[i], nowEpochSecond);
+        }
+        this.storeSelectedQuestionIndexes(numRandomNumbers);
+    }
+
+    /**
+     * Select the 5 questions most due to be reflected on again according to the schedule of the questions,
+     * favorite questions and questions never shown before first, which will then be used as the set of questions.
+     */
+    public void setScheduledQuestionIndexes() throws StorageException {
+        int numScheduledQuestions = getQuestionScheduler().selectNext(randomNumbers,
+                Instant.now().getEpochSecond());
+        this.storeSelectedQuestionIndexes(numScheduledQuestions);
+    }
+
+    // Make the first numSelected numbers in randomNumbers the set of questions and save it with the schedule
+    private void storeSelectedQuestionIndexes(int numSelected) throws StorageException {
+        this.randomQuestionIndexes = new BitSet(questionBank.size());
+        for (int i = 0; i < numSelected; ++i) {
+            this.randomQuestionIndexes.set(randomNumbers[i]);
+        }
+        ArrayList<BitSet> updatedQuestionData = new ArrayList<>();
+        BitSet favIndexList = this.dataIndex.get(INDEX_ZERO);
         updatedQuestionData.add(favIndexList);
         updatedQuestionData.add(this.randomQuestionIndexes);
         this.setDataIndex(updatedQuestionData);
-        this.storeQuestionData();
+        this.scheduleStoreQuestionData();
+        this.scheduleStoreQuestionSchedule();
     }
 
-    public void setRandomQuestionIndexes(HashSet<Integer> randomQuestionIndexes) {
+    /**
+     * Record that the user answered a question, so that it is picked less often by the schedule.
+     *
+     * @param questionIndex The index of the question answered
+     * @throws StorageException If the last attempt to store the schedule failed.
+     */
+    public void recordAnsweredQuestion(int questionIndex) throws StorageException {
+        getQuestionScheduler().recordAnswered(questionIndex);
+        this.scheduleStoreQuestionSchedule();
+    }
+
+    public void setRandomQuestionIndexes(BitSet randomQuestionIndexes) {
         this.randomQuestionIndexes = randomQuestionIndexes;
     }
 
@@ -172,12 +270,22 @@ public class QuestionList {
         this.randomQuestionIndexes.clear();
     }
 
-    public Set<Integer> getRandomQuestionIndexes() {
+    public BitSet getRandomQuestionIndexes() {
         return this.randomQuestionIndexes;
     }
 
-    public ArrayList<ReflectionQuestion> getAllQuestions() {
-        return questions;
+    public int getNumQuestions() {
+        return questionBank.size();
+    }
+
+    /**
+     * Get the question at the given index of the question bank.
+     *
+     * @param index Index of the question
+     * @return ReflectionQuestion at the index
+     */
+    public ReflectionQuestion getQuestion(int index) {
+        return questionBank.getQuestion(index);
     }
 
     /**
@@ -188,16 +296,20 @@ public class QuestionList {
      * Indexes of all favorite questions will be stored in data file every time a question is liked.
      *
      * @param indexToAdd The index of the question liked by user
-     * @throws StorageException If data fails to be stored properly.
+     * @throws StorageException If the last attempt to store data failed.
      */
     public void addFavListIndex(int indexToAdd) throws StorageException {
-        if (this.dataIndex.get(INDEX_ZERO).contains(indexToAdd)) {
-            UI.printOutputMessage(questions.get(indexToAdd).toString() + DUPLICATE_LIKE);
+        if (this.dataIndex.get(INDEX_ZERO).get(indexToAdd)) {
+            UI.printOutputMessage(questionBank.getQuestion(indexToAdd).toString() + DUPLICATE_LIKE);
             return;
         }
-        this.dataIndex.get(INDEX_ZERO).add(indexToAdd);
-        this.storeQuestionData();
-        UI.printOutputMessage(ADD_FAV_SUCCESS_ONE + this.questions.get(indexToAdd).toString() + ADD_FAV_SUCCESS_TWO);
+        this.dataIndex.get(INDEX_ZERO).set(indexToAdd);
+        if (this.questionScheduler != null) {
+            this.questionScheduler.setFavorite(indexToAdd, true);
+        }
+        this.scheduleStoreQuestionData();
+        UI.printOutputMessage(ADD_FAV_SUCCESS_ONE + questionBank.getQuestion(indexToAdd).toString()
+                + ADD_FAV_SUCCESS_TWO);
     }
 
     /**
@@ -206,12 +318,15 @@ public class QuestionList {
      * Indexes of all favorite questions will be stored in data file every time a question is removed.
      *
      * @param indexToRemove The index of question to be removed from fav list.
-     * @throws StorageException If data fails to be stored properly.
+     * @throws StorageException If the last attempt to store data failed.
      */
     public void removeFavListIndex(int indexToRemove) throws StorageException {
-        this.dataIndex.get(INDEX_ZERO).remove(indexToRemove);
-        this.storeQuestionData();
-        UI.printOutputMessage(REMOVE_FAV_SUCCESS_ONE + this.questions.get(indexToRemove).toString()
+        this.dataIndex.get(INDEX_ZERO).clear(indexToRemove);
+        if (this.questionScheduler != null) {
+            this.questionScheduler.setFavorite(indexToRemove, false);
+        }
+        this.scheduleStoreQuestionData();
+        UI.printOutputMessage(REMOVE_FAV_SUCCESS_ONE + questionBank.getQuestion(indexToRemove).toString()
                 + REMOVE_FAV_SUCCESS_TWO);
     }
 
@@ -247,28 +362,26 @@ public class QuestionList {
      * @return String of favorite questions
      */
     public String getFavQuestions() throws IndexOutOfBoundsException {
-        String questionString = EMPTY_STRING;
-        int displayIndex = INDEX_ONE;
-        for (int questionIndex : this.dataIndex.get(INDEX_ZERO)) {
-            questionString += (displayIndex + DOT + this.questions.get(questionIndex).toString()
-                    + System.lineSeparator());
-            displayIndex += INCREMENT_ONE;
-        }
-        return questionString;
+        return getQuestionsString(this.dataIndex.get(INDEX_ZERO));
     }
 
     /**
      * Get the previously generated set of questions. *
      * @return String of previously generated questions */
     public String getPrevSetQuestions() throws IndexOutOfBoundsException {
-        String questionString = EMPTY_STRING;
+        return getQuestionsString(this.dataIndex.get(INDEX_ONE));
+    }
+
+    private String getQuestionsString(BitSet questionIndexes) {
+        StringBuilder questionString = new StringBuilder();
         int displayIndex = INDEX_ONE;
-        for (int questionIndex : this.dataIndex.get(INDEX_ONE)) {
-            questionString += (displayIndex + DOT + this.questions.get(questionIndex).toString()
-                    + System.lineSeparator());
+        for (int questionIndex = questionIndexes.nextSetBit(INDEX_ZERO); questionIndex >= INDEX_ZERO;
+                questionIndex = questionIndexes.nextSetBit(questionIndex + INCREMENT_ONE)) {
+            questionString.append(displayIndex).append(DOT).append(questionBank.getQuestion(questionIndex))
+                    .append(System.lineSeparator());
             displayIndex += INCREMENT_ONE;
         }
-        return questionString;
+        return questionString.toString();
     }
     //@@author
 }
@@ -0,0 +1,268 @@
+package wellnus.reflection.feature;
+
+import java.util.SplittableRandom;
+
+/**
+ * Spaced-repetition schedule of the questions in the question bank, to pick the questions most due to be
+ * reflected on again instead of random ones.<br/>
+ * <br/>
+ * Each question has the time it was last shown and an ease factor, the number of days until it is due again.
+ * Showing a question doubles its ease factor and answering it grows it further, so questions already reflected
+ * on come back less and less often, while favorite questions are due in half the time. Questions that have never
+ * been shown are due straight away, in an order shuffled once per schedule.<br/>
+ * <br/>
+ * The state of every question is kept in primitive arrays indexed by question, and the questions are kept in
+ * a min-heap of question indexes ordered by the time they are due, which also records where in the heap each
+ * question is. Picking the next k questions pops them off the heap and pushes them back with their new due
+ * times, so it takes O(k log n) for a bank of n questions. The heap is only built, in O(n), when it is first
+ * needed, so that loading a saved schedule costs O(1) per question.
+ */
+public class QuestionScheduler {
+    public static final long NEVER_SHOWN = -1;
+    public static final float INITIAL_EASE_FACTOR = 1.0f;
+    public static final float MAX_EASE_FACTOR = 365.0f;
+    private static final float SHOWN_EASE_GROWTH = 2.0f;
+    private static final float ANSWERED_EASE_GROWTH = 1.5f;
+    private static final float FAVORITE_INTERVAL_FACTOR = 0.5f;
+    private static final long SECONDS_PER_DAY = 24 * 60 * 60;
+    private static final int GOLDEN_RATIO_INT = 0x9E3779B9;
+    private static final String ASSERT_QUESTION_IN_RANGE = "Question index should be within the question bank!";
+    private static final String ASSERT_EASE_IN_RANGE = "Ease factor should be between the initial and max ease!";
+    private final long[] lastShownEpochSeconds;
+    private final float[] easeFactors;
+    private final boolean[] isFavorite;
+    private final long[] dueEpochSeconds;
+    private final int[] heap;
+    private final int[] heapPositions;
+    // Breaks ties between questions due at the same time, e.g. those never shown, in a per-schedule order
+    private final int tieBreakSalt;
+    private boolean isHeapBuilt;
+
+    /**
+     * Constructor of the schedule of a question bank in which no question has been shown yet.
+     *
+     * @param numQuestions Number of questions in the question bank
+     */
+    public QuestionScheduler(int numQuestions) {
+        this(numQuestions, new SplittableRandom().nextInt());
+    }
+
+    /**
+     * Constructor of the schedule of a question bank in which no question has been shown yet, which orders
+     * questions due at the same time in the same order every time it is constructed with the same seed.
+     *
+     * @param numQuestions Number of questions in the question bank
+     * @param seed         Seed of the order of questions due at the same time
+     */
+    public QuestionScheduler(int numQuestions, int seed) {
+        this.lastShownEpochSeconds = new long[numQuestions];
+        this.easeFactors = new float[numQuestions];
+        this.isFavorite = new boolean[numQuestions];
+        this.dueEpochSeconds = new long[numQuestions];
+        this.heap = new int[numQuestions];
+        this.heapPositions = new int[numQuestions];
+        this.tieBreakSalt = seed;
+        for (int question = 0; question < numQuestions; ++question) {
+            lastShownEpochSeconds[question] = NEVER_SHOWN;
+            easeFactors[question] = INITIAL_EASE_FACTOR;
+            dueEpochSeconds[question] = Long.MIN_VALUE;
+        }
+        this.isHeapBuilt = false;
+    }
+
+    /**
+     * Checks whether the given ease factor can be the ease factor of a question.
+     *
+     * @param easeFactor Ease factor to check
+     * @return boolean representing if the ease factor is between INITIAL_EASE_FACTOR and MAX_EASE_FACTOR
+     */
+    public static boolean isValidEaseFactor(float easeFactor) {
+        return easeFactor >= INITIAL_EASE_FACTOR && easeFactor <= MAX_EASE_FACTOR;
+    }
+
+    public int getNumQuestions() {
+        return easeFactors.length;
+    }
+
+    public synchronized long getLastShownEpochSecond(int question) {
+        return lastShownEpochSeconds[question];
+    }
+
+    public synchronized float getEaseFactor(int question) {
+        return easeFactors[question];
+    }
+
+    public synchronized long getDueEpochSecond(int question) {
+        return dueEpochSeconds[question];
+    }
+
+    /**
+     * Sets the state of a question, e.g. as loaded from storage.
+     *
+     * @param question            Index of the question
+     * @param lastShownEpochSecond Time the question was last shown in epoch seconds, or NEVER_SHOWN
+     * @param easeFactor          Ease factor of the question
+     */
+    public synchronized void restore(int question, long lastShownEpochSecond, float easeFactor) {
+        assert question >= 0 && question < getNumQuestions() : ASSERT_QUESTION_IN_RANGE;
+        assert isValidEaseFactor(easeFactor) : ASSERT_EASE_IN_RANGE;
+        lastShownEpochSeconds[question] = lastShownEpochSecond;
+        easeFactors[question] = easeFactor;
+        reschedule(question);
+    }
+
+    /**
+     * Marks a question as a favorite, which is due again in half the time, or as no longer a favorite.
+     *
+     * @param question   Index of the question
+     * @param isFavorite Whether the question is a favorite
+     */
+    public synchronized void setFavorite(int question, boolean isFavorite) {
+        assert question >= 0 && question < getNumQuestions() : ASSERT_QUESTION_IN_RANGE;
+        this.isFavorite[question] = isFavorite;
+        reschedule(question);
+    }
+
+    /**
+     * Records that a question was shown, e.g. in a set of random questions, so that it is due again later.
+     *
+     * @param question       Index of the question
+     * @param nowEpochSecond Current time in epoch seconds
+     */
+    public synchronized void recordShown(int question, long nowEpochSecond) {
+        assert question >= 0 && question < getNumQuestions() : ASSERT_QUESTION_IN_RANGE;
+        lastShownEpochSeconds[question] = nowEpochSecond;
+        growEaseFactor(question, SHOWN_EASE_GROWTH);
+        reschedule(question);
+    }
+
+    /**
+     * Records that the user answered a question, so that it comes back even less often.
+     *
+     * @param question Index of the question
+     */
+    public synchronized void recordAnswered(int question) {
+        assert question >= 0 && question < getNumQuestions() : ASSERT_QUESTION_IN_RANGE;
+        growEaseFactor(question, ANSWERED_EASE_GROWTH);
+        reschedule(question);
+    }
+
+    private void growEaseFactor(int question, float growth) {
+        easeFactors[question] = Math.min(MAX_EASE_FACTOR, easeFactors[question] * growth);
+    }
+
+    /**
+     * Picks the questions due soonest, as many as the array holds or as there are questions,
+     * and records that they were shown.
+     *
+     * @param questions      Array to fill with the indexes of the questions, soonest due first
+     * @param nowEpochSecond Current time in epoch seconds
+     * @return Number of questions put at the start of the array
+     */
+    public synchronized int selectNext(int[] questions, long nowEpochSecond) {
+        buildHeapIfNeeded();
+        int numSelected = Math.min(questions.length, getNumQuestions());
+        // Every question is popped before any is pushed back, so that no question is picked twice
+        for (int i = 0; i < numSelected; ++i) {
+            questions[i] = heap[0];
+            moveToHeapEnd(0, getNumQuestions() - i);
+        }
+        // The last question popped sits just past the shrunk heap, so pushing back in reverse grows it one by one
+        for (int i = numSelected - 1; i >= 0; --i) {
+            int question = questions[i];
+            lastShownEpochSeconds[question] = nowEpochSecond;
+            growEaseFactor(question, SHOWN_EASE_GROWTH);
+            dueEpochSeconds[question] = computeDueEpochSecond(question);
+            siftUp(heapPositions[question]);
+        }
+        return numSelected;
+    }
+
+    private long computeDueEpochSecond(int question) {
+        if (lastShownEpochSeconds[question] == NEVER_SHOWN) {
+            return Long.MIN_VALUE;
+        }
+        float intervalDays = isFavorite[question]
+                ? easeFactors[question] * FAVORITE_INTERVAL_FACTOR
+                : easeFactors[question];
+        return lastShownEpochSeconds[question] + (long) (intervalDays * SECONDS_PER_DAY);
+    }
+
+    // Updates the due time of a question and restores the heap order around it
+    private void reschedule(int question) {
+        dueEpochSeconds[question] = computeDueEpochSecond(question);
+        if (isHeapBuilt) {
+            siftDown(siftUp(heapPositions[question]), getNumQuestions());
+        }
+    }
+
+    private void buildHeapIfNeeded() {
+        if (isHeapBuilt) {
+            return;
+        }
+        for (int question = 0; question < getNumQuestions(); ++question) {
+            heap[question] = question;
+            heapPositions[question] = question;
+        }
+        for (int position = getNumQuestions() / 2 - 1; position >= 0; --position) {
+            siftDown(position, getNumQuestions());
+        }
+        isHeapBuilt = true;
+    }
+
+    // Swaps the question at the position with the last one in the heap of the given size, then shrinks the heap
+    private void moveToHeapEnd(int position, int heapSize) {
+        int lastPosition = heapSize - 1;
+        swap(position, lastPosition);
+        siftDown(position, lastPosition);
+    }
+
+    private boolean isDueBefore(int question, int otherQuestion) {
+        if (dueEpochSeconds[question] != dueEpochSeconds[otherQuestion]) {
+            return dueEpochSeconds[question] < dueEpochSeconds[otherQuestion];
+        }
+        return getTieBreakKey(question) < getTieBreakKey(otherQuestion);
+    }
+
+    // Multiplying by an odd number, rotating and XORing are each one-to-one, so no two questions share a key
+    private int getTieBreakKey(int question) {
+        return Integer.rotateLeft(question * GOLDEN_RATIO_INT, Short.SIZE) ^ tieBreakSalt;
+    }
+
+    private int siftUp(int position) {
+        while (position > 0) {
+            int parent = (position - 1) / 2;
+            if (!isDueBefore(heap[position], heap[parent])) {
+                break;
+            }
+            swap(position, parent);
+            position = parent;
+        }
+        return position;
+    }
+
+    private void siftDown(int position, int heapSize) {
+        while (true) {
+            int child = 2 * position + 1;
+            if (child >= heapSize) {
+                return;
+            }
+            if (child + 1 < heapSize && isDueBefore(heap[child + 1], heap[child])) {
+                child++;
+            }
+            if (!isDueBefore(heap[child], heap[position])) {
+                return;
+            }
+            swap(position, child);
+            position = child;
+        }
+    }
+
+    private void swap(int position, int otherPosition) {
+        int question = heap[position];
+        heap[position] = heap[otherPosition];
+        heap[otherPosition] = question;
+        heapPositions[heap[position]] = position;
+        heapPositions[heap[otherPosition]] = otherPosition;
+    }
+}
@@ -1,21 +1,30 @@
 package wellnus.reflection.feature;
 
-import java.util.Random;
+import java.util.HashSet;
 import java.util.Set;
-import java.util.stream.Collectors;
+import java.util.SplittableRandom;
 
 //@@author wenxin-c
 /**
- * Generate a set of 5 distinct random integers ranging from 0 to 9<br/>
+ * Generate a set of 5 distinct random integers ranging from 0 to (upperBound - 1)<br/>
  * <br/>
- * This set of random numbers will be used as indexes to get a set of random questions.
+ * This set of random numbers will be used as indexes to get a set of random questions.<br/>
+ * <br/>
+ * Numbers are sampled with Floyd's algorithm, which draws exactly one random number per number sampled
+ * and never allocates more than the numbers themselves. Large samples use a partial Fisher-Yates shuffle of
+ * an array of every number instead, which is allocated once and reused. The SplittableRandom behind both is
+ * also reused, and can be seeded so that the numbers generated are reproducible, e.g. in tests.
  */
 public class RandomNumberGenerator {
     private static final String NUM_SELECTED_QUESTIONS_ASSERTION = "The number of selected questions should be 5.";
-    private static final int LOWER_BOUND = 0;
-    private static final int ONE_OFFSET = 1;
+    private static final String UPPER_BOUND_ASSERTION = "The upper bound should not be negative.";
     private static final int NUM_OF_RANDOM_NUMBERS = 5;
-    private int upperBound;
+    // Checking the numbers sampled so far for duplicates is only cheaper than shuffling for small samples
+    private static final int MAX_FLOYD_SAMPLE_SIZE = 32;
+    private final int upperBound;
+    private final SplittableRandom random;
+    private final int[] sample;
+    private int[] shuffledNumbers;
 
     /**
      * Constructor with the upper limit of the random number as an argument.
@@ -23,24 +32,96 @@ public class RandomNumberGenerator {
      * @param upperBound The max value of the random number is (upperBound - 1)
      */
     public RandomNumberGenerator(int upperBound) {
+        this(upperBound, new SplittableRandom());
+    }
+
+    /**
+     * Constructor with the upper limit of the random number and the seed of the numbers generated,
+     * so that the same numbers are generated every time.
+     *
+     * @param upperBound The max value of the random number is (upperBound - 1)
+     * @param seed       Seed of the random numbers
+     */
+    public RandomNumberGenerator(int upperBound, long seed) {
+        this(upperBound, new SplittableRandom(seed));
+    }
+
+    private RandomNumberGenerator(int upperBound, SplittableRandom random) {
+        assert upperBound >= 0 : UPPER_BOUND_ASSERTION;
         this.upperBound = upperBound;
+        this.random = random;
+        this.sample = new int[NUM_OF_RANDOM_NUMBERS];
     }
 
     /**
-     * Generate a set of 5 random numbers.<br/>
+     * Generate a set of 5 random numbers, or of every number if there are fewer than 5.<br/>
      * <br/>
-     * Each number num: num >= 0 and num <= (maxSize - 1)
+     * Each number num: num >= 0 and num <= (upperBound - 1)
      *
      * @return Set of 5 random numbers
      */
     public Set<Integer> generateRandomNumbers() {
-        Set<Integer> randomNumbers = new Random().ints(LOWER_BOUND, this.upperBound - ONE_OFFSET)
-                .distinct()
-                .limit(NUM_OF_RANDOM_NUMBERS)
-                .boxed()
-                .collect(Collectors.toSet());
-        assert randomNumbers.size() == NUM_OF_RANDOM_NUMBERS : NUM_SELECTED_QUESTIONS_ASSERTION;
+        int numSampled = generateRandomNumbers(sample);
+        Set<Integer> randomNumbers = new HashSet<>();
+        for (int i = 0; i < numSampled; ++i) {
+            randomNumbers.add(sample[i]);
+        }
+        assert randomNumbers.size() == Math.min(NUM_OF_RANDOM_NUMBERS, upperBound)
+                : NUM_SELECTED_QUESTIONS_ASSERTION;
         return randomNumbers;
     }
-}
 
+    /**
+     * Fill the given array with distinct random numbers, as many as it holds or as there are numbers.<br/>
+     * <br/>
+     * Each number num: num >= 0 and num <= (upperBound - 1)
+     *
+     * @param randomNumbers Array to fill with the random numbers
+     * @return Number of random numbers put at the start of the array
+     */
+    public int generateRandomNumbers(int[] randomNumbers) {
+        int sampleSize = Math.min(randomNumbers.length, upperBound);
+        if (sampleSize <= MAX_FLOYD_SAMPLE_SIZE) {
+            sampleWithFloyd(randomNumbers, sampleSize);
+        } else {
+            sampleWithShuffle(randomNumbers, sampleSize);
+        }
+        return sampleSize;
+    }
+
+    // Picks a number below each of the last sampleSize bounds, taking the bound itself if it was already picked
+    private void sampleWithFloyd(int[] randomNumbers, int sampleSize) {
+        int numSampled = 0;
+        for (int bound = upperBound - sampleSize; bound < upperBound; ++bound) {
+            int number = random.nextInt(bound + 1);
+            randomNumbers[numSampled] = contains(randomNumbers, numSampled, number) ? bound : number;
+            numSampled++;
+        }
+    }
+
+    private static boolean contains(int[] numbers, int length, int number) {
+        for (int i = 0; i < length; ++i) {
+            if (numbers[i] == number) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // Shuffles the first sampleSize numbers into place; the array stays a permutation, so it needs no reset
+    private void sampleWithShuffle(int[] randomNumbers, int sampleSize) {
+        if (shuffledNumbers == null) {
+            shuffledNumbers = new int[upperBound];
+            for (int i = 0; i < upperBound; ++i) {
+                shuffledNumbers[i] = i;
+            }
+        }
+        for (int i = 0; i < sampleSize; ++i) {
+            int j = i + random.nextInt(upperBound - i);
+            int number = shuffledNumbers[j];
+            shuffledNumbers[j] = shuffledNumbers[i];
+            shuffledNumbers[i] = number;
+            randomNumbers[i] = number;
+        }
+    }
+}
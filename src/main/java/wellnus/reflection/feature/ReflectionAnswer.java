@@ -0,0 +1,38 @@
+package wellnus.reflection.feature;
+
+/**
+ * An answer the user wrote to one of the reflection questions, and when it was written.<br/>
+ * <br/>
+ * The question is kept as its index in the QuestionBank, so that answers stay small and keep pointing
+ * at the same question however many times they are saved and loaded.
+ */
+public class ReflectionAnswer {
+    private final long epochSecond;
+    private final int questionIndex;
+    private final String answer;
+
+    /**
+     * Constructor of an answer to the question at the given index of the question bank.
+     *
+     * @param epochSecond   Time the answer was written in epoch seconds
+     * @param questionIndex Index of the question in the QuestionBank
+     * @param answer        Text of the answer
+     */
+    public ReflectionAnswer(long epochSecond, int questionIndex, String answer) {
+        this.epochSecond = epochSecond;
+        this.questionIndex = questionIndex;
+        this.answer = answer;
+    }
+
+    public long getEpochSecond() {
+        return epochSecond;
+    }
+
+    public int getQuestionIndex() {
+        return questionIndex;
+    }
+
+    public String getAnswer() {
+        return answer;
+    }
+}
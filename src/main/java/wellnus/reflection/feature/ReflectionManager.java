@@ -8,12 +8,14 @@ import java.util.logging.Logger;
 import wellnus.common.WellNusLogger;
 import wellnus.exception.BadCommandException;
 import wellnus.manager.Manager;
+import wellnus.reflection.command.AnswerCommand;
 import wellnus.reflection.command.FavoriteCommand;
 import wellnus.reflection.command.GetCommand;
 import wellnus.reflection.command.HelpCommand;
 import wellnus.reflection.command.HomeCommand;
 import wellnus.reflection.command.LikeCommand;
 import wellnus.reflection.command.PrevCommand;
+import wellnus.reflection.command.SearchCommand;
 import wellnus.reflection.command.UnlikeCommand;
 
 /**
@@ -32,6 +34,8 @@ public class ReflectionManager extends Manager {
     private static final String UNLIKE_COMMAND = "unlike";
     private static final String FAV_COMMAND = "fav";
     private static final String PREV_COMMAND = "prev";
+    private static final String ANSWER_COMMAND = "answer";
+    private static final String SEARCH_COMMAND = "search";
     private static final String NO_ELEMENT_MESSAGE = "There is no new line of input, please key in inputs!";
     private static final String INVALID_COMMAND_MESSAGE = "Invalid command issued!";
     private static final String LINE_SEPARATOR = System.lineSeparator();
@@ -42,6 +46,8 @@ public class ReflectionManager extends Manager {
             + "unlike command " + UnlikeCommand.COMMAND_USAGE + LINE_SEPARATOR
             + "fav command " + FavoriteCommand.COMMAND_USAGE + LINE_SEPARATOR
             + "prev command " + PrevCommand.COMMAND_USAGE + LINE_SEPARATOR
+            + "answer command " + AnswerCommand.COMMAND_USAGE + LINE_SEPARATOR
+            + "search command " + SearchCommand.COMMAND_USAGE + LINE_SEPARATOR
             + "help command " + HelpCommand.COMMAND_USAGE + LINE_SEPARATOR
             + "home command " + HomeCommand.COMMAND_USAGE;
     private static final String COMMAND_TYPE_ASSERTION = "Command type should have length greater than 0";
@@ -66,12 +72,24 @@ public class ReflectionManager extends Manager {
     private static boolean isExit;
     private String commandType;
     private HashMap<String, String> argumentPayload;
-    private QuestionList questionList = new QuestionList();
+    private QuestionList questionList;
+    private AnswerJournal answerJournal;
 
     /**
      * Constructor to set initial isExit status to false and load the reflection questions.
      */
     public ReflectionManager() {
+        this(new QuestionList());
+    }
+
+    /**
+     * Constructor to set initial isExit status to false and use reflection questions that were already loaded.
+     *
+     * @param questionList QuestionList with the user's data loaded, e.g. by StartupLoader
+     */
+    public ReflectionManager(QuestionList questionList) {
+        this.questionList = questionList;
+        this.answerJournal = new AnswerJournal();
         setIsExit(IS_EXIT_INITIAL);
         this.UI.setCursorName(FEATURE_NAME);
     }
@@ -220,6 +238,14 @@ public class ReflectionManager extends Manager {
             PrevCommand prevCmd = new PrevCommand(argumentPayload, questionList);
             prevCmd.execute();
             break;
+        case ANSWER_COMMAND:
+            AnswerCommand answerCmd = new AnswerCommand(argumentPayload, questionList, answerJournal);
+            answerCmd.execute();
+            break;
+        case SEARCH_COMMAND:
+            SearchCommand searchCmd = new SearchCommand(argumentPayload, questionList, answerJournal);
+            searchCmd.execute();
+            break;
         default:
             throw new BadCommandException(INVALID_COMMAND_MESSAGE);
         }
@@ -0,0 +1,110 @@
+package wellnus.storage;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Set;
+import java.util.TreeSet;
+
+import wellnus.exception.TokenizerException;
+import wellnus.reflection.feature.AnswerSearchIndex;
+
+/**
+ * Class to tokenize and detokenize the search index over reflection answers. <br>
+ * <p>
+ * The first record holds the number of answers the index covers, e.g. <code>--indexed 42</code>, and every
+ * other record holds one word and the ids of the answers containing it, e.g.
+ * <code>--word honesty --answers 3 12 1</code>. Each id after the first is stored as the gap from the id
+ * before it, so that the numbers stay short however many answers have been written.
+ */
+public class AnswerSearchIndexTokenizer {
+    private static final String INDEXED_PREFIX = "--indexed ";
+    private static final String WORD_PREFIX = "--word ";
+    private static final String ANSWERS_PREFIX = " --answers";
+    private static final String ID_DELIMITER = " ";
+    private static final String DETOKENIZE_ERROR_MESSAGE = "Detokenization failed! "
+            + "The reflection answer index file might be corrupted!";
+    private static final int INDEXED_RECORD = 0;
+    private static final int NOT_FOUND = -1;
+
+    /**
+     * Tokenizes the index into Strings that can be written to storage.
+     *
+     * @param index AnswerSearchIndex to tokenize
+     * @return ArrayList of Strings, the number of answers indexed followed by one String per word
+     */
+    public ArrayList<String> tokenize(AnswerSearchIndex index) {
+        ArrayList<String> tokenizedIndex = new ArrayList<>(index.getWords().size() + 1);
+        tokenizedIndex.add(INDEXED_PREFIX + index.getNumIndexedAnswers());
+        // Words are saved in order so that the file only changes where the index did
+        for (String word : new TreeSet<>(index.getWords())) {
+            StringBuilder tokenizedWord = new StringBuilder(WORD_PREFIX).append(word).append(ANSWERS_PREFIX);
+            int previousId = 0;
+            for (int answerId : index.getAnswerIds(word)) {
+                tokenizedWord.append(ID_DELIMITER).append(answerId - previousId);
+                previousId = answerId;
+            }
+            tokenizedIndex.add(tokenizedWord.toString());
+        }
+        return tokenizedIndex;
+    }
+
+    /**
+     * Detokenizes an index read from storage.
+     *
+     * @param tokenizedIndex Tokenized index as returned by <code>tokenize()</code>
+     * @return AnswerSearchIndex represented by the Strings, which is empty if there are none
+     * @throws TokenizerException When the index is malformed
+     */
+    public AnswerSearchIndex detokenize(ArrayList<String> tokenizedIndex) throws TokenizerException {
+        if (tokenizedIndex.isEmpty()) {
+            return new AnswerSearchIndex();
+        }
+        String indexedRecord = tokenizedIndex.get(INDEXED_RECORD).strip();
+        if (!indexedRecord.startsWith(INDEXED_PREFIX)) {
+            throw new TokenizerException(DETOKENIZE_ERROR_MESSAGE);
+        }
+        int numIndexedAnswers = parseNumber(indexedRecord.substring(INDEXED_PREFIX.length()));
+        HashMap<String, int[]> answerIdsByWord = new HashMap<>();
+        for (int i = INDEXED_RECORD + 1; i < tokenizedIndex.size(); ++i) {
+            String wordRecord = tokenizedIndex.get(i).strip();
+            int answersStart = wordRecord.indexOf(ANSWERS_PREFIX);
+            if (!wordRecord.startsWith(WORD_PREFIX) || answersStart == NOT_FOUND) {
+                throw new TokenizerException(DETOKENIZE_ERROR_MESSAGE);
+            }
+            String word = wordRecord.substring(WORD_PREFIX.length(), answersStart);
+            int[] answerIds = parseAnswerIds(wordRecord.substring(answersStart + ANSWERS_PREFIX.length()));
+            if (!AnswerSearchIndex.getWordsOf(word).equals(Set.of(word))
+                    || !AnswerSearchIndex.isAscendingBelow(answerIds, numIndexedAnswers)
+                    || answerIdsByWord.put(word, answerIds) != null) {
+                throw new TokenizerException(DETOKENIZE_ERROR_MESSAGE);
+            }
+        }
+        return new AnswerSearchIndex(numIndexedAnswers, answerIdsByWord);
+    }
+
+    private int[] parseAnswerIds(String tokenizedIds) throws TokenizerException {
+        String[] gaps = tokenizedIds.strip().split(ID_DELIMITER);
+        if (gaps.length == 1 && gaps[0].isEmpty()) {
+            throw new TokenizerException(DETOKENIZE_ERROR_MESSAGE);
+        }
+        int[] answerIds = new int[gaps.length];
+        int answerId = 0;
+        for (int i = 0; i < gaps.length; ++i) {
+            answerId += parseNumber(gaps[i]);
+            answerIds[i] = answerId;
+        }
+        return answerIds;
+    }
+
+    private int parseNumber(String number) throws TokenizerException {
+        try {
+            int parsedNumber = Integer.parseInt(number.strip());
+            if (parsedNumber < 0) {
+                throw new TokenizerException(DETOKENIZE_ERROR_MESSAGE);
+            }
+            return parsedNumber;
+        } catch (NumberFormatException numberFormatException) {
+            throw new TokenizerException(DETOKENIZE_ERROR_MESSAGE);
+        }
+    }
+}
@@ -0,0 +1,339 @@
+package wellnus.storage;
+
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+import wellnus.atomichabit.feature.AtomicHabit;
+import wellnus.atomichabit.feature.HabitEventHistory;
+import wellnus.atomichabit.feature.HabitStats;
+import wellnus.exception.StorageException;
+import wellnus.exception.TokenizerException;
+
+/**
+ * Class to tokenize and detokenize the AtomicHabit list in the binary format. <br>
+ * <p>
+ * The first record is the snapshot's header: [generation of the habit journal that follows the snapshot as long],
+ * which is the generation the tokenizer was constructed with when tokenizing, and can be read back with
+ * <code>getJournalGeneration()</code> after detokenizing. <br>
+ * Each other record is one habit with the following layout: [count as int][description length as int]
+ * [description in UTF-8][number of tags as int][length of each tag as int and the tag in UTF-8]
+ * [number of events as int][time of each event as long][change of each event as int]. <br>
+ * The events are stored column by column, like in HabitEventHistory, so each column is written and read
+ * in one pass. <br>
+ * The events are followed by the habit's analytics, so that they are not recomputed from the events on startup:
+ * [last active day as long][current streak as int][longest streak as int][latest day as long]
+ * [total of each tracked day as int][last active day before the tracked days as long]
+ * [streak before the tracked days as int][longest streak before the tracked days as int]. <br>
+ * Version 5 records hold no streaks before the tracked days, which are estimated from the other analytics.
+ * Version 4 files have no header, so they are followed by the journal of generation 0.
+ * Version 3 records hold no tags, so their habits are loaded without tags.
+ * Version 2 records hold no analytics, which are computed from their events once when they are loaded.
+ * Version 1 records hold no events, and their description takes up the rest of the record after the count.
+ */
+public class AtomicHabitBinaryTokenizer implements BinaryTokenizer<AtomicHabit> {
+    private static final int VERSION = 6;
+    private static final int VERSION_WITHOUT_EVENTS = 1;
+    private static final int VERSION_WITHOUT_STATS = 2;
+    private static final int VERSION_WITHOUT_TAGS = 3;
+    private static final int VERSION_WITHOUT_HEADER = 4;
+    private static final int VERSION_WITHOUT_STREAKS_BEFORE_TRACKED = 5;
+    private static final long INITIAL_JOURNAL_GENERATION = 0;
+    private static final int EVENT_BYTES = Long.BYTES + Integer.BYTES;
+    private static final int STATS_BYTES = 2 * Long.BYTES + 2 * Integer.BYTES
+            + HabitStats.NUM_DAYS_TRACKED * Integer.BYTES;
+    private static final int STREAKS_BEFORE_TRACKED_BYTES = Long.BYTES + 2 * Integer.BYTES;
+    private static final long NO_DAY = Long.MIN_VALUE;
+    // Days of valid events, from the start of 1970 in any time zone to the end of the year 9999
+    private static final long MIN_EPOCH_DAY = -1;
+    private static final long MAX_EPOCH_DAY = 2932896;
+    private static final String DETOKENIZE_ERROR_MESSAGE = "Detokenization failed! "
+            + "The file might be corrupted!";
+    private static final String UNSUPPORTED_VERSION_MESSAGE = "Detokenization failed! "
+            + "The habit file was saved by a newer version of WellNUS++!";
+    private long journalGeneration;
+
+    /**
+     * Construct a tokenizer for snapshots followed by the journal of generation 0, e.g. to detokenize one.
+     */
+    public AtomicHabitBinaryTokenizer() {
+        this(INITIAL_JOURNAL_GENERATION);
+    }
+
+    /**
+     * Construct a tokenizer that writes the given journal generation into the header of the snapshot.
+     *
+     * @param journalGeneration Generation of the habit journal that follows the snapshot
+     */
+    public AtomicHabitBinaryTokenizer(long journalGeneration) {
+        this.journalGeneration = journalGeneration;
+    }
+
+    /**
+     * Returns the generation of the habit journal that follows the snapshot last detokenized,
+     * or the one this tokenizer was constructed with if it has not detokenized any.
+     *
+     * @return Generation of the habit journal
+     */
+    public long getJournalGeneration() {
+        return journalGeneration;
+    }
+
+    @Override
+    public int getVersion() {
+        return VERSION;
+    }
+
+    /**
+     * Tokenize List of Atomic Habits into binary records.
+     *
+     * @param habitsToTokenize List of atomic habits to be tokenized
+     * @return ArrayList of binary records representing the habits that we can write to storage
+     */
+    @Override
+    public ArrayList<ByteBuffer> tokenize(ArrayList<AtomicHabit> habitsToTokenize) {
+        ArrayList<ByteBuffer> records = new ArrayList<>(habitsToTokenize.size() + 1);
+        records.add(tokenizeHeader());
+        for (AtomicHabit habit : habitsToTokenize) {
+            records.add(tokenizeHabit(habit));
+        }
+        return records;
+    }
+
+    /**
+     * Tokenize Atomic Habits into binary records one at a time, as Storage writes them to disk.
+     *
+     * @param habitsToTokenize Atomic habits to be tokenized
+     * @param recordSink       RecordSink that receives the record of each habit
+     * @throws StorageException When a record cannot be written to storage
+     * @throws TokenizerException When a record cannot be consumed
+     */
+    @Override
+    public void tokenize(Iterator<AtomicHabit> habitsToTokenize, RecordSink<ByteBuffer> recordSink)
+            throws StorageException, TokenizerException {
+        recordSink.accept(tokenizeHeader());
+        while (habitsToTokenize.hasNext()) {
+            recordSink.accept(tokenizeHabit(habitsToTokenize.next()));
+        }
+    }
+
+    private ByteBuffer tokenizeHeader() {
+        return ByteBuffer.allocate(Long.BYTES).putLong(journalGeneration).flip();
+    }
+
+    private ByteBuffer tokenizeHabit(AtomicHabit habit) {
+        byte[] description = habit.getDescription().getBytes(StandardCharsets.UTF_8);
+        List<String> tags = habit.getTags();
+        byte[][] tagBytes = new byte[tags.size()][];
+        int tagsLength = Integer.BYTES;
+        for (int i = 0; i < tagBytes.length; ++i) {
+            tagBytes[i] = tags.get(i).getBytes(StandardCharsets.UTF_8);
+            tagsLength += Integer.BYTES + tagBytes[i].length;
+        }
+        HabitEventHistory eventHistory = habit.getEventHistory();
+        int numEvents = eventHistory.getNumEvents();
+        ByteBuffer record = ByteBuffer.allocate(3 * Integer.BYTES + description.length + tagsLength
+                + numEvents * EVENT_BYTES + STATS_BYTES + STREAKS_BEFORE_TRACKED_BYTES);
+        record.putInt(habit.getCount()).putInt(description.length).put(description).putInt(tagBytes.length);
+        for (byte[] tag : tagBytes) {
+            record.putInt(tag.length).put(tag);
+        }
+        record.putInt(numEvents);
+        for (int i = 0; i < numEvents; ++i) {
+            record.putLong(eventHistory.getTimestamp(i));
+        }
+        for (int i = 0; i < numEvents; ++i) {
+            record.putInt(eventHistory.getDelta(i));
+        }
+        HabitStats stats = eventHistory.getStats();
+        record.putLong(stats.getLastActiveDay()).putInt(stats.getCurrentStreakAsOfLastActiveDay())
+                .putInt(stats.getLongestStreak()).putLong(stats.getLatestDay());
+        for (int slot = 0; slot < HabitStats.NUM_DAYS_TRACKED; ++slot) {
+            record.putInt(stats.getDailyTotal(slot));
+        }
+        record.putLong(stats.getLastActiveDayBeforeTracked()).putInt(stats.getStreakBeforeTracked())
+                .putInt(stats.getLongestStreakBeforeTracked());
+        record.flip();
+        return record;
+    }
+
+    /**
+     * Convert binary records of AtomicHabit back into ArrayList of AtomicHabit.
+     *
+     * @param records List of binary habit records from the storage
+     * @param version Version of the record layout the records were saved with
+     * @return ArrayList containing all the atomic habits saved in the storage
+     * @throws TokenizerException When the records can't be detokenized
+     */
+    @Override
+    public ArrayList<AtomicHabit> detokenize(ArrayList<ByteBuffer> records, int version) throws TokenizerException {
+        if (version > VERSION) {
+            throw new TokenizerException(UNSUPPORTED_VERSION_MESSAGE);
+        }
+        Iterator<ByteBuffer> recordIterator = records.iterator();
+        journalGeneration = detokenizeHeader(recordIterator, version);
+        ArrayList<AtomicHabit> habits = new ArrayList<>(records.size());
+        while (recordIterator.hasNext()) {
+            habits.add(detokenizeHabit(recordIterator.next(), version));
+        }
+        return habits;
+    }
+
+    /**
+     * Convert binary records of AtomicHabit back into AtomicHabits one at a time, as Storage reads them.
+     *
+     * @param records  Binary habit records from the storage
+     * @param version  Version of the record layout the records were saved with
+     * @param dataSink RecordSink that receives each atomic habit saved in the storage
+     * @throws StorageException When a habit cannot be consumed
+     * @throws TokenizerException When the records can't be detokenized
+     */
+    @Override
+    public void detokenize(Iterator<ByteBuffer> records, int version, RecordSink<AtomicHabit> dataSink)
+            throws StorageException, TokenizerException {
+        if (version > VERSION) {
+            throw new TokenizerException(UNSUPPORTED_VERSION_MESSAGE);
+        }
+        journalGeneration = detokenizeHeader(records, version);
+        while (records.hasNext()) {
+            dataSink.accept(detokenizeHabit(records.next(), version));
+        }
+    }
+
+    private long detokenizeHeader(Iterator<ByteBuffer> records, int version) throws TokenizerException {
+        if (version <= VERSION_WITHOUT_HEADER || !records.hasNext()) {
+            return INITIAL_JOURNAL_GENERATION;
+        }
+        ByteBuffer record = records.next();
+        if (record.remaining() != Long.BYTES) {
+            throw new TokenizerException(DETOKENIZE_ERROR_MESSAGE);
+        }
+        long generation = record.getLong();
+        if (generation < INITIAL_JOURNAL_GENERATION) {
+            throw new TokenizerException(DETOKENIZE_ERROR_MESSAGE);
+        }
+        return generation;
+    }
+
+    private AtomicHabit detokenizeHabit(ByteBuffer record, int version) throws TokenizerException {
+        try {
+            int count = record.getInt();
+            if (version == VERSION_WITHOUT_EVENTS) {
+                String description = StandardCharsets.UTF_8.decode(record).toString();
+                return validateHabit(new AtomicHabit(description, count));
+            }
+            String description = detokenizeString(record);
+            List<String> tags = version <= VERSION_WITHOUT_TAGS ? List.of() : detokenizeTags(record);
+            HabitEventHistory eventHistory = detokenizeEventHistory(record, version);
+            return validateHabit(new AtomicHabit(description, count, eventHistory, tags));
+        } catch (BufferUnderflowException bufferUnderflowException) {
+            throw new TokenizerException(DETOKENIZE_ERROR_MESSAGE);
+        }
+    }
+
+    private String detokenizeString(ByteBuffer record) throws TokenizerException {
+        int length = record.getInt();
+        if (length < 0 || length > record.remaining()) {
+            throw new TokenizerException(DETOKENIZE_ERROR_MESSAGE);
+        }
+        ByteBuffer stringBytes = record.slice().limit(length);
+        String string = StandardCharsets.UTF_8.decode(stringBytes).toString();
+        record.position(record.position() + length);
+        return string;
+    }
+
+    private List<String> detokenizeTags(ByteBuffer record) throws TokenizerException {
+        int numTags = record.getInt();
+        // Each tag takes up at least its length
+        if (numTags < 0 || numTags > record.remaining() / Integer.BYTES) {
+            throw new TokenizerException(DETOKENIZE_ERROR_MESSAGE);
+        }
+        ArrayList<String> tags = new ArrayList<>(numTags);
+        for (int i = 0; i < numTags; ++i) {
+            String tag = detokenizeString(record);
+            if (!AtomicHabit.isValidTag(tag) || !tag.equals(AtomicHabit.normalizeDescription(tag))
+                    || tags.contains(tag)) {
+                throw new TokenizerException(DETOKENIZE_ERROR_MESSAGE);
+            }
+            tags.add(tag);
+        }
+        return tags;
+    }
+
+    private HabitEventHistory detokenizeEventHistory(ByteBuffer record, int version) throws TokenizerException {
+        int numEvents = record.getInt();
+        int eventsBytes = record.remaining() - getStatsBytes(version);
+        // The events, and the analytics if any, must take up exactly the rest of the record
+        if (numEvents < 0 || eventsBytes < 0 || numEvents != eventsBytes / EVENT_BYTES
+                || eventsBytes % EVENT_BYTES != 0) {
+            throw new TokenizerException(DETOKENIZE_ERROR_MESSAGE);
+        }
+        long[] timestamps = new long[numEvents];
+        int[] deltas = new int[numEvents];
+        record.asLongBuffer().get(timestamps);
+        record.position(record.position() + numEvents * Long.BYTES);
+        record.asIntBuffer().get(deltas);
+        record.position(record.position() + numEvents * Integer.BYTES);
+        if (!HabitEventHistory.isSorted(timestamps)
+                || (numEvents > 0 && !HabitEventHistory.isValidTimestamp(timestamps[0]))
+                || (numEvents > 0 && !HabitEventHistory.isValidTimestamp(timestamps[numEvents - 1]))) {
+            throw new TokenizerException(DETOKENIZE_ERROR_MESSAGE);
+        }
+        if (version == VERSION_WITHOUT_STATS) {
+            return new HabitEventHistory(timestamps, deltas);
+        }
+        return new HabitEventHistory(timestamps, deltas, detokenizeStats(record, version));
+    }
+
+    private int getStatsBytes(int version) {
+        if (version == VERSION_WITHOUT_STATS) {
+            return 0;
+        }
+        return version <= VERSION_WITHOUT_STREAKS_BEFORE_TRACKED ? STATS_BYTES
+                : STATS_BYTES + STREAKS_BEFORE_TRACKED_BYTES;
+    }
+
+    private HabitStats detokenizeStats(ByteBuffer record, int version) throws TokenizerException {
+        long lastActiveDay = record.getLong();
+        int currentStreak = record.getInt();
+        int longestStreak = record.getInt();
+        long latestDay = record.getLong();
+        int[] dailyTotals = new int[HabitStats.NUM_DAYS_TRACKED];
+        record.asIntBuffer().get(dailyTotals);
+        record.position(record.position() + HabitStats.NUM_DAYS_TRACKED * Integer.BYTES);
+        if (!isValidDay(lastActiveDay) || !isValidDay(latestDay) || currentStreak < 0
+                || currentStreak > longestStreak) {
+            throw new TokenizerException(DETOKENIZE_ERROR_MESSAGE);
+        }
+        if (latestDay == NO_DAY && lastActiveDay == NO_DAY && longestStreak == 0) {
+            // Analytics of a habit that was never updated, which need no daily totals
+            return new HabitStats();
+        }
+        if (version <= VERSION_WITHOUT_STREAKS_BEFORE_TRACKED) {
+            return new HabitStats(lastActiveDay, currentStreak, longestStreak, latestDay, dailyTotals);
+        }
+        long lastActiveDayBeforeTracked = record.getLong();
+        int streakBeforeTracked = record.getInt();
+        int longestStreakBeforeTracked = record.getInt();
+        if (!isValidDay(lastActiveDayBeforeTracked) || streakBeforeTracked < 0
+                || streakBeforeTracked > longestStreakBeforeTracked || longestStreakBeforeTracked > longestStreak) {
+            throw new TokenizerException(DETOKENIZE_ERROR_MESSAGE);
+        }
+        return new HabitStats(lastActiveDay, currentStreak, longestStreak, latestDay, dailyTotals,
+                lastActiveDayBeforeTracked, streakBeforeTracked, longestStreakBeforeTracked);
+    }
+
+    private boolean isValidDay(long epochDay) {
+        return epochDay == NO_DAY || (epochDay >= MIN_EPOCH_DAY && epochDay <= MAX_EPOCH_DAY);
+    }
+
+    private AtomicHabit validateHabit(AtomicHabit habit) throws TokenizerException {
+        if (habit.getDescription().isBlank() || habit.getCount() < 0) {
+            throw new TokenizerException(DETOKENIZE_ERROR_MESSAGE);
+        }
+        return habit;
+    }
+}
@@ -1,90 +1,194 @@
 package wellnus.storage;
 
 import java.util.ArrayList;
-import java.util.Arrays;
-import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
 
 import wellnus.atomichabit.feature.AtomicHabit;
+import wellnus.atomichabit.feature.HabitEventHistory;
+import wellnus.exception.StorageException;
 import wellnus.exception.TokenizerException;
 
 /**
  * Class to tokenize and detokenize the AtomicHabit list. <br>
+ * <p>
+ * Tokenized habits are parsed in a single pass over their characters, without splitting them into
+ * intermediate strings, so that large habit files load quickly. <br>
+ * <p>
+ * Journal records of count updates also hold the time and change of the update, so that the habit's
+ * event history can be rebuilt when the journal is replayed. <br>
+ * <p>
+ * Habits with tags also hold a <code>--tags</code> parameter with the tags separated by commas, which
+ * habits without tags leave out.
  */
 public class AtomicHabitTokenizer implements Tokenizer<AtomicHabit> {
+    public static final String JOURNAL_ADD = "add";
+    public static final String JOURNAL_UPDATE = "update";
+    public static final String JOURNAL_DELETE = "delete";
     private static final String DESCRIPTION_KEY = "description";
     private static final String COUNT_KEY = "count";
+    private static final String TAGS_KEY = "tags";
+    private static final String TIME_KEY = "time";
+    private static final String DELTA_KEY = "delta";
     private static final String PARAMETER_DELIMITER = "--";
     private static final String DETOKENIZE_ERROR_MESSAGE = "Detokenization failed! "
             + "The file might be corrupted!";
     private static final int INDEX_ZERO = 0;
-    private static final int INDEX_FIRST = 1;
-    private static final int NUM_ATOMIC_HABIT_PARAMETER = 2;
+    private static final int RADIX_DECIMAL = 10;
+    private static final int NOT_FOUND = -1;
 
-    private String[] splitTokenizedHabitIntoParameter(String tokenizedHabit) {
-        tokenizedHabit = tokenizedHabit.strip();
-        int noLimit = -1;
-        String[] rawStrings = tokenizedHabit.split(PARAMETER_DELIMITER, noLimit);
-        rawStrings = Arrays.copyOfRange(rawStrings, INDEX_FIRST, rawStrings.length);
-        String[] cleanString = new String[rawStrings.length];
-        for (int i = 0; i < rawStrings.length; ++i) {
-            String currentCommand = rawStrings[i];
-            currentCommand = currentCommand.strip();
-            cleanString[i] = currentCommand;
+    /**
+     * Holds the time and change in count parsed from a journal record of a count update.
+     */
+    private static class JournalEvent {
+        private Long epochSecond;
+        private Integer delta;
+
+        private boolean isComplete() {
+            return epochSecond != null && delta != null;
         }
-        return cleanString;
-    }
 
-    private String convertToBase(String habitName) {
-        return habitName.toLowerCase().replaceAll("\\s", "");
+        private boolean isEmpty() {
+            return epochSecond == null && delta == null;
+        }
     }
 
     private ArrayList<AtomicHabit> removeDuplicatedHabits(ArrayList<AtomicHabit> uncheckedAtomicHabits) {
-        HashMap<String, AtomicHabit> uniqueHabits = new HashMap<>();
+        // LinkedHashMap keeps the saved order, which the journal relies on to keep habit indexes stable
+        LinkedHashMap<String, AtomicHabit> uniqueHabits = new LinkedHashMap<>();
         for (AtomicHabit habit : uncheckedAtomicHabits) {
-            String description = convertToBase(habit.getDescription());
-            if (!uniqueHabits.containsKey(description)) {
-                uniqueHabits.put(description, habit);
-            }
+            uniqueHabits.putIfAbsent(habit.getNormalizedDescription(), habit);
         }
         ArrayList<AtomicHabit> cleanHabits = new ArrayList<>(uniqueHabits.values());
         return cleanHabits;
     }
 
     private AtomicHabit parseTokenizedHabit(String tokenizedHabit) throws TokenizerException {
-        HashMap<String, String> parameterHashMap = new HashMap<>();
-        String[] parameterStrings = splitTokenizedHabitIntoParameter(tokenizedHabit);
-        try {
-            for (String parameterString : parameterStrings) {
-                int i = parameterString.indexOf(' ');
-                String parameterKey = parameterString.substring(INDEX_ZERO, i);
-                String parameterValue = parameterString.substring(i).trim();
-                parameterHashMap.put(parameterKey, parameterValue);
+        return parseTokenizedHabit(tokenizedHabit, INDEX_ZERO, null);
+    }
+
+    /**
+     * Parse a tokenized habit from the given index onwards, scanning its characters once. <br>
+     * Anything before the first parameter delimiter is ignored. Every parameter must be a key followed by
+     * a space and a value, and there must be exactly a description and a count parameter, optionally
+     * followed by the habit's tags. <br>
+     * When an event is given, the time and delta parameters of a journal record are also accepted and
+     * parsed into it.
+     *
+     * @param tokenizedHabit String holding the tokenized habit
+     * @param startIndex     Index to start parsing from
+     * @param event          JournalEvent to hold the time and delta parameters, or null if they are not allowed
+     * @return AtomicHabit described by the parameters
+     * @throws TokenizerException When a parameter is malformed, unknown or missing
+     */
+    private AtomicHabit parseTokenizedHabit(String tokenizedHabit, int startIndex, JournalEvent event)
+            throws TokenizerException {
+        String description = null;
+        Integer count = null;
+        List<String> tags = List.of();
+        int parameterStart = tokenizedHabit.indexOf(PARAMETER_DELIMITER, startIndex);
+        while (parameterStart != NOT_FOUND) {
+            int keyStart = parameterStart + PARAMETER_DELIMITER.length();
+            int nextParameterStart = tokenizedHabit.indexOf(PARAMETER_DELIMITER, keyStart);
+            int parameterEnd = nextParameterStart == NOT_FOUND ? tokenizedHabit.length() : nextParameterStart;
+            while (keyStart < parameterEnd && Character.isWhitespace(tokenizedHabit.charAt(keyStart))) {
+                keyStart++;
+            }
+            while (parameterEnd > keyStart && Character.isWhitespace(tokenizedHabit.charAt(parameterEnd - 1))) {
+                parameterEnd--;
+            }
+            int keyEnd = tokenizedHabit.indexOf(' ', keyStart);
+            if (keyEnd == NOT_FOUND || keyEnd >= parameterEnd) {
+                throw new TokenizerException(DETOKENIZE_ERROR_MESSAGE);
+            }
+            int valueStart = keyEnd;
+            while (valueStart < parameterEnd && tokenizedHabit.charAt(valueStart) <= ' ') {
+                valueStart++;
+            }
+            if (isKey(tokenizedHabit, keyStart, keyEnd, DESCRIPTION_KEY)) {
+                description = tokenizedHabit.substring(valueStart, parameterEnd);
+            } else if (isKey(tokenizedHabit, keyStart, keyEnd, COUNT_KEY)) {
+                count = parseInt(tokenizedHabit, valueStart, parameterEnd);
+            } else if (isKey(tokenizedHabit, keyStart, keyEnd, TAGS_KEY)) {
+                tags = parseTags(tokenizedHabit.substring(valueStart, parameterEnd));
+            } else if (event != null && isKey(tokenizedHabit, keyStart, keyEnd, TIME_KEY)) {
+                event.epochSecond = parseLong(tokenizedHabit, valueStart, parameterEnd);
+            } else if (event != null && isKey(tokenizedHabit, keyStart, keyEnd, DELTA_KEY)) {
+                event.delta = parseInt(tokenizedHabit, valueStart, parameterEnd);
+            } else {
+                throw new TokenizerException(DETOKENIZE_ERROR_MESSAGE);
             }
-        } catch (StringIndexOutOfBoundsException stringIndexOutOfBoundsException) {
+            parameterStart = nextParameterStart;
+        }
+        if (description == null || count == null) {
             throw new TokenizerException(DETOKENIZE_ERROR_MESSAGE);
         }
-        if ((!parameterHashMap.containsKey(DESCRIPTION_KEY) || !parameterHashMap.containsKey(COUNT_KEY))
-                && !parameterHashMap.isEmpty()) {
+        return new AtomicHabit(description, count, new HabitEventHistory(), tags);
+    }
+
+    private List<String> parseTags(String tagList) throws TokenizerException {
+        List<String> tags = AtomicHabit.parseTags(tagList);
+        for (String tag : tags) {
+            if (!AtomicHabit.isValidTag(tag)) {
+                throw new TokenizerException(DETOKENIZE_ERROR_MESSAGE);
+            }
+        }
+        return tags;
+    }
+
+    private boolean isKey(String tokenizedHabit, int keyStart, int keyEnd, String key) {
+        return keyEnd - keyStart == key.length() && tokenizedHabit.startsWith(key, keyStart);
+    }
+
+    private int parseInt(String tokenizedHabit, int valueStart, int valueEnd) throws TokenizerException {
+        long value = parseLong(tokenizedHabit, valueStart, valueEnd);
+        if (value < Integer.MIN_VALUE || value > Integer.MAX_VALUE) {
             throw new TokenizerException(DETOKENIZE_ERROR_MESSAGE);
         }
-        if (parameterHashMap.size() != NUM_ATOMIC_HABIT_PARAMETER) {
+        return (int) value;
+    }
+
+    /**
+     * Parse the number between the given indexes in place, accepting the same values as Long.parseLong.
+     *
+     * @param tokenizedHabit String holding the tokenized habit
+     * @param valueStart     Index of the first character of the number
+     * @param valueEnd       Index after the last character of the number
+     * @return long value of the number
+     * @throws TokenizerException When the number is not a valid long
+     */
+    private long parseLong(String tokenizedHabit, int valueStart, int valueEnd) throws TokenizerException {
+        if (valueStart == valueEnd) {
             throw new TokenizerException(DETOKENIZE_ERROR_MESSAGE);
         }
-        String description = parameterHashMap.get(DESCRIPTION_KEY);
-        String countString = parameterHashMap.get(COUNT_KEY);
-        try {
-            int count = Integer.parseInt(countString);
-            AtomicHabit parsedHabit = new AtomicHabit(description, count);
-            return parsedHabit;
-        } catch (NumberFormatException numberFormatException) {
+        int i = valueStart;
+        char sign = tokenizedHabit.charAt(i);
+        boolean isNegative = sign == '-';
+        if (isNegative || sign == '+') {
+            i++;
+        }
+        if (i == valueEnd) {
             throw new TokenizerException(DETOKENIZE_ERROR_MESSAGE);
         }
+        // Accumulate negatively, as Long.MIN_VALUE has no positive counterpart
+        long limit = isNegative ? Long.MIN_VALUE : -Long.MAX_VALUE;
+        long value = 0;
+        for (; i < valueEnd; ++i) {
+            int digit = Character.digit(tokenizedHabit.charAt(i), RADIX_DECIMAL);
+            if (digit < 0 || value < limit / RADIX_DECIMAL || value * RADIX_DECIMAL < limit + digit) {
+                throw new TokenizerException(DETOKENIZE_ERROR_MESSAGE);
+            }
+            value = value * RADIX_DECIMAL - digit;
+        }
+        return isNegative ? value : -value;
     }
 
     /**
      * Tokenize List of Atomic Habits to be saved as ArrayList of Strings. <br>
      * Each habit will be tokenized with the following format:
-     * --description [description of habit] --count [count of habit]. <br>
+     * --description [description of habit] --count [count of habit] [--tags [tags of habit]]. <br>
      *
      * @param habitsToTokenize List of atomic habits to be tokenized as ArrayList of strings.
      * @return ArrayList of Strings representing the tokenized habits that we can write to storage.
@@ -92,15 +196,142 @@ public class AtomicHabitTokenizer implements Tokenizer<AtomicHabit> {
     public ArrayList<String> tokenize(ArrayList<AtomicHabit> habitsToTokenize) {
         ArrayList<String> tokenizedHabits = new ArrayList<>();
         for (AtomicHabit habit : habitsToTokenize) {
-            String tokenizedHabit = PARAMETER_DELIMITER + DESCRIPTION_KEY
-                    + " " + habit.getDescription()
-                    + " " + PARAMETER_DELIMITER + COUNT_KEY
-                    + " " + habit.getCount();
-            tokenizedHabits.add(tokenizedHabit);
+            tokenizedHabits.add(tokenizeHabit(habit));
         }
         return tokenizedHabits;
     }
 
+    private String tokenizeHabit(AtomicHabit habit) {
+        String tokenizedHabit = PARAMETER_DELIMITER + DESCRIPTION_KEY
+                + " " + habit.getDescription()
+                + " " + PARAMETER_DELIMITER + COUNT_KEY
+                + " " + habit.getCount();
+        if (habit.getTags().isEmpty()) {
+            return tokenizedHabit;
+        }
+        return tokenizedHabit
+                + " " + PARAMETER_DELIMITER + TAGS_KEY
+                + " " + String.join(AtomicHabit.TAG_DELIMITER, habit.getTags());
+    }
+
+    /**
+     * Tokenize a single mutation of an AtomicHabit as a journal record. <br>
+     * Each record has the following format:
+     * [operation] --description [description of habit] --count [count of habit]. <br>
+     * Records hold the habit's full state after the mutation, so replaying a record more than once is harmless.
+     *
+     * @param operation One of JOURNAL_ADD, JOURNAL_UPDATE or JOURNAL_DELETE
+     * @param habit     The habit that was mutated
+     * @return String representing the journal record
+     */
+    public String tokenizeJournalEntry(String operation, AtomicHabit habit) {
+        return operation + " " + tokenizeHabit(habit);
+    }
+
+    /**
+     * Tokenize an update to the count of an AtomicHabit as a journal record. <br>
+     * Each record has the following format:
+     * update --description [description of habit] --count [count of habit]
+     * --time [time of update in epoch seconds] --delta [change in count]. <br>
+     *
+     * @param habit       The habit whose count was updated
+     * @param epochSecond Time of the update in epoch seconds
+     * @param delta       Change in count, negative for decrements
+     * @return String representing the journal record
+     */
+    public String tokenizeJournalEntry(AtomicHabit habit, long epochSecond, int delta) {
+        return tokenizeJournalEntry(JOURNAL_UPDATE, habit)
+                + " " + PARAMETER_DELIMITER + TIME_KEY
+                + " " + epochSecond
+                + " " + PARAMETER_DELIMITER + DELTA_KEY
+                + " " + delta;
+    }
+
+    /**
+     * Replay journal records on top of the habits loaded from the last snapshot. <br>
+     * Added habits are placed at the back of the list, updated habits keep their position
+     * and deleted habits are removed.
+     *
+     * @param snapshotHabits List of habits detokenized from the snapshot
+     * @param journalEntries List of journal records in the order they were appended
+     * @return ArrayList containing the habits after every record has been applied
+     * @throws TokenizerException When a journal record can't be detokenized.
+     */
+    public ArrayList<AtomicHabit> replayJournal(ArrayList<AtomicHabit> snapshotHabits,
+            ArrayList<String> journalEntries) throws TokenizerException {
+        LinkedHashMap<String, AtomicHabit> replayedHabits = new LinkedHashMap<>();
+        for (AtomicHabit habit : snapshotHabits) {
+            replaySnapshotHabit(replayedHabits, habit);
+        }
+        for (String journalEntry : journalEntries) {
+            replayJournalEntry(replayedHabits, journalEntry);
+        }
+        return new ArrayList<>(replayedHabits.values());
+    }
+
+    /**
+     * Add a habit loaded from the snapshot to the habits being replayed, unless a habit with the same
+     * description was loaded before it. <br>
+     * Together with <code>replayJournalEntry()</code>, this lets the snapshot and journal be replayed
+     * one record at a time as Storage reads them.
+     *
+     * @param replayedHabits Habits replayed so far, keyed by their normalized description
+     * @param habit          Habit detokenized from the snapshot
+     */
+    public void replaySnapshotHabit(LinkedHashMap<String, AtomicHabit> replayedHabits, AtomicHabit habit) {
+        replayedHabits.putIfAbsent(habit.getNormalizedDescription(), habit);
+    }
+
+    /**
+     * Apply one journal record to the habits being replayed. <br>
+     * An update record with a time and delta adds its event to the history of the habit. Records already
+     * covered by the snapshot must not be replayed, which <code>Journal</code> ensures with its generations.
+     *
+     * @param replayedHabits Habits replayed so far, keyed by their normalized description
+     * @param journalEntry   Journal record to apply
+     * @throws TokenizerException When the journal record can't be detokenized.
+     */
+    public void replayJournalEntry(LinkedHashMap<String, AtomicHabit> replayedHabits, String journalEntry)
+            throws TokenizerException {
+        String strippedEntry = journalEntry.strip();
+        int operationEnd = strippedEntry.indexOf(' ');
+        if (operationEnd < INDEX_ZERO) {
+            throw new TokenizerException(DETOKENIZE_ERROR_MESSAGE);
+        }
+        String operation = strippedEntry.substring(INDEX_ZERO, operationEnd);
+        JournalEvent event = new JournalEvent();
+        AtomicHabit habit = parseTokenizedHabit(strippedEntry, operationEnd, event);
+        String habitKey = habit.getNormalizedDescription();
+        if (!event.isEmpty() && (!event.isComplete() || !operation.equals(JOURNAL_UPDATE)
+                || !HabitEventHistory.isValidTimestamp(event.epochSecond))) {
+            throw new TokenizerException(DETOKENIZE_ERROR_MESSAGE);
+        }
+        switch (operation) {
+        case JOURNAL_ADD:
+            replayedHabits.put(habitKey, habit);
+            break;
+        case JOURNAL_UPDATE:
+            replayedHabits.put(habitKey, replayUpdate(replayedHabits.get(habitKey), habit, event));
+            break;
+        case JOURNAL_DELETE:
+            replayedHabits.remove(habitKey);
+            break;
+        default:
+            throw new TokenizerException(DETOKENIZE_ERROR_MESSAGE);
+        }
+    }
+
+    private AtomicHabit replayUpdate(AtomicHabit previousHabit, AtomicHabit updatedHabit, JournalEvent event) {
+        HabitEventHistory eventHistory = previousHabit == null
+                ? updatedHabit.getEventHistory()
+                : previousHabit.getEventHistory();
+        if (event.isComplete()) {
+            eventHistory.record(event.epochSecond, event.delta);
+        }
+        return new AtomicHabit(updatedHabit.getDescription(), updatedHabit.getCount(), eventHistory,
+                updatedHabit.getTags());
+    }
+
     /**
      * Convert strings of tokenized AtomicHabit into ArrayList of AtomicHabit. <br>
      * This method can be called in the constructor of AtomicHabitManager to detokenize.
@@ -121,4 +352,29 @@ public class AtomicHabitTokenizer implements Tokenizer<AtomicHabit> {
         detokenizedAtomicHabits = removeDuplicatedHabits(detokenizedAtomicHabits);
         return detokenizedAtomicHabits;
     }
+
+    /**
+     * Convert tokenized AtomicHabits into AtomicHabits one at a time, as Storage reads them. <br>
+     * Blank records are skipped and only the first habit with each description is passed on.
+     *
+     * @param tokenizedAtomicHabits Tokenized atomic habit strings from the storage.
+     * @param dataSink              RecordSink that receives each unique atomic habit saved in the storage.
+     * @throws StorageException When a habit cannot be consumed.
+     * @throws TokenizerException When the data can't be detokenized.
+     */
+    @Override
+    public void detokenize(Iterator<String> tokenizedAtomicHabits, RecordSink<AtomicHabit> dataSink)
+            throws StorageException, TokenizerException {
+        HashSet<String> seenDescriptions = new HashSet<>();
+        while (tokenizedAtomicHabits.hasNext()) {
+            String tokenizedString = tokenizedAtomicHabits.next();
+            if (tokenizedString.isBlank()) {
+                continue;
+            }
+            AtomicHabit parsedHabit = parseTokenizedHabit(tokenizedString);
+            if (seenDescriptions.add(parsedHabit.getNormalizedDescription())) {
+                dataSink.accept(parsedHabit);
+            }
+        }
+    }
 }
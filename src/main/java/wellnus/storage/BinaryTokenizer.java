@@ -0,0 +1,87 @@
+package wellnus.storage;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Iterator;
+
+import wellnus.exception.StorageException;
+import wellnus.exception.TokenizerException;
+
+/**
+ * Template for Tokenizers in WellNUS++ that convert Managers into compact binary records(for storage)
+ *     and binary records(from storage) back into Managers with the previously saved state.<br/>
+ *
+ * This fills the same role as <code>Tokenizer</code>, but each record is a ByteBuffer instead of a String,
+ *     so detokenizing needs no splitting or parsing of text. Storage takes care of the file header and
+ *     of prefixing every record with its length.<br/>
+ *
+ * Example of how to implement this in a feature: <code>public class AtomicHabitBinaryTokenizer
+ *     implements BinaryTokenizer&lt;AtomicHabit&gt;</code>.
+ * @param <T> Data type of the corresponding feature, e.g. <code>AtomicHabit</code>
+ *     the atomic habit feature
+ */
+public interface BinaryTokenizer<T> {
+    /**
+     * Returns the version of the record layout written by <code>tokenize()</code>.
+     * Storage saves this version in the file header and hands it back to <code>detokenize()</code>.
+     * @return Version of the record layout, starting from 1
+     */
+    int getVersion();
+
+    /**
+     * Converts the given data objects into binary records to be saved to storage.
+     * @param dataObjects List of Objects which represent data we want to convert into binary records
+     * @return ArrayList of ByteBuffers, each ready to be read from its position to its limit
+     */
+    ArrayList<ByteBuffer> tokenize(ArrayList<T> dataObjects);
+
+    /**
+     * Streaming variant of <code>tokenize()</code> that passes every record on to <code>recordSink</code> as soon
+     *     as it is converted, so that Storage can write it to disk before the next one is created.<br/>
+     *
+     * The default implementation converts the whole list with <code>tokenize()</code> first.
+     *     Tokenizers with independent records should override it.
+     * @param dataObjects Objects which represent data we want to convert into binary records
+     * @param recordSink RecordSink that receives each record, ready to be read from its position to its limit
+     * @throws StorageException If recordSink cannot write a record to storage
+     * @throws TokenizerException If a data object cannot be converted into a record
+     */
+    default void tokenize(Iterator<T> dataObjects, RecordSink<ByteBuffer> recordSink)
+            throws StorageException, TokenizerException {
+        ArrayList<T> collectedDataObjects = new ArrayList<>();
+        dataObjects.forEachRemaining(collectedDataObjects::add);
+        for (ByteBuffer record : tokenize(collectedDataObjects)) {
+            recordSink.accept(record);
+        }
+    }
+
+    /**
+     * Converts binary records back into an <code>ArrayList</code> of the feature's data type class.
+     * @param records Binary records of the Data Objects whose state we want to restore
+     * @param version Version of the record layout the records were saved with
+     * @return ArrayList containing all the data from the Manager's previously saved state
+     * @throws TokenizerException If the version is unsupported or the records are malformed
+     */
+    ArrayList<T> detokenize(ArrayList<ByteBuffer> records, int version) throws TokenizerException;
+
+    /**
+     * Streaming variant of <code>detokenize()</code> that converts the records as Storage reads them and passes
+     *     every data object on to <code>dataSink</code>.<br/>
+     *
+     * The default implementation collects every record and calls <code>detokenize()</code>, which suits
+     *     tokenizers whose records depend on each other. Tokenizers with independent records should override it.
+     * @param records Binary records of the Data Objects, in the order they were saved
+     * @param version Version of the record layout the records were saved with
+     * @param dataSink RecordSink that receives each restored data object
+     * @throws StorageException If dataSink cannot write a data object
+     * @throws TokenizerException If the version is unsupported or the records are malformed
+     */
+    default void detokenize(Iterator<ByteBuffer> records, int version, RecordSink<T> dataSink)
+            throws StorageException, TokenizerException {
+        ArrayList<ByteBuffer> collectedRecords = new ArrayList<>();
+        records.forEachRemaining(collectedRecords::add);
+        for (T dataObject : detokenize(collectedRecords, version)) {
+            dataSink.accept(dataObject);
+        }
+    }
+}
@@ -0,0 +1,117 @@
+package wellnus.storage;
+
+import java.util.ArrayList;
+
+import wellnus.atomichabit.feature.HabitEventHistory;
+import wellnus.atomichabit.feature.HabitReminder;
+import wellnus.exception.TokenizerException;
+
+/**
+ * Class to tokenize and detokenize the habit reminders. <br>
+ * <p>
+ * Each reminder is stored as its habit, its schedule and the time it is next due, e.g.
+ * <code>--habit read a book --daily 07:30 --next 1700000000</code> or
+ * <code>--habit drink water --every 2 --next 1700000000</code>.
+ */
+public class HabitReminderTokenizer implements Tokenizer<HabitReminder> {
+    private static final String HABIT_KEY = "habit";
+    private static final String NEXT_KEY = "next";
+    private static final String PARAMETER_DELIMITER = "--";
+    private static final String TOKENIZED_REMINDER_FORMAT = "--" + HABIT_KEY + " %s --%s %s --" + NEXT_KEY + " %d";
+    private static final String DETOKENIZE_ERROR_MESSAGE = "Detokenization failed! "
+            + "The reminder file might be corrupted!";
+    private static final int NOT_FOUND = -1;
+
+    /**
+     * Tokenizes the reminders into Strings that can be written to storage.
+     *
+     * @param reminders HabitReminders to tokenize
+     * @return ArrayList of Strings, one per reminder
+     */
+    @Override
+    public ArrayList<String> tokenize(ArrayList<HabitReminder> reminders) {
+        ArrayList<String> tokenizedReminders = new ArrayList<>(reminders.size());
+        for (HabitReminder reminder : reminders) {
+            String period = HabitReminder.TYPE_DAILY.equals(reminder.getType())
+                    ? HabitReminder.formatMinuteOfDay(reminder.getPeriod())
+                    : String.valueOf(reminder.getPeriod());
+            tokenizedReminders.add(String.format(TOKENIZED_REMINDER_FORMAT, reminder.getHabitDescription(),
+                    reminder.getType(), period, reminder.getNextDueEpochSecond()));
+        }
+        return tokenizedReminders;
+    }
+
+    /**
+     * Detokenizes reminders read from storage, skipping blank entries, e.g. of a file saved without reminders.
+     *
+     * @param tokenizedReminders Tokenized reminders, one per String
+     * @return ArrayList of HabitReminders
+     * @throws TokenizerException When a reminder is malformed or has an invalid schedule
+     */
+    @Override
+    public ArrayList<HabitReminder> detokenize(ArrayList<String> tokenizedReminders) throws TokenizerException {
+        ArrayList<HabitReminder> reminders = new ArrayList<>(tokenizedReminders.size());
+        for (String tokenizedReminder : tokenizedReminders) {
+            if (tokenizedReminder.isBlank()) {
+                continue;
+            }
+            reminders.add(parseTokenizedReminder(tokenizedReminder));
+        }
+        return reminders;
+    }
+
+    private HabitReminder parseTokenizedReminder(String tokenizedReminder) throws TokenizerException {
+        String habitDescription = null;
+        String type = null;
+        String period = null;
+        String nextDue = null;
+        for (String parameter : tokenizedReminder.split(PARAMETER_DELIMITER)) {
+            parameter = parameter.strip();
+            if (parameter.isEmpty()) {
+                continue;
+            }
+            int keyEnd = parameter.indexOf(' ');
+            if (keyEnd == NOT_FOUND) {
+                throw new TokenizerException(DETOKENIZE_ERROR_MESSAGE);
+            }
+            String key = parameter.substring(0, keyEnd);
+            String value = parameter.substring(keyEnd + 1).strip();
+            if (key.equals(HABIT_KEY)) {
+                habitDescription = value;
+            } else if (key.equals(NEXT_KEY)) {
+                nextDue = value;
+            } else if (HabitReminder.isValidType(key) && type == null) {
+                type = key;
+                period = value;
+            } else {
+                throw new TokenizerException(DETOKENIZE_ERROR_MESSAGE);
+            }
+        }
+        if (habitDescription == null || habitDescription.isEmpty() || type == null || nextDue == null) {
+            throw new TokenizerException(DETOKENIZE_ERROR_MESSAGE);
+        }
+        int parsedPeriod = parsePeriod(type, period);
+        long nextDueEpochSecond;
+        try {
+            nextDueEpochSecond = Long.parseLong(nextDue);
+        } catch (NumberFormatException numberFormatException) {
+            throw new TokenizerException(DETOKENIZE_ERROR_MESSAGE);
+        }
+        if (!HabitReminder.isValidPeriod(type, parsedPeriod)
+                || !HabitEventHistory.isValidTimestamp(nextDueEpochSecond)) {
+            throw new TokenizerException(DETOKENIZE_ERROR_MESSAGE);
+        }
+        return new HabitReminder(habitDescription, type, parsedPeriod, nextDueEpochSecond);
+    }
+
+    private int parsePeriod(String type, String period) throws TokenizerException {
+        if (HabitReminder.TYPE_DAILY.equals(type)) {
+            return HabitReminder.parseMinuteOfDay(period);
+        }
+        try {
+            return Integer.parseInt(period);
+        } catch (NumberFormatException numberFormatException) {
+            throw new TokenizerException(DETOKENIZE_ERROR_MESSAGE);
+        }
+    }
+}
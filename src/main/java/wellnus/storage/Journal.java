@@ -0,0 +1,182 @@
+package wellnus.storage;
+
+import java.util.ArrayList;
+
+import wellnus.exception.StorageException;
+import wellnus.exception.TokenizerException;
+
+/**
+ * Journal is an append-only log of small tokenized records that sits on top of a feature's snapshot file. <br>
+ * <p>
+ * Instead of rewriting its whole snapshot after every change, a feature appends one record per mutation
+ * to its journal with <code>append()</code>, so the cost of a save is proportional to the change and not to
+ * the size of the data. <br>
+ * <p>
+ * On load, the feature replays <code>loadEntries()</code> over its snapshot, either as a list or one record at a time
+ * through a RecordSink. Once <code>isCompactionDue()</code>
+ * returns true, the feature should write a fresh snapshot and call <code>clear()</code> so that the journal
+ * (and the time taken to replay it) stays bounded. <br>
+ * <p>
+ * Every cleared journal starts with a record holding its generation, which is one more than that of the journal
+ * before it, and the feature saves the generation of the journal that follows each snapshot in the snapshot.
+ * If WellNUS++ stops after a snapshot is written but before the journal is cleared, the journal left behind is
+ * of an older generation than the snapshot and its records, which the snapshot already covers, are skipped
+ * on load. Journals written before generations were introduced are of generation 0.
+ */
+public class Journal {
+    private static final String ASSERT_STORAGE_NOT_NULL = "storage should not be null!";
+    private static final String ASSERT_LIST_NOT_NULL = "list input should not be null!";
+    private static final String ASSERT_THRESHOLD_POSITIVE = "compactionThreshold should be positive!";
+    private static final int NO_ENTRIES = 0;
+    private static final String GENERATION_PREFIX = "--generation ";
+    private static final String DETOKENIZE_ERROR_MESSAGE = "Detokenization failed! "
+            + "The journal's generation might be corrupted!";
+    private static final long INITIAL_GENERATION = 0;
+    private final Storage storage;
+    private final String fileName;
+    private final int compactionThreshold;
+    private int numEntries;
+    private long generation;
+    // Set when the journal on disk is older than the snapshot, so it must be cleared before appending to it
+    private boolean isClearDue;
+
+    /**
+     * Construct a Journal that appends its records to the given registered file.
+     *
+     * @param storage             Storage used to read and write the journal file
+     * @param fileName            name of the journal file, from the public constant Storage.FILE_[name]
+     * @param compactionThreshold number of records after which the journal should be compacted
+     */
+    public Journal(Storage storage, String fileName, int compactionThreshold) {
+        assert storage != null : ASSERT_STORAGE_NOT_NULL;
+        assert compactionThreshold > NO_ENTRIES : ASSERT_THRESHOLD_POSITIVE;
+        this.storage = storage;
+        this.fileName = fileName;
+        this.compactionThreshold = compactionThreshold;
+        this.numEntries = NO_ENTRIES;
+        this.generation = INITIAL_GENERATION;
+        this.isClearDue = false;
+    }
+
+    /**
+     * Append the given tokenized records to the end of the journal file.
+     *
+     * @param tokenizedEntries records to append, in the order they happened
+     * @throws StorageException when the journal file cannot be written
+     */
+    public void append(ArrayList<String> tokenizedEntries) throws StorageException {
+        assert tokenizedEntries != null : ASSERT_LIST_NOT_NULL;
+        if (tokenizedEntries.isEmpty()) {
+            return;
+        }
+        if (isClearDue) {
+            clear(generation);
+        }
+        storage.appendData(tokenizedEntries, fileName);
+        numEntries += tokenizedEntries.size();
+    }
+
+    /**
+     * Load every record currently in the journal, skipping blank entries.
+     *
+     * @return ArrayList of tokenized records in the order they were appended
+     * @throws StorageException when the journal file cannot be read
+     * @throws TokenizerException when the generation of the journal is corrupted
+     */
+    public ArrayList<String> loadEntries() throws StorageException, TokenizerException {
+        ArrayList<String> journalEntries = new ArrayList<>();
+        loadEntries(INITIAL_GENERATION, journalEntries::add);
+        return journalEntries;
+    }
+
+    /**
+     * Stream every record currently in the journal to the given RecordSink, skipping blank entries.
+     * Only one record is held in memory at a time, however long the journal has grown. <br>
+     * If the journal is of an older generation than the given one, none of its records are passed on, and
+     * the journal is cleared before anything is next appended to it.
+     *
+     * @param snapshotGeneration generation of the journal that follows the snapshot the records are replayed on
+     * @param entrySink          RecordSink that receives each tokenized record in the order it was appended
+     * @throws StorageException   when the journal file cannot be read
+     * @throws TokenizerException when the entrySink cannot detokenize a record, or the generation is corrupted
+     */
+    public void loadEntries(long snapshotGeneration, RecordSink<String> entrySink)
+            throws StorageException, TokenizerException {
+        int[] numEntriesLoaded = new int[1];
+        long[] loadedGeneration = {INITIAL_GENERATION};
+        boolean[] isFirstEntry = {true};
+        storage.loadData(fileName, entry -> {
+            if (entry.isBlank()) {
+                return;
+            }
+            if (isFirstEntry[0] && entry.startsWith(GENERATION_PREFIX)) {
+                isFirstEntry[0] = false;
+                loadedGeneration[0] = parseGeneration(entry);
+                return;
+            }
+            isFirstEntry[0] = false;
+            if (loadedGeneration[0] >= snapshotGeneration) {
+                entrySink.accept(entry);
+                numEntriesLoaded[0]++;
+            }
+        });
+        numEntries = numEntriesLoaded[0];
+        isClearDue = loadedGeneration[0] < snapshotGeneration;
+        generation = Math.max(loadedGeneration[0], snapshotGeneration);
+    }
+
+    private long parseGeneration(String entry) throws TokenizerException {
+        try {
+            long parsedGeneration = Long.parseLong(entry.substring(GENERATION_PREFIX.length()).strip());
+            if (parsedGeneration < INITIAL_GENERATION) {
+                throw new TokenizerException(DETOKENIZE_ERROR_MESSAGE);
+            }
+            return parsedGeneration;
+        } catch (NumberFormatException numberFormatException) {
+            throw new TokenizerException(DETOKENIZE_ERROR_MESSAGE);
+        }
+    }
+
+    /**
+     * Check whether the journal, together with the records about to be appended, has outgrown its threshold.
+     *
+     * @param numPendingEntries number of records the caller is about to append
+     * @return boolean representing if the caller should write a snapshot and clear the journal instead
+     */
+    public boolean isCompactionDue(int numPendingEntries) {
+        return numEntries + numPendingEntries > compactionThreshold;
+    }
+
+    /**
+     * Truncate the journal and start the given generation of it. Should only be called after a snapshot covering
+     * every record, and holding the given generation, has been saved.
+     *
+     * @param newGeneration generation of the cleared journal, as returned by <code>getNextGeneration()</code>
+     * @throws StorageException when the journal file cannot be written
+     */
+    public void clear(long newGeneration) throws StorageException {
+        ArrayList<String> generationRecord = new ArrayList<>();
+        generationRecord.add(GENERATION_PREFIX + newGeneration);
+        storage.saveData(generationRecord, fileName);
+        generation = newGeneration;
+        numEntries = NO_ENTRIES;
+        isClearDue = false;
+    }
+
+    public int getNumEntries() {
+        return numEntries;
+    }
+
+    public long getGeneration() {
+        return generation;
+    }
+
+    /**
+     * Returns the generation the journal will be cleared to next, which a snapshot written now should hold.
+     *
+     * @return Generation after the current one
+     */
+    public long getNextGeneration() {
+        return generation + 1;
+    }
+}
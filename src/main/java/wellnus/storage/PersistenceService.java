@@ -0,0 +1,195 @@
+package wellnus.storage;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import wellnus.common.WellNusLogger;
+import wellnus.exception.StorageException;
+
+/**
+ * PersistenceService saves feature data on a background thread so that commands never wait on the disk. <br>
+ * <p>
+ * After changing its data, a feature calls <code>markDirty()</code> with the name of the file to save and
+ * a SaveTask that saves it. Saves are delayed by the coalescing window, and any further saves of the same file
+ * within that window replace the pending one, so a burst of changes is written to disk only once. <br>
+ * <p>
+ * All pending saves are flushed when <code>flush()</code> is called, e.g. by ExitCommand, and when the JVM
+ * shuts down. If a save fails, it is retried by a flush of its own, which waits twice as long after every
+ * flush that still fails. Until it succeeds, its error is reported to the next caller of <code>markDirty()</code>,
+ * whichever file that caller is saving, so that the next command to change any data tells the user about it.
+ */
+public class PersistenceService {
+    private static final long DEFAULT_COALESCE_WINDOW_MILLIS = 200;
+    private static final long MIN_RETRY_DELAY_MILLIS = 1;
+    private static final long MAX_RETRY_DELAY_MILLIS = 60 * 1000;
+    private static final long NOT_RETRYING = 0;
+    private static final String THREAD_NAME = "WellNUS++ persistence";
+    private static final String SHUTDOWN_THREAD_NAME = "WellNUS++ persistence shutdown";
+    private static final String ASSERT_TASK_NOT_NULL = "saveTask should not be null!";
+    private static final String ASSERT_WINDOW_NOT_NEGATIVE = "coalesceWindowMillis should not be negative!";
+    private static final String LOG_SAVE_FAILED = "WellNUS++ failed to save a file in the background: ";
+    private static final Logger LOGGER = WellNusLogger.getLogger("PersistenceServiceLogger");
+    private static PersistenceService instance;
+    private final ScheduledExecutorService executor;
+    // Guarded by this, insertion order keeps saves in the order files were first marked dirty
+    private final LinkedHashMap<String, SaveTask> pendingSaves;
+    // Guarded by this, the latest failure of each file that failed to save and has not been reported yet
+    private final LinkedHashMap<String, StorageException> failedSaves;
+    // Held while saves run, so that two flushes never save the same file at the same time
+    private final Object flushLock;
+    private long coalesceWindowMillis;
+    // Guarded by this, the background flush waiting to run, or null if there is none
+    private ScheduledFuture<?> scheduledFlush;
+    private long retryDelayMillis;
+
+    /**
+     * Saves the latest state of one data file.
+     */
+    @FunctionalInterface
+    public interface SaveTask {
+        /**
+         * Writes the data to storage. Runs on the persistence thread, so it must not print to the user.
+         *
+         * @throws StorageException If the data cannot be saved
+         */
+        void save() throws StorageException;
+    }
+
+    private PersistenceService(long coalesceWindowMillis) {
+        this.executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, THREAD_NAME);
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.pendingSaves = new LinkedHashMap<>();
+        this.failedSaves = new LinkedHashMap<>();
+        this.flushLock = new Object();
+        this.coalesceWindowMillis = coalesceWindowMillis;
+        this.scheduledFlush = null;
+        this.retryDelayMillis = NOT_RETRYING;
+    }
+
+    /**
+     * Returns the process-wide PersistenceService, creating it and its JVM shutdown hook on first use.
+     *
+     * @return The shared PersistenceService
+     */
+    public static synchronized PersistenceService getInstance() {
+        if (instance == null) {
+            instance = new PersistenceService(DEFAULT_COALESCE_WINDOW_MILLIS);
+            Runtime.getRuntime().addShutdownHook(new Thread(instance::flushQuietly, SHUTDOWN_THREAD_NAME));
+        }
+        return instance;
+    }
+
+    /**
+     * Sets how long saves are delayed so that further saves of the same file can be coalesced with them.
+     *
+     * @param coalesceWindowMillis Length of the coalescing window in milliseconds
+     */
+    public synchronized void setCoalesceWindow(long coalesceWindowMillis) {
+        assert coalesceWindowMillis >= 0 : ASSERT_WINDOW_NOT_NEGATIVE;
+        this.coalesceWindowMillis = coalesceWindowMillis;
+    }
+
+    /**
+     * Schedules the given file to be saved in the background, replacing any save of it that is still pending.
+     *
+     * @param fileName Name of the data file that changed, from the public constant Storage.FILE_[name]
+     * @param saveTask SaveTask that writes the latest data of the file
+     * @throws StorageException If a save of any file failed since the last failure was reported, it is still
+     *     retried
+     */
+    public synchronized void markDirty(String fileName, SaveTask saveTask) throws StorageException {
+        assert saveTask != null : ASSERT_TASK_NOT_NULL;
+        pendingSaves.put(fileName, saveTask);
+        scheduleFlush(coalesceWindowMillis);
+        Iterator<StorageException> unreportedFailures = failedSaves.values().iterator();
+        if (unreportedFailures.hasNext()) {
+            StorageException failure = unreportedFailures.next();
+            unreportedFailures.remove();
+            throw failure;
+        }
+    }
+
+    private synchronized void scheduleFlush(long delayMillis) {
+        if (scheduledFlush == null) {
+            scheduledFlush = executor.schedule(this::flushQuietly, delayMillis, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /**
+     * Runs every pending save on the calling thread and waits for them to complete.
+     *
+     * @throws StorageException If any save fails, after every other pending save has been attempted
+     */
+    public void flush() throws StorageException {
+        synchronized (flushLock) {
+            LinkedHashMap<String, SaveTask> savesToRun;
+            synchronized (this) {
+                savesToRun = new LinkedHashMap<>(pendingSaves);
+                pendingSaves.clear();
+                if (scheduledFlush != null) {
+                    // Every pending save runs now, so the background flush would have nothing left to do
+                    scheduledFlush.cancel(false);
+                    scheduledFlush = null;
+                }
+            }
+            StorageException firstFailure = null;
+            for (Map.Entry<String, SaveTask> save : savesToRun.entrySet()) {
+                try {
+                    save.getValue().save();
+                    markSaved(save.getKey());
+                } catch (StorageException exception) {
+                    LOGGER.log(Level.WARNING, LOG_SAVE_FAILED + save.getKey());
+                    retryLater(save.getKey(), save.getValue(), exception);
+                    if (firstFailure == null) {
+                        firstFailure = exception;
+                    }
+                }
+            }
+            if (firstFailure != null) {
+                scheduleRetry();
+                throw firstFailure;
+            }
+            resetRetryDelay();
+        }
+    }
+
+    private synchronized void markSaved(String fileName) {
+        // The data is safe on disk now, so an earlier failure to save it need not be reported any more
+        failedSaves.remove(fileName);
+    }
+
+    private synchronized void retryLater(String fileName, SaveTask saveTask, StorageException exception) {
+        // A newer save of the same file supersedes the failed one
+        pendingSaves.putIfAbsent(fileName, saveTask);
+        failedSaves.put(fileName, exception);
+    }
+
+    private synchronized void scheduleRetry() {
+        retryDelayMillis = retryDelayMillis == NOT_RETRYING
+                ? Math.max(coalesceWindowMillis, MIN_RETRY_DELAY_MILLIS)
+                : Math.min(retryDelayMillis * 2, MAX_RETRY_DELAY_MILLIS);
+        scheduleFlush(retryDelayMillis);
+    }
+
+    private synchronized void resetRetryDelay() {
+        retryDelayMillis = NOT_RETRYING;
+    }
+
+    private void flushQuietly() {
+        try {
+            flush();
+        } catch (StorageException exception) {
+            // Already logged per file, retried later and reported to the next caller of markDirty()
+        }
+    }
+}
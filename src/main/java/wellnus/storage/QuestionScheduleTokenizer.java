@@ -0,0 +1,84 @@
+package wellnus.storage;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+
+import wellnus.exception.TokenizerException;
+import wellnus.reflection.feature.QuestionScheduler;
+
+/**
+ * Class to tokenize and detokenize the spaced-repetition schedule of the reflection questions. <br>
+ * <p>
+ * Only questions that have been shown are stored, one record each with the index of the question, the time it
+ * was last shown and its ease factor, e.g. <code>--question 3 --shown 1700000000 --ease 4.0</code>. Questions
+ * without a record have never been shown, and records of questions no longer in the question bank are dropped.
+ */
+public class QuestionScheduleTokenizer {
+    private static final String QUESTION_PREFIX = "--question ";
+    private static final String SHOWN_PREFIX = " --shown ";
+    private static final String EASE_PREFIX = " --ease ";
+    private static final String DETOKENIZE_ERROR_MESSAGE = "Detokenization failed! "
+            + "The reflection schedule file might be corrupted!";
+
+    /**
+     * Tokenizes the schedule into Strings that can be written to storage.
+     *
+     * @param scheduler QuestionScheduler to tokenize
+     * @return ArrayList of Strings, one per question that has been shown
+     */
+    public ArrayList<String> tokenize(QuestionScheduler scheduler) {
+        ArrayList<String> tokenizedSchedule = new ArrayList<>();
+        for (int question = 0; question < scheduler.getNumQuestions(); ++question) {
+            long lastShownEpochSecond = scheduler.getLastShownEpochSecond(question);
+            if (lastShownEpochSecond == QuestionScheduler.NEVER_SHOWN) {
+                continue;
+            }
+            tokenizedSchedule.add(QUESTION_PREFIX + question + SHOWN_PREFIX + lastShownEpochSecond
+                    + EASE_PREFIX + scheduler.getEaseFactor(question));
+        }
+        return tokenizedSchedule;
+    }
+
+    /**
+     * Detokenizes a schedule read from storage.
+     *
+     * @param tokenizedSchedule Tokenized schedule as returned by <code>tokenize()</code>
+     * @param numQuestions      Number of questions in the question bank
+     * @return QuestionScheduler represented by the Strings, in which questions without a record were never shown
+     * @throws TokenizerException When a record is malformed, or a question has more than one record
+     */
+    public QuestionScheduler detokenize(ArrayList<String> tokenizedSchedule, int numQuestions)
+            throws TokenizerException {
+        QuestionScheduler scheduler = new QuestionScheduler(numQuestions);
+        BitSet restoredQuestions = new BitSet(numQuestions);
+        for (String tokenizedQuestion : tokenizedSchedule) {
+            String record = tokenizedQuestion.strip();
+            if (record.isEmpty()) {
+                continue;
+            }
+            int shownStart = record.indexOf(SHOWN_PREFIX);
+            int easeStart = record.indexOf(EASE_PREFIX);
+            if (!record.startsWith(QUESTION_PREFIX) || shownStart < QUESTION_PREFIX.length()
+                    || easeStart < shownStart) {
+                throw new TokenizerException(DETOKENIZE_ERROR_MESSAGE);
+            }
+            try {
+                int question = Integer.parseInt(record.substring(QUESTION_PREFIX.length(), shownStart));
+                long lastShownEpochSecond = Long.parseLong(record.substring(shownStart + SHOWN_PREFIX.length(),
+                        easeStart));
+                float easeFactor = Float.parseFloat(record.substring(easeStart + EASE_PREFIX.length()));
+                if (question < 0 || lastShownEpochSecond < 0 || !QuestionScheduler.isValidEaseFactor(easeFactor)
+                        || restoredQuestions.get(question)) {
+                    throw new TokenizerException(DETOKENIZE_ERROR_MESSAGE);
+                }
+                restoredQuestions.set(question);
+                if (question < numQuestions) {
+                    scheduler.restore(question, lastShownEpochSecond, easeFactor);
+                }
+            } catch (NumberFormatException numberFormatException) {
+                throw new TokenizerException(DETOKENIZE_ERROR_MESSAGE);
+            }
+        }
+        return scheduler;
+    }
+}
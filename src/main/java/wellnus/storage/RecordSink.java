@@ -0,0 +1,22 @@
+package wellnus.storage;
+
+import wellnus.exception.StorageException;
+import wellnus.exception.TokenizerException;
+
+/**
+ * Receives records one at a time as they are produced, so that they never have to be collected into a list. <br/>
+ *
+ * Storage hands a RecordSink to tokenizers to write each tokenized record straight to disk, and features hand
+ *     a RecordSink to Storage to receive each detokenized data object as soon as it has been read.
+ * @param <R> Type of the records, e.g. <code>String</code>, <code>ByteBuffer</code> or <code>AtomicHabit</code>
+ */
+@FunctionalInterface
+public interface RecordSink<R> {
+    /**
+     * Consumes the next record.
+     * @param record The next record, in the order the records were produced
+     * @throws StorageException If the record cannot be written to storage
+     * @throws TokenizerException If the record cannot be converted by the consumer
+     */
+    void accept(R record) throws StorageException, TokenizerException;
+}
@@ -0,0 +1,94 @@
+package wellnus.storage;
+
+import java.util.ArrayList;
+
+import wellnus.exception.TokenizerException;
+import wellnus.reflection.feature.ReflectionAnswer;
+
+/**
+ * Class to tokenize and detokenize the answers written to reflection questions. <br>
+ * <p>
+ * Each answer is stored as the time it was written, the index of its question in the question bank and its
+ * text, e.g. <code>--time 1700000000 --question 3 --answer I value honesty</code>. The text comes last and
+ * is read up to the end of the record, so it is kept exactly as it was written.
+ */
+public class ReflectionAnswerTokenizer implements Tokenizer<ReflectionAnswer> {
+    private static final String TIME_PREFIX = "--time ";
+    private static final String QUESTION_PREFIX = " --question ";
+    private static final String ANSWER_PREFIX = " --answer ";
+    private static final String TOKENIZED_ANSWER_FORMAT = TIME_PREFIX + "%d" + QUESTION_PREFIX + "%d"
+            + ANSWER_PREFIX + "%s";
+    private static final String DETOKENIZE_ERROR_MESSAGE = "Detokenization failed! "
+            + "The reflection answer file might be corrupted!";
+    private static final int NOT_FOUND = -1;
+
+    /**
+     * Tokenizes the answers into Strings that can be written to storage.
+     *
+     * @param answers ReflectionAnswers to tokenize
+     * @return ArrayList of Strings, one per answer
+     */
+    @Override
+    public ArrayList<String> tokenize(ArrayList<ReflectionAnswer> answers) {
+        ArrayList<String> tokenizedAnswers = new ArrayList<>(answers.size());
+        for (ReflectionAnswer answer : answers) {
+            tokenizedAnswers.add(tokenize(answer));
+        }
+        return tokenizedAnswers;
+    }
+
+    /**
+     * Tokenizes one answer, e.g. to append it to the answer file.
+     *
+     * @param answer ReflectionAnswer to tokenize
+     * @return String representing the answer
+     */
+    public String tokenize(ReflectionAnswer answer) {
+        return String.format(TOKENIZED_ANSWER_FORMAT, answer.getEpochSecond(), answer.getQuestionIndex(),
+                answer.getAnswer());
+    }
+
+    /**
+     * Detokenizes answers read from storage.
+     *
+     * @param tokenizedAnswers Tokenized answers, one per String
+     * @return ArrayList of ReflectionAnswers in the order they were saved
+     * @throws TokenizerException When an answer is malformed
+     */
+    @Override
+    public ArrayList<ReflectionAnswer> detokenize(ArrayList<String> tokenizedAnswers) throws TokenizerException {
+        ArrayList<ReflectionAnswer> answers = new ArrayList<>(tokenizedAnswers.size());
+        for (String tokenizedAnswer : tokenizedAnswers) {
+            answers.add(detokenize(tokenizedAnswer));
+        }
+        return answers;
+    }
+
+    /**
+     * Detokenizes one answer, e.g. as it is streamed out of the answer file.
+     *
+     * @param tokenizedAnswer Tokenized answer
+     * @return ReflectionAnswer represented by the String
+     * @throws TokenizerException When the answer is malformed
+     */
+    public ReflectionAnswer detokenize(String tokenizedAnswer) throws TokenizerException {
+        String answer = tokenizedAnswer.strip();
+        int questionStart = answer.indexOf(QUESTION_PREFIX);
+        int answerStart = answer.indexOf(ANSWER_PREFIX);
+        if (!answer.startsWith(TIME_PREFIX) || questionStart == NOT_FOUND || answerStart < questionStart) {
+            throw new TokenizerException(DETOKENIZE_ERROR_MESSAGE);
+        }
+        try {
+            long epochSecond = Long.parseLong(answer.substring(TIME_PREFIX.length(), questionStart));
+            int questionIndex = Integer.parseInt(answer.substring(questionStart + QUESTION_PREFIX.length(),
+                    answerStart));
+            String answerText = answer.substring(answerStart + ANSWER_PREFIX.length()).strip();
+            if (epochSecond < 0 || questionIndex < 0 || answerText.isEmpty()) {
+                throw new TokenizerException(DETOKENIZE_ERROR_MESSAGE);
+            }
+            return new ReflectionAnswer(epochSecond, questionIndex, answerText);
+        } catch (NumberFormatException numberFormatException) {
+            throw new TokenizerException(DETOKENIZE_ERROR_MESSAGE);
+        }
+    }
+}
@@ -0,0 +1,124 @@
+package wellnus.storage;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import wellnus.common.WellNusLogger;
+import wellnus.exception.TokenizerException;
+
+/**
+ * Class to tokenize and detokenize the Index for 'like' and 'prev' command in Reflection Feature
+ * in the binary format. <br>
+ * <p>
+ * There are always 2 records, the like indexes followed by the prev indexes, each being a bitmap with bit i
+ * set for question i, as returned by <code>BitSet.toByteArray()</code>. A bitmap takes one bit per question
+ * in the bank however many questions are liked, instead of four bytes per liked question.
+ * Records saved by version 1 are sequences of ints instead, which are still read.
+ * Like the text format, an invalid set of indexes is dropped instead of failing the whole load.
+ */
+public class ReflectionBinaryTokenizer implements BinaryTokenizer<BitSet> {
+    private static final int VERSION = 2;
+    private static final int VERSION_INT_SEQUENCE = 1;
+    private static final int INDEX_ZERO = 0;
+    private static final int LIKE_INDEX = 0;
+    private static final int PREV_INDEX = 1;
+    private static final int NUM_PREV_INDEX = 5;
+    // Far more questions than any question bank holds, so that a corrupted index cannot allocate a huge BitSet
+    private static final int MAX_NUM_QUESTIONS = 1 << 20;
+    private static final int NUM_RECORDS = 2;
+    private static final String LIKE_KEY = "like";
+    private static final String PREV_KEY = "prev";
+    private static final String DETOKENIZE_ERROR_MESSAGE = "Detokenization failed! "
+            + "The file might be corrupted!";
+    private static final String UNSUPPORTED_VERSION_MESSAGE = "Detokenization failed! "
+            + "The reflect file was saved by a newer version of WellNUS++!";
+    private static final Logger LOGGER = WellNusLogger.getLogger("ReflectBinaryTokenizerLogger");
+
+    @Override
+    public int getVersion() {
+        return VERSION;
+    }
+
+    private ByteBuffer getTokenizedIndexes(BitSet indexesToTokenize) {
+        return ByteBuffer.wrap(indexesToTokenize.toByteArray());
+    }
+
+    private BitSet getIntSequenceSet(ByteBuffer record, String categoryKey) {
+        BitSet outputIndexes = new BitSet();
+        if (record.remaining() % Integer.BYTES != 0) {
+            LOGGER.log(Level.INFO, "Reflect " + categoryKey + ": " + DETOKENIZE_ERROR_MESSAGE);
+            return outputIndexes;
+        }
+        while (record.hasRemaining()) {
+            int index = record.getInt();
+            // Indexes beyond the question bank are dropped by QuestionList, which knows its size
+            if (index < INDEX_ZERO || index >= MAX_NUM_QUESTIONS) {
+                LOGGER.log(Level.INFO, "Reflect " + categoryKey + ": " + DETOKENIZE_ERROR_MESSAGE);
+                return new BitSet();
+            }
+            outputIndexes.set(index);
+        }
+        return outputIndexes;
+    }
+
+    private BitSet getSet(ByteBuffer record, String categoryKey, int version) {
+        BitSet outputIndexes = version == VERSION_INT_SEQUENCE
+                ? getIntSequenceSet(record, categoryKey)
+                : BitSet.valueOf(record);
+        boolean isInvalidPrev = categoryKey.equals(PREV_KEY) && !outputIndexes.isEmpty()
+                && outputIndexes.cardinality() != NUM_PREV_INDEX;
+        if (isInvalidPrev || outputIndexes.length() > MAX_NUM_QUESTIONS) {
+            LOGGER.log(Level.INFO, "Reflect " + categoryKey + ": " + DETOKENIZE_ERROR_MESSAGE);
+            return new BitSet();
+        }
+        return outputIndexes;
+    }
+
+    /**
+     * Tokenize ArrayList of BitSets into binary records. <br>
+     * ArrayList contains 2 BitSets, which corresponds for set of like indexes for the first entry
+     *      and set of prev indexes for second entry.
+     *
+     * @param arrayIndexToTokenize ArrayList that contains set of like indexes for the first entry
+     *      and set of prev indexes for the second entry.
+     * @return ArrayList of the like record followed by the prev record
+     */
+    @Override
+    public ArrayList<ByteBuffer> tokenize(ArrayList<BitSet> arrayIndexToTokenize) {
+        ArrayList<ByteBuffer> records = new ArrayList<>();
+        records.add(getTokenizedIndexes(arrayIndexToTokenize.get(LIKE_INDEX)));
+        records.add(getTokenizedIndexes(arrayIndexToTokenize.get(PREV_INDEX)));
+        return records;
+    }
+
+    /**
+     * Convert binary records of indexes into ArrayList that contains the BitSet of like indexes for the first entry
+     *      and set of prev indexes for the second entry.
+     *
+     * @param records List of the like record and prev record from the storage
+     * @param version Version of the record layout the records were saved with
+     * @return ArrayList that contains set of like indexes for the first entry
+     *      and set of prev indexes for the second entry
+     * @throws TokenizerException If the records were saved by a newer version of WellNUS++
+     */
+    @Override
+    public ArrayList<BitSet> detokenize(ArrayList<ByteBuffer> records, int version)
+            throws TokenizerException {
+        if (version > VERSION) {
+            throw new TokenizerException(UNSUPPORTED_VERSION_MESSAGE);
+        }
+        ArrayList<BitSet> detokenizedIndexes = new ArrayList<>();
+        BitSet detokenizedLike = new BitSet();
+        BitSet detokenizedPrev = new BitSet();
+        if (records.size() == NUM_RECORDS) {
+            detokenizedLike = getSet(records.get(LIKE_INDEX), LIKE_KEY, version);
+            detokenizedPrev = getSet(records.get(PREV_INDEX), PREV_KEY, version);
+        }
+        detokenizedIndexes.add(detokenizedLike);
+        detokenizedIndexes.add(detokenizedPrev);
+        return detokenizedIndexes;
+    }
+}
@@ -1,8 +1,7 @@
 package wellnus.storage;
 
 import java.util.ArrayList;
-import java.util.HashSet;
-import java.util.Set;
+import java.util.BitSet;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
@@ -12,14 +11,15 @@ import wellnus.exception.TokenizerException;
 /**
  * Class to tokenize and detokenize the Index for 'like' and 'prev' command in Reflection Feature. <br>
  */
-public class ReflectionTokenizer implements Tokenizer<Set<Integer>> {
+public class ReflectionTokenizer implements Tokenizer<BitSet> {
     private static final String INDEX_DELIMITER = ",";
     private static final int INDEX_ZERO = 0;
     private static final int INDEX_ONE = 1;
     private static final int LIKE_INDEX = 0;
     private static final int PREV_INDEX = 1;
-    private static final int INDEX_NINE = 9;
     private static final int NUM_PREV_INDEX = 5;
+    // Far more questions than any question bank holds, so that a corrupted index cannot allocate a huge BitSet
+    private static final int MAX_NUM_QUESTIONS = 1 << 20;
     private static final int TOKENIZER_INDEX_ARRAYLIST_SIZE = 2;
     private static final String LIKE_KEY = "like";
     private static final String PREV_KEY = "prev";
@@ -28,15 +28,15 @@ public class ReflectionTokenizer implements Tokenizer<Set<Integer>> {
     private static final String DETOKENIZE_ERROR_MESSAGE = "Detokenization failed! "
             + "The file might be corrupted!";
     private static final Logger LOGGER = WellNusLogger.getLogger("ReflectTokenizerLogger");
-    private String getTokenizedIndexes(String key, Set<Integer> indexesToTokenize) {
-        String tokenizedIndexes = key + COLON_CHARACTER;
-        for (int index : indexesToTokenize) {
-            tokenizedIndexes = tokenizedIndexes + index + INDEX_DELIMITER;
+    private String getTokenizedIndexes(String key, BitSet indexesToTokenize) {
+        StringBuilder tokenizedIndexes = new StringBuilder(key).append(COLON_CHARACTER);
+        String delimiter = "";
+        for (int index = indexesToTokenize.nextSetBit(INDEX_ZERO); index >= INDEX_ZERO;
+                index = indexesToTokenize.nextSetBit(index + INDEX_ONE)) {
+            tokenizedIndexes.append(delimiter).append(index);
+            delimiter = INDEX_DELIMITER;
         }
-        if (indexesToTokenize.size() != INDEX_ZERO) {
-            tokenizedIndexes = tokenizedIndexes.substring(INDEX_ZERO, tokenizedIndexes.length() - INDEX_ONE);
-        }
-        return tokenizedIndexes;
+        return tokenizedIndexes.toString();
     }
 
     private String splitParameter(String tokenizedRawString, String parameterKey) throws TokenizerException {
@@ -67,9 +67,9 @@ public class ReflectionTokenizer implements Tokenizer<Set<Integer>> {
         return outputStrings;
     }
 
-    private Set<Integer> validateTokenizedIndexFormat(ArrayList<String> tokenizedIndex,
-                                                      int categoryIndex, String categoryKey) {
-        Set<Integer> validatedSet = new HashSet<>();
+    private BitSet validateTokenizedIndexFormat(ArrayList<String> tokenizedIndex,
+                                                int categoryIndex, String categoryKey) {
+        BitSet validatedSet = new BitSet();
         try {
             String tokenizedIndexesByCategory = tokenizedIndex.get(categoryIndex);
             if (!tokenizedIndexesByCategory.isBlank()) {
@@ -77,15 +77,15 @@ public class ReflectionTokenizer implements Tokenizer<Set<Integer>> {
                 validatedSet = getSet(rawIndex, categoryKey);
             }
         } catch (TokenizerException tokenizerException) {
-            validatedSet = new HashSet<>();
+            validatedSet = new BitSet();
             LOGGER.log(Level.INFO, "Reflect " + categoryKey
                    + ": " + DETOKENIZE_ERROR_MESSAGE);
         }
         return validatedSet;
     }
 
-    private Set<Integer> getSet(String indexToSplit, String categoryKey) throws TokenizerException {
-        Set<Integer> outputIndexes = new HashSet<>();
+    private BitSet getSet(String indexToSplit, String categoryKey) throws TokenizerException {
+        BitSet outputIndexes = new BitSet();
         if (indexToSplit.isBlank()) {
             return outputIndexes;
         }
@@ -93,37 +93,38 @@ public class ReflectionTokenizer implements Tokenizer<Set<Integer>> {
         try {
             for (String indexString : splittedString) {
                 int index = Integer.parseInt(indexString);
-                if (index < INDEX_ZERO || index > INDEX_NINE) {
+                // Indexes beyond the question bank are dropped by QuestionList, which knows its size
+                if (index < INDEX_ZERO || index >= MAX_NUM_QUESTIONS) {
                     throw new TokenizerException(DETOKENIZE_ERROR_MESSAGE);
                 }
-                outputIndexes.add(index);
+                outputIndexes.set(index);
             }
         } catch (NumberFormatException numberFormatException) {
             throw new TokenizerException(DETOKENIZE_ERROR_MESSAGE);
         }
-        if (categoryKey.equals(PREV_KEY) && outputIndexes.size() != NUM_PREV_INDEX) {
+        if (categoryKey.equals(PREV_KEY) && outputIndexes.cardinality() != NUM_PREV_INDEX) {
             throw new TokenizerException(DETOKENIZE_ERROR_MESSAGE);
         }
         return outputIndexes;
     }
 
     /**
-     * Tokenize ArrayList of Set of Integers into strings that can be stored. <br>
-     * ArrayList contains 2 Set of Integers, which corresponds for set of like indexes for the first entry
+     * Tokenize ArrayList of BitSets into strings that can be stored. <br>
+     * ArrayList contains 2 BitSets, which corresponds for set of like indexes for the first entry
      *      and set of prev indexes for second entry.<br>
      * Each index will be tokenized with the following format:
-     * like:[list of comma separated index] <br>
-     * prev:[list of comma separated index] <br>
+     * like:[list of comma separated index in ascending order] <br>
+     * prev:[list of comma separated index in ascending order] <br>
      *
      * @param arrayIndexToTokenize ArrayList that contains set of like indexes for the first entry
      *      and set of prev indexes for the second entry. <br>
      * @return ArrayList of Strings representing the tokenized like indexes and prev indexes that we can
      *      write to storage.
      */
-    public ArrayList<String> tokenize(ArrayList<Set<Integer>> arrayIndexToTokenize) {
+    public ArrayList<String> tokenize(ArrayList<BitSet> arrayIndexToTokenize) {
         ArrayList<String> tokenizedIndexes = new ArrayList<>();
-        Set<Integer> likeIndexToTokenize = arrayIndexToTokenize.get(INDEX_ZERO);
-        Set<Integer> prevIndexToTokenize = arrayIndexToTokenize.get(INDEX_ONE);
+        BitSet likeIndexToTokenize = arrayIndexToTokenize.get(INDEX_ZERO);
+        BitSet prevIndexToTokenize = arrayIndexToTokenize.get(INDEX_ONE);
         String tokenizedLike = getTokenizedIndexes(LIKE_KEY, likeIndexToTokenize);
         String tokenizedPrev = getTokenizedIndexes(PREV_KEY, prevIndexToTokenize);
         tokenizedIndexes.add(tokenizedLike);
@@ -132,7 +133,7 @@ public class ReflectionTokenizer implements Tokenizer<Set<Integer>> {
     }
 
     /**
-     * Convert strings of tokenized Indexes into ArrayList that contains set of like indexes for the first entry
+     * Convert strings of tokenized Indexes into ArrayList that contains the BitSet of like indexes for the first entry
      *      and set of prev indexes for the second entry. <br>
      * This method can be called in the constructor of ReflectionManager to detokenize.
      * ArrayList of indexes from storage. <br>
@@ -142,10 +143,10 @@ public class ReflectionTokenizer implements Tokenizer<Set<Integer>> {
      *      and set of prev indexes for the second entry <br>
      * @throws TokenizerException when the data can't be detokenized.
      */
-    public ArrayList<Set<Integer>> detokenize(ArrayList<String> tokenizedIndex) {
-        ArrayList<Set<Integer>> detokenizedIndexes = new ArrayList<>();
-        Set<Integer> detokenizedLike = new HashSet<>();
-        Set<Integer> detokenizedPrev = new HashSet<>();
+    public ArrayList<BitSet> detokenize(ArrayList<String> tokenizedIndex) {
+        ArrayList<BitSet> detokenizedIndexes = new ArrayList<>();
+        BitSet detokenizedLike = new BitSet();
+        BitSet detokenizedPrev = new BitSet();
         if (tokenizedIndex.size() == TOKENIZER_INDEX_ARRAYLIST_SIZE) {
             detokenizedLike = validateTokenizedIndexFormat(tokenizedIndex, LIKE_INDEX, LIKE_KEY);
             detokenizedPrev = validateTokenizedIndexFormat(tokenizedIndex, PREV_INDEX, PREV_KEY);
@@ -1,21 +1,34 @@
 package wellnus.storage;
 
+import java.io.BufferedReader;
 import java.io.File;
-import java.io.FileNotFoundException;
-import java.io.FileWriter;
 import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.nio.file.AtomicMoveNotSupportedException;
 import java.nio.file.Files;
 import java.nio.file.InvalidPathException;
+import java.nio.file.NoSuchFileException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
 import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.Scanner;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
 import wellnus.common.WellNusLogger;
 import wellnus.exception.StorageException;
+import wellnus.exception.TokenizerException;
 
 /**
  * Storage is the common interface for all Features to save and load data from. <br>
@@ -27,6 +40,18 @@ import wellnus.exception.StorageException;
  * To load data, the manager should call <code>loadData()</code> and input the correct filename of
  * the data to be loaded. The filename should be obtained from the public constant Storage.FILE_[name].
  * <p>
+ * Managers should share the process-wide instance from <code>getInstance()</code>, which verifies the data
+ * directory once and caches the resolved path of each registered file, checking that it exists only once.
+ * <p>
+ * Managers that also have a <code>BinaryTokenizer</code> should use the overloads of <code>saveData()</code>
+ * and <code>loadData()</code> that take one. These save data in a compact binary format, made up of a header
+ * (magic number, format version and record count) followed by length-prefixed records, and transparently
+ * migrate files still in the older text format on load.
+ * <p>
+ * Large files can be saved and loaded without holding all of their records in memory: the binary
+ * <code>saveData()</code> writes each record to disk as soon as the tokenizer produces it, and the overloads of
+ * <code>loadData()</code> that take a <code>RecordSink</code> pass each record on as soon as it has been read.
+ * <p>
  */
 //@@author nichyjt
 public class Storage {
@@ -35,13 +60,32 @@ public class Storage {
     public static final String FILE_HABIT = "habit";
     public static final String FILE_REFLECT = "reflect";
     public static final String FILE_GAMIFICATION = "gamif";
+    public static final String FILE_HABIT_JOURNAL = "habitjournal";
+    public static final String FILE_HABIT_REMINDER = "habitreminder";
+    public static final String FILE_REFLECT_ANSWER = "reflectanswer";
+    public static final String FILE_REFLECT_ANSWER_INDEX = "reflectanswerindex";
+    public static final String FILE_REFLECT_SCHEDULE = "reflectschedule";
     protected static final String FILE_DEBUG = "debug";
     protected static final String DIRECTORY_DEBUG = "debug";
 
     // Delimiter constants
     protected static final String DELIMITER = " --" + System.lineSeparator();
     protected static final String NEWLINE = System.lineSeparator();
+    private static final String RECORD_TERMINATOR = " --";
     private static final String FILE_EXTENTION = ".txt";
+    private static final String TEMP_FILE_EXTENSION = ".tmp";
+    // Files are read and written in the platform charset, as FileWriter and Scanner used to do
+    private static final Charset FILE_CHARSET = Charset.defaultCharset();
+    // Files at least this large are read into a direct buffer instead of a heap buffer. They are never
+    // memory-mapped, as Windows cannot replace a file while a mapping of it is still waiting to be collected
+    private static final long DIRECT_BUFFER_THRESHOLD_BYTES = 1024 * 1024;
+    private static final char CARRIAGE_RETURN = '\r';
+    private static final char LINE_FEED = '\n';
+    // Binary data files start with the bytes "WNUS", which no text data file can start with
+    private static final int BINARY_MAGIC = 0x574E5553;
+    private static final int BINARY_HEADER_BYTES = 3 * Integer.BYTES;
+    private static final int RECORD_COUNT_OFFSET = 2 * Integer.BYTES;
+    private static final int WRITE_BUFFER_BYTES = 64 * 1024;
     private static final String WORKING_DIRECTORY = ".";
     private static final String DATA_DIRECTORY_NAME = "data";
 
@@ -54,21 +98,29 @@ public class Storage {
     private static final String ERROR_CANNOT_WRITE_FILE = "WellNUS++ couldn't write to a file!";
     private static final String ERROR_CANNOT_LOAD_FILE = "WellNUS++ couldn't load a file!";
     private static final String ERROR_INVALID_FILENAME = "WellNUS++ cannot create a file that is not registered!";
+    private static final String ERROR_CORRUPTED_FILE = "WellNUS++ found a corrupted data file: ";
     private static final String ASSERT_FILENAME_NOT_NULL = "fileName should not be null!";
     private static final String ASSERT_FILENAME_NOT_EMPTY = "fileName should have a length > 0!";
     private static final String ASSERT_PATH_NOT_NULL = "path should not be null!";
     private static final String ASSERT_LIST_NOT_NULL = "list input should not be null!";
     private static final String ASSERT_STRING_NOT_NULL = "string input should not be null!";
     private static final String ASSERT_FILE_NOT_NULL = "file input should not be null!";
+    private static final String ASSERT_BUFFER_NOT_NULL = "buffer input should not be null!";
+    private static final String ASSERT_TOKENIZER_NOT_NULL = "tokenizer input should not be null!";
     private static final Logger LOGGER = WellNusLogger.getLogger("StorageLogger");
     private static final String LOG_ACCESS_ERROR = "WellNUS++ has encountered a severe input/output error! \n"
             + "Check if file permissions and data directory are properly instantiated?";
     private static final String LOG_MISSING_FILE = "WellNUS++ could not find a file.\n"
             + "Check if this method was called before any data file instantiation?";
+    private static final String LOG_MIGRATED_FILE = "Migrated a text data file to the binary format: ";
     private static final String LOG_INVALID_FILENAME = "WellNUS++ cannot create the file as its name is invalid.\n"
             + "Check if its filename is registered in the Storage class.";
     private static final int FILENAME_EMPTY = 0;
+    private static Storage sharedInstance;
     private Path wellNusDataDirectory;
+    // Storage may be used from the persistence thread, hence the concurrent collections
+    private final ConcurrentHashMap<String, File> resolvedFiles;
+    private final Set<String> verifiedFileNames;
 
     /**
      * Construct an instance of Storage to call saveData and loadData from.
@@ -77,6 +129,8 @@ public class Storage {
      */
     //@@author nichyjt
     public Storage() throws StorageException {
+        resolvedFiles = new ConcurrentHashMap<>();
+        verifiedFileNames = ConcurrentHashMap.newKeySet();
         wellNusDataDirectory = Paths.get(WORKING_DIRECTORY, DATA_DIRECTORY_NAME);
         // For safety, check that the data folder actually exists
         // If it doesn't, create it.
@@ -92,10 +146,44 @@ public class Storage {
      * @throws StorageException
      */
     public boolean checkFileExists(String fileName) throws StorageException {
-        Path pathToFile;
+        if (verifiedFileNames.contains(fileName)) {
+            return true;
+        }
+        boolean fileExists = resolveFile(fileName).exists();
+        if (fileExists) {
+            verifiedFileNames.add(fileName);
+        }
+        return fileExists;
+    }
+
+    /**
+     * Returns the Storage shared by all managers, creating it on first use.
+     *
+     * @return The process-wide Storage
+     * @throws StorageException when creating the data directory fails
+     */
+    public static synchronized Storage getInstance() throws StorageException {
+        if (sharedInstance == null) {
+            sharedInstance = new Storage();
+        }
+        return sharedInstance;
+    }
+
+    /**
+     * Resolve the <code>File</code> of a data file relative to the data folder, once per fileName.
+     *
+     * @param fileName name of the data file
+     * @return File of the data file, which may not exist yet
+     * @throws StorageException when the path cannot be resolved
+     */
+    private File resolveFile(String fileName) throws StorageException {
+        File cachedFile = resolvedFiles.get(fileName);
+        if (cachedFile != null) {
+            return cachedFile;
+        }
         File dataFile;
         try {
-            pathToFile = wellNusDataDirectory.resolve(fileName + FILE_EXTENTION);
+            Path pathToFile = wellNusDataDirectory.resolve(fileName + FILE_EXTENTION);
             dataFile = pathToFile.toFile();
         } catch (InvalidPathException exception) {
             String errorMessage = ERROR_CANNOT_RESOLVE_PATH;
@@ -106,8 +194,8 @@ public class Storage {
             errorMessage = errorMessage.concat(exception.getMessage());
             throw new StorageException(errorMessage);
         }
-        boolean fileExists = dataFile.exists();
-        return fileExists;
+        resolvedFiles.put(fileName, dataFile);
+        return dataFile;
     }
 
     /**
@@ -122,7 +210,12 @@ public class Storage {
         switch (fileName) {
         case FILE_GAMIFICATION:
         case FILE_HABIT:
+        case FILE_HABIT_JOURNAL:
+        case FILE_HABIT_REMINDER:
         case FILE_REFLECT:
+        case FILE_REFLECT_ANSWER:
+        case FILE_REFLECT_ANSWER_INDEX:
+        case FILE_REFLECT_SCHEDULE:
         case FILE_DEBUG:
             // fallthrough
             return true;
@@ -147,7 +240,7 @@ public class Storage {
     }
 
     /**
-     * Creates a <code>File</code> relative to the data folder.
+     * Creates a <code>File</code> relative to the data folder, if it has not been created before.
      *
      * @param fileName data file to retrieve
      */
@@ -158,24 +251,15 @@ public class Storage {
             LOGGER.log(Level.WARNING, LOG_INVALID_FILENAME);
             throw new StorageException(ERROR_INVALID_FILENAME);
         }
-        Path pathToFile;
-        File dataFile;
-        try {
-            pathToFile = wellNusDataDirectory.resolve(fileName + FILE_EXTENTION);
-            dataFile = pathToFile.toFile();
-        } catch (InvalidPathException exception) {
-            String errorMessage = ERROR_CANNOT_RESOLVE_PATH;
-            errorMessage = errorMessage.concat(exception.getMessage());
-            throw new StorageException(errorMessage);
-        } catch (UnsupportedOperationException exception) {
-            String errorMessage = ERROR_GENERAL;
-            errorMessage = errorMessage.concat(exception.getMessage());
-            throw new StorageException(errorMessage);
+        File dataFile = resolveFile(fileName);
+        if (verifiedFileNames.contains(fileName)) {
+            return dataFile;
         }
         boolean fileExists = dataFile.exists();
         if (!fileExists) {
             createFile(dataFile);
         }
+        verifiedFileNames.add(fileName);
         return dataFile;
     }
 
@@ -260,44 +344,176 @@ public class Storage {
         return new ArrayList<>(Arrays.asList(entries));
     }
 
-    private void writeDataToDisk(String data, File file) throws StorageException {
+    /**
+     * Write data to the file through a FileChannel and force it to the disk. <br>
+     * <p>
+     * When overwriting, the data is written to a temporary file in the data directory first and then renamed
+     * over the original, so a crash midway never leaves a half-written data file behind.
+     *
+     * @param data     string to be written
+     * @param file     file to be written to
+     * @param isAppend whether data should be appended to the end of the file instead of replacing it
+     * @throws StorageException when there are unexpected IO errors
+     */
+    private void writeDataToDisk(String data, File file, boolean isAppend) throws StorageException {
         assert data != null : ASSERT_STRING_NOT_NULL;
         assert file != null : ASSERT_FILE_NOT_NULL;
+        writeBytesToDisk(FILE_CHARSET.encode(data), file, isAppend);
+    }
+
+    private void writeBytesToDisk(ByteBuffer dataBuffer, File file, boolean isAppend) throws StorageException {
+        assert dataBuffer != null : ASSERT_BUFFER_NOT_NULL;
+        assert file != null : ASSERT_FILE_NOT_NULL;
         // assume file exists
+        Path pathToFile = file.toPath();
         try {
-            FileWriter writer = new FileWriter(file.getAbsolutePath());
-            writer.write(data);
-            writer.close();
+            if (isAppend) {
+                writeBufferToPath(dataBuffer, pathToFile, StandardOpenOption.APPEND);
+                return;
+            }
+            Path pathToTempFile = pathToFile.resolveSibling(pathToFile.getFileName() + TEMP_FILE_EXTENSION);
+            writeBufferToPath(dataBuffer, pathToTempFile, StandardOpenOption.TRUNCATE_EXISTING);
+            moveAtomically(pathToTempFile, pathToFile);
         } catch (IOException exception) {
-            LOGGER.log(Level.SEVERE, LOG_MISSING_FILE);
-            String errorMessage = ERROR_CANNOT_WRITE_FILE;
-            errorMessage = errorMessage.concat(exception.getMessage());
-            throw new StorageException(errorMessage);
+            throw createWriteException(exception);
+        }
+    }
+
+    private static StorageException createWriteException(IOException exception) {
+        LOGGER.log(Level.SEVERE, LOG_MISSING_FILE);
+        String errorMessage = ERROR_CANNOT_WRITE_FILE;
+        errorMessage = errorMessage.concat(exception.getMessage());
+        return new StorageException(errorMessage);
+    }
+
+    private void writeBufferToPath(ByteBuffer dataBuffer, Path path, StandardOpenOption writeMode)
+            throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE, writeMode)) {
+            while (dataBuffer.hasRemaining()) {
+                channel.write(dataBuffer);
+            }
+            channel.force(false);
         }
     }
 
+    private void moveAtomically(Path source, Path target) throws IOException {
+        try {
+            Files.move(source, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (AtomicMoveNotSupportedException exception) {
+            // Some file systems cannot rename atomically, a plain replace is the best we can do there
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    /**
+     * Read the whole file through a FileChannel, into a direct buffer when it is large.
+     *
+     * @param file file to be read
+     * @return String of the file's contents, with every line terminated by the system line separator
+     * @throws StorageException when there are unexpected IO errors
+     */
     private String loadDataFromDisk(File file) throws StorageException {
+        return normalizeLineSeparators(FILE_CHARSET.decode(loadBytesFromDisk(file)));
+    }
+
+    private ByteBuffer loadBytesFromDisk(File file) throws StorageException {
         assert file != null : ASSERT_FILE_NOT_NULL;
         // assume file exists
-        StringBuilder data = new StringBuilder();
-        try {
-            Scanner reader = new Scanner(file);
-            while (reader.hasNextLine()) {
-                data.append(reader.nextLine()).append(NEWLINE);
+        try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+            return readBytes(channel, 0);
+        } catch (NoSuchFileException exception) {
+            // The file was removed outside of WellNUS++ after it was verified, treat it like an empty file
+            return ByteBuffer.allocate(0);
+        } catch (IOException exception) {
+            throw createLoadException(exception);
+        }
+    }
+
+    private ByteBuffer readBytes(FileChannel channel, long position) throws IOException {
+        long numBytes = channel.size() - position;
+        int bufferSize = (int) Math.max(numBytes, 0);
+        ByteBuffer dataBuffer = numBytes >= DIRECT_BUFFER_THRESHOLD_BYTES
+                ? ByteBuffer.allocateDirect(bufferSize)
+                : ByteBuffer.allocate(bufferSize);
+        while (dataBuffer.hasRemaining()) {
+            int numBytesRead = channel.read(dataBuffer, position + dataBuffer.position());
+            if (numBytesRead < 0) {
+                break;
             }
-            reader.close();
-        } catch (FileNotFoundException exception) {
-            LOGGER.log(Level.SEVERE, LOG_ACCESS_ERROR);
-            String errorMessage = ERROR_CANNOT_LOAD_FILE;
-            errorMessage = errorMessage.concat(exception.getMessage());
-            throw new StorageException(errorMessage);
-        } catch (IllegalStateException exception) {
-            LOGGER.log(Level.SEVERE, LOG_ACCESS_ERROR);
-            String errorMessage = ERROR_GENERAL;
-            errorMessage = errorMessage.concat(exception.getMessage());
-            throw new StorageException(errorMessage);
         }
-        return data.toString();
+        dataBuffer.flip();
+        return dataBuffer;
+    }
+
+    private ByteBuffer readHeader(FileChannel channel) throws IOException {
+        ByteBuffer header = ByteBuffer.allocate(BINARY_HEADER_BYTES);
+        while (header.hasRemaining()) {
+            int numBytesRead = channel.read(header, header.position());
+            if (numBytesRead < 0) {
+                break;
+            }
+        }
+        return header.flip();
+    }
+
+    private static StorageException createLoadException(IOException exception) {
+        LOGGER.log(Level.SEVERE, LOG_ACCESS_ERROR);
+        String errorMessage = ERROR_CANNOT_LOAD_FILE;
+        errorMessage = errorMessage.concat(exception.getMessage());
+        return new StorageException(errorMessage);
+    }
+
+    /**
+     * Terminate every line with the system line separator, like reading line by line used to. <br>
+     * Files written on this system are returned as-is without copying them again.
+     *
+     * @param data characters decoded from the file
+     * @return String of the data with normalized line separators
+     */
+    private String normalizeLineSeparators(CharBuffer data) {
+        String dataString = data.toString();
+        if (hasNormalizedLineSeparators(dataString)) {
+            return dataString;
+        }
+        StringBuilder normalizedData = new StringBuilder(dataString.length() + NEWLINE.length());
+        int lineStart = 0;
+        for (int i = 0; i < dataString.length(); ++i) {
+            char character = dataString.charAt(i);
+            if (character != CARRIAGE_RETURN && character != LINE_FEED) {
+                continue;
+            }
+            normalizedData.append(dataString, lineStart, i).append(NEWLINE);
+            boolean isCrLf = character == CARRIAGE_RETURN && i + 1 < dataString.length()
+                    && dataString.charAt(i + 1) == LINE_FEED;
+            if (isCrLf) {
+                ++i;
+            }
+            lineStart = i + 1;
+        }
+        if (lineStart < dataString.length()) {
+            normalizedData.append(dataString, lineStart, dataString.length()).append(NEWLINE);
+        }
+        return normalizedData.toString();
+    }
+
+    private boolean hasNormalizedLineSeparators(String dataString) {
+        if (!dataString.isEmpty() && !dataString.endsWith(NEWLINE)) {
+            return false;
+        }
+        int i = 0;
+        while (i < dataString.length()) {
+            char character = dataString.charAt(i);
+            if (character != CARRIAGE_RETURN && character != LINE_FEED) {
+                ++i;
+                continue;
+            }
+            if (!dataString.startsWith(NEWLINE, i)) {
+                return false;
+            }
+            i += NEWLINE.length();
+        }
+        return true;
     }
 
     /**
@@ -323,7 +539,76 @@ public class Storage {
         }
         File file = getFile(fileName);
         String tokenizedString = tokenizeStringList(tokenizedManager);
-        writeDataToDisk(tokenizedString, file);
+        writeDataToDisk(tokenizedString, file, false);
+    }
+
+    /**
+     * Save data objects onto Disk in the binary format. <br>
+     * <p>
+     * The data objects are converted into records by the given BinaryTokenizer, which are written after
+     * a header holding the magic number, the tokenizer's format version and the number of records. <br>
+     * Records are streamed to a temporary file as they are produced, so only a small write buffer is held
+     * in memory however many data objects there are. <br>
+     * The fileName should be accessed via the public constant Storage.FILE_[feature].
+     *
+     * @param dataObjects     the Manager's data objects, in the order they should be saved
+     * @param fileName        name of the file to be saved
+     * @param binaryTokenizer BinaryTokenizer that converts the data objects into records
+     * @param <T>             Data type of the corresponding feature
+     * @throws StorageException when there are unexpected IO errors or a data object cannot be tokenized
+     */
+    public <T> void saveData(Iterable<T> dataObjects, String fileName, BinaryTokenizer<T> binaryTokenizer)
+            throws StorageException {
+        assert fileName != null : ASSERT_FILENAME_NOT_NULL;
+        assert fileName.length() > FILENAME_EMPTY : ASSERT_FILENAME_NOT_EMPTY;
+        assert dataObjects != null : ASSERT_LIST_NOT_NULL;
+        assert binaryTokenizer != null : ASSERT_TOKENIZER_NOT_NULL;
+        if (!isValidFileName(fileName)) {
+            LOGGER.log(Level.WARNING, LOG_INVALID_FILENAME);
+            throw new StorageException(ERROR_INVALID_FILENAME);
+        }
+        Path pathToFile = getFile(fileName).toPath();
+        Path pathToTempFile = pathToFile.resolveSibling(pathToFile.getFileName() + TEMP_FILE_EXTENSION);
+        try (FileChannel channel = FileChannel.open(pathToTempFile, StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            BinaryRecordWriter recordWriter = new BinaryRecordWriter(channel, binaryTokenizer.getVersion());
+            binaryTokenizer.tokenize(dataObjects.iterator(), recordWriter);
+            recordWriter.finish();
+            channel.force(false);
+        } catch (IOException exception) {
+            throw createWriteException(exception);
+        } catch (TokenizerException exception) {
+            throw new StorageException(ERROR_CANNOT_WRITE_FILE + exception.getMessage());
+        }
+        try {
+            moveAtomically(pathToTempFile, pathToFile);
+        } catch (IOException exception) {
+            throw createWriteException(exception);
+        }
+    }
+
+    /**
+     * Append pre-tokenized entries to the end of a data file without rewriting its existing contents. <br>
+     * <p>
+     * The entries are delimited exactly like in <code>saveData()</code>, so a file that is only ever appended to
+     * can still be read back with <code>loadData()</code>. <br>
+     * The fileName should be accessed via the public constant Storage.FILE_[feature].
+     *
+     * @param tokenizedEntries ArrayList of tokenized entries to append
+     * @param fileName         name of the file to be appended to
+     * @throws StorageException when there are unexpected IO errors
+     */
+    public void appendData(ArrayList<String> tokenizedEntries, String fileName) throws StorageException {
+        assert fileName != null : ASSERT_FILENAME_NOT_NULL;
+        assert fileName.length() > FILENAME_EMPTY : ASSERT_FILENAME_NOT_EMPTY;
+        assert tokenizedEntries != null : ASSERT_LIST_NOT_NULL;
+        if (!isValidFileName(fileName)) {
+            LOGGER.log(Level.WARNING, LOG_INVALID_FILENAME);
+            throw new StorageException(ERROR_INVALID_FILENAME);
+        }
+        File file = getFile(fileName);
+        String tokenizedString = tokenizeStringList(tokenizedEntries);
+        writeDataToDisk(tokenizedString, file, true);
     }
 
     /**
@@ -351,6 +636,292 @@ public class Storage {
         return detokenizeDataString(data);
     }
 
+    /**
+     * Load a feature's tokenized data from the Disk one entry at a time. <br>
+     * <p>
+     * Unlike <code>loadData(fileName)</code>, the file is never read into memory as a whole: each entry is
+     * passed on to the recordSink as soon as its delimiter has been read. <br>
+     * The fileName should be accessed via the public constant Storage.FILE_[feature].
+     *
+     * @param fileName   name of the file to be loaded
+     * @param recordSink RecordSink that receives each tokenized entry in the order it was saved
+     * @throws StorageException   when there are unexpected IO errors
+     * @throws TokenizerException when the recordSink cannot detokenize an entry
+     */
+    public void loadData(String fileName, RecordSink<String> recordSink) throws StorageException, TokenizerException {
+        assert fileName != null : ASSERT_FILENAME_NOT_NULL;
+        assert fileName.length() > FILENAME_EMPTY : ASSERT_FILENAME_NOT_EMPTY;
+        if (!isValidFileName(fileName)) {
+            LOGGER.log(Level.WARNING, LOG_INVALID_FILENAME);
+            throw new StorageException(ERROR_INVALID_FILENAME);
+        }
+        File file = getFile(fileName);
+        try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+            Iterator<String> records = new TextRecordIterator(channel);
+            while (records.hasNext()) {
+                recordSink.accept(records.next());
+            }
+        } catch (NoSuchFileException exception) {
+            // The file was removed outside of WellNUS++ after it was verified, treat it like an empty file
+        } catch (IOException exception) {
+            throw createLoadException(exception);
+        } catch (UncheckedIOException exception) {
+            throw createLoadException(exception.getCause());
+        }
+    }
+
+    /**
+     * Load a feature's data objects from the Disk, detecting the format the file was saved in. <br>
+     * <p>
+     * Files in the binary format are detokenized by the given BinaryTokenizer. Files still in the text format
+     * are detokenized by the given Tokenizer and then saved again in the binary format, so that the migration
+     * only happens once. <br>
+     * The fileName should be accessed via the public constant Storage.FILE_[feature].
+     *
+     * @param fileName        name of the file to be loaded
+     * @param textTokenizer   Tokenizer for files in the text format
+     * @param binaryTokenizer BinaryTokenizer for files in the binary format
+     * @param <T>             Data type of the corresponding feature
+     * @return ArrayList of the Manager's data objects
+     * @throws StorageException   when there are unexpected IO errors or the file is corrupted
+     * @throws TokenizerException when the records cannot be detokenized
+     */
+    public <T> ArrayList<T> loadData(String fileName, Tokenizer<T> textTokenizer,
+            BinaryTokenizer<T> binaryTokenizer) throws StorageException, TokenizerException {
+        ArrayList<T> dataObjects = new ArrayList<>();
+        loadData(fileName, textTokenizer, binaryTokenizer, dataObjects::add);
+        return dataObjects;
+    }
+
+    /**
+     * Load a feature's data objects from the Disk one at a time, detecting the format the file was saved in. <br>
+     * <p>
+     * Works like <code>loadData(fileName, textTokenizer, binaryTokenizer)</code>, except that each data object
+     * is passed on to the dataSink as soon as its record has been read and detokenized, instead of collecting
+     * them into a list. Large binary files are read into a direct buffer, so their records are never copied onto
+     * the heap.
+     * <br>
+     * The fileName should be accessed via the public constant Storage.FILE_[feature].
+     *
+     * @param fileName        name of the file to be loaded
+     * @param textTokenizer   Tokenizer for files in the text format
+     * @param binaryTokenizer BinaryTokenizer for files in the binary format
+     * @param dataSink        RecordSink that receives each data object in the order it was saved
+     * @param <T>             Data type of the corresponding feature
+     * @throws StorageException   when there are unexpected IO errors or the file is corrupted
+     * @throws TokenizerException when the records cannot be detokenized
+     */
+    public <T> void loadData(String fileName, Tokenizer<T> textTokenizer, BinaryTokenizer<T> binaryTokenizer,
+            RecordSink<T> dataSink) throws StorageException, TokenizerException {
+        assert fileName != null : ASSERT_FILENAME_NOT_NULL;
+        assert fileName.length() > FILENAME_EMPTY : ASSERT_FILENAME_NOT_EMPTY;
+        assert textTokenizer != null : ASSERT_TOKENIZER_NOT_NULL;
+        assert binaryTokenizer != null : ASSERT_TOKENIZER_NOT_NULL;
+        if (!isValidFileName(fileName)) {
+            LOGGER.log(Level.WARNING, LOG_INVALID_FILENAME);
+            throw new StorageException(ERROR_INVALID_FILENAME);
+        }
+        File file = getFile(fileName);
+        ArrayList<T> migratedDataObjects = new ArrayList<>();
+        try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+            if (isBinaryData(readHeader(channel))) {
+                ByteBuffer data = readBytes(channel, 0);
+                int version = data.getInt(data.position() + Integer.BYTES);
+                binaryTokenizer.detokenize(unframeRecords(data, fileName), version, dataSink);
+                return;
+            }
+            // Text files are only read once, as they are saved in the binary format straight afterwards
+            textTokenizer.detokenize(new TextRecordIterator(channel), dataObject -> {
+                migratedDataObjects.add(dataObject);
+                dataSink.accept(dataObject);
+            });
+        } catch (NoSuchFileException exception) {
+            // The file was removed outside of WellNUS++ after it was verified, treat it like an empty file
+        } catch (IOException exception) {
+            throw createLoadException(exception);
+        } catch (UncheckedIOException exception) {
+            throw createLoadException(exception.getCause());
+        }
+        saveData(migratedDataObjects, fileName, binaryTokenizer);
+        LOGGER.log(Level.INFO, LOG_MIGRATED_FILE + fileName);
+    }
+
+    private boolean isBinaryData(ByteBuffer data) {
+        return data.remaining() >= BINARY_HEADER_BYTES && data.getInt(data.position()) == BINARY_MAGIC;
+    }
+
+    /**
+     * Check the framing of the binary data after its header and iterate over its records. <br>
+     * Each record is a read-only view into the loaded data, so no bytes are copied.
+     *
+     * @param data     binary data loaded from the file, including the header
+     * @param fileName name of the file, for the error message
+     * @return Iterator over the records in the order they were saved
+     * @throws StorageException when the data is truncated or its record count does not match
+     */
+    private Iterator<ByteBuffer> unframeRecords(ByteBuffer data, String fileName) throws StorageException {
+        data.position(data.position() + BINARY_HEADER_BYTES - Integer.BYTES);
+        int numRecords = data.getInt();
+        // Every record takes at least the bytes of its length prefix
+        if (numRecords < 0 || numRecords > data.remaining() / Integer.BYTES) {
+            throw new StorageException(ERROR_CORRUPTED_FILE + fileName);
+        }
+        // Walk the length prefixes once up front, so that iterating can never run off the end of the data
+        int recordStart = data.position();
+        for (int i = 0; i < numRecords; ++i) {
+            if (data.limit() - recordStart < Integer.BYTES) {
+                throw new StorageException(ERROR_CORRUPTED_FILE + fileName);
+            }
+            int recordLength = data.getInt(recordStart);
+            recordStart += Integer.BYTES;
+            if (recordLength < 0 || recordLength > data.limit() - recordStart) {
+                throw new StorageException(ERROR_CORRUPTED_FILE + fileName);
+            }
+            recordStart += recordLength;
+        }
+        return new BinaryRecordIterator(data, numRecords);
+    }
+
+    /**
+     * Writes the binary header and length-prefixed records through a fixed-size buffer,
+     * then fills in the record count once every record has been written.
+     */
+    private static class BinaryRecordWriter implements RecordSink<ByteBuffer> {
+        private final FileChannel channel;
+        private final ByteBuffer writeBuffer;
+        private int numRecords;
+
+        private BinaryRecordWriter(FileChannel channel, int version) {
+            this.channel = channel;
+            this.writeBuffer = ByteBuffer.allocateDirect(WRITE_BUFFER_BYTES);
+            this.numRecords = 0;
+            // The record count is not known until the end, it is filled in by finish()
+            writeBuffer.putInt(BINARY_MAGIC).putInt(version).putInt(numRecords);
+        }
+
+        @Override
+        public void accept(ByteBuffer record) throws StorageException {
+            try {
+                if (writeBuffer.remaining() < Integer.BYTES + record.remaining()) {
+                    flushWriteBuffer();
+                }
+                writeBuffer.putInt(record.remaining());
+                if (record.remaining() > writeBuffer.remaining()) {
+                    // Records larger than the buffer are written straight from their own buffer
+                    flushWriteBuffer();
+                    writeFully(record);
+                } else {
+                    writeBuffer.put(record);
+                }
+            } catch (IOException exception) {
+                throw createWriteException(exception);
+            }
+            numRecords++;
+        }
+
+        private void finish() throws IOException {
+            flushWriteBuffer();
+            ByteBuffer recordCount = ByteBuffer.allocate(Integer.BYTES).putInt(numRecords).flip();
+            while (recordCount.hasRemaining()) {
+                channel.write(recordCount, RECORD_COUNT_OFFSET + recordCount.position());
+            }
+        }
+
+        private void flushWriteBuffer() throws IOException {
+            writeBuffer.flip();
+            writeFully(writeBuffer);
+            writeBuffer.clear();
+        }
+
+        private void writeFully(ByteBuffer data) throws IOException {
+            while (data.hasRemaining()) {
+                channel.write(data);
+            }
+        }
+    }
+
+    /**
+     * Iterates over binary records whose framing has already been checked, slicing each one off the data
+     * only when it is requested.
+     */
+    private static class BinaryRecordIterator implements Iterator<ByteBuffer> {
+        private final ByteBuffer data;
+        private int numRecordsLeft;
+
+        private BinaryRecordIterator(ByteBuffer data, int numRecords) {
+            this.data = data;
+            this.numRecordsLeft = numRecords;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return numRecordsLeft > 0;
+        }
+
+        @Override
+        public ByteBuffer next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            int recordLength = data.getInt();
+            ByteBuffer record = data.slice();
+            record.limit(recordLength);
+            data.position(data.position() + recordLength);
+            numRecordsLeft--;
+            return record.asReadOnlyBuffer();
+        }
+    }
+
+    /**
+     * Reads entries of a text data file one line at a time, so that only the current entry is held in memory.
+     * An entry ends at the first line ending with the delimiter, like splitting the file on
+     * <code>DELIMITER</code> would, and entries spanning several lines keep their line separators. <br>
+     * IO errors are rethrown as UncheckedIOException, as Iterator methods cannot throw checked exceptions.
+     */
+    private static class TextRecordIterator implements Iterator<String> {
+        private final BufferedReader reader;
+        private String nextRecord;
+
+        private TextRecordIterator(FileChannel channel) throws IOException {
+            channel.position(0);
+            this.reader = new BufferedReader(Channels.newReader(channel, FILE_CHARSET));
+            this.nextRecord = readRecord();
+        }
+
+        @Override
+        public boolean hasNext() {
+            return nextRecord != null;
+        }
+
+        @Override
+        public String next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            String record = nextRecord;
+            nextRecord = readRecord();
+            return record;
+        }
+
+        private String readRecord() {
+            StringBuilder record = new StringBuilder();
+            try {
+                String line = reader.readLine();
+                while (line != null) {
+                    if (line.endsWith(RECORD_TERMINATOR)) {
+                        return record.append(line, 0, line.length() - RECORD_TERMINATOR.length()).toString();
+                    }
+                    record.append(line).append(NEWLINE);
+                    line = reader.readLine();
+                }
+            } catch (IOException exception) {
+                throw new UncheckedIOException(exception);
+            }
+            // Trailing lines without a delimiter still form a last entry, like they did when splitting
+            return record.length() == 0 ? null : record.toString();
+        }
+    }
+
     /**
      * Deletes the file from the /data directory.
      *
@@ -367,6 +938,7 @@ public class Storage {
         }
         File file = getFile(fileName);
         boolean isDeleted = file.delete();
+        verifiedFileNames.remove(fileName);
         if (!isDeleted) {
             throw new StorageException(ERROR_CANNOT_DELETE_FILE);
         }
@@ -1,7 +1,9 @@
 package wellnus.storage;
 
 import java.util.ArrayList;
+import java.util.Iterator;
 
+import wellnus.exception.StorageException;
 import wellnus.exception.TokenizerException;
 
 /**
@@ -34,4 +36,24 @@ public interface Tokenizer<T> {
      * @throws TokenizerException If detokenizing fails and valid state cannot be restored
      */
     ArrayList<T> detokenize(ArrayList<String> tokenizedDataObjects) throws TokenizerException;
+
+    /**
+     * Streaming variant of <code>detokenize()</code> that converts the records as Storage reads them and passes
+     *     every data object on to <code>dataSink</code>, so that only one record has to be held at a time.<br/>
+     *
+     * The default implementation collects every record and calls <code>detokenize()</code>, which suits
+     *     tokenizers whose records depend on each other. Tokenizers with independent records should override it.
+     * @param tokenizedDataObjects String representation of the Data Objects, in the order they were saved
+     * @param dataSink RecordSink that receives each restored data object
+     * @throws StorageException If the records cannot be read, or dataSink cannot write a data object
+     * @throws TokenizerException If detokenizing fails and valid state cannot be restored
+     */
+    default void detokenize(Iterator<String> tokenizedDataObjects, RecordSink<T> dataSink)
+            throws StorageException, TokenizerException {
+        ArrayList<String> collectedDataObjects = new ArrayList<>();
+        tokenizedDataObjects.forEachRemaining(collectedDataObjects::add);
+        for (T dataObject : detokenize(collectedDataObjects)) {
+            dataSink.accept(dataObject);
+        }
+    }
 }
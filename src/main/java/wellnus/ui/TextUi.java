@@ -2,6 +2,7 @@ package wellnus.ui;
 
 import java.io.InputStream;
 import java.nio.BufferOverflowException;
+import java.util.ArrayDeque;
 import java.util.NoSuchElementException;
 import java.util.Scanner;
 import java.util.logging.Level;
@@ -29,6 +30,12 @@ public class TextUi {
             + "please key in input!";
     private static final String BUFFER_OVERFLOW_MSG = "Input is too long, please shorten your input!";
     private static final String CURSOR_CARET = "(%s):~$ ";
+    // Held while printing anything posted from another thread, and while the prompt is shown
+    private static final Object PROMPT_LOCK = new Object();
+    // Guarded by PROMPT_LOCK, notices posted while a command was running wait here for the next prompt
+    private static final ArrayDeque<String> PENDING_NOTICES = new ArrayDeque<>();
+    // Guarded by PROMPT_LOCK, the TextUi whose prompt is waiting for the user's input, if any
+    private static TextUi promptingUi;
     private Scanner scanner;
     private String separator = "-";
     private int separatorLength;
@@ -67,7 +74,13 @@ public class TextUi {
      * @return User input command with leading/dangling whitespace being removed
      */
     public String getCommand() {
-        printCursor();
+        synchronized (PROMPT_LOCK) {
+            while (!PENDING_NOTICES.isEmpty()) {
+                printOutputMessage(PENDING_NOTICES.poll());
+            }
+            printCursor();
+            promptingUi = this;
+        }
         String userCommand = "";
         try {
             String inputLine = scanner.nextLine();
@@ -78,10 +91,34 @@ public class TextUi {
         } catch (NoSuchElementException noElementException) {
             LOGGER.log(Level.INFO, NO_INPUT_ELEMENT_MSG);
             printErrorFor(noElementException, NO_INPUT_ELEMENT_MSG);
+        } finally {
+            synchronized (PROMPT_LOCK) {
+                promptingUi = null;
+            }
         }
         return userCommand;
     }
 
+    /**
+     * Shows a notice from a background thread, e.g. a habit reminder, without printing over other output.<br/>
+     * <br/>
+     * If a prompt is waiting for the user's input, the notice is printed below it and the prompt is shown again.
+     * Otherwise a command is running, and the notice is held back until just before the next prompt.
+     *
+     * @param notice Message to show the user
+     */
+    public static void postNotice(String notice) {
+        synchronized (PROMPT_LOCK) {
+            if (promptingUi == null) {
+                PENDING_NOTICES.add(notice);
+                return;
+            }
+            System.out.println();
+            promptingUi.printOutputMessage(notice);
+            promptingUi.printCursor();
+        }
+    }
+
     /**
      * Customise separators for each feature.<br/>
      * <br/>
@@ -190,6 +227,20 @@ public class TextUi {
     }
     //@@author
 
+    /**
+     * Print a single line of output with indentation, as it is and without building a message first.<br/>
+     * <br/>
+     * Commands that print many lines can print them one at a time between two calls to printSeparator(),
+     * instead of joining them into one message for printOutputMessage() to split again.
+     *
+     * @param line Line of output without line separators
+     */
+    public void printOutputLine(CharSequence line) {
+        printIndentation();
+        System.out.append(line);
+        System.out.println();
+    }
+
     /**
      * Prints a user-friendly cursor with the name of the feature the user is currently in.
      * <p>
@@ -0,0 +1,30 @@
+package wellnus.atomichabit.command;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import wellnus.atomichabit.feature.AtomicHabitList;
+import wellnus.command.CommandParser;
+import wellnus.exception.WellNusException;
+
+class AddCommandTest {
+    private final AtomicHabitList habitList = new AtomicHabitList(false);
+    private final CommandParser parser = new CommandParser();
+
+    @BeforeEach
+    void setUp() {
+        System.setOut(new PrintStream(new ByteArrayOutputStream()));
+    }
+
+    @Test
+    void execute_tagsWithCaseAndSpaces_tagsNormalized() throws WellNusException {
+        new AddCommand(parser.parseUserInput("add --name stretch --tag Fitness, morning"), habitList).execute();
+        assertEquals(List.of("fitness", "morning"), habitList.getHabitByIndex(0).getTags());
+    }
+}
@@ -0,0 +1,34 @@
+package wellnus.atomichabit.command;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import wellnus.atomichabit.feature.AtomicHabit;
+import wellnus.atomichabit.feature.AtomicHabitList;
+import wellnus.command.CommandParser;
+import wellnus.exception.WellNusException;
+
+class DeleteCommandTest {
+    private final AtomicHabitList habitList = new AtomicHabitList(false);
+    private final CommandParser parser = new CommandParser();
+
+    @BeforeEach
+    void setUp() {
+        System.setOut(new PrintStream(new ByteArrayOutputStream()));
+    }
+
+    @Test
+    void execute_nameWithoutSpaces_habitDeleted() throws WellNusException {
+        habitList.addAtomicHabit(new AtomicHabit("Read book"));
+        habitList.addAtomicHabit(new AtomicHabit("Swim"));
+        new DeleteCommand(parser.parseUserInput("delete --name readbook"), habitList).execute();
+        assertNull(habitList.getHabitByName("Read book"));
+        assertEquals(1, habitList.getAllHabits().size());
+    }
+}
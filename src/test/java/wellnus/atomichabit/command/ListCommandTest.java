@@ -0,0 +1,75 @@
+package wellnus.atomichabit.command;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import wellnus.atomichabit.feature.AtomicHabit;
+import wellnus.atomichabit.feature.AtomicHabitList;
+import wellnus.atomichabit.feature.AtomicHabitUi;
+import wellnus.command.CommandParser;
+import wellnus.exception.WellNusException;
+
+class ListCommandTest {
+    private static final String LIST_HEADER = "Here is the current accumulation of your atomic habits!"
+            + System.lineSeparator()
+            + "Keep up the good work and you will develop a helpful habit in no time";
+    private final AtomicHabitList habitList = new AtomicHabitList(false);
+    private final ByteArrayOutputStream outputStreamCaptor = new ByteArrayOutputStream();
+    private final CommandParser parser = new CommandParser();
+
+    @BeforeEach
+    void setUp() {
+        System.setOut(new PrintStream(outputStreamCaptor));
+    }
+
+    private String getMessageFrom(String uiOutput) {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        System.setOut(new PrintStream(outputStream));
+        new AtomicHabitUi().printSeparator();
+        String separator = outputStream.toString().trim();
+        StringBuilder resultBuilder = new StringBuilder();
+        for (String outputLine : uiOutput.split(System.lineSeparator())) {
+            String trimmedOutputLine = outputLine.trim();
+            if (!trimmedOutputLine.equals(separator)) {
+                resultBuilder.append(trimmedOutputLine).append(System.lineSeparator());
+            }
+        }
+        return resultBuilder.toString().trim();
+    }
+
+    @Test
+    void execute_sortedPageWithMinCount_onlyPagePrinted() throws WellNusException {
+        int[] counts = {4, 9, 1, 7, 3, 8};
+        for (int i = 0; i < counts.length; ++i) {
+            habitList.addAtomicHabit(new AtomicHabit("habit" + i, counts[i]));
+        }
+        new ListCommand(parser.parseUserInput("list --sort count --min-count 3 --page 2 --size 2"), habitList)
+                .execute();
+        String expectedOutput = LIST_HEADER + System.lineSeparator()
+                + "4.habit3 [7]" + System.lineSeparator()
+                + "1.habit0 [4]" + System.lineSeparator()
+                + "Page 2 of 3";
+        assertEquals(expectedOutput, getMessageFrom(outputStreamCaptor.toString()));
+    }
+
+    @Test
+    void execute_byTags_onlyHabitsWithAllTagsPrinted() throws WellNusException {
+        List<String> addCommands = List.of("add --name run --tag fitness,morning", "add --name read --tag evening",
+                "add --name swim --tag fitness", "add --name stretch --tag fitness,morning");
+        for (String addCommand : addCommands) {
+            new AddCommand(parser.parseUserInput(addCommand), habitList).execute();
+        }
+        outputStreamCaptor.reset();
+        new ListCommand(parser.parseUserInput("list --tag fitness,morning"), habitList).execute();
+        String expectedOutput = LIST_HEADER + System.lineSeparator()
+                + "1.run [1] #fitness #morning" + System.lineSeparator()
+                + "4.stretch [1] #fitness #morning";
+        assertEquals(expectedOutput, getMessageFrom(outputStreamCaptor.toString()));
+    }
+}
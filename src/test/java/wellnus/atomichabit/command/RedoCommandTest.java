@@ -0,0 +1,46 @@
+package wellnus.atomichabit.command;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.time.LocalDate;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import wellnus.atomichabit.feature.AtomicHabit;
+import wellnus.atomichabit.feature.AtomicHabitList;
+import wellnus.atomichabit.feature.HabitStats;
+import wellnus.command.CommandParser;
+import wellnus.exception.WellNusException;
+import wellnus.gamification.util.GamificationData;
+
+class RedoCommandTest {
+    private final AtomicHabitList habitList = new AtomicHabitList(false);
+    private final GamificationData gamificationData = new GamificationData();
+    private final CommandParser parser = new CommandParser();
+
+    @BeforeEach
+    void setUp() {
+        System.setOut(new PrintStream(new ByteArrayOutputStream()));
+    }
+
+    @Test
+    void execute_afterUndoneUpdate_xpAwardedAgain() throws WellNusException {
+        AtomicHabit run = new AtomicHabit("run");
+        habitList.addAtomicHabit(run);
+        new UpdateCommand(parser.parseUserInput("update --id 1 --by 3"), habitList, gamificationData).execute();
+        assertEquals(3, gamificationData.getTotalXp());
+        new UndoCommand(parser.parseUserInput("undo"), habitList, gamificationData).execute();
+        assertEquals(0, gamificationData.getTotalXp());
+        new RedoCommand(parser.parseUserInput("redo"), habitList, gamificationData).execute();
+        assertEquals(3, gamificationData.getTotalXp());
+        assertEquals(4, run.getCount());
+        HabitStats stats = run.getEventHistory().getStats();
+        assertEquals(1, stats.getCurrentStreak(LocalDate.now().toEpochDay()));
+        // There is nothing left to redo, so no more XP is awarded
+        new RedoCommand(parser.parseUserInput("redo"), habitList, gamificationData).execute();
+        assertEquals(3, gamificationData.getTotalXp());
+    }
+}
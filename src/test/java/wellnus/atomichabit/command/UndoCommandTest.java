@@ -0,0 +1,54 @@
+package wellnus.atomichabit.command;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.time.LocalDate;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import wellnus.atomichabit.feature.AtomicHabit;
+import wellnus.atomichabit.feature.AtomicHabitList;
+import wellnus.atomichabit.feature.HabitStats;
+import wellnus.command.CommandParser;
+import wellnus.exception.WellNusException;
+import wellnus.gamification.util.GamificationData;
+
+class UndoCommandTest {
+    private final AtomicHabitList habitList = new AtomicHabitList(false);
+    private final GamificationData gamificationData = new GamificationData();
+    private final CommandParser parser = new CommandParser();
+
+    @BeforeEach
+    void setUp() {
+        System.setOut(new PrintStream(new ByteArrayOutputStream()));
+    }
+
+    @Test
+    void execute_afterUpdate_xpTakenBack() throws WellNusException {
+        habitList.addAtomicHabit(new AtomicHabit("run"));
+        new UpdateCommand(parser.parseUserInput("update --id 1 --by 3"), habitList, gamificationData).execute();
+        assertEquals(3, gamificationData.getTotalXp());
+        new UndoCommand(parser.parseUserInput("undo"), habitList, gamificationData).execute();
+        assertEquals(0, gamificationData.getTotalXp());
+        assertEquals(1, habitList.getHabitByIndex(0).getCount());
+        // Undoing the add takes back no XP
+        new UndoCommand(parser.parseUserInput("undo"), habitList, gamificationData).execute();
+        assertEquals(0, gamificationData.getTotalXp());
+    }
+
+    @Test
+    void execute_afterUpdate_dayNoLongerInStreaks() throws WellNusException {
+        AtomicHabit run = new AtomicHabit("run");
+        habitList.addAtomicHabit(run);
+        new UpdateCommand(parser.parseUserInput("update --id 1 --by 2"), habitList, gamificationData).execute();
+        long today = LocalDate.now().toEpochDay();
+        HabitStats stats = run.getEventHistory().getStats();
+        assertEquals(1, stats.getCurrentStreak(today));
+        new UndoCommand(parser.parseUserInput("undo"), habitList, gamificationData).execute();
+        assertEquals(0, stats.getCurrentStreak(today));
+        assertEquals(0, stats.getLongestStreak());
+    }
+}
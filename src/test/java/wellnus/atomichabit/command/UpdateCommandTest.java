@@ -0,0 +1,92 @@
+package wellnus.atomichabit.command;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import wellnus.atomichabit.feature.AtomicHabit;
+import wellnus.atomichabit.feature.AtomicHabitList;
+import wellnus.command.Command;
+import wellnus.command.CommandParser;
+import wellnus.exception.AtomicHabitException;
+import wellnus.exception.WellNusException;
+import wellnus.gamification.util.GamificationData;
+
+class UpdateCommandTest {
+    private final AtomicHabitList habitList = new AtomicHabitList(false);
+    private final GamificationData gamificationData = new GamificationData();
+    private final CommandParser parser = new CommandParser();
+
+    @BeforeEach
+    void setUp() {
+        System.setOut(new PrintStream(new ByteArrayOutputStream()));
+    }
+
+    @Test
+    void execute_indexListAndRange_eachHabitUpdatedOnce() throws WellNusException {
+        for (String name : new String[]{"a", "b", "c", "d", "e"}) {
+            habitList.addAtomicHabit(new AtomicHabit(name));
+        }
+        new UpdateCommand(parser.parseUserInput("update --id 1,3-4,4 --by 2"), habitList, gamificationData)
+                .execute();
+        assertEquals(3, habitList.getHabitByIndex(0).getCount());
+        assertEquals(1, habitList.getHabitByIndex(1).getCount());
+        assertEquals(3, habitList.getHabitByIndex(2).getCount());
+        assertEquals(3, habitList.getHabitByIndex(3).getCount());
+        assertEquals(1, habitList.getHabitByIndex(4).getCount());
+    }
+
+    @Test
+    void execute_indexRange_xpAwardedForEveryHabit() throws WellNusException {
+        for (String name : new String[]{"a", "b", "c"}) {
+            habitList.addAtomicHabit(new AtomicHabit(name));
+        }
+        new UpdateCommand(parser.parseUserInput("update --id 1-3 --by 2"), habitList, gamificationData).execute();
+        assertEquals(6, gamificationData.getTotalXp());
+    }
+
+    @Test
+    void execute_batchWithInvalidDecrement_noHabitUpdated() throws WellNusException {
+        habitList.addAtomicHabit(new AtomicHabit("a", 5));
+        habitList.addAtomicHabit(new AtomicHabit("b", 1));
+        Command updateCommand = new UpdateCommand(parser.parseUserInput("update --id 1-2 --by -3"), habitList,
+                gamificationData);
+        assertThrows(AtomicHabitException.class, updateCommand::execute);
+        assertEquals(5, habitList.getHabitByIndex(0).getCount());
+        assertEquals(1, habitList.getHabitByIndex(1).getCount());
+    }
+
+    @Test
+    void execute_rangePastLastHabit_noHabitUpdated() throws WellNusException {
+        habitList.addAtomicHabit(new AtomicHabit("a"));
+        habitList.addAtomicHabit(new AtomicHabit("b"));
+        Command updateCommand = new UpdateCommand(parser.parseUserInput("update --id 2-3"), habitList,
+                gamificationData);
+        assertThrows(AtomicHabitException.class, updateCommand::execute);
+        assertEquals(1, habitList.getHabitByIndex(1).getCount());
+    }
+
+    @Test
+    void execute_byName_habitUpdated() throws WellNusException {
+        habitList.addAtomicHabit(new AtomicHabit("Read book"));
+        habitList.addAtomicHabit(new AtomicHabit("Swim"));
+        new UpdateCommand(parser.parseUserInput("update --name swim --by -1"), habitList, gamificationData)
+                .execute();
+        assertEquals(0, habitList.getHabitByName("Swim").getCount());
+    }
+
+    @Test
+    void execute_misspeltName_closestHabitSuggested() throws WellNusException {
+        habitList.addAtomicHabit(new AtomicHabit("Read book"));
+        Command updateCommand = new UpdateCommand(parser.parseUserInput("update --name red book"), habitList,
+                gamificationData);
+        AtomicHabitException exception = assertThrows(AtomicHabitException.class, updateCommand::execute);
+        assertTrue(exception.getMessage().contains("Read book"));
+    }
+}
@@ -0,0 +1,182 @@
+package wellnus.atomichabit.feature;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.List;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import wellnus.exception.StorageException;
+import wellnus.exception.TokenizerException;
+
+public class AtomicHabitListTest {
+    private static final Path HABIT_FILE = Path.of("data", "habit.txt");
+    private static final Path HABIT_JOURNAL_FILE = Path.of("data", "habitjournal.txt");
+
+    @Test
+    void undo_delete_habitRestoredWhereItWas() {
+        AtomicHabitList habitList = new AtomicHabitList(false);
+        AtomicHabit run = new AtomicHabit("run");
+        habitList.addAtomicHabit(run);
+        habitList.addAtomicHabit(new AtomicHabit("read"));
+        habitList.deleteAtomicHabit(run);
+        HabitOperation undoneOperation = habitList.undo();
+        Assertions.assertEquals(HabitOperation.TYPE_DELETE, undoneOperation.getType());
+        Assertions.assertSame(run, habitList.getHabitByIndex(0));
+        Assertions.assertSame(run, habitList.getHabitByName("RUN"));
+    }
+
+    @Test
+    void undo_update_countsRestoredAndXpReported() {
+        AtomicHabitList habitList = new AtomicHabitList(false);
+        AtomicHabit run = new AtomicHabit("run", 1);
+        AtomicHabit read = new AtomicHabit("read", 2);
+        habitList.addAtomicHabit(run);
+        habitList.addAtomicHabit(read);
+        habitList.updateHabitCounts(List.of(run, read), 3, 6);
+        HabitOperation undoneOperation = habitList.undo();
+        Assertions.assertEquals(6, undoneOperation.getXpAwarded());
+        Assertions.assertEquals(1, run.getCount());
+        Assertions.assertEquals(2, read.getCount());
+    }
+
+    @Test
+    void redo_undoneUpdate_countsChangedAgain() {
+        AtomicHabitList habitList = new AtomicHabitList(false);
+        AtomicHabit run = new AtomicHabit("run", 1);
+        habitList.addAtomicHabit(run);
+        habitList.updateHabitCounts(List.of(run), 3);
+        HabitOperation undoneOperation = habitList.undo();
+        Assertions.assertSame(undoneOperation, habitList.redo());
+        Assertions.assertEquals(4, run.getCount());
+    }
+
+    @Test
+    void redo_newOperationAfterUndo_nothingToRedo() {
+        AtomicHabitList habitList = new AtomicHabitList(false);
+        AtomicHabit run = new AtomicHabit("run");
+        habitList.addAtomicHabit(run);
+        habitList.deleteAtomicHabit(run);
+        habitList.undo();
+        habitList.addAtomicHabit(new AtomicHabit("swim"));
+        Assertions.assertNull(habitList.redo());
+        Assertions.assertEquals(2, habitList.getAllHabits().size());
+    }
+
+    @Test
+    void undo_deleteOfLastHabit_historyReloadedFromJournal()
+            throws IOException, StorageException, TokenizerException {
+        byte[] savedHabits = readIfExists(HABIT_FILE);
+        byte[] savedJournal = readIfExists(HABIT_JOURNAL_FILE);
+        try {
+            Files.deleteIfExists(HABIT_FILE);
+            Files.deleteIfExists(HABIT_JOURNAL_FILE);
+            AtomicHabitList habitList = new AtomicHabitList(false);
+            AtomicHabit habit = new AtomicHabit("read", 0);
+            habitList.addAtomicHabit(habit);
+            habitList.increaseHabitCount(habit, 2);
+            habitList.storeHabitData();
+            habitList.deleteAtomicHabit(habit);
+            habitList.undo();
+            habitList.storeHabitData();
+            AtomicHabitList loadedList = new AtomicHabitList(false);
+            loadedList.loadHabitData();
+            AtomicHabit loadedHabit = loadedList.getAllHabits().get(0);
+            Assertions.assertEquals(2, loadedHabit.getCount());
+            Assertions.assertEquals(1, loadedHabit.getEventHistory().getNumEvents());
+        } finally {
+            restore(HABIT_FILE, savedHabits);
+            restore(HABIT_JOURNAL_FILE, savedJournal);
+        }
+    }
+
+    @Test
+    void undo_updateOnPreviousDay_dayNoLongerCounted() {
+        LocalDate today = LocalDate.now();
+        long yesterdayNoon = today.minusDays(1).atTime(12, 0).atZone(ZoneId.systemDefault()).toEpochSecond();
+        AtomicHabitList habitList = new AtomicHabitList(false);
+        AtomicHabit habit = new AtomicHabit("read", 0);
+        habitList.addAtomicHabit(habit);
+        habitList.updateHabitCounts(List.of(habit), 1, 0, yesterdayNoon);
+        Assertions.assertEquals(1, habit.getEventHistory().getStats().getCurrentStreak(today.toEpochDay()));
+        habitList.undo();
+        HabitStats stats = habit.getEventHistory().getStats();
+        Assertions.assertEquals(0, habit.getCount());
+        Assertions.assertEquals(0, stats.getCurrentStreak(today.toEpochDay()));
+        Assertions.assertEquals(0, stats.getLongestStreak());
+        Assertions.assertEquals(yesterdayNoon, habit.getEventHistory().getTimestamp(1));
+    }
+
+    @Test
+    void scheduleStoreHabitData_unchangedList_saveSkipped() throws StorageException {
+        AtomicHabitList habitList = new AtomicHabitList(false);
+        Assertions.assertFalse(habitList.hasUnsavedChanges());
+        habitList.scheduleStoreHabitData();
+        Assertions.assertEquals(1, habitList.getNumSavesSkipped());
+        Assertions.assertEquals(0, habitList.getNumSavesPerformed());
+    }
+
+    @Test
+    void addAtomicHabit_unchangedList_unsavedChanges() {
+        AtomicHabitList habitList = new AtomicHabitList(false);
+        habitList.addAtomicHabit(new AtomicHabit("read"));
+        Assertions.assertTrue(habitList.hasUnsavedChanges());
+    }
+
+    @Test
+    void getHabitByName_differentCaseAndSpacing_habitFound() {
+        AtomicHabitList habitList = new AtomicHabitList(false);
+        AtomicHabit habit = new AtomicHabit("Read Book");
+        habitList.addAtomicHabit(habit);
+        Assertions.assertSame(habit, habitList.getHabitByName("READBOOK"));
+        Assertions.assertTrue(habitList.hasDuplicateOf("read  book"));
+    }
+
+    @Test
+    void getHabitByName_deletedHabit_notFound() {
+        AtomicHabitList habitList = new AtomicHabitList(false);
+        AtomicHabit habit = new AtomicHabit("Read Book");
+        habitList.addAtomicHabit(habit);
+        habitList.deleteAtomicHabit(habit);
+        Assertions.assertNull(habitList.getHabitByName("Read Book"));
+        Assertions.assertFalse(habitList.hasDuplicateOf("Read Book"));
+    }
+
+    @Test
+    void getSortedHabitIndexes_countsUpdated_nameOrderKept() {
+        AtomicHabitList habitList = new AtomicHabitList(false);
+        habitList.addAtomicHabit(new AtomicHabit("swim", 4));
+        habitList.addAtomicHabit(new AtomicHabit("read", 9));
+        int[] sortedByName = habitList.getSortedHabitIndexes(AtomicHabitList.SORT_BY_NAME);
+        habitList.updateHabitCounts(List.of(habitList.getHabitByIndex(0)), 10);
+        Assertions.assertSame(sortedByName, habitList.getSortedHabitIndexes(AtomicHabitList.SORT_BY_NAME));
+    }
+
+    @Test
+    void getSortedHabitIndexes_countsUpdated_countAndRecentOrdersResorted() {
+        AtomicHabitList habitList = new AtomicHabitList(false);
+        habitList.addAtomicHabit(new AtomicHabit("swim", 4));
+        habitList.addAtomicHabit(new AtomicHabit("read", 9));
+        habitList.addAtomicHabit(new AtomicHabit("run", 1));
+        Assertions.assertEquals(1, habitList.getSortedHabitIndexes(AtomicHabitList.SORT_BY_COUNT)[0]);
+        habitList.updateHabitCounts(List.of(habitList.getHabitByIndex(2)), 10);
+        Assertions.assertEquals(2, habitList.getSortedHabitIndexes(AtomicHabitList.SORT_BY_COUNT)[0]);
+        Assertions.assertEquals(2, habitList.getSortedHabitIndexes(AtomicHabitList.SORT_BY_RECENT)[0]);
+    }
+
+    private byte[] readIfExists(Path file) throws IOException {
+        return Files.exists(file) ? Files.readAllBytes(file) : null;
+    }
+
+    private void restore(Path file, byte[] content) throws IOException {
+        if (content == null) {
+            Files.deleteIfExists(file);
+        } else {
+            Files.write(file, content);
+        }
+    }
+}
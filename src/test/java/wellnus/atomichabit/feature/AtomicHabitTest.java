@@ -0,0 +1,28 @@
+package wellnus.atomichabit.feature;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class AtomicHabitTest {
+    @Test
+    void constructor_equalDescriptions_descriptionShared() {
+        AtomicHabit run = new AtomicHabit(new String("run"), 1);
+        AtomicHabit otherRun = new AtomicHabit(new String("run"), 2);
+        Assertions.assertSame(run.getDescription(), otherRun.getDescription());
+    }
+
+    @Test
+    void constructor_descriptionAlreadyNormalized_normalizedDescriptionShared() {
+        AtomicHabit run = new AtomicHabit(new String("run"), 1);
+        Assertions.assertSame(run.getDescription(), run.getNormalizedDescription());
+    }
+
+    @Test
+    void constructor_equalTags_tagsShared() {
+        AtomicHabit run = new AtomicHabit("run", 1, new HabitEventHistory(), List.of(new String("fitness")));
+        AtomicHabit swim = new AtomicHabit("swim", 1, new HabitEventHistory(), List.of(new String("fitness")));
+        Assertions.assertSame(run.getTags().get(0), swim.getTags().get(0));
+    }
+}
@@ -0,0 +1,68 @@
+package wellnus.atomichabit.feature;
+
+import java.time.LocalDate;
+import java.time.ZoneId;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class HabitEventHistoryTest {
+    @Test
+    void record_outOfOrderEvents_rangeQueriesCorrect() {
+        HabitEventHistory eventHistory = new HabitEventHistory();
+        for (long time = 0; time < 100; time += 10) {
+            eventHistory.record(time, 1);
+        }
+        eventHistory.record(25L, -3);
+        Assertions.assertEquals(11, eventHistory.getNumEvents());
+        Assertions.assertEquals(25L, eventHistory.getTimestamp(3));
+        Assertions.assertEquals(3, eventHistory.countEventsBetween(20L, 40L));
+        Assertions.assertEquals(-1, eventHistory.sumDeltasBetween(20L, 40L));
+        Assertions.assertEquals(0, eventHistory.countEventsBetween(91L, 100L));
+        HabitEventHistory copiedHistory = eventHistory.copy();
+        eventHistory.record(200L, 1);
+        Assertions.assertEquals(11, copiedHistory.getNumEvents());
+    }
+
+    @Test
+    void record_dayInStreakUndone_streaksRecomputed() {
+        LocalDate today = LocalDate.of(2024, 3, 31);
+        HabitEventHistory eventHistory = new HabitEventHistory();
+        for (int daysAgo = 4; daysAgo >= 0; --daysAgo) {
+            eventHistory.record(getNoonOf(today.minusDays(daysAgo)), 1);
+        }
+        // Undoing the update of two days ago splits the streak
+        eventHistory.record(getNoonOf(today.minusDays(2)) + 1, -1);
+        HabitStats stats = eventHistory.getStats();
+        Assertions.assertEquals(2, stats.getCurrentStreak(today.toEpochDay()));
+        Assertions.assertEquals(2, stats.getLongestStreak());
+        // Histories loaded from files without analytics compute the same streaks from their events
+        long[] timestamps = new long[eventHistory.getNumEvents()];
+        int[] deltas = new int[eventHistory.getNumEvents()];
+        for (int i = 0; i < timestamps.length; ++i) {
+            timestamps[i] = eventHistory.getTimestamp(i);
+            deltas[i] = eventHistory.getDelta(i);
+        }
+        Assertions.assertEquals(2, new HabitEventHistory(timestamps, deltas).getStats().getLongestStreak());
+    }
+
+    @Test
+    void getStats_noEvents_emptyAnalytics() {
+        HabitEventHistory eventHistory = new HabitEventHistory();
+        Assertions.assertEquals(0, eventHistory.getStats().getDailyTotal(0));
+        Assertions.assertEquals(0, eventHistory.copy().getStats().getLongestStreak());
+    }
+
+    @Test
+    void record_firstEvent_dayTracked() {
+        HabitEventHistory eventHistory = new HabitEventHistory();
+        HabitStats stats = eventHistory.getStats();
+        eventHistory.record(1000L, 2);
+        Assertions.assertEquals(1, eventHistory.getNumEvents());
+        Assertions.assertEquals(2, stats.getCountInLastDays(stats.getLatestDay(), HabitStats.WEEK_LENGTH));
+    }
+
+    private long getNoonOf(LocalDate date) {
+        return date.atTime(12, 0).atZone(ZoneId.systemDefault()).toEpochSecond();
+    }
+}
@@ -0,0 +1,24 @@
+package wellnus.atomichabit.feature;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class HabitOperationHistoryTest {
+    @Test
+    void record_overCapacity_oldestOperationsDropped() {
+        HabitOperationHistory operationHistory = new HabitOperationHistory(3);
+        for (int i = 0; i < 5; ++i) {
+            operationHistory.record(HabitOperation.forAdd(new AtomicHabit("habit" + i), i));
+        }
+        Assertions.assertEquals(3, operationHistory.getNumUndoable());
+        Assertions.assertEquals("add 'habit4'", operationHistory.undo().toString());
+        Assertions.assertEquals("add 'habit3'", operationHistory.undo().toString());
+        Assertions.assertEquals("add 'habit2'", operationHistory.undo().toString());
+        Assertions.assertNull(operationHistory.undo());
+        Assertions.assertEquals(3, operationHistory.getNumRedoable());
+        Assertions.assertEquals("add 'habit2'", operationHistory.redo().toString());
+        operationHistory.record(HabitOperation.forAdd(new AtomicHabit("habit5"), 5));
+        Assertions.assertEquals(0, operationHistory.getNumRedoable());
+        Assertions.assertEquals("add 'habit5'", operationHistory.undo().toString());
+    }
+}
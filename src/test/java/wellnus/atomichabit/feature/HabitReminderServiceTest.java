@@ -0,0 +1,68 @@
+package wellnus.atomichabit.feature;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import wellnus.exception.StorageException;
+import wellnus.exception.TokenizerException;
+import wellnus.storage.PersistenceService;
+import wellnus.storage.Storage;
+
+public class HabitReminderServiceTest {
+    @Test
+    void fireDueReminders_dueReminders_eachFiredOnce() throws StorageException {
+        long now = LocalDateTime.of(2024, 3, 31, 8, 0).toEpochSecond(ZoneOffset.UTC);
+        ArrayList<String> notices = new ArrayList<>();
+        HabitReminderService service = new HabitReminderService(
+                Clock.fixed(Instant.ofEpochSecond(now), ZoneOffset.UTC), notices::add);
+        service.setReminder(new HabitReminder("read", HabitReminder.TYPE_DAILY, 7 * 60, now - 3600));
+        service.setReminder(new HabitReminder("water", HabitReminder.TYPE_INTERVAL, 2, now));
+        service.setReminder(new HabitReminder("run", HabitReminder.TYPE_INTERVAL, 1, now + 60));
+        // Replacing a reminder leaves its old entry behind, which must not fire
+        service.setReminder(new HabitReminder("Run", HabitReminder.TYPE_INTERVAL, 1, now + 120));
+        Assertions.assertEquals(2, service.fireDueReminders());
+        Assertions.assertEquals(2, notices.size());
+        Assertions.assertTrue(notices.get(0).contains("read") && notices.get(0).contains("missed"));
+        Assertions.assertTrue(notices.get(1).contains("water") && !notices.get(1).contains("missed"));
+        Assertions.assertEquals(0, service.fireDueReminders());
+        Assertions.assertEquals(now + 2 * 3600, service.getReminder("water").getNextDueEpochSecond());
+        Assertions.assertEquals(now + 23 * 3600, service.getReminder("read").getNextDueEpochSecond());
+        Assertions.assertEquals(now + 120, service.getReminder("run").getNextDueEpochSecond());
+        Assertions.assertNotNull(service.removeReminder("WATER"));
+        Assertions.assertEquals(2, service.getReminders().size());
+    }
+
+    @Test
+    void setReminder_savedRemindersUnreadable_notOverwritten() throws StorageException, TokenizerException {
+        Storage storage = Storage.getInstance();
+        ArrayList<String> savedReminders = storage.checkFileExists(Storage.FILE_HABIT_REMINDER)
+                ? storage.loadData(Storage.FILE_HABIT_REMINDER)
+                : new ArrayList<>();
+        try {
+            storage.saveData(new ArrayList<>(List.of("corrupted")), Storage.FILE_HABIT_REMINDER);
+            long now = LocalDateTime.of(2024, 3, 31, 8, 0).toEpochSecond(ZoneOffset.UTC);
+            HabitReminderService service = new HabitReminderService(
+                    Clock.fixed(Instant.ofEpochSecond(now), ZoneOffset.UTC), notice -> { });
+            Assertions.assertThrows(TokenizerException.class, service::start);
+            HabitReminder reminder = new HabitReminder("read", HabitReminder.TYPE_INTERVAL, 1, now + 60);
+            Assertions.assertThrows(StorageException.class, () -> service.setReminder(reminder));
+            PersistenceService.getInstance().flush();
+            Assertions.assertEquals(List.of("corrupted"), storage.loadData(Storage.FILE_HABIT_REMINDER));
+            Assertions.assertSame(reminder, service.getReminder("read"));
+            // Once the file can be loaded, the reminders are saved again
+            storage.saveData(new ArrayList<>(), Storage.FILE_HABIT_REMINDER);
+            service.setReminder(reminder);
+            PersistenceService.getInstance().flush();
+            Assertions.assertTrue(storage.loadData(Storage.FILE_HABIT_REMINDER).get(0).contains("read"));
+        } finally {
+            storage.saveData(savedReminders, Storage.FILE_HABIT_REMINDER);
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package wellnus.atomichabit.feature;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class HabitReminderTest {
+    @Test
+    void getNextDueAfter_missedTimes_skippedKeepingPhase() {
+        ZoneId zone = ZoneOffset.UTC;
+        long now = LocalDateTime.of(2024, 3, 31, 8, 0).toEpochSecond(ZoneOffset.UTC);
+        HabitReminder dailyReminder = HabitReminder.createDaily("read", 7 * 60 + 30, now, zone);
+        long tomorrowAtSevenThirty = LocalDateTime.of(2024, 4, 1, 7, 30).toEpochSecond(ZoneOffset.UTC);
+        Assertions.assertEquals(tomorrowAtSevenThirty, dailyReminder.getNextDueEpochSecond());
+        Assertions.assertEquals("daily at 07:30", dailyReminder.getScheduleDescription());
+        // Three days later, the missed reminders are skipped
+        long nextAfterMissed = dailyReminder.getNextDueAfter(tomorrowAtSevenThirty + 3 * 24 * 3600, zone);
+        Assertions.assertEquals(tomorrowAtSevenThirty + 4 * 24 * 3600, nextAfterMissed);
+
+        HabitReminder intervalReminder = HabitReminder.createInterval("water", 3, now);
+        Assertions.assertEquals(now + 3 * 3600, intervalReminder.getNextDueEpochSecond());
+        Assertions.assertEquals(now + 3 * 3600, intervalReminder.getNextDueAfter(now, zone));
+        // Seven hours after it was due, the next time is still a whole number of intervals after it
+        Assertions.assertEquals(now + 12 * 3600, intervalReminder.getNextDueAfter(now + 10 * 3600, zone));
+        Assertions.assertEquals(HabitReminder.INVALID_TIME_OF_DAY, HabitReminder.parseMinuteOfDay("25:00"));
+        Assertions.assertEquals(23 * 60 + 59, HabitReminder.parseMinuteOfDay("23:59"));
+    }
+}
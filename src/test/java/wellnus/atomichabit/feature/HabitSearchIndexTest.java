@@ -0,0 +1,47 @@
+package wellnus.atomichabit.feature;
+
+import java.util.ArrayList;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class HabitSearchIndexTest {
+    private HabitSearchIndex getIndexOf(String... descriptions) {
+        HabitSearchIndex searchIndex = new HabitSearchIndex();
+        for (String description : descriptions) {
+            searchIndex.add(new AtomicHabit(description));
+        }
+        return searchIndex;
+    }
+
+    @Test
+    void search_prefixAndSubstringMatches_exactMatchFirst() {
+        HabitSearchIndex searchIndex = getIndexOf("Running", "Run", "Morning run", "Read book", "Swim");
+        ArrayList<AtomicHabit> matches = searchIndex.search("run", 10);
+        Assertions.assertEquals(3, matches.size());
+        Assertions.assertEquals("Run", matches.get(0).getDescription());
+        Assertions.assertEquals("Running", matches.get(1).getDescription());
+        Assertions.assertEquals("Morning run", matches.get(2).getDescription());
+    }
+
+    @Test
+    void search_typo_closestHabitFound() {
+        HabitSearchIndex searchIndex = getIndexOf("Running", "Read book", "Swim");
+        Assertions.assertEquals("Running", searchIndex.search("runing", 1).get(0).getDescription());
+    }
+
+    @Test
+    void search_removedHabit_notFound() {
+        HabitSearchIndex searchIndex = getIndexOf("Run", "Morning run");
+        AtomicHabit running = new AtomicHabit("Running");
+        searchIndex.add(running);
+        searchIndex.remove(running);
+        Assertions.assertEquals(2, searchIndex.search("run", 10).size());
+    }
+
+    @Test
+    void search_unrelatedText_noMatches() {
+        HabitSearchIndex searchIndex = getIndexOf("Running", "Read book", "Swim");
+        Assertions.assertTrue(searchIndex.search("xyz", 10).isEmpty());
+    }
+}
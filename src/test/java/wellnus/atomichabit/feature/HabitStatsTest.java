@@ -0,0 +1,92 @@
+package wellnus.atomichabit.feature;
+
+import java.time.LocalDate;
+import java.time.ZoneId;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class HabitStatsTest {
+    private long getNoonOf(LocalDate date) {
+        return date.atTime(12, 0).atZone(ZoneId.systemDefault()).toEpochSecond();
+    }
+
+    @Test
+    void record_incrementalUpdates_streaksAndRollingCounts() {
+        LocalDate today = LocalDate.of(2024, 3, 31);
+        HabitStats stats = new HabitStats();
+        // Active on days 20 to 17 ago, then on the last 3 days
+        for (int daysAgo = 20; daysAgo >= 17; --daysAgo) {
+            stats.record(getNoonOf(today.minusDays(daysAgo)), 1);
+        }
+        for (int daysAgo = 2; daysAgo >= 0; --daysAgo) {
+            stats.record(getNoonOf(today.minusDays(daysAgo)), 2);
+        }
+        stats.record(getNoonOf(today), -1);
+        long todayEpochDay = today.toEpochDay();
+        Assertions.assertEquals(3, stats.getCurrentStreak(todayEpochDay));
+        Assertions.assertEquals(4, stats.getLongestStreak());
+        Assertions.assertEquals(5, stats.getCountInLastDays(todayEpochDay, 7));
+        Assertions.assertEquals(9, stats.getCountInLastDays(todayEpochDay, 30));
+        Assertions.assertEquals(HabitStats.TREND_UP, stats.getTrend(todayEpochDay));
+        Assertions.assertEquals(0, stats.getCurrentStreak(todayEpochDay + 2));
+        Assertions.assertEquals(HabitStats.TREND_DOWN, stats.getTrend(todayEpochDay + 7));
+        Assertions.assertEquals(0, stats.getCountInLastDays(todayEpochDay + 40, 30));
+    }
+
+    @Test
+    void record_dayNetTotalNotPositive_streaksRecomputed() {
+        LocalDate today = LocalDate.of(2024, 3, 31);
+        HabitStats stats = new HabitStats();
+        stats.record(getNoonOf(today.minusDays(1)), 1);
+        stats.record(getNoonOf(today), 2);
+        stats.record(getNoonOf(today), -1);
+        Assertions.assertEquals(2, stats.getCurrentStreak(today.toEpochDay()));
+        stats.record(getNoonOf(today), -1);
+        Assertions.assertEquals(1, stats.getCurrentStreak(today.toEpochDay()));
+        Assertions.assertEquals(1, stats.getLongestStreak());
+        Assertions.assertEquals(today.minusDays(1).toEpochDay(), stats.getLastActiveDay());
+        // A day that starts to count again extends the streak as before
+        stats.record(getNoonOf(today), 3);
+        Assertions.assertEquals(2, stats.getLongestStreak());
+    }
+
+    @Test
+    void record_dayUndoneAfterStreakLeftTrackedDays_earlierDaysStillCounted() {
+        LocalDate today = LocalDate.of(2024, 3, 31);
+        HabitStats stats = new HabitStats();
+        // Active on each of the last 40 days, so the first 10 have left the ring buffer
+        for (int daysAgo = 39; daysAgo >= 0; --daysAgo) {
+            stats.record(getNoonOf(today.minusDays(daysAgo)), 1);
+        }
+        Assertions.assertEquals(10, stats.getStreakBeforeTracked());
+        stats.record(getNoonOf(today.minusDays(5)), -1);
+        Assertions.assertEquals(5, stats.getCurrentStreak(today.toEpochDay()));
+        Assertions.assertEquals(34, stats.getLongestStreak());
+        stats.record(getNoonOf(today.minusDays(5)), 1);
+        Assertions.assertEquals(40, stats.getCurrentStreak(today.toEpochDay()));
+        // Changes older than the tracked days leave the streaks as they are
+        stats.record(getNoonOf(today.minusDays(35)), -1);
+        Assertions.assertEquals(40, stats.getLongestStreak());
+    }
+
+    @Test
+    void constructor_savedWithoutStreaksBeforeTracked_streaksEstimated() {
+        LocalDate today = LocalDate.of(2024, 3, 31);
+        HabitStats original = new HabitStats();
+        for (int daysAgo = 39; daysAgo >= 0; --daysAgo) {
+            original.record(getNoonOf(today.minusDays(daysAgo)), 1);
+        }
+        int[] dailyTotals = new int[HabitStats.NUM_DAYS_TRACKED];
+        for (int slot = 0; slot < dailyTotals.length; ++slot) {
+            dailyTotals[slot] = original.getDailyTotal(slot);
+        }
+        HabitStats loaded = new HabitStats(original.getLastActiveDay(),
+                original.getCurrentStreakAsOfLastActiveDay(), original.getLongestStreak(), original.getLatestDay(),
+                dailyTotals);
+        Assertions.assertEquals(10, loaded.getStreakBeforeTracked());
+        Assertions.assertEquals(today.minusDays(30).toEpochDay(), loaded.getLastActiveDayBeforeTracked());
+        loaded.record(getNoonOf(today), -1);
+        Assertions.assertEquals(39, loaded.getLongestStreak());
+    }
+}
@@ -0,0 +1,62 @@
+package wellnus.atomichabit.feature;
+
+import java.util.BitSet;
+import java.util.List;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class HabitTagIndexTest {
+    private HabitTagIndex getIndexOf(AtomicHabit... habits) {
+        HabitTagIndex tagIndex = new HabitTagIndex();
+        for (int i = 0; i < habits.length; ++i) {
+            tagIndex.insert(i, habits[i]);
+        }
+        return tagIndex;
+    }
+
+    private AtomicHabit getHabitWithTags(String description, String... tags) {
+        return new AtomicHabit(description, 1, new HabitEventHistory(), List.of(tags));
+    }
+
+    @Test
+    void getHabitIndexesWithAllTags_someHabitsWithEveryTag_onlyThosePositionsSet() {
+        HabitTagIndex tagIndex = getIndexOf(getHabitWithTags("run", "fitness", "morning"),
+                getHabitWithTags("swim", "fitness"), getHabitWithTags("stretch", "fitness", "morning"));
+        Assertions.assertEquals(BitSet.valueOf(new long[]{0b101}),
+                tagIndex.getHabitIndexesWithAllTags(List.of("morning", "fitness")));
+    }
+
+    @Test
+    void getHabitIndexesWithAllTags_unknownTag_noPositionsSet() {
+        HabitTagIndex tagIndex = getIndexOf(getHabitWithTags("read", "evening"));
+        Assertions.assertTrue(tagIndex.getHabitIndexesWithAllTags(List.of("evening", "unknown")).isEmpty());
+    }
+
+    @Test
+    void getHabitIndexesWithAnyTag_unknownTag_otherTagsStillMatched() {
+        HabitTagIndex tagIndex = getIndexOf(getHabitWithTags("run", "fitness"), getHabitWithTags("read", "evening"));
+        Assertions.assertEquals(BitSet.valueOf(new long[]{0b10}),
+                tagIndex.getHabitIndexesWithAnyTag(List.of("evening", "unknown")));
+    }
+
+    @Test
+    void remove_habitBeforeOthers_laterPositionsMovedDown() {
+        HabitTagIndex tagIndex = getIndexOf(getHabitWithTags("run", "fitness"), getHabitWithTags("read", "evening"),
+                getHabitWithTags("swim", "fitness"));
+        tagIndex.remove(1);
+        Assertions.assertEquals(BitSet.valueOf(new long[]{0b11}),
+                tagIndex.getHabitIndexesWithAllTags(List.of("fitness")));
+        Assertions.assertTrue(tagIndex.getHabitIndexesWithAnyTag(List.of("evening")).isEmpty());
+    }
+
+    @Test
+    void insert_habitBeforeOthers_laterPositionsMovedUp() {
+        HabitTagIndex tagIndex = getIndexOf(getHabitWithTags("run", "fitness"), getHabitWithTags("swim", "fitness"));
+        tagIndex.insert(1, getHabitWithTags("read", "evening"));
+        Assertions.assertEquals(BitSet.valueOf(new long[]{0b101}),
+                tagIndex.getHabitIndexesWithAllTags(List.of("fitness")));
+        Assertions.assertEquals(BitSet.valueOf(new long[]{0b010}),
+                tagIndex.getHabitIndexesWithAnyTag(List.of("evening")));
+    }
+}
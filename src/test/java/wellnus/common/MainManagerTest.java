@@ -0,0 +1,55 @@
+package wellnus.common;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+
+import wellnus.atomichabit.feature.AtomicHabitManager;
+import wellnus.gamification.GamificationManager;
+import wellnus.manager.Manager;
+import wellnus.reflection.feature.ReflectionManager;
+
+public class MainManagerTest {
+    @Test
+    public void getManagerFor_firstUse_onlyRequiredManagersCreated() {
+        MainManager mainManager = new MainManager();
+        for (String featureKeyword : mainManager.getSupportedFeatureKeywords()) {
+            assertFalse(mainManager.isManagerLoaded(featureKeyword));
+        }
+        Optional<Manager> habitManager = mainManager.getManagerFor(AtomicHabitManager.FEATURE_NAME);
+        assertTrue(habitManager.isPresent());
+        assertTrue(mainManager.isManagerLoaded(AtomicHabitManager.FEATURE_NAME));
+        // Habits share their GamificationData with gamif, which is created along with them
+        assertTrue(mainManager.isManagerLoaded(GamificationManager.FEATURE_NAME));
+        assertFalse(mainManager.isManagerLoaded(ReflectionManager.FEATURE_NAME));
+        assertSame(habitManager.get(), mainManager.getManagerFor(AtomicHabitManager.FEATURE_NAME).get());
+    }
+
+    @Test
+    public void getManagerFor_unknownKeyword_emptyReturned() {
+        MainManager mainManager = new MainManager();
+        assertTrue(mainManager.getManagerFor("unknown").isEmpty());
+    }
+
+    @Test
+    public void loadAllFeatures_notYetUsed_dataManagersCreated() {
+        MainManager mainManager = new MainManager();
+        mainManager.loadAllFeatures();
+        assertTrue(mainManager.isManagerLoaded(AtomicHabitManager.FEATURE_NAME));
+        assertTrue(mainManager.isManagerLoaded(GamificationManager.FEATURE_NAME));
+        assertTrue(mainManager.isManagerLoaded(ReflectionManager.FEATURE_NAME));
+    }
+
+    @Test
+    public void loadAllFeatures_habitsAlreadyUsed_habitManagerKept() {
+        MainManager mainManager = new MainManager();
+        Manager habitManager = mainManager.getManagerFor(AtomicHabitManager.FEATURE_NAME).get();
+        mainManager.loadAllFeatures();
+        assertSame(habitManager, mainManager.getManagerFor(AtomicHabitManager.FEATURE_NAME).get());
+        assertTrue(mainManager.isManagerLoaded(ReflectionManager.FEATURE_NAME));
+    }
+}
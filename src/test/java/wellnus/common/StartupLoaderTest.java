@@ -0,0 +1,42 @@
+package wellnus.common;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import wellnus.atomichabit.feature.AtomicHabitList;
+import wellnus.reflection.feature.QuestionList;
+import wellnus.storage.Storage;
+import wellnus.ui.TextUi;
+
+public class StartupLoaderTest {
+    @Test
+    public void loadAll_everyFile_sameDataAsSequentialLoad() {
+        StartupLoader startupLoader = new StartupLoader(new TextUi());
+        startupLoader.loadAll();
+        assertNotNull(startupLoader.getGamificationData());
+        assertFalse(startupLoader.hasLoadError(Storage.FILE_HABIT));
+        assertFalse(startupLoader.hasLoadError(Storage.FILE_REFLECT));
+        AtomicHabitList sequentialHabitList = new AtomicHabitList();
+        assertEquals(sequentialHabitList.getAllHabits().size(), startupLoader.getHabitList().getAllHabits().size());
+        ArrayList<BitSet> sequentialDataIndex = new QuestionList().getDataIndex();
+        QuestionList loadedQuestionList = startupLoader.getQuestionList();
+        assertEquals(sequentialDataIndex, loadedQuestionList.getDataIndex());
+    }
+
+    @Test
+    public void loadAll_onlyReflectFile_otherDataNotLoaded() {
+        StartupLoader startupLoader = new StartupLoader(new TextUi());
+        startupLoader.loadAll(Set.of(Storage.FILE_REFLECT));
+        assertNotNull(startupLoader.getQuestionList());
+        assertNull(startupLoader.getHabitList());
+        assertNull(startupLoader.getGamificationData());
+    }
+}
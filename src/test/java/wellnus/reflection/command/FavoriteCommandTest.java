@@ -2,9 +2,8 @@ package wellnus.reflection.command;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 
-import java.util.Arrays;
+import java.util.BitSet;
 import java.util.HashMap;
-import java.util.HashSet;
 
 import org.junit.jupiter.api.Test;
 
@@ -17,7 +16,13 @@ class FavoriteCommandTest {
     private static final int MIN_QUESTION_LENGTH = 3;
     private static final boolean IS_CORRECT_LENGTH = true;
     private static final Integer[] ARR_INDEXES = { 5, 6, 7, 8, 1};
-    private static final HashSet<Integer> RANDOM_INDEXES = new HashSet<>(Arrays.asList(ARR_INDEXES));
+    private static final BitSet RANDOM_INDEXES = new BitSet();
+
+    static {
+        for (int index : ARR_INDEXES) {
+            RANDOM_INDEXES.set(index);
+        }
+    }
 
     // Test whether fav list indexes are properly saved and returned
     @Test
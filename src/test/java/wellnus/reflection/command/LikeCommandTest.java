@@ -3,10 +3,8 @@ package wellnus.reflection.command;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
-import java.util.Arrays;
+import java.util.BitSet;
 import java.util.HashMap;
-import java.util.HashSet;
-import java.util.Set;
 
 import org.junit.jupiter.api.Test;
 
@@ -29,7 +27,13 @@ class LikeCommandTest {
     private static final int INDEX_ZERO = 0;
     private static final boolean IS_ADDED = true;
     private static final Integer[] ARR_INDEXES = { 5, 6, 7, 8, 1};
-    private static final HashSet<Integer> RANDOM_INDEXES = new HashSet<>(Arrays.asList(ARR_INDEXES));
+    private static final BitSet RANDOM_INDEXES = new BitSet();
+
+    static {
+        for (int index : ARR_INDEXES) {
+            RANDOM_INDEXES.set(index);
+        }
+    }
 
     // Test whether the wrong input format can be caught.
     @Test
@@ -56,18 +60,19 @@ class LikeCommandTest {
         QuestionList questionList = new QuestionList();
         questionList.setRandomQuestionIndexes(RANDOM_INDEXES);
         IndexMapper indexMapper = new IndexMapper(questionList.getRandomQuestionIndexes());
-        HashMap<Integer, Integer> indexQuestionMap = indexMapper.mapIndex();
         int count = INITIAL_INDEX;
         int finalIndex = INITIAL_INDEX;
-        for (int index : RANDOM_INDEXES) {
+        for (int index = RANDOM_INDEXES.nextSetBit(INDEX_ZERO); index >= INDEX_ZERO;
+                index = RANDOM_INDEXES.nextSetBit(index + INCREMENT_ONE)) {
             if (count > INPUT_INDEX) {
                 break;
             }
             count += INCREMENT_ONE;
             finalIndex = index;
         }
-        int questionIndex = indexQuestionMap.get(INPUT_INDEX);
+        int questionIndex = indexMapper.mapIndex(INPUT_INDEX);
         assertEquals(finalIndex, questionIndex);
+        assertEquals(IndexMapper.NOT_FOUND, indexMapper.mapIndex(ARR_INDEXES.length + INCREMENT_ONE));
     }
 
     // Test whether like question is successfully added into fav list
@@ -79,13 +84,10 @@ class LikeCommandTest {
         HashMap<String, String> argumentPayloadLikeCmd = commandParser.parseUserInput(LIKE_COMMAND);
         LikeCommand likeCmd = new LikeCommand(argumentPayloadLikeCmd, questionList);
         likeCmd.execute();
-        Set<Integer> favList = questionList.getDataIndex().get(INDEX_ZERO);
-        for (int index : favList) {
-            System.out.println(index);
-        }
-        assertEquals(INCREMENT_ONE, favList.size());
+        BitSet favList = questionList.getDataIndex().get(INDEX_ZERO);
+        assertEquals(INCREMENT_ONE, favList.cardinality());
         int index = Integer.parseInt(argumentPayloadLikeCmd.get(LIKE_COMMAND_KEYWORD));
-        assertEquals(IS_ADDED, favList.contains(index));
+        assertEquals(IS_ADDED, favList.get(index));
     }
 }
 
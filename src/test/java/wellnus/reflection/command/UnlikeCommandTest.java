@@ -48,6 +48,6 @@ class UnlikeCommandTest {
         HashMap<String, String> argumentsUnlikeCmdOutBound = commandParser.parseUserInput(UNLIKE_COMMAND);
         UnlikeCommand unlikeCmd = new UnlikeCommand(argumentsUnlikeCmdOutBound, questionList);
         unlikeCmd.execute();
-        assertEquals(EMPTY_LIST, questionList.getDataIndex().get(INDEX_ZERO).size());
+        assertEquals(EMPTY_LIST, questionList.getDataIndex().get(INDEX_ZERO).cardinality());
     }
 }
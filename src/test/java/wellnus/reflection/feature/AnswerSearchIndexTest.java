@@ -0,0 +1,48 @@
+package wellnus.reflection.feature;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+class AnswerSearchIndexTest {
+    private static final int NUM_ANSWERS = 10000;
+
+    @Test
+    void getWordsOf_punctuationAndCase_lowerCaseWords() {
+        assertEquals(List.of("i", "value", "honesty", "2nd", "caf\u00e9"),
+                List.copyOf(AnswerSearchIndex.getWordsOf("I value: HONESTY, honesty... 2nd caf\u00e9!")));
+        assertEquals(Set.of(), AnswerSearchIndex.getWordsOf(" -- !? "));
+    }
+
+    @Test
+    void search_everyWordMustMatch_idsAscending() {
+        AnswerSearchIndex index = new AnswerSearchIndex();
+        index.add(0, "Spending time with family");
+        index.add(1, "Time alone");
+        index.add(2, "My family, and some time for myself");
+        assertArrayEquals(new int[]{0, 1, 2}, index.search("time"));
+        assertArrayEquals(new int[]{0, 2}, index.search("Family TIME"));
+        assertArrayEquals(new int[]{}, index.search("family alone"));
+        assertArrayEquals(new int[]{}, index.search("unknown"));
+        assertArrayEquals(new int[]{}, index.search("!!"));
+    }
+
+    @Test
+    void search_manyAnswers_matchesEveryNthAnswer() {
+        AnswerSearchIndex index = new AnswerSearchIndex();
+        for (int id = 0; id < NUM_ANSWERS; ++id) {
+            String answer = (id % 2 == 0 ? "even" : "odd") + (id % 3 == 0 ? " three" : "") + " answer " + id;
+            index.add(id, answer);
+        }
+        int[] matchingIds = index.search("three even");
+        assertEquals((NUM_ANSWERS + 5) / 6, matchingIds.length);
+        for (int i = 0; i < matchingIds.length; ++i) {
+            assertEquals(i * 6, matchingIds[i]);
+        }
+        assertArrayEquals(new int[]{42}, index.search("answer 42"));
+    }
+}
@@ -1,10 +1,20 @@
 package wellnus.reflection.feature;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
+import wellnus.exception.StorageException;
+import wellnus.exception.TokenizerException;
+
 // @@author wenxin-c
 class QuestionListTest {
     private static final int FULL_ARRAY_LENGTH = 10;
@@ -12,9 +22,32 @@ class QuestionListTest {
     @Test
     void setUpQuestions_checkArrayLength_success() {
         QuestionList questionList = new QuestionList();
-        ArrayList<ReflectionQuestion> questions = questionList.getAllQuestions();
-        int fullArrayLength = questions.size();
+        int fullArrayLength = questionList.getNumQuestions();
         assertEquals(FULL_ARRAY_LENGTH, fullArrayLength);
     }
-}
 
+    // @@author
+    @Test
+    void questionBank_writeThenOpen_everyQuestionRead() throws IOException, StorageException, TokenizerException {
+        List<String> questions = new ArrayList<>();
+        for (int i = 0; i < 20000; ++i) {
+            questions.add("Question " + i + " \u00e9?");
+        }
+        Path bankFile = Files.createTempFile("questions", ".bank");
+        try {
+            QuestionBank.write(questions, bankFile);
+            QuestionBank questionBank = QuestionBank.open(bankFile);
+            assertEquals(20000, questionBank.size());
+            assertEquals("Question 0 \u00e9?", questionBank.getQuestion(0).toString());
+            assertEquals("Question 19999 \u00e9?", questionBank.getQuestion(19999).toString());
+            assertFalse(questionBank.hasQuestion(20000));
+
+            byte[] corruptedBank = Files.readAllBytes(bankFile);
+            corruptedBank[corruptedBank.length - 1] = 0;
+            Files.write(bankFile, Arrays.copyOf(corruptedBank, corruptedBank.length - 1));
+            assertThrows(TokenizerException.class, () -> QuestionBank.open(bankFile));
+        } finally {
+            Files.deleteIfExists(bankFile);
+        }
+    }
+}
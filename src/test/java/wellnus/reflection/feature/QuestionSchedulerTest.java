@@ -0,0 +1,92 @@
+package wellnus.reflection.feature;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.BitSet;
+
+import org.junit.jupiter.api.Test;
+
+class QuestionSchedulerTest {
+    private static final long NOW = 1700000000L;
+    private static final long ONE_DAY = 24 * 60 * 60;
+    private static final int NUM_QUESTIONS = 20;
+    private static final int NUM_MANY_QUESTIONS = 50000;
+    private static final int NUM_SELECTED = 5;
+    private static final int SEED = 42;
+
+    @Test
+    void selectNext_repeatedly_everyQuestionBeforeAnyRepeat() {
+        QuestionScheduler scheduler = new QuestionScheduler(NUM_QUESTIONS, SEED);
+        BitSet shownQuestions = new BitSet();
+        int[] questions = new int[NUM_SELECTED];
+        for (int round = 0; round < NUM_QUESTIONS / NUM_SELECTED; ++round) {
+            assertEquals(NUM_SELECTED, scheduler.selectNext(questions, NOW));
+            for (int question : questions) {
+                assertFalse(shownQuestions.get(question));
+                shownQuestions.set(question);
+            }
+        }
+        assertEquals(NUM_QUESTIONS, shownQuestions.cardinality());
+    }
+
+    @Test
+    void selectNext_shownAndAnswered_dueLater() {
+        QuestionScheduler scheduler = new QuestionScheduler(NUM_QUESTIONS, SEED);
+        for (int question = 0; question < NUM_QUESTIONS; ++question) {
+            scheduler.recordShown(question, NOW);
+        }
+        scheduler.recordShown(0, NOW + ONE_DAY);
+        scheduler.recordAnswered(1);
+        assertEquals(NOW + 2 * ONE_DAY, scheduler.getDueEpochSecond(2));
+        assertEquals(NOW + 3 * ONE_DAY, scheduler.getDueEpochSecond(1));
+        assertEquals(NOW + 5 * ONE_DAY, scheduler.getDueEpochSecond(0));
+        int[] questions = new int[NUM_QUESTIONS];
+        scheduler.selectNext(questions, NOW + 2 * ONE_DAY);
+        assertEquals(1, questions[NUM_QUESTIONS - 2]);
+        assertEquals(0, questions[NUM_QUESTIONS - 1]);
+    }
+
+    @Test
+    void selectNext_favorite_dueSooner() {
+        QuestionScheduler scheduler = new QuestionScheduler(NUM_QUESTIONS, SEED);
+        for (int question = 0; question < NUM_QUESTIONS; ++question) {
+            scheduler.recordShown(question, NOW);
+        }
+        scheduler.setFavorite(7, true);
+        int[] questions = new int[1];
+        scheduler.selectNext(questions, NOW);
+        assertEquals(7, questions[0]);
+        scheduler.setFavorite(7, false);
+        assertEquals(NOW + 4 * ONE_DAY, scheduler.getDueEpochSecond(7));
+    }
+
+    @Test
+    void restore_easeFactorCapped_notDueBeforeShown() {
+        QuestionScheduler scheduler = new QuestionScheduler(NUM_QUESTIONS, SEED);
+        scheduler.restore(3, NOW, QuestionScheduler.MAX_EASE_FACTOR);
+        scheduler.recordAnswered(3);
+        assertEquals(QuestionScheduler.MAX_EASE_FACTOR, scheduler.getEaseFactor(3));
+        int[] questions = new int[NUM_QUESTIONS - 1];
+        scheduler.selectNext(questions, NOW);
+        for (int question : questions) {
+            assertTrue(question != 3);
+        }
+    }
+
+    @Test
+    void selectNext_manyQuestions_noRepeats() {
+        QuestionScheduler scheduler = new QuestionScheduler(NUM_MANY_QUESTIONS);
+        BitSet shownQuestions = new BitSet();
+        int[] questions = new int[NUM_SELECTED];
+        for (int round = 0; round < NUM_MANY_QUESTIONS / NUM_SELECTED; ++round) {
+            scheduler.selectNext(questions, NOW + round);
+            for (int question : questions) {
+                assertFalse(shownQuestions.get(question));
+                shownQuestions.set(question);
+            }
+        }
+        assertEquals(NUM_MANY_QUESTIONS, shownQuestions.cardinality());
+    }
+}
@@ -0,0 +1,54 @@
+package wellnus.reflection.feature;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+class RandomNumberGeneratorTest {
+    @Test
+    void generateRandomNumbers_sameSeed_sameNumbers() {
+        RandomNumberGenerator generator = new RandomNumberGenerator(20000, 42L);
+        RandomNumberGenerator sameSeedGenerator = new RandomNumberGenerator(20000, 42L);
+        for (int i = 0; i < 10; ++i) {
+            assertEquals(generator.generateRandomNumbers(), sameSeedGenerator.generateRandomNumbers());
+        }
+    }
+
+    @Test
+    void generateRandomNumbers_smallBound_everyNumberDrawnWithinBound() {
+        RandomNumberGenerator generator = new RandomNumberGenerator(6, 7L);
+        BitSet drawnNumbers = new BitSet();
+        for (int i = 0; i < 100; ++i) {
+            Set<Integer> randomNumbers = generator.generateRandomNumbers();
+            assertEquals(5, randomNumbers.size());
+            for (int number : randomNumbers) {
+                assertTrue(number >= 0 && number < 6);
+                drawnNumbers.set(number);
+            }
+        }
+        // The last number can be drawn too
+        assertEquals(6, drawnNumbers.cardinality());
+        assertEquals(3, new RandomNumberGenerator(3).generateRandomNumbers().size());
+    }
+
+    @Test
+    void generateRandomNumbers_largeSample_distinctNumbers() {
+        RandomNumberGenerator generator = new RandomNumberGenerator(1000, 1L);
+        int[] randomNumbers = new int[600];
+        for (int i = 0; i < 3; ++i) {
+            assertEquals(600, generator.generateRandomNumbers(randomNumbers));
+            int[] sortedNumbers = randomNumbers.clone();
+            Arrays.sort(sortedNumbers);
+            for (int j = 1; j < sortedNumbers.length; ++j) {
+                assertTrue(sortedNumbers[j] > sortedNumbers[j - 1]);
+            }
+            assertTrue(sortedNumbers[0] >= 0 && sortedNumbers[sortedNumbers.length - 1] < 1000);
+        }
+        assertEquals(1000, generator.generateRandomNumbers(new int[2000]));
+    }
+}
@@ -0,0 +1,94 @@
+package wellnus.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.ArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+import wellnus.exception.StorageException;
+
+public class PersistenceServiceTest {
+    private static final long LONG_COALESCE_WINDOW_MILLIS = 60000;
+    private static final long SHORT_COALESCE_WINDOW_MILLIS = 10;
+    private static final long RETRY_TIMEOUT_MILLIS = 5000;
+    private static final String ERROR_MESSAGE = "disk full";
+
+    private PersistenceService getPersistenceService() throws StorageException {
+        PersistenceService persistenceService = PersistenceService.getInstance();
+        // Keep the background flush out of the way so that the test decides when saves run
+        persistenceService.setCoalesceWindow(LONG_COALESCE_WINDOW_MILLIS);
+        // Run the saves of earlier tests now, so that their background flush cannot run during this test
+        persistenceService.flush();
+        return persistenceService;
+    }
+
+    @Test
+    public void markDirty_sameFileTwice_onlyLatestSaveRuns() throws StorageException {
+        PersistenceService persistenceService = getPersistenceService();
+        ArrayList<String> savesRun = new ArrayList<>();
+        persistenceService.markDirty(Storage.FILE_DEBUG, () -> savesRun.add("first"));
+        persistenceService.markDirty(Storage.FILE_DEBUG, () -> savesRun.add("second"));
+        persistenceService.flush();
+        ArrayList<String> expectedSaves = new ArrayList<>();
+        expectedSaves.add("second");
+        assertEquals(expectedSaves, savesRun);
+    }
+
+    @Test
+    public void flush_failingSave_retriedOnNextFlush() throws StorageException {
+        PersistenceService persistenceService = getPersistenceService();
+        ArrayList<String> savesRun = new ArrayList<>();
+        persistenceService.markDirty(Storage.FILE_DEBUG, () -> {
+            savesRun.add("attempt");
+            if (savesRun.size() == 1) {
+                throw new StorageException(ERROR_MESSAGE);
+            }
+        });
+        assertThrows(StorageException.class, persistenceService::flush);
+        persistenceService.flush();
+        assertEquals(2, savesRun.size());
+    }
+
+    @Test
+    public void markDirty_otherFileFailedToSave_failureReported() throws StorageException {
+        PersistenceService persistenceService = getPersistenceService();
+        boolean[] isFailing = {true};
+        persistenceService.markDirty(Storage.FILE_DEBUG, () -> {
+            if (isFailing[0]) {
+                throw new StorageException(ERROR_MESSAGE);
+            }
+        });
+        assertThrows(StorageException.class, persistenceService::flush);
+        StorageException failure = assertThrows(StorageException.class,
+                () -> persistenceService.markDirty(Storage.FILE_GAMIFICATION, () -> { }));
+        assertEquals(ERROR_MESSAGE, failure.getMessage());
+        isFailing[0] = false;
+        persistenceService.flush();
+        persistenceService.markDirty(Storage.FILE_GAMIFICATION, () -> { });
+        persistenceService.flush();
+    }
+
+    @Test
+    public void flush_failingSave_retriedWithoutAnotherChange() throws StorageException, InterruptedException {
+        PersistenceService persistenceService = getPersistenceService();
+        persistenceService.setCoalesceWindow(SHORT_COALESCE_WINDOW_MILLIS);
+        AtomicInteger numAttempts = new AtomicInteger();
+        persistenceService.markDirty(Storage.FILE_DEBUG, () -> {
+            if (numAttempts.incrementAndGet() <= 2) {
+                throw new StorageException(ERROR_MESSAGE);
+            }
+        });
+        long deadline = System.currentTimeMillis() + RETRY_TIMEOUT_MILLIS;
+        while (numAttempts.get() < 3 && System.currentTimeMillis() < deadline) {
+            Thread.sleep(SHORT_COALESCE_WINDOW_MILLIS);
+        }
+        assertEquals(3, numAttempts.get());
+        persistenceService.setCoalesceWindow(LONG_COALESCE_WINDOW_MILLIS);
+        // The save succeeded in the end, so its earlier failures are no longer reported
+        persistenceService.markDirty(Storage.FILE_DEBUG, () -> { });
+        persistenceService.flush();
+    }
+}
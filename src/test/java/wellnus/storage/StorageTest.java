@@ -2,7 +2,9 @@ package wellnus.storage;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
 
 import java.io.File;
@@ -11,7 +13,9 @@ import java.util.ArrayList;
 import org.junit.jupiter.api.Order;
 import org.junit.jupiter.api.Test;
 
+import wellnus.atomichabit.feature.AtomicHabit;
 import wellnus.exception.StorageException;
+import wellnus.exception.TokenizerException;
 
 public class StorageTest {
 
@@ -211,4 +215,181 @@ public class StorageTest {
         }, "Expected exception to be thrown for invalid filename");
     }
 
+    @Test
+    @Order(11)
+    public void appendData_existingFile_entriesAppended() {
+        Storage storage = getStorageInstance();
+        assert storage != null;
+        ArrayList<String> expectedList = getDebugStringList();
+        ArrayList<String> firstHalf = new ArrayList<>(expectedList.subList(0, 2));
+        ArrayList<String> secondHalf = new ArrayList<>(expectedList.subList(2, expectedList.size()));
+        ArrayList<String> result = new ArrayList<>();
+        try {
+            storage.saveData(firstHalf, Storage.FILE_DEBUG);
+            storage.appendData(secondHalf, Storage.FILE_DEBUG);
+            result = storage.loadData(Storage.FILE_DEBUG);
+            storage.deleteFile(Storage.FILE_DEBUG);
+        } catch (StorageException exception) {
+            fail("Storage failed to append data!");
+        }
+        assertEquals(expectedList, result);
+    }
+
+    /**
+     * Ensures that files large enough to be read into a direct buffer are loaded the same way as small files
+     */
+    @Test
+    @Order(12)
+    public void saveAndLoadData_largeFile_success() {
+        Storage storage = getStorageInstance();
+        assert storage != null;
+        ArrayList<String> largeList = new ArrayList<>();
+        int numEntries = 50000;
+        for (int i = 0; i < numEntries; ++i) {
+            largeList.add("--description habit number " + i + " --count " + i);
+        }
+        ArrayList<String> result = new ArrayList<>();
+        try {
+            storage.saveData(largeList, Storage.FILE_DEBUG);
+            result = storage.loadData(Storage.FILE_DEBUG);
+            storage.deleteFile(Storage.FILE_DEBUG);
+        } catch (StorageException exception) {
+            fail("Storage failed to save and load a large file!");
+        }
+        assertEquals(largeList, result);
+    }
+
+    /**
+     * Ensures that a file in the text format is loaded and then saved again in the binary format
+     */
+    @Test
+    @Order(13)
+    public void loadData_textFile_migratedToBinary() {
+        Storage storage = getStorageInstance();
+        assert storage != null;
+        AtomicHabitTokenizer textTokenizer = new AtomicHabitTokenizer();
+        AtomicHabitBinaryTokenizer binaryTokenizer = new AtomicHabitBinaryTokenizer();
+        ArrayList<AtomicHabit> habits = new ArrayList<>();
+        habits.add(new AtomicHabit("foo", 2));
+        try {
+            storage.saveData(textTokenizer.tokenize(habits), Storage.FILE_DEBUG);
+            ArrayList<AtomicHabit> migratedHabits = storage.loadData(Storage.FILE_DEBUG, textTokenizer,
+                    binaryTokenizer);
+            assertEquals("foo", migratedHabits.get(0).getDescription());
+            assertEquals(2, migratedHabits.get(0).getCount());
+            // The text tokenizer cannot read the file anymore once it has been migrated
+            assertThrows(TokenizerException.class, () -> {
+                textTokenizer.detokenize(storage.loadData(Storage.FILE_DEBUG));
+            });
+            ArrayList<AtomicHabit> loadedHabits = storage.loadData(Storage.FILE_DEBUG, textTokenizer,
+                    binaryTokenizer);
+            assertEquals("foo", loadedHabits.get(0).getDescription());
+            storage.deleteFile(Storage.FILE_DEBUG);
+        } catch (StorageException | TokenizerException exception) {
+            fail("Storage failed to migrate the text file!");
+        }
+    }
+
+    /**
+     * Ensures that every manager shares one Storage, and that its cached file checks follow deletions
+     */
+    @Test
+    @Order(14)
+    public void getInstance_sharedStorage_cachedFileChecksUpdated() {
+        try {
+            Storage storage = Storage.getInstance();
+            assertSame(storage, Storage.getInstance());
+            storage.getFile(Storage.FILE_DEBUG);
+            assertTrue(storage.checkFileExists(Storage.FILE_DEBUG));
+            storage.deleteFile(Storage.FILE_DEBUG);
+            assertFalse(storage.checkFileExists(Storage.FILE_DEBUG));
+        } catch (StorageException exception) {
+            fail("Shared storage failed to create and delete a file!");
+        }
+    }
+
+    /**
+     * Ensures that streaming a text file yields the same entries as loading it as a list
+     */
+    @Test
+    @Order(15)
+    public void loadData_recordSink_sameEntriesAsList() {
+        Storage storage = getStorageInstance();
+        assert storage != null;
+        ArrayList<String> debugList = getDebugStringList();
+        ArrayList<String> streamedList = new ArrayList<>();
+        try {
+            storage.saveData(debugList, Storage.FILE_DEBUG);
+            storage.loadData(Storage.FILE_DEBUG, streamedList::add);
+            assertEquals(storage.loadData(Storage.FILE_DEBUG), streamedList);
+            storage.deleteFile(Storage.FILE_DEBUG);
+        } catch (StorageException | TokenizerException exception) {
+            fail("Storage failed to stream the file!");
+        }
+        assertEquals(debugList, streamedList);
+    }
+
+    /**
+     * Ensures that binary records larger than the write buffer are streamed to and from disk intact
+     */
+    @Test
+    @Order(16)
+    public void saveAndLoadData_streamedBinaryRecords_success() {
+        Storage storage = getStorageInstance();
+        assert storage != null;
+        AtomicHabitTokenizer textTokenizer = new AtomicHabitTokenizer();
+        AtomicHabitBinaryTokenizer binaryTokenizer = new AtomicHabitBinaryTokenizer();
+        ArrayList<AtomicHabit> habits = new ArrayList<>();
+        for (int i = 0; i < 1000; ++i) {
+            habits.add(new AtomicHabit("habit " + i, i));
+        }
+        habits.add(new AtomicHabit("x".repeat(100 * 1024), 1));
+        ArrayList<AtomicHabit> streamedHabits = new ArrayList<>();
+        try {
+            storage.saveData(habits, Storage.FILE_DEBUG, binaryTokenizer);
+            storage.loadData(Storage.FILE_DEBUG, textTokenizer, binaryTokenizer, streamedHabits::add);
+            storage.deleteFile(Storage.FILE_DEBUG);
+        } catch (StorageException | TokenizerException exception) {
+            fail("Storage failed to stream the binary records!");
+        }
+        assertEquals(habits.size(), streamedHabits.size());
+        for (int i = 0; i < habits.size(); ++i) {
+            assertEquals(habits.get(i).getDescription(), streamedHabits.get(i).getDescription());
+            assertEquals(habits.get(i).getCount(), streamedHabits.get(i).getCount());
+        }
+    }
+
+    /**
+     * Ensures that a journal left behind by a snapshot of a newer generation is skipped on load,
+     * and cleared before anything is appended to it
+     */
+    @Test
+    @Order(17)
+    public void journalLoadEntries_olderGeneration_entriesSkipped() {
+        Storage storage = getStorageInstance();
+        assert storage != null;
+        ArrayList<String> entries = new ArrayList<>();
+        entries.add("update --description foo --count 1");
+        try {
+            Journal journal = new Journal(storage, Storage.FILE_DEBUG, 10);
+            journal.clear(1);
+            journal.append(entries);
+            ArrayList<String> loadedEntries = new ArrayList<>();
+            journal.loadEntries(1, loadedEntries::add);
+            assertEquals(entries, loadedEntries);
+            // A snapshot of generation 2 was saved, but the journal was never cleared
+            loadedEntries.clear();
+            journal.loadEntries(2, loadedEntries::add);
+            assertTrue(loadedEntries.isEmpty());
+            assertEquals(0, journal.getNumEntries());
+            journal.append(entries);
+            journal.loadEntries(2, loadedEntries::add);
+            assertEquals(entries, loadedEntries);
+            assertEquals(2, journal.getGeneration());
+            storage.deleteFile(Storage.FILE_DEBUG);
+        } catch (StorageException | TokenizerException exception) {
+            fail("Journal failed to skip the entries of an older generation!");
+        }
+    }
+
 }
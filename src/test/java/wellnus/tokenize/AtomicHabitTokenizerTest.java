@@ -2,11 +2,13 @@ package wellnus.tokenize;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 
 import java.util.ArrayList;
+import java.util.List;
 
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 
 import wellnus.atomichabit.feature.AtomicHabit;
+import wellnus.atomichabit.feature.HabitEventHistory;
 import wellnus.exception.TokenizerException;
 import wellnus.storage.AtomicHabitTokenizer;
 public class AtomicHabitTokenizerTest {
@@ -89,4 +91,109 @@ public class AtomicHabitTokenizerTest {
             habitTokenizer.detokenize(getInvalidTokenizedArrayList(invalidStringSix));
         });
     }
+
+    @Test
+    void replayJournal_addUpdateDelete_success() throws TokenizerException {
+        AtomicHabitTokenizer habitTokenizer = new AtomicHabitTokenizer();
+        ArrayList<AtomicHabit> snapshotHabits = new ArrayList<>();
+        snapshotHabits.add(new AtomicHabit("foo", 1));
+        snapshotHabits.add(new AtomicHabit("bar", 2));
+        ArrayList<String> journalEntries = new ArrayList<>();
+        journalEntries.add(habitTokenizer.tokenizeJournalEntry(AtomicHabitTokenizer.JOURNAL_ADD,
+                new AtomicHabit("baz", 1)));
+        journalEntries.add(habitTokenizer.tokenizeJournalEntry(AtomicHabitTokenizer.JOURNAL_UPDATE,
+                new AtomicHabit("foo", 5)));
+        journalEntries.add(habitTokenizer.tokenizeJournalEntry(AtomicHabitTokenizer.JOURNAL_DELETE,
+                new AtomicHabit("bar", 2)));
+        ArrayList<AtomicHabit> replayedHabits = habitTokenizer.replayJournal(snapshotHabits, journalEntries);
+        assertEquals(2, replayedHabits.size());
+        assertEquals("foo", replayedHabits.get(INDEX_ZERO).getDescription());
+        assertEquals(5, replayedHabits.get(INDEX_ZERO).getCount());
+        assertEquals("baz", replayedHabits.get(INDEX_ONE).getDescription());
+    }
+
+    @Test
+    void replayJournal_invalidOperation_tokenizerExceptionThrown() {
+        AtomicHabitTokenizer habitTokenizer = new AtomicHabitTokenizer();
+        ArrayList<String> journalEntries = new ArrayList<>();
+        journalEntries.add("rename --description foo --count 1");
+        Assertions.assertThrows(TokenizerException.class, () -> {
+            habitTokenizer.replayJournal(new ArrayList<>(), journalEntries);
+        });
+    }
+
+    @Test
+    void detokenizeHabit_countBounds_parsedLikeParseInt() throws TokenizerException {
+        AtomicHabitTokenizer habitTokenizer = new AtomicHabitTokenizer();
+        ArrayList<String> tokenizedHabits = new ArrayList<>();
+        tokenizedHabits.add("--description foo --count " + Integer.MAX_VALUE);
+        tokenizedHabits.add("  --description  bar  --count +7  ");
+        ArrayList<AtomicHabit> habits = habitTokenizer.detokenize(tokenizedHabits);
+        assertEquals(Integer.MAX_VALUE, habits.get(INDEX_ZERO).getCount());
+        assertEquals("bar", habits.get(INDEX_ONE).getDescription());
+        assertEquals(7, habits.get(INDEX_ONE).getCount());
+        Assertions.assertThrows(TokenizerException.class, () -> {
+            habitTokenizer.detokenize(getInvalidTokenizedArrayList("--description foo --count 2147483648"));
+        });
+        Assertions.assertThrows(TokenizerException.class, () -> {
+            habitTokenizer.detokenize(getInvalidTokenizedArrayList("--description foo --count +"));
+        });
+    }
+
+    @Test
+    void detokenizeHabit_sameNormalizedDescription_duplicateRemoved() throws TokenizerException {
+        AtomicHabitTokenizer habitTokenizer = new AtomicHabitTokenizer();
+        ArrayList<String> tokenizedHabits = new ArrayList<>();
+        tokenizedHabits.add("--description Read Book --count 1");
+        tokenizedHabits.add("--description readbook --count 2");
+        ArrayList<AtomicHabit> habits = habitTokenizer.detokenize(tokenizedHabits);
+        assertEquals(1, habits.size());
+        assertEquals("Read Book", habits.get(INDEX_ZERO).getDescription());
+        assertEquals("readbook", habits.get(INDEX_ZERO).getNormalizedDescription());
+    }
+
+    @Test
+    void replayJournal_sameSecondUpdates_eachRecordedInHistory() throws TokenizerException {
+        AtomicHabitTokenizer habitTokenizer = new AtomicHabitTokenizer();
+        ArrayList<AtomicHabit> snapshotHabits = new ArrayList<>();
+        snapshotHabits.add(new AtomicHabit("foo", 1));
+        ArrayList<String> journalEntries = new ArrayList<>();
+        journalEntries.add(habitTokenizer.tokenizeJournalEntry(new AtomicHabit("foo", 2), 100L, 1));
+        journalEntries.add(habitTokenizer.tokenizeJournalEntry(new AtomicHabit("foo", 3), 100L, 1));
+        journalEntries.add("update --description foo --count 4");
+        ArrayList<AtomicHabit> replayedHabits = habitTokenizer.replayJournal(snapshotHabits, journalEntries);
+        AtomicHabit habit = replayedHabits.get(INDEX_ZERO);
+        assertEquals(4, habit.getCount());
+        assertEquals(2, habit.getEventHistory().getNumEvents());
+        assertEquals(100L, habit.getEventHistory().getTimestamp(INDEX_ZERO));
+        assertEquals(100L, habit.getEventHistory().getTimestamp(INDEX_ONE));
+        assertEquals(2, habit.getEventHistory().sumDeltasBetween(100L, 101L));
+        Assertions.assertThrows(TokenizerException.class, () -> {
+            habitTokenizer.detokenize(getInvalidTokenizedArrayList("--description foo --count 1 --time 100"));
+        });
+        journalEntries.add("update --description foo --count 4 --time 100");
+        Assertions.assertThrows(TokenizerException.class, () -> {
+            habitTokenizer.replayJournal(snapshotHabits, journalEntries);
+        });
+    }
+
+    @Test
+    void tokenizeHabit_withTags_sameTagsDetokenized() throws TokenizerException {
+        AtomicHabitTokenizer habitTokenizer = new AtomicHabitTokenizer();
+        ArrayList<AtomicHabit> habitsToTokenize = new ArrayList<>();
+        habitsToTokenize.add(new AtomicHabit("run", 2, new HabitEventHistory(), List.of("fitness", "morning")));
+        ArrayList<String> tokenizedHabits = habitTokenizer.tokenize(habitsToTokenize);
+        assertEquals("--description run --count 2 --tags fitness,morning", tokenizedHabits.get(INDEX_ZERO));
+        assertEquals(List.of("fitness", "morning"), habitTokenizer.detokenize(tokenizedHabits)
+                .get(INDEX_ZERO).getTags());
+        ArrayList<String> journalEntries = new ArrayList<>();
+        journalEntries.add(habitTokenizer.tokenizeJournalEntry(AtomicHabitTokenizer.JOURNAL_ADD,
+                habitsToTokenize.get(INDEX_ZERO)));
+        journalEntries.add(habitTokenizer.tokenizeJournalEntry(habitsToTokenize.get(INDEX_ZERO), 100L, 1));
+        AtomicHabit replayedHabit = habitTokenizer.replayJournal(new ArrayList<>(), journalEntries).get(INDEX_ZERO);
+        assertEquals(List.of("fitness", "morning"), replayedHabit.getTags());
+        Assertions.assertThrows(TokenizerException.class, () -> {
+            habitTokenizer.detokenize(getInvalidTokenizedArrayList("--description run --count 2 --tags a.b"));
+        });
+    }
 }
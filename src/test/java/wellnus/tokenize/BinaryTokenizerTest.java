@@ -0,0 +1,212 @@
+package wellnus.tokenize;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import wellnus.atomichabit.feature.AtomicHabit;
+import wellnus.atomichabit.feature.HabitEventHistory;
+import wellnus.atomichabit.feature.HabitStats;
+import wellnus.exception.TokenizerException;
+import wellnus.storage.AtomicHabitBinaryTokenizer;
+import wellnus.storage.ReflectionBinaryTokenizer;
+
+public class BinaryTokenizerTest {
+    private static final int INDEX_ZERO = 0;
+    private static final int INDEX_ONE = 1;
+
+    @Test
+    void tokenizeHabit_detokenize_sameHabits() throws TokenizerException {
+        AtomicHabitBinaryTokenizer habitTokenizer = new AtomicHabitBinaryTokenizer();
+        ArrayList<AtomicHabit> habitsToTokenize = new ArrayList<>();
+        habitsToTokenize.add(new AtomicHabit("foo", 1));
+        habitsToTokenize.add(new AtomicHabit("bar baz --qux", 1000));
+        ArrayList<ByteBuffer> records = habitTokenizer.tokenize(habitsToTokenize);
+        ArrayList<AtomicHabit> detokenizedHabits = habitTokenizer.detokenize(records, habitTokenizer.getVersion());
+        assertEquals("foo", detokenizedHabits.get(INDEX_ZERO).getDescription());
+        assertEquals(1, detokenizedHabits.get(INDEX_ZERO).getCount());
+        assertEquals("bar baz --qux", detokenizedHabits.get(INDEX_ONE).getDescription());
+        assertEquals(1000, detokenizedHabits.get(INDEX_ONE).getCount());
+    }
+
+    @Test
+    void tokenizeHabit_journalGeneration_sameGenerationDetokenized() throws TokenizerException {
+        AtomicHabitBinaryTokenizer habitTokenizer = new AtomicHabitBinaryTokenizer(42);
+        ArrayList<AtomicHabit> habitsToTokenize = new ArrayList<>();
+        habitsToTokenize.add(new AtomicHabit("foo", 1));
+        ArrayList<ByteBuffer> records = habitTokenizer.tokenize(habitsToTokenize);
+        AtomicHabitBinaryTokenizer loadTokenizer = new AtomicHabitBinaryTokenizer();
+        ArrayList<AtomicHabit> detokenizedHabits = loadTokenizer.detokenize(records, loadTokenizer.getVersion());
+        assertEquals(42, loadTokenizer.getJournalGeneration());
+        assertEquals(1, detokenizedHabits.size());
+        assertEquals("foo", detokenizedHabits.get(INDEX_ZERO).getDescription());
+    }
+
+    @Test
+    void detokenizeHabit_truncatedRecord_tokenizerExceptionThrown() {
+        AtomicHabitBinaryTokenizer habitTokenizer = new AtomicHabitBinaryTokenizer();
+        ArrayList<ByteBuffer> records = new ArrayList<>();
+        records.add(ByteBuffer.wrap(new byte[]{0, 1}));
+        Assertions.assertThrows(TokenizerException.class, () -> {
+            habitTokenizer.detokenize(records, habitTokenizer.getVersion());
+        });
+    }
+
+    @Test
+    void detokenizeHabit_newerVersion_tokenizerExceptionThrown() {
+        AtomicHabitBinaryTokenizer habitTokenizer = new AtomicHabitBinaryTokenizer();
+        Assertions.assertThrows(TokenizerException.class, () -> {
+            habitTokenizer.detokenize(new ArrayList<>(), habitTokenizer.getVersion() + 1);
+        });
+    }
+
+    @Test
+    void tokenizeHabit_withTags_sameTags() throws TokenizerException {
+        AtomicHabitBinaryTokenizer habitTokenizer = new AtomicHabitBinaryTokenizer();
+        AtomicHabit habit = new AtomicHabit("foo", 2, new HabitEventHistory(), List.of("fitness", "self-care"));
+        habit.increaseCount(1, 1000L);
+        ArrayList<AtomicHabit> habitsToTokenize = new ArrayList<>();
+        habitsToTokenize.add(habit);
+        habitsToTokenize.add(new AtomicHabit("bar", 1));
+        ArrayList<ByteBuffer> records = habitTokenizer.tokenize(habitsToTokenize);
+        ArrayList<AtomicHabit> detokenizedHabits = habitTokenizer.detokenize(records, habitTokenizer.getVersion());
+        assertEquals(List.of("fitness", "self-care"), detokenizedHabits.get(INDEX_ZERO).getTags());
+        assertEquals(1, detokenizedHabits.get(INDEX_ZERO).getEventHistory().getNumEvents());
+        assertEquals(List.of(), detokenizedHabits.get(INDEX_ONE).getTags());
+    }
+
+    @Test
+    void tokenizeHabit_withEvents_sameEventHistory() throws TokenizerException {
+        AtomicHabitBinaryTokenizer habitTokenizer = new AtomicHabitBinaryTokenizer();
+        AtomicHabit habit = new AtomicHabit("foo", 0);
+        habit.increaseCount(3, 1000L);
+        habit.decreaseCount(1, 2000L);
+        ArrayList<AtomicHabit> habitsToTokenize = new ArrayList<>();
+        habitsToTokenize.add(habit);
+        ArrayList<ByteBuffer> records = habitTokenizer.tokenize(habitsToTokenize);
+        AtomicHabit detokenizedHabit = habitTokenizer.detokenize(records, habitTokenizer.getVersion())
+                .get(INDEX_ZERO);
+        HabitEventHistory eventHistory = detokenizedHabit.getEventHistory();
+        assertEquals("foo", detokenizedHabit.getDescription());
+        assertEquals(2, detokenizedHabit.getCount());
+        assertEquals(2, eventHistory.getNumEvents());
+        assertEquals(1000L, eventHistory.getTimestamp(INDEX_ZERO));
+        assertEquals(3, eventHistory.getDelta(INDEX_ZERO));
+        assertEquals(2000L, eventHistory.getTimestamp(INDEX_ONE));
+        assertEquals(-1, eventHistory.getDelta(INDEX_ONE));
+        HabitStats stats = eventHistory.getStats();
+        assertEquals(habit.getEventHistory().getStats().getLatestDay(), stats.getLatestDay());
+        assertEquals(1, stats.getLongestStreak());
+        assertEquals(2, stats.getDailyTotal((int) Math.floorMod(stats.getLatestDay(), HabitStats.NUM_DAYS_TRACKED)));
+    }
+
+    @Test
+    void tokenizeHabit_streakLongerThanTrackedDays_sameStreaksBeforeTracked() throws TokenizerException {
+        AtomicHabitBinaryTokenizer habitTokenizer = new AtomicHabitBinaryTokenizer();
+        AtomicHabit habit = new AtomicHabit("foo", 0);
+        long secondsPerDay = 24 * 60 * 60;
+        for (int day = 0; day < 40; ++day) {
+            habit.increaseCount(1, 1000L + day * secondsPerDay);
+        }
+        ArrayList<AtomicHabit> habitsToTokenize = new ArrayList<>();
+        habitsToTokenize.add(habit);
+        ArrayList<ByteBuffer> records = habitTokenizer.tokenize(habitsToTokenize);
+        HabitStats stats = habitTokenizer.detokenize(records, habitTokenizer.getVersion()).get(INDEX_ZERO)
+                .getEventHistory().getStats();
+        HabitStats originalStats = habit.getEventHistory().getStats();
+        assertEquals(originalStats.getLastActiveDayBeforeTracked(), stats.getLastActiveDayBeforeTracked());
+        assertEquals(originalStats.getStreakBeforeTracked(), stats.getStreakBeforeTracked());
+        assertEquals(originalStats.getLongestStreakBeforeTracked(), stats.getLongestStreakBeforeTracked());
+        assertEquals(40, stats.getLongestStreak());
+    }
+
+    @Test
+    void detokenizeHabit_versionTwoRecord_statsComputedFromEvents() throws TokenizerException {
+        AtomicHabitBinaryTokenizer habitTokenizer = new AtomicHabitBinaryTokenizer();
+        ByteBuffer record = ByteBuffer.allocate(3 * Integer.BYTES + 3 + Long.BYTES + Integer.BYTES);
+        record.putInt(4).putInt(3).put(new byte[]{'f', 'o', 'o'}).putInt(1).putLong(1000L).putInt(4).flip();
+        ArrayList<ByteBuffer> records = new ArrayList<>();
+        records.add(record);
+        AtomicHabit habit = habitTokenizer.detokenize(records, 2).get(INDEX_ZERO);
+        assertEquals(1, habit.getEventHistory().getNumEvents());
+        assertEquals(1, habit.getEventHistory().getStats().getLongestStreak());
+        assertEquals(HabitStats.toEpochDay(1000L), habit.getEventHistory().getStats().getLatestDay());
+    }
+
+    @Test
+    void detokenizeHabit_versionOneRecord_noEvents() throws TokenizerException {
+        AtomicHabitBinaryTokenizer habitTokenizer = new AtomicHabitBinaryTokenizer();
+        ArrayList<ByteBuffer> records = new ArrayList<>();
+        records.add(ByteBuffer.wrap(new byte[]{0, 0, 0, 4, 'f', 'o', 'o'}));
+        AtomicHabit habit = habitTokenizer.detokenize(records, 1).get(INDEX_ZERO);
+        assertEquals("foo", habit.getDescription());
+        assertEquals(4, habit.getCount());
+        assertEquals(0, habit.getEventHistory().getNumEvents());
+    }
+
+    @Test
+    void tokenizeReflect_detokenize_sameIndexes() throws TokenizerException {
+        ReflectionBinaryTokenizer reflectionTokenizer = new ReflectionBinaryTokenizer();
+        BitSet likeIndexes = new BitSet();
+        likeIndexes.set(1);
+        likeIndexes.set(9);
+        likeIndexes.set(20000);
+        BitSet prevIndexes = new BitSet();
+        prevIndexes.set(0, 5);
+        ArrayList<BitSet> indexesToTokenize = new ArrayList<>();
+        indexesToTokenize.add(likeIndexes);
+        indexesToTokenize.add(prevIndexes);
+        ArrayList<ByteBuffer> records = reflectionTokenizer.tokenize(indexesToTokenize);
+        // One bit per question up to the largest index liked
+        assertEquals(20000 / Byte.SIZE + 1, records.get(INDEX_ZERO).remaining());
+        ArrayList<BitSet> detokenizedIndexes = reflectionTokenizer.detokenize(records,
+                reflectionTokenizer.getVersion());
+        assertEquals(likeIndexes, detokenizedIndexes.get(INDEX_ZERO));
+        assertEquals(prevIndexes, detokenizedIndexes.get(INDEX_ONE));
+    }
+
+    @Test
+    void detokenizeReflect_intSequenceVersion_sameIndexes() throws TokenizerException {
+        ReflectionBinaryTokenizer reflectionTokenizer = new ReflectionBinaryTokenizer();
+        ArrayList<ByteBuffer> records = new ArrayList<>();
+        records.add(ByteBuffer.allocate(2 * Integer.BYTES).putInt(9).putInt(1).flip());
+        ByteBuffer prevRecord = ByteBuffer.allocate(5 * Integer.BYTES);
+        for (int i = 0; i < 5; ++i) {
+            prevRecord.putInt(i);
+        }
+        records.add(prevRecord.flip());
+        ArrayList<BitSet> detokenizedIndexes = reflectionTokenizer.detokenize(records, 1);
+        BitSet expectedLikeIndexes = new BitSet();
+        expectedLikeIndexes.set(1);
+        expectedLikeIndexes.set(9);
+        assertEquals(expectedLikeIndexes, detokenizedIndexes.get(INDEX_ZERO));
+        assertEquals(5, detokenizedIndexes.get(INDEX_ONE).cardinality());
+    }
+
+    @Test
+    void detokenizeReflect_invalidPrevSize_emptyPrev() throws TokenizerException {
+        ReflectionBinaryTokenizer reflectionTokenizer = new ReflectionBinaryTokenizer();
+        ArrayList<ByteBuffer> records = new ArrayList<>();
+        records.add(ByteBuffer.allocate(0));
+        records.add(ByteBuffer.wrap(new byte[]{0b111}));
+        ArrayList<BitSet> detokenizedIndexes = reflectionTokenizer.detokenize(records,
+                reflectionTokenizer.getVersion());
+        assertEquals(new BitSet(), detokenizedIndexes.get(INDEX_ONE));
+    }
+
+    @Test
+    void detokenizeReflect_hugeIntSequenceIndex_emptyLikes() throws TokenizerException {
+        ReflectionBinaryTokenizer reflectionTokenizer = new ReflectionBinaryTokenizer();
+        ArrayList<ByteBuffer> records = new ArrayList<>();
+        records.add(ByteBuffer.allocate(2 * Integer.BYTES).putInt(1).putInt(2000000000).flip());
+        records.add(ByteBuffer.allocate(0));
+        ArrayList<BitSet> detokenizedIndexes = reflectionTokenizer.detokenize(records, 1);
+        assertEquals(new BitSet(), detokenizedIndexes.get(INDEX_ZERO));
+    }
+}
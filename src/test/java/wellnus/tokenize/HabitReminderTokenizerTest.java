@@ -0,0 +1,60 @@
+package wellnus.tokenize;
+
+import java.util.ArrayList;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import wellnus.atomichabit.feature.HabitReminder;
+import wellnus.exception.TokenizerException;
+import wellnus.storage.HabitReminderTokenizer;
+
+public class HabitReminderTokenizerTest {
+    private static final long NEXT_DUE = 1700000000L;
+
+    @Test
+    void tokenizeReminders_roundTrip_success() throws TokenizerException {
+        ArrayList<HabitReminder> reminders = new ArrayList<>();
+        reminders.add(new HabitReminder("read a book", HabitReminder.TYPE_DAILY, 7 * 60 + 5, NEXT_DUE));
+        reminders.add(new HabitReminder("drink water", HabitReminder.TYPE_INTERVAL, 2, NEXT_DUE + 1));
+        HabitReminderTokenizer tokenizer = new HabitReminderTokenizer();
+        ArrayList<String> tokenizedReminders = tokenizer.tokenize(reminders);
+        Assertions.assertEquals("--habit read a book --daily 07:05 --next 1700000000", tokenizedReminders.get(0));
+        Assertions.assertEquals("--habit drink water --every 2 --next 1700000001", tokenizedReminders.get(1));
+        ArrayList<HabitReminder> detokenizedReminders = tokenizer.detokenize(tokenizedReminders);
+        for (int i = 0; i < reminders.size(); ++i) {
+            HabitReminder expected = reminders.get(i);
+            HabitReminder actual = detokenizedReminders.get(i);
+            Assertions.assertEquals(expected.getHabitDescription(), actual.getHabitDescription());
+            Assertions.assertEquals(expected.getType(), actual.getType());
+            Assertions.assertEquals(expected.getPeriod(), actual.getPeriod());
+            Assertions.assertEquals(expected.getNextDueEpochSecond(), actual.getNextDueEpochSecond());
+        }
+    }
+
+    @Test
+    void detokenizeReminders_blankEntry_skipped() throws TokenizerException {
+        HabitReminderTokenizer tokenizer = new HabitReminderTokenizer();
+        ArrayList<String> tokenizedReminders = new ArrayList<>();
+        tokenizedReminders.add("");
+        Assertions.assertTrue(tokenizer.detokenize(tokenizedReminders).isEmpty());
+    }
+
+    @Test
+    void detokenizeReminders_invalidSchedule_exceptionThrown() {
+        HabitReminderTokenizer tokenizer = new HabitReminderTokenizer();
+        String[] invalidReminders = {
+            "--habit read --daily 24:00 --next 1700000000",
+            "--habit read --every 0 --next 1700000000",
+            "--habit read --daily 07:00 --every 2 --next 1700000000",
+            "--habit read --daily 07:00",
+            "--daily 07:00 --next 1700000000",
+            "--habit read --every 2 --next -5"
+        };
+        for (String invalidReminder : invalidReminders) {
+            ArrayList<String> tokenizedReminders = new ArrayList<>();
+            tokenizedReminders.add(invalidReminder);
+            Assertions.assertThrows(TokenizerException.class, () -> tokenizer.detokenize(tokenizedReminders));
+        }
+    }
+}
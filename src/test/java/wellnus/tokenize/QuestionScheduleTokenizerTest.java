@@ -0,0 +1,64 @@
+package wellnus.tokenize;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import wellnus.exception.TokenizerException;
+import wellnus.reflection.feature.QuestionScheduler;
+import wellnus.storage.QuestionScheduleTokenizer;
+
+public class QuestionScheduleTokenizerTest {
+    private static final long SHOWN_AT = 1700000000L;
+    private static final int NUM_QUESTIONS = 10;
+
+    @Test
+    void tokenizeSchedule_roundTrip_success() throws TokenizerException {
+        QuestionScheduler scheduler = new QuestionScheduler(NUM_QUESTIONS);
+        scheduler.recordShown(3, SHOWN_AT);
+        scheduler.recordAnswered(3);
+        scheduler.recordShown(8, SHOWN_AT + 1);
+        QuestionScheduleTokenizer tokenizer = new QuestionScheduleTokenizer();
+        ArrayList<String> tokenizedSchedule = tokenizer.tokenize(scheduler);
+        Assertions.assertEquals(List.of("--question 3 --shown 1700000000 --ease 3.0",
+                "--question 8 --shown 1700000001 --ease 2.0"), tokenizedSchedule);
+        QuestionScheduler loadedScheduler = tokenizer.detokenize(tokenizedSchedule, NUM_QUESTIONS);
+        for (int question = 0; question < NUM_QUESTIONS; ++question) {
+            Assertions.assertEquals(scheduler.getLastShownEpochSecond(question),
+                    loadedScheduler.getLastShownEpochSecond(question));
+            Assertions.assertEquals(scheduler.getEaseFactor(question), loadedScheduler.getEaseFactor(question));
+        }
+    }
+
+    @Test
+    void detokenizeSchedule_questionNoLongerInBank_dropped() throws TokenizerException {
+        ArrayList<String> tokenizedSchedule = new ArrayList<>(List.of("--question 3 --shown 1700000000 --ease 2.0",
+                "--question 12 --shown 1700000000 --ease 2.0"));
+        QuestionScheduler scheduler = new QuestionScheduleTokenizer().detokenize(tokenizedSchedule, NUM_QUESTIONS);
+        Assertions.assertEquals(SHOWN_AT, scheduler.getLastShownEpochSecond(3));
+        Assertions.assertEquals(NUM_QUESTIONS, scheduler.getNumQuestions());
+    }
+
+    @Test
+    void detokenizeSchedule_malformed_exceptionThrown() {
+        QuestionScheduleTokenizer tokenizer = new QuestionScheduleTokenizer();
+        String[] invalidRecords = {
+            "--question 3 --shown 1700000000",
+            "--question 3 --ease 2.0",
+            "--question abc --shown 1700000000 --ease 2.0",
+            "--question 3 --shown -5 --ease 2.0",
+            "--question 3 --shown 1700000000 --ease 0.5",
+            "--question 3 --shown 1700000000 --ease NaN",
+            "--shown 1700000000 --question 3 --ease 2.0"
+        };
+        for (String invalidRecord : invalidRecords) {
+            Assertions.assertThrows(TokenizerException.class,
+                    () -> tokenizer.detokenize(new ArrayList<>(List.of(invalidRecord)), NUM_QUESTIONS));
+        }
+        ArrayList<String> duplicateRecords = new ArrayList<>(List.of("--question 3 --shown 1700000000 --ease 2.0",
+                "--question 3 --shown 1700000001 --ease 4.0"));
+        Assertions.assertThrows(TokenizerException.class, () -> tokenizer.detokenize(duplicateRecords, NUM_QUESTIONS));
+    }
+}
@@ -0,0 +1,78 @@
+package wellnus.tokenize;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import wellnus.exception.TokenizerException;
+import wellnus.reflection.feature.AnswerSearchIndex;
+import wellnus.reflection.feature.ReflectionAnswer;
+import wellnus.storage.AnswerSearchIndexTokenizer;
+import wellnus.storage.ReflectionAnswerTokenizer;
+
+public class ReflectionAnswerTokenizerTest {
+    private static final long WRITTEN_AT = 1700000000L;
+
+    @Test
+    void tokenizeAnswers_roundTrip_success() throws TokenizerException {
+        ArrayList<ReflectionAnswer> answers = new ArrayList<>();
+        answers.add(new ReflectionAnswer(WRITTEN_AT, 3, "Honesty, kindness - and courage"));
+        ReflectionAnswerTokenizer tokenizer = new ReflectionAnswerTokenizer();
+        ArrayList<String> tokenizedAnswers = tokenizer.tokenize(answers);
+        Assertions.assertEquals("--time 1700000000 --question 3 --answer Honesty, kindness - and courage",
+                tokenizedAnswers.get(0));
+        ReflectionAnswer answer = tokenizer.detokenize(tokenizedAnswers).get(0);
+        Assertions.assertEquals(WRITTEN_AT, answer.getEpochSecond());
+        Assertions.assertEquals(3, answer.getQuestionIndex());
+        Assertions.assertEquals("Honesty, kindness - and courage", answer.getAnswer());
+    }
+
+    @Test
+    void detokenizeAnswer_malformed_exceptionThrown() {
+        ReflectionAnswerTokenizer tokenizer = new ReflectionAnswerTokenizer();
+        String[] invalidAnswers = {
+            "--time 1700000000 --question 3",
+            "--time 1700000000 --question 3 --answer ",
+            "--time abc --question 3 --answer hi",
+            "--time 1700000000 --question -1 --answer hi",
+            "--question 3 --answer hi"
+        };
+        for (String invalidAnswer : invalidAnswers) {
+            Assertions.assertThrows(TokenizerException.class, () -> tokenizer.detokenize(invalidAnswer));
+        }
+    }
+
+    @Test
+    void tokenizeAnswerIndex_roundTrip_success() throws TokenizerException {
+        AnswerSearchIndex index = new AnswerSearchIndex();
+        index.add(0, "I value honesty");
+        index.add(1, "Family");
+        index.add(2, "Honesty and family");
+        AnswerSearchIndexTokenizer tokenizer = new AnswerSearchIndexTokenizer();
+        ArrayList<String> tokenizedIndex = tokenizer.tokenize(index);
+        Assertions.assertEquals("--indexed 3", tokenizedIndex.get(0));
+        Assertions.assertTrue(tokenizedIndex.contains("--word honesty --answers 0 2"));
+        AnswerSearchIndex detokenizedIndex = tokenizer.detokenize(tokenizedIndex);
+        Assertions.assertEquals(3, detokenizedIndex.getNumIndexedAnswers());
+        Assertions.assertEquals(index.getWords(), detokenizedIndex.getWords());
+        Assertions.assertArrayEquals(new int[]{2}, detokenizedIndex.search("family HONESTY"));
+    }
+
+    @Test
+    void detokenizeAnswerIndex_malformed_exceptionThrown() {
+        AnswerSearchIndexTokenizer tokenizer = new AnswerSearchIndexTokenizer();
+        String[][] invalidIndexes = {
+            {"--word honesty --answers 0"},
+            {"--indexed 2", "--word honesty --answers 0 2"},
+            {"--indexed 2", "--word honesty --answers 1 0"},
+            {"--indexed 2", "--word Honesty --answers 0"},
+            {"--indexed 2", "--word honesty --answers"}
+        };
+        for (String[] invalidIndex : invalidIndexes) {
+            ArrayList<String> tokenizedIndex = new ArrayList<>(List.of(invalidIndex));
+            Assertions.assertThrows(TokenizerException.class, () -> tokenizer.detokenize(tokenizedIndex));
+        }
+    }
+}
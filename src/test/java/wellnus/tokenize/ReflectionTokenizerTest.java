@@ -1,8 +1,7 @@
 package wellnus.tokenize;
 
 import java.util.ArrayList;
-import java.util.HashSet;
-import java.util.Set;
+import java.util.BitSet;
 
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
@@ -15,13 +14,13 @@ public class ReflectionTokenizerTest {
 
     @Test
     void tokenizeReflect_checkOutput_success() {
-        ArrayList<Set<Integer>> indexesToTokenize = new ArrayList<>();
-        Set<Integer> likeTestIndexes = new HashSet<>();
-        likeTestIndexes.add(1);
-        likeTestIndexes.add(2);
-        Set<Integer> prevTestIndexes = new HashSet<>();
-        prevTestIndexes.add(3);
-        prevTestIndexes.add(4);
+        ArrayList<BitSet> indexesToTokenize = new ArrayList<>();
+        BitSet likeTestIndexes = new BitSet();
+        likeTestIndexes.set(1);
+        likeTestIndexes.set(2);
+        BitSet prevTestIndexes = new BitSet();
+        prevTestIndexes.set(3);
+        prevTestIndexes.set(4);
         indexesToTokenize.add(likeTestIndexes);
         indexesToTokenize.add(prevTestIndexes);
         String expectedTokenizedLike = "like:1,2";
@@ -36,9 +35,9 @@ public class ReflectionTokenizerTest {
 
     @Test
     void tokenizeReflect_checkOutputEmptyIndex_success() {
-        ArrayList<Set<Integer>> indexesToTokenize = new ArrayList<>();
-        Set<Integer> likeTestIndexes = new HashSet<>();
-        Set<Integer> prevTestIndexes = new HashSet<>();
+        ArrayList<BitSet> indexesToTokenize = new ArrayList<>();
+        BitSet likeTestIndexes = new BitSet();
+        BitSet prevTestIndexes = new BitSet();
         indexesToTokenize.add(likeTestIndexes);
         indexesToTokenize.add(prevTestIndexes);
         String expectedTokenizedLike = "like:";
@@ -53,34 +52,45 @@ public class ReflectionTokenizerTest {
 
     @Test
     void detokenizeReflect_checkOutput_success() {
-        Set<Integer> expectedDetokenizedLikes = new HashSet<>();
-        expectedDetokenizedLikes.add(1);
-        expectedDetokenizedLikes.add(2);
-        Set<Integer> expectedDetokenizedPrevs = new HashSet<>();
-        expectedDetokenizedPrevs.add(1);
-        expectedDetokenizedPrevs.add(2);
-        expectedDetokenizedPrevs.add(3);
-        expectedDetokenizedPrevs.add(4);
-        expectedDetokenizedPrevs.add(5);
+        BitSet expectedDetokenizedLikes = new BitSet();
+        expectedDetokenizedLikes.set(1);
+        expectedDetokenizedLikes.set(2);
+        BitSet expectedDetokenizedPrevs = new BitSet();
+        expectedDetokenizedPrevs.set(1);
+        expectedDetokenizedPrevs.set(2);
+        expectedDetokenizedPrevs.set(3);
+        expectedDetokenizedPrevs.set(4);
+        expectedDetokenizedPrevs.set(5);
         ArrayList<String> stringsToDetokenize = new ArrayList<>();
         String tokenizedLikeTest = "like:1,2";
         String tokenizedPrevTest = "prev:1,2,3,4,5";
         stringsToDetokenize.add(tokenizedLikeTest);
         stringsToDetokenize.add(tokenizedPrevTest);
         ReflectionTokenizer reflectionTokenizer = new ReflectionTokenizer();
-        ArrayList<Set<Integer>> actualDetokenizedIndex = reflectionTokenizer.detokenize(stringsToDetokenize);
+        ArrayList<BitSet> actualDetokenizedIndex = reflectionTokenizer.detokenize(stringsToDetokenize);
         Assertions.assertEquals(expectedDetokenizedLikes, actualDetokenizedIndex.get(INDEX_ZERO));
         Assertions.assertEquals(expectedDetokenizedPrevs, actualDetokenizedIndex.get(INDEX_ONE));
     }
 
     @Test
     void detokenizeReflect_checkOutputEmptyString_success() {
-        Set<Integer> expectedDetokenizedLikes = new HashSet<>();
-        Set<Integer> expectedDetokenizedPrevs = new HashSet<>();
+        BitSet expectedDetokenizedLikes = new BitSet();
+        BitSet expectedDetokenizedPrevs = new BitSet();
         ArrayList<String> stringsToDetokenize = new ArrayList<>();
         ReflectionTokenizer reflectionTokenizer = new ReflectionTokenizer();
-        ArrayList<Set<Integer>> actualDetokenizedIndex = reflectionTokenizer.detokenize(stringsToDetokenize);
+        ArrayList<BitSet> actualDetokenizedIndex = reflectionTokenizer.detokenize(stringsToDetokenize);
         Assertions.assertEquals(expectedDetokenizedLikes, actualDetokenizedIndex.get(INDEX_ZERO));
         Assertions.assertEquals(expectedDetokenizedPrevs, actualDetokenizedIndex.get(INDEX_ONE));
     }
+
+    @Test
+    void detokenizeReflect_hugeLikeIndex_emptyLikes() {
+        ArrayList<String> stringsToDetokenize = new ArrayList<>();
+        stringsToDetokenize.add("like:1,2000000000");
+        stringsToDetokenize.add("prev:1,2,3,4,5");
+        ReflectionTokenizer reflectionTokenizer = new ReflectionTokenizer();
+        ArrayList<BitSet> actualDetokenizedIndex = reflectionTokenizer.detokenize(stringsToDetokenize);
+        Assertions.assertEquals(new BitSet(), actualDetokenizedIndex.get(INDEX_ZERO));
+        Assertions.assertEquals(5, actualDetokenizedIndex.get(INDEX_ONE).cardinality());
+    }
 }